@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.env.Environment;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of evaluating a filter condition by the interpreter versus compiled expression.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class ExpressionCompilerBenchmark {
+
+  private static final int ROWS = 1000;
+
+  private Expression condition;
+
+  private CompiledExpression compiledCondition;
+
+  private Environment<Expression, ExprValue>[] rows;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+
+    // (age * 2 + 1 > 60 AND balance / 3 <= 100000) OR (NOT active AND ratio - 0.5 < 10)
+    condition = dsl.or(
+        dsl.and(
+            dsl.greater(
+                dsl.add(dsl.multiply(DSL.ref("age", INTEGER), DSL.literal(2)), DSL.literal(1)),
+                DSL.literal(60)),
+            dsl.lte(dsl.divide(DSL.ref("balance", LONG), DSL.literal(3L)),
+                DSL.literal(100000L))),
+        dsl.and(
+            dsl.not(DSL.ref("active", BOOLEAN)),
+            dsl.less(dsl.subtract(DSL.ref("ratio", DOUBLE), DSL.literal(0.5D)),
+                DSL.literal(10.0D))));
+    compiledCondition = ExpressionCompiler.compile(condition);
+
+    rows = new Environment[ROWS];
+    for (int i = 0; i < ROWS; i++) {
+      rows[i] = ExprTupleValue.fromExprValueMap(ImmutableMap.of(
+          "age", new ExprIntegerValue(i % 80),
+          "balance", new ExprLongValue(i * 997L),
+          "ratio", new ExprDoubleValue(i / 50.0),
+          "active", ExprBooleanValue.of(i % 3 == 0))).bindingTuples();
+    }
+  }
+
+  @Benchmark
+  public void interpret(Blackhole blackhole) {
+    for (Environment<Expression, ExprValue> row : rows) {
+      blackhole.consume(condition.valueOf(row));
+    }
+  }
+
+  @Benchmark
+  public void compiled(Blackhole blackhole) {
+    for (Environment<Expression, ExprValue> row : rows) {
+      blackhole.consume(compiledCondition.evaluate(row));
+    }
+  }
+}
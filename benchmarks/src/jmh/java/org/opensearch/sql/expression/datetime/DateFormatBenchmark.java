@@ -0,0 +1,108 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.datetime;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of formatting rows by DATE_FORMAT and FROM_UNIXTIME with the same format.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class DateFormatBenchmark {
+
+  private static final int ROWS = 1000;
+
+  private static final long START_EPOCH_SECOND = 1640995200L;
+
+  @Param({"%Y-%m-%d %H:%i:%s", "%W %M %D %Y %f"})
+  private String format;
+
+  private Expression dateFormat;
+
+  private Expression dateFormatOfString;
+
+  private Expression fromUnixTime;
+
+  private Environment<Expression, ExprValue>[] rows;
+
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    BuiltinFunctionRepository repository = new ExpressionConfig().functionRepository();
+    DSL dsl = new ExpressionConfig().dsl(repository);
+    dateFormat = dsl.date_format(DSL.ref("ts", TIMESTAMP), DSL.literal(format));
+    dateFormatOfString = dsl.date_format(DSL.ref("str", STRING), DSL.literal(format));
+    fromUnixTime = (Expression) repository.compile(BuiltinFunctionName.FROM_UNIXTIME.getName(),
+        Arrays.asList(DSL.ref("epoch", DOUBLE), DSL.literal(format)));
+
+    rows = new Environment[ROWS];
+    for (int i = 0; i < ROWS; i++) {
+      long epochSecond = START_EPOCH_SECOND + i * 3671L;
+      ExprTimestampValue timestamp = new ExprTimestampValue(
+          Instant.ofEpochSecond(epochSecond, i * 1000L));
+      rows[i] = ExprTupleValue.fromExprValueMap(ImmutableMap.of(
+          "ts", timestamp,
+          "str", new ExprStringValue(timestamp.value()),
+          "epoch", new ExprDoubleValue(epochSecond + i / 1000.0))).bindingTuples();
+    }
+  }
+
+  @Benchmark
+  public void dateFormat(Blackhole blackhole) {
+    evaluate(dateFormat, blackhole);
+  }
+
+  @Benchmark
+  public void dateFormatOfString(Blackhole blackhole) {
+    evaluate(dateFormatOfString, blackhole);
+  }
+
+  @Benchmark
+  public void fromUnixTime(Blackhole blackhole) {
+    evaluate(fromUnixTime, blackhole);
+  }
+
+  private void evaluate(Expression expression, Blackhole blackhole) {
+    for (Environment<Expression, ExprValue> row : rows) {
+      blackhole.consume(expression.valueOf(row));
+    }
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.planner.physical;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.vector.Batch;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of pulling rows through filter and project operators row by row versus in batch.
+ */
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1)
+public class BatchExecutionBenchmark {
+
+  private static final int ROWS = 100_000;
+
+  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+
+  private List<ExprValue> rows;
+
+  private Expression condition;
+
+  @Setup
+  public void setUp() {
+    rows = new ArrayList<>(ROWS);
+    for (int i = 0; i < ROWS; i++) {
+      rows.add(ExprTupleValue.fromExprValueMap(ImmutableMap.of(
+          "age", new ExprIntegerValue(i % 100),
+          "balance", new ExprLongValue(i * 7L),
+          "ratio", new ExprDoubleValue(i / 3.0))));
+    }
+
+    // age > 30 AND balance - 100 < 350000 AND ratio * 2 >= 10
+    condition = dsl.and(
+        dsl.and(
+            dsl.greater(DSL.ref("age", INTEGER), DSL.literal(30)),
+            dsl.less(dsl.subtract(DSL.ref("balance", LONG), DSL.literal(100L)),
+                DSL.literal(350000L))),
+        dsl.gte(dsl.multiply(DSL.ref("ratio", DOUBLE), DSL.literal(2.0D)), DSL.literal(10.0D)));
+  }
+
+  @Benchmark
+  public void rowByRow(Blackhole blackhole) {
+    PhysicalPlan plan = plan();
+    plan.open();
+    while (plan.hasNext()) {
+      blackhole.consume(plan.next());
+    }
+    plan.close();
+  }
+
+  @Benchmark
+  public void batch(Blackhole blackhole) {
+    PhysicalPlan plan = plan();
+    plan.open();
+    for (Batch batch = plan.nextBatch(Batch.DEFAULT_SIZE); !batch.isEmpty();
+         batch = plan.nextBatch(Batch.DEFAULT_SIZE)) {
+      blackhole.consume(batch.getRows());
+    }
+    plan.close();
+  }
+
+  private PhysicalPlan plan() {
+    return PhysicalPlanDSL.project(
+        PhysicalPlanDSL.filter(new ListScan(rows.iterator()), condition),
+        DSL.named("age", DSL.ref("age", INTEGER)),
+        DSL.named("balance", DSL.ref("balance", LONG)));
+  }
+
+  /**
+   * Scan of rows in memory.
+   */
+  private static class ListScan extends PhysicalPlan {
+    private final Iterator<ExprValue> iterator;
+
+    ListScan(Iterator<ExprValue> iterator) {
+      this.iterator = iterator;
+    }
+
+    @Override
+    public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+      return null;
+    }
+
+    @Override
+    public List<PhysicalPlan> getChild() {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public boolean hasNext() {
+      return iterator.hasNext();
+    }
+
+    @Override
+    public ExprValue next() {
+      return iterator.next();
+    }
+  }
+}
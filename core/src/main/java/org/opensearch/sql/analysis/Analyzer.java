@@ -112,6 +112,8 @@ public class Analyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext>
 
   private final BuiltinFunctionRepository repository;
 
+  private final ExpressionSimplifier simplifier;
+
   /**
    * Constructor.
    */
@@ -124,6 +126,7 @@ public class Analyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext>
     this.selectExpressionAnalyzer = new SelectExpressionAnalyzer(expressionAnalyzer);
     this.namedExpressionAnalyzer = new NamedExpressionAnalyzer(expressionAnalyzer);
     this.repository = repository;
+    this.simplifier = new ExpressionSimplifier(expressionAnalyzer.getRepository());
   }
 
   public LogicalPlan analyze(UnresolvedPlan unresolved, AnalysisContext context) {
@@ -210,7 +213,7 @@ public class Analyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext>
     ExpressionReferenceOptimizer optimizer =
         new ExpressionReferenceOptimizer(expressionAnalyzer.getRepository(), child);
     Expression optimized = optimizer.optimize(condition, context);
-    return new LogicalFilter(child, optimized);
+    return new LogicalFilter(child, simplifier.simplify(optimized));
   }
 
   /**
@@ -354,7 +357,10 @@ public class Analyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext>
 
     List<NamedExpression> namedExpressions =
         selectExpressionAnalyzer.analyze(node.getProjectList(), context,
-            new ExpressionReferenceOptimizer(expressionAnalyzer.getRepository(), child));
+            new ExpressionReferenceOptimizer(expressionAnalyzer.getRepository(), child))
+            .stream()
+            .map(simplifier::simplify)
+            .collect(Collectors.toList());
     // new context
     context.push();
     TypeEnvironment newEnv = context.peek();
@@ -373,7 +379,8 @@ public class Analyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext>
     ImmutableList.Builder<Pair<ReferenceExpression, Expression>> expressionsBuilder =
         new Builder<>();
     for (Let let : node.getExpressionList()) {
-      Expression expression = expressionAnalyzer.analyze(let.getExpression(), context);
+      Expression expression =
+          simplifier.simplify(expressionAnalyzer.analyze(let.getExpression(), context));
       ReferenceExpression ref = DSL.ref(let.getVar().getField().toString(), expression.type());
       expressionsBuilder.add(ImmutablePair.of(ref, expression));
       TypeEnvironment typeEnvironment = context.peek();
@@ -418,8 +425,8 @@ public class Analyzer extends AbstractNodeVisitor<LogicalPlan, AnalysisContext>
         node.getSortList().stream()
             .map(
                 sortField -> {
-                  Expression expression = optimizer.optimize(
-                      expressionAnalyzer.analyze(sortField.getField(), context), context);
+                  Expression expression = simplifier.simplify(optimizer.optimize(
+                      expressionAnalyzer.analyze(sortField.getField(), context), context));
                   return ImmutablePair.of(analyzeSortOption(sortField.getFieldArgs()), expression);
                 })
             .collect(Collectors.toList());
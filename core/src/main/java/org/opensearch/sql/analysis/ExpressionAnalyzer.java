@@ -210,9 +210,20 @@ public class ExpressionAnalyzer extends AbstractNodeVisitor<Expression, Analysis
     return new HighlightExpression(expr);
   }
 
+  /**
+   * IN with more than one literal value is analyzed as the set based IN predicate.
+   * Otherwise, it is rewritten to the OR chain of equal comparisons.
+   */
   @Override
   public Expression visitIn(In node, AnalysisContext context) {
-    return visitIn(node.getField(), node.getValueList(), context);
+    List<UnresolvedExpression> valueList = node.getValueList();
+    if (valueList.size() > 1 && valueList.stream().allMatch(value -> value instanceof Literal)) {
+      List<Expression> arguments = new ArrayList<>();
+      arguments.add(analyze(node.getField(), context));
+      valueList.forEach(value -> arguments.add(analyze(value, context)));
+      return (Expression) repository.compile(BuiltinFunctionName.IN.getName(), arguments);
+    }
+    return visitIn(node.getField(), valueList, context);
   }
 
   private Expression visitIn(
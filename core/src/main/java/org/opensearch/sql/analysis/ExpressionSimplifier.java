@@ -0,0 +1,192 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.analysis;
+
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.conditional.cases.CaseClause;
+import org.opensearch.sql.expression.conditional.cases.WhenClause;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+import org.opensearch.sql.expression.function.FunctionName;
+
+/**
+ * The simplifier used to rewrite the analyzed expression bottom-up, so that less is evaluated
+ * per row and literal operand could be recognized by storage engine for push down.
+ * 1. Constant folding: deterministic function with all literal arguments, such as
+ *    abs(-5) * 2 or cast('2022-01-01' as timestamp), is evaluated once to literal.
+ * 2. Boolean simplification: true AND e --&gt; e, false AND e --&gt; false,
+ *    true OR e --&gt; true, false OR e --&gt; e, NOT NOT e --&gt; e.
+ * 3. Dead branch elimination in CASE: WHEN clause with literal condition which is never true
+ *    is removed, and the first one always true becomes the ELSE clause.
+ * The simplified expression is always of the same type as the original one, otherwise the
+ * original one is kept. For example, function evaluated to NULL is not folded because NULL
+ * literal is of UNDEFINED type. Function failed to evaluate is not folded either, so the error
+ * is still reported at runtime as before.
+ * Note that functions return the same value during processing a query, such as now(), are
+ * evaluated once per query by {@link ExpressionAnalyzer} already.
+ */
+@RequiredArgsConstructor
+public class ExpressionSimplifier extends ExpressionNodeVisitor<Expression, Object> {
+
+  /**
+   * Functions which return different value in each call even with the same arguments.
+   */
+  private static final Set<FunctionName> NON_DETERMINISTIC_FUNCTIONS = ImmutableSet.of(
+      BuiltinFunctionName.RAND.getName(),
+      BuiltinFunctionName.SYSDATE.getName());
+
+  private final BuiltinFunctionRepository repository;
+
+  /**
+   * Simplify the analyzed expression.
+   *
+   * @param expr analyzed expression
+   * @return simplified expression
+   */
+  public Expression simplify(Expression expr) {
+    if (!(expr instanceof FunctionExpression)) {
+      return expr;
+    }
+    Expression simplified = expr.accept(this, null);
+    return simplified.type().equals(expr.type()) ? simplified : expr;
+  }
+
+  /**
+   * Simplify the expression delegated by named expression.
+   *
+   * @param expr named expression
+   * @return named expression with simplified delegated expression
+   */
+  public NamedExpression simplify(NamedExpression expr) {
+    Expression simplified = simplify(expr.getDelegated());
+    if (simplified == expr.getDelegated()) {
+      return expr;
+    }
+    return new NamedExpression(expr.getName(), simplified, expr.getAlias());
+  }
+
+  @Override
+  public Expression visitNode(Expression node, Object context) {
+    return node;
+  }
+
+  @Override
+  public Expression visitAggregator(Aggregator<?> node, Object context) {
+    return node;
+  }
+
+  @Override
+  public Expression visitNamedAggregator(NamedAggregator node, Object context) {
+    return node;
+  }
+
+  @Override
+  public Expression visitWhen(WhenClause node, Object context) {
+    return node;
+  }
+
+  @Override
+  public Expression visitFunction(FunctionExpression node, Object context) {
+    List<Expression> arguments = node.getArguments().stream()
+        .map(this::simplify)
+        .collect(Collectors.toList());
+    FunctionExpression function = arguments.equals(node.getArguments())
+        ? node : (FunctionExpression) repository.compile(node.getFunctionName(), arguments);
+
+    if (isConstant(function)) {
+      return fold(function);
+    }
+    return simplifyBoolean(function);
+  }
+
+  @Override
+  public Expression visitCase(CaseClause node, Object context) {
+    List<WhenClause> whenClauses = new ArrayList<>();
+    Expression defaultResult = (node.getDefaultResult() == null)
+        ? null : simplify(node.getDefaultResult());
+    for (WhenClause when : node.getWhenClauses()) {
+      Expression condition = simplify(when.getCondition());
+      Expression result = simplify(when.getResult());
+      if (!(condition instanceof LiteralExpression)) {
+        whenClauses.add(new WhenClause(condition, result));
+      } else if (isTrue(condition)) {
+        // The following WHEN clauses and ELSE clause are never reached
+        defaultResult = result;
+        break;
+      }
+    }
+
+    if (!whenClauses.isEmpty()) {
+      return new CaseClause(whenClauses, defaultResult);
+    }
+    return (defaultResult == null) ? node : defaultResult;
+  }
+
+  private boolean isConstant(FunctionExpression function) {
+    return !function.getArguments().isEmpty()
+        && function.getArguments().stream().allMatch(arg -> arg instanceof LiteralExpression)
+        && !NON_DETERMINISTIC_FUNCTIONS.contains(function.getFunctionName());
+  }
+
+  private Expression fold(FunctionExpression function) {
+    try {
+      ExprValue value = function.valueOf(null);
+      return DSL.literal(value);
+    } catch (RuntimeException e) {
+      // Keep the function and let it fail at runtime
+      return function;
+    }
+  }
+
+  private Expression simplifyBoolean(FunctionExpression function) {
+    FunctionName functionName = function.getFunctionName();
+    List<Expression> arguments = function.getArguments();
+    if (functionName.equals(BuiltinFunctionName.AND.getName())) {
+      if (isTrue(arguments.get(0)) || isFalse(arguments.get(1))) {
+        return arguments.get(1);
+      } else if (isTrue(arguments.get(1)) || isFalse(arguments.get(0))) {
+        return arguments.get(0);
+      }
+    } else if (functionName.equals(BuiltinFunctionName.OR.getName())) {
+      if (isFalse(arguments.get(0)) || isTrue(arguments.get(1))) {
+        return arguments.get(1);
+      } else if (isFalse(arguments.get(1)) || isTrue(arguments.get(0))) {
+        return arguments.get(0);
+      }
+    } else if (functionName.equals(BuiltinFunctionName.NOT.getName())
+        && arguments.get(0) instanceof FunctionExpression
+        && ((FunctionExpression) arguments.get(0)).getFunctionName()
+            .equals(BuiltinFunctionName.NOT.getName())) {
+      return ((FunctionExpression) arguments.get(0)).getArguments().get(0);
+    }
+    return function;
+  }
+
+  private boolean isTrue(Expression expr) {
+    return expr instanceof LiteralExpression && LITERAL_TRUE.equals(expr.valueOf(null));
+  }
+
+  private boolean isFalse(Expression expr) {
+    return expr instanceof LiteralExpression && LITERAL_FALSE.equals(expr.valueOf(null));
+  }
+}
@@ -8,6 +8,8 @@ package org.opensearch.sql.catalog.model;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.HashMap;
+import java.util.Map;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -28,4 +30,9 @@ public class CatalogMetadata {
 
   private AbstractAuthenticationData authentication;
 
+  /**
+   * Connector specific properties, e.g. HTTP client and cache settings of Prometheus.
+   */
+  private Map<String, String> properties = new HashMap<>();
+
 }
@@ -41,6 +41,11 @@ public abstract class AbstractExprNumberValue extends AbstractExprValue {
     return value.longValue();
   }
 
+  @Override
+  public long longValueRaw() {
+    return value.longValue();
+  }
+
   @Override
   public Float floatValue() {
     return value.floatValue();
@@ -51,6 +56,11 @@ public abstract class AbstractExprNumberValue extends AbstractExprValue {
     return value.doubleValue();
   }
 
+  @Override
+  public double doubleValueRaw() {
+    return value.doubleValue();
+  }
+
   @Override
   public int hashCode() {
     return Objects.hashCode(value);
@@ -35,11 +35,11 @@ public class ExprDoubleValue extends AbstractExprNumberValue {
 
   @Override
   public int compare(ExprValue other) {
-    return Double.compare(doubleValue(), other.doubleValue());
+    return Double.compare(doubleValueRaw(), other.doubleValueRaw());
   }
 
   @Override
   public boolean equal(ExprValue other) {
-    return doubleValue().equals(other.doubleValue());
+    return Double.compare(doubleValueRaw(), other.doubleValueRaw()) == 0;
   }
 }
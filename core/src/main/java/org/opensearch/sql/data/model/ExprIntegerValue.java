@@ -13,11 +13,30 @@ import org.opensearch.sql.data.type.ExprType;
  * Expression Integer Value.
  */
 public class ExprIntegerValue extends AbstractExprNumberValue {
+  private static final int CACHE_LOW = -128;
+  private static final int CACHE_HIGH = 1023;
+  private static final ExprIntegerValue[] CACHE = new ExprIntegerValue[CACHE_HIGH - CACHE_LOW + 1];
+
+  static {
+    for (int i = 0; i < CACHE.length; i++) {
+      CACHE[i] = new ExprIntegerValue(CACHE_LOW + i);
+    }
+  }
 
   public ExprIntegerValue(Number value) {
     super(value);
   }
 
+  /**
+   * Get integer value from the cache for small value, otherwise create a new one.
+   */
+  public static ExprIntegerValue of(int value) {
+    if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+      return CACHE[value - CACHE_LOW];
+    }
+    return new ExprIntegerValue(value);
+  }
+
   @Override
   public Object value() {
     return integerValue();
@@ -13,11 +13,30 @@ import org.opensearch.sql.data.type.ExprType;
  * Expression Long Value.
  */
 public class ExprLongValue extends AbstractExprNumberValue {
+  private static final int CACHE_LOW = -128;
+  private static final int CACHE_HIGH = 1023;
+  private static final ExprLongValue[] CACHE = new ExprLongValue[CACHE_HIGH - CACHE_LOW + 1];
+
+  static {
+    for (int i = 0; i < CACHE.length; i++) {
+      CACHE[i] = new ExprLongValue((long) CACHE_LOW + i);
+    }
+  }
 
   public ExprLongValue(Number value) {
     super(value);
   }
 
+  /**
+   * Get long value from the cache for small value, otherwise create a new one.
+   */
+  public static ExprLongValue of(long value) {
+    if (value >= CACHE_LOW && value <= CACHE_HIGH) {
+      return CACHE[(int) value - CACHE_LOW];
+    }
+    return new ExprLongValue(value);
+  }
+
   @Override
   public Object value() {
     return longValue();
@@ -35,11 +54,11 @@ public class ExprLongValue extends AbstractExprNumberValue {
 
   @Override
   public int compare(ExprValue other) {
-    return Long.compare(longValue(), other.longValue());
+    return Long.compare(longValueRaw(), other.longValueRaw());
   }
 
   @Override
   public boolean equal(ExprValue other) {
-    return longValue().equals(other.longValue());
+    return longValueRaw() == other.longValueRaw();
   }
 }
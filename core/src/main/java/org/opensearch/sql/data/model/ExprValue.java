@@ -99,6 +99,13 @@ public interface ExprValue extends Serializable, Comparable<ExprValue> {
         "invalid to get longValue from value of type " + type());
   }
 
+  /**
+   * Get long value as primitive without boxing.
+   */
+  default long longValueRaw() {
+    return longValue();
+  }
+
   /**
    * Get float value.
    */
@@ -115,6 +122,13 @@ public interface ExprValue extends Serializable, Comparable<ExprValue> {
         "invalid to get doubleValue from value of type " + type());
   }
 
+  /**
+   * Get double value as primitive without boxing.
+   */
+  default double doubleValueRaw() {
+    return doubleValue();
+  }
+
   /**
    * Get string value.
    */
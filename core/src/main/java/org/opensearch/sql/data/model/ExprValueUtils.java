@@ -38,7 +38,7 @@ public class ExprValueUtils {
   }
 
   public static ExprValue integerValue(Integer value) {
-    return new ExprIntegerValue(value);
+    return ExprIntegerValue.of(value);
   }
 
   public static ExprValue doubleValue(Double value) {
@@ -50,7 +50,7 @@ public class ExprValueUtils {
   }
 
   public static ExprValue longValue(Long value) {
-    return new ExprLongValue(value);
+    return ExprLongValue.of(value);
   }
 
   public static ExprValue stringValue(String value) {
@@ -22,6 +22,7 @@ import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.EvalOperator;
 import org.opensearch.sql.planner.physical.FilterOperator;
+import org.opensearch.sql.planner.physical.HashJoinOperator;
 import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
@@ -79,7 +80,9 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
   @Override
   public ExplainResponseNode visitWindow(WindowOperator node, Object context) {
     return explain(node, context, explainNode -> explainNode.setDescription(ImmutableMap.of(
-        "function", node.getWindowFunction().toString(),
+        "function", node.getWindowFunctions().stream()
+            .map(Object::toString)
+            .collect(Collectors.joining(", ")),
         "definition", ImmutableMap.of(
             "partitionBy", node.getWindowDefinition().getPartitionByList().toString(),
             "sortList", describeSortList(node.getWindowDefinition().getSortList())))));
@@ -142,6 +145,14 @@ public class Explain extends PhysicalPlanNodeVisitor<ExplainResponseNode, Object
         "limit", node.getLimit(), "offset", node.getOffset())));
   }
 
+  @Override
+  public ExplainResponseNode visitHashJoin(HashJoinOperator node, Object context) {
+    return explain(node, context, explainNode -> explainNode.setDescription(ImmutableMap.of(
+        "joinType", node.getJoinType(),
+        "leftKeys", node.getLeftKeys().toString(),
+        "rightKeys", node.getRightKeys().toString())));
+  }
+
   protected ExplainResponseNode explain(PhysicalPlan node, Object context,
                                         Consumer<ExplainResponseNode> doExplain) {
     ExplainResponseNode explainNode = new ExplainResponseNode(getOperatorName(node));
@@ -487,6 +487,10 @@ public class DSL {
     return function(BuiltinFunctionName.EQUAL, expressions);
   }
 
+  public FunctionExpression in(Expression... expressions) {
+    return function(BuiltinFunctionName.IN, expressions);
+  }
+
   public FunctionExpression notequal(Expression... expressions) {
     return function(BuiltinFunctionName.NOTEQUAL, expressions);
   }
@@ -0,0 +1,25 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+
+/**
+ * Expression compiled by {@link ExpressionCompiler}.
+ */
+@FunctionalInterface
+public interface CompiledExpression {
+
+  /**
+   * Evaluate the compiled expression in the environment.
+   *
+   * @param valueEnv value environment
+   * @return expression value
+   */
+  ExprValue evaluate(Environment<Expression, ExprValue> valueEnv);
+}
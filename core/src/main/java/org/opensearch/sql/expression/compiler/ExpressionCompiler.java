@@ -0,0 +1,254 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.ADD;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.AND;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.DIVIDE;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.EQUAL;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.GREATER;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.GTE;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.LESS;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.LTE;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.MODULES;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.MULTIPLY;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.NOT;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.NOTEQUAL;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.OR;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.SUBTRACT;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.IntPredicate;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.function.FunctionName;
+
+/**
+ * Compiler that turns a resolved expression tree into a tree of specialized closures. Supported
+ * functions are evaluated directly on the argument values with NULL and MISSING handled inline,
+ * rather than going through the generic function implementation built by FunctionDSL and its
+ * wrappers at every level. Literals are evaluated once at compile time. Supported are comparison
+ * of numbers, logical AND, OR and NOT, and arithmetic +, -, *, /, % on INTEGER, LONG and DOUBLE.
+ * Any other node falls back to the interpreter, so the compiled expression always produces the
+ * same result as the original one.
+ */
+public class ExpressionCompiler extends ExpressionNodeVisitor<CompiledExpression, Object> {
+
+  private static final Set<ExprType> FLOATING_POINT_TYPES = ImmutableSet.of(FLOAT, DOUBLE);
+
+  private static final Map<FunctionName, IntPredicate> COMPARISONS =
+      new ImmutableMap.Builder<FunctionName, IntPredicate>()
+          .put(EQUAL.getName(), result -> result == 0)
+          .put(NOTEQUAL.getName(), result -> result != 0)
+          .put(LESS.getName(), result -> result < 0)
+          .put(LTE.getName(), result -> result <= 0)
+          .put(GREATER.getName(), result -> result > 0)
+          .put(GTE.getName(), result -> result >= 0)
+          .build();
+
+  private static final Map<FunctionName, BinaryOperator<ExprValue>> INTEGER_ARITHMETIC =
+      ImmutableMap.of(
+          ADD.getName(), (v1, v2) -> ExprIntegerValue.of(Math.addExact(intValue(v1), intValue(v2))),
+          SUBTRACT.getName(),
+          (v1, v2) -> ExprIntegerValue.of(Math.subtractExact(intValue(v1), intValue(v2))),
+          MULTIPLY.getName(),
+          (v1, v2) -> ExprIntegerValue.of(Math.multiplyExact(intValue(v1), intValue(v2))),
+          DIVIDE.getName(), (v1, v2) -> intValue(v2) == 0 ? ExprNullValue.of() :
+              ExprIntegerValue.of(intValue(v1) / intValue(v2)),
+          MODULES.getName(), (v1, v2) -> intValue(v2) == 0 ? ExprNullValue.of() :
+              ExprIntegerValue.of(intValue(v1) % intValue(v2)));
+
+  private static final Map<FunctionName, BinaryOperator<ExprValue>> LONG_ARITHMETIC =
+      ImmutableMap.of(
+          ADD.getName(),
+          (v1, v2) -> ExprLongValue.of(Math.addExact(v1.longValueRaw(), v2.longValueRaw())),
+          SUBTRACT.getName(),
+          (v1, v2) -> ExprLongValue.of(Math.subtractExact(v1.longValueRaw(), v2.longValueRaw())),
+          MULTIPLY.getName(),
+          (v1, v2) -> ExprLongValue.of(Math.multiplyExact(v1.longValueRaw(), v2.longValueRaw())),
+          DIVIDE.getName(), (v1, v2) -> v2.longValueRaw() == 0 ? ExprNullValue.of() :
+              ExprLongValue.of(v1.longValueRaw() / v2.longValueRaw()),
+          MODULES.getName(), (v1, v2) -> v2.longValueRaw() == 0 ? ExprNullValue.of() :
+              ExprLongValue.of(v1.longValueRaw() % v2.longValueRaw()));
+
+  private static final Map<FunctionName, BinaryOperator<ExprValue>> DOUBLE_ARITHMETIC =
+      ImmutableMap.of(
+          ADD.getName(),
+          (v1, v2) -> new ExprDoubleValue(v1.doubleValueRaw() + v2.doubleValueRaw()),
+          SUBTRACT.getName(),
+          (v1, v2) -> new ExprDoubleValue(v1.doubleValueRaw() - v2.doubleValueRaw()),
+          MULTIPLY.getName(),
+          (v1, v2) -> new ExprDoubleValue(v1.doubleValueRaw() * v2.doubleValueRaw()),
+          DIVIDE.getName(), (v1, v2) -> v2.doubleValueRaw() == 0 ? ExprNullValue.of() :
+              new ExprDoubleValue(v1.doubleValueRaw() / v2.doubleValueRaw()),
+          MODULES.getName(), (v1, v2) -> v2.doubleValueRaw() == 0 ? ExprNullValue.of() :
+              new ExprDoubleValue(v1.doubleValueRaw() % v2.doubleValueRaw()));
+
+  /**
+   * Compile the expression.
+   *
+   * @param expression resolved expression
+   * @return compiled expression
+   */
+  public static CompiledExpression compile(Expression expression) {
+    return expression.accept(new ExpressionCompiler(), null);
+  }
+
+  @Override
+  public CompiledExpression visitNode(Expression node, Object context) {
+    return node::valueOf;
+  }
+
+  @Override
+  public CompiledExpression visitLiteral(LiteralExpression node, Object context) {
+    ExprValue value = node.valueOf(null);
+    return valueEnv -> value;
+  }
+
+  @Override
+  public CompiledExpression visitAggregator(Aggregator<?> node, Object context) {
+    return visitNode(node, context);
+  }
+
+  @Override
+  public CompiledExpression visitNamedAggregator(NamedAggregator node, Object context) {
+    return visitNode(node, context);
+  }
+
+  @Override
+  public CompiledExpression visitFunction(FunctionExpression node, Object context) {
+    FunctionName name = node.getFunctionName();
+    List<Expression> arguments = node.getArguments();
+    if (COMPARISONS.containsKey(name)
+        && ExprCoreType.numberTypes().contains(arguments.get(0).type())) {
+      IntPredicate comparison = COMPARISONS.get(name);
+      if (FLOATING_POINT_TYPES.contains(arguments.get(0).type())) {
+        return binary(node, (v1, v2) -> ExprBooleanValue.of(
+            comparison.test(Double.compare(v1.doubleValueRaw(), v2.doubleValueRaw()))));
+      }
+      return binary(node, (v1, v2) -> ExprBooleanValue.of(
+          comparison.test(Long.compare(v1.longValueRaw(), v2.longValueRaw()))));
+    } else if (name.equals(AND.getName())) {
+      return logical(node, ExpressionCompiler::and);
+    } else if (name.equals(OR.getName())) {
+      return logical(node, ExpressionCompiler::or);
+    } else if (name.equals(NOT.getName())) {
+      CompiledExpression argument = arguments.get(0).accept(this, context);
+      return valueEnv -> not(argument.evaluate(valueEnv));
+    } else if (node.type() == INTEGER && INTEGER_ARITHMETIC.containsKey(name)) {
+      return binary(node, INTEGER_ARITHMETIC.get(name));
+    } else if (node.type() == LONG && LONG_ARITHMETIC.containsKey(name)) {
+      return binary(node, LONG_ARITHMETIC.get(name));
+    } else if (node.type() == DOUBLE && DOUBLE_ARITHMETIC.containsKey(name)) {
+      return binary(node, DOUBLE_ARITHMETIC.get(name));
+    }
+    return node::valueOf;
+  }
+
+  /**
+   * Compile binary function which returns MISSING if any argument is MISSING, otherwise NULL if
+   * any argument is NULL, which is the same as FunctionDSL.nullMissingHandling.
+   */
+  private CompiledExpression binary(FunctionExpression node, BinaryOperator<ExprValue> function) {
+    CompiledExpression left = node.getArguments().get(0).accept(this, null);
+    CompiledExpression right = node.getArguments().get(1).accept(this, null);
+    return valueEnv -> {
+      ExprValue v1 = left.evaluate(valueEnv);
+      ExprValue v2 = right.evaluate(valueEnv);
+      if (v1.isMissing() || v2.isMissing()) {
+        return LITERAL_MISSING;
+      } else if (v1.isNull() || v2.isNull()) {
+        return LITERAL_NULL;
+      }
+      return function.apply(v1, v2);
+    };
+  }
+
+  /**
+   * Compile logical function which handles NULL and MISSING itself. Both arguments are evaluated
+   * eagerly as the interpreter does.
+   */
+  private CompiledExpression logical(FunctionExpression node, BinaryOperator<ExprValue> function) {
+    CompiledExpression left = node.getArguments().get(0).accept(this, null);
+    CompiledExpression right = node.getArguments().get(1).accept(this, null);
+    return valueEnv -> function.apply(left.evaluate(valueEnv), right.evaluate(valueEnv));
+  }
+
+  /**
+   * Same logic as the lookup table of AND in BinaryPredicateOperator.
+   */
+  private static ExprValue and(ExprValue v1, ExprValue v2) {
+    if (isFalse(v1) || isFalse(v2)) {
+      return LITERAL_FALSE;
+    } else if (v1.isMissing() || v2.isMissing()) {
+      return LITERAL_MISSING;
+    } else if (v1.isNull() || v2.isNull()) {
+      return LITERAL_NULL;
+    }
+    return LITERAL_TRUE;
+  }
+
+  /**
+   * Same logic as the lookup table of OR in BinaryPredicateOperator.
+   */
+  private static ExprValue or(ExprValue v1, ExprValue v2) {
+    if (isTrue(v1) || isTrue(v2)) {
+      return LITERAL_TRUE;
+    } else if (v1.isNull() || v2.isNull()) {
+      return LITERAL_NULL;
+    } else if (v1.isMissing() || v2.isMissing()) {
+      return LITERAL_MISSING;
+    }
+    return LITERAL_FALSE;
+  }
+
+  /**
+   * Same logic as NOT in UnaryPredicateOperator.
+   */
+  private static ExprValue not(ExprValue value) {
+    if (value.isMissing() || value.isNull()) {
+      return value;
+    }
+    return ExprBooleanValue.of(!value.booleanValue());
+  }
+
+  private static boolean isTrue(ExprValue value) {
+    return !value.isNull() && !value.isMissing() && value.booleanValue();
+  }
+
+  private static boolean isFalse(ExprValue value) {
+    return !value.isNull() && !value.isMissing() && !value.booleanValue();
+  }
+
+  private static int intValue(ExprValue value) {
+    return (int) value.longValueRaw();
+  }
+}
@@ -5,11 +5,16 @@
 
 package org.opensearch.sql.expression.datetime;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableMap;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.function.IntFunction;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.opensearch.sql.data.model.ExprStringValue;
@@ -33,49 +38,53 @@ class DateTimeFormatterUtil {
     String getFormat(LocalDateTime date);
   }
 
+  private static final Map<String, String> FORMATS =
+      ImmutableMap.<String, String>builder()
+      .put("%a", "EEE") // %a => EEE - Abbreviated weekday name (Sun..Sat)
+      .put("%b", "LLL") // %b => LLL - Abbreviated month name (Jan..Dec)
+      .put("%c", "MM") // %c => MM - Month, numeric (0..12)
+      .put("%d", "dd") // %d => dd - Day of the month, numeric (00..31)
+      .put("%e", "d") // %e => d - Day of the month, numeric (0..31)
+      .put("%H", "HH") // %H => HH - (00..23)
+      .put("%h", "hh") // %h => hh - (01..12)
+      .put("%I", "hh") // %I => hh - (01..12)
+      .put("%i", "mm") // %i => mm - Minutes, numeric (00..59)
+      .put("%j", "DDD") // %j => DDD - (001..366)
+      .put("%k", "H") // %k => H - (0..23)
+      .put("%l", "h") // %l => h - (1..12)
+      .put("%p", "a") // %p => a - AM or PM
+      .put("%M", "LLLL") // %M => LLLL - Month name (January..December)
+      .put("%m", "MM") // %m => MM - Month, numeric (00..12)
+      .put("%r", "hh:mm:ss a") // %r => hh:mm:ss a - hh:mm:ss followed by AM or PM
+      .put("%S", "ss") // %S => ss - Seconds (00..59)
+      .put("%s", "ss") // %s => ss - Seconds (00..59)
+      .put("%T", "HH:mm:ss") // %T => HH:mm:ss
+      .put("%W", "EEEE") // %W => EEEE - Weekday name (Sunday..Saturday)
+      .put("%Y", "yyyy") // %Y => yyyy - Year, numeric, 4 digits
+      .put("%y", "yy") // %y => yy - Year, numeric, 2 digits
+      .build();
+
+  // The following are not directly supported by DateTimeFormatter.
   private static final Map<String, DateTimeFormatHandler> HANDLERS =
       ImmutableMap.<String, DateTimeFormatHandler>builder()
-      .put("%a", (date) -> "EEE") // %a => EEE - Abbreviated weekday name (Sun..Sat)
-      .put("%b", (date) -> "LLL") // %b => LLL - Abbreviated month name (Jan..Dec)
-      .put("%c", (date) -> "MM") // %c => MM - Month, numeric (0..12)
-      .put("%d", (date) -> "dd") // %d => dd - Day of the month, numeric (00..31)
-      .put("%e", (date) -> "d") // %e => d - Day of the month, numeric (0..31)
-      .put("%H", (date) -> "HH") // %H => HH - (00..23)
-      .put("%h", (date) -> "hh") // %h => hh - (01..12)
-      .put("%I", (date) -> "hh") // %I => hh - (01..12)
-      .put("%i", (date) -> "mm") // %i => mm - Minutes, numeric (00..59)
-      .put("%j", (date) -> "DDD") // %j => DDD - (001..366)
-      .put("%k", (date) -> "H") // %k => H - (0..23)
-      .put("%l", (date) -> "h") // %l => h - (1..12)
-      .put("%p", (date) -> "a") // %p => a - AM or PM
-      .put("%M", (date) -> "LLLL") // %M => LLLL - Month name (January..December)
-      .put("%m", (date) -> "MM") // %m => MM - Month, numeric (00..12)
-      .put("%r", (date) -> "hh:mm:ss a") // %r => hh:mm:ss a - hh:mm:ss followed by AM or PM
-      .put("%S", (date) -> "ss") // %S => ss - Seconds (00..59)
-      .put("%s", (date) -> "ss") // %s => ss - Seconds (00..59)
-      .put("%T", (date) -> "HH:mm:ss") // %T => HH:mm:ss
-      .put("%W", (date) -> "EEEE") // %W => EEEE - Weekday name (Sunday..Saturday)
-      .put("%Y", (date) -> "yyyy") // %Y => yyyy - Year, numeric, 4 digits
-      .put("%y", (date) -> "yy") // %y => yy - Year, numeric, 2 digits
-      // The following are not directly supported by DateTimeFormatter.
       .put("%D", (date) -> // %w - Day of month with English suffix
-          String.format("'%d%s'", date.getDayOfMonth(), getSuffix(date.getDayOfMonth())))
+          String.format("%d%s", date.getDayOfMonth(), getSuffix(date.getDayOfMonth())))
       .put("%f", (date) -> // %f - Microseconds
-          String.format("'%d'", (date.getNano() / 1000)))
+          String.valueOf(date.getNano() / 1000))
       .put("%w", (date) -> // %w - Day of week (0 indexed)
-          String.format("'%d'", date.getDayOfWeek().getValue()))
+          String.valueOf(date.getDayOfWeek().getValue()))
       .put("%U", (date) -> // %U Week where Sunday is the first day - WEEK() mode 0
-          String.format("'%d'", CalendarLookup.getWeekNumber(0, date.toLocalDate())))
+          String.valueOf(CalendarLookup.getWeekNumber(0, date.toLocalDate())))
       .put("%u", (date) -> // %u Week where Monday is the first day - WEEK() mode 1
-          String.format("'%d'", CalendarLookup.getWeekNumber(1, date.toLocalDate())))
+          String.valueOf(CalendarLookup.getWeekNumber(1, date.toLocalDate())))
       .put("%V", (date) -> // %V Week where Sunday is the first day - WEEK() mode 2 used with %X
-          String.format("'%d'", CalendarLookup.getWeekNumber(2, date.toLocalDate())))
+          String.valueOf(CalendarLookup.getWeekNumber(2, date.toLocalDate())))
       .put("%v", (date) -> // %v Week where Monday is the first day - WEEK() mode 3 used with %x
-          String.format("'%d'", CalendarLookup.getWeekNumber(3, date.toLocalDate())))
+          String.valueOf(CalendarLookup.getWeekNumber(3, date.toLocalDate())))
       .put("%X", (date) -> // %X Year for week where Sunday is the first day, 4 digits used with %V
-          String.format("'%d'", CalendarLookup.getYearNumber(2, date.toLocalDate())))
+          String.valueOf(CalendarLookup.getYearNumber(2, date.toLocalDate())))
       .put("%x", (date) -> // %x Year for week where Monday is the first day, 4 digits used with %v
-          String.format("'%d'", CalendarLookup.getYearNumber(3, date.toLocalDate())))
+          String.valueOf(CalendarLookup.getYearNumber(3, date.toLocalDate())))
       .build();
 
   private static final Pattern pattern = Pattern.compile("%.");
@@ -83,6 +92,13 @@ class DateTimeFormatterUtil {
           = Pattern.compile("(?<!%)[a-zA-Z&&[^aydmshiHIMYDSEL]]+");
   private static final String MOD_LITERAL = "%";
 
+  /**
+   * Cache of the compiled format. Format String is usually a literal in query, so each format
+   * is compiled only once instead of for each row formatted.
+   */
+  private static final Cache<String, CompiledFormat> FORMAT_CACHE =
+      CacheBuilder.newBuilder().maximumSize(1000).build();
+
   private DateTimeFormatterUtil() {
   }
 
@@ -94,29 +110,129 @@ class DateTimeFormatterUtil {
    */
   static ExprValue getFormattedDate(ExprValue dateExpr, ExprValue formatExpr) {
     final LocalDateTime date = dateExpr.datetimeValue();
-    final StringBuffer cleanFormat = new StringBuffer();
-    final Matcher m = CHARACTERS_WITH_NO_MOD_LITERAL_BEHIND_PATTERN
-            .matcher(formatExpr.stringValue());
+    return new ExprStringValue(getCompiledFormat(formatExpr.stringValue()).format(date));
+  }
+
+  /**
+   * Get the compiled format from cache or compile it if absent. The format is not compiled
+   * by cache loader because the exception thrown would be wrapped otherwise.
+   */
+  private static CompiledFormat getCompiledFormat(String format) {
+    CompiledFormat compiled = FORMAT_CACHE.getIfPresent(format);
+    if (compiled == null) {
+      compiled = compile(format);
+      FORMAT_CACHE.put(format, compiled);
+    }
+    return compiled;
+  }
+
+  /**
+   * Compile the SQL style format String to DateTimeFormatter pattern. Specifiers in HANDLERS
+   * depend on the date formatted, so each of them is quoted as a placeholder character in the
+   * pattern and replaced by the handler output after formatting. Quotes around the specifiers
+   * are thus parsed as if the output is quoted in the pattern for each date.
+   * @param format SQL style format String.
+   * @return compiled format
+   */
+  private static CompiledFormat compile(String format) {
+    final StringBuilder cleanFormat = new StringBuilder();
+    final Matcher m = CHARACTERS_WITH_NO_MOD_LITERAL_BEHIND_PATTERN.matcher(format);
     while (m.find()) {
-      m.appendReplacement(cleanFormat,String.format("'%s'", m.group()));
+      m.appendReplacement(cleanFormat, String.format("'%s'", m.group()));
     }
     m.appendTail(cleanFormat);
 
+    final List<String> patternParts = new ArrayList<>();
+    final List<DateTimeFormatHandler> handlers = new ArrayList<>();
     final Matcher matcher = pattern.matcher(cleanFormat.toString());
-    final StringBuffer format = new StringBuffer();
+    StringBuilder text = new StringBuilder();
     while (matcher.find()) {
-      matcher.appendReplacement(format,
-          HANDLERS.getOrDefault(matcher.group(), (d) ->
-              String.format("'%s'", matcher.group().replaceFirst(MOD_LITERAL, "")))
-              .getFormat(date));
+      DateTimeFormatHandler handler = HANDLERS.get(matcher.group());
+      if (handler == null) {
+        matcher.appendReplacement(text, FORMATS.getOrDefault(matcher.group(),
+            String.format("'%s'", matcher.group().replaceFirst(MOD_LITERAL, ""))));
+      } else {
+        matcher.appendReplacement(text, "");
+        patternParts.add(text.toString());
+        handlers.add(handler);
+        text = new StringBuilder();
+      }
     }
-    matcher.appendTail(format);
+    matcher.appendTail(text);
+    patternParts.add(text.toString());
+    return new CompiledFormat(patternParts, handlers);
+  }
 
-    // English Locale matches SQL requirements.
-    // 'AM'/'PM' instead of 'a.m.'/'p.m.'
-    // 'Sat' instead of 'Sat.' etc
-    return new ExprStringValue(date.format(
-        DateTimeFormatter.ofPattern(format.toString(), Locale.ENGLISH)));
+  // English Locale matches SQL requirements.
+  // 'AM'/'PM' instead of 'a.m.'/'p.m.'
+  // 'Sat' instead of 'Sat.' etc
+  private static DateTimeFormatter ofPattern(String pattern) {
+    return DateTimeFormatter.ofPattern(pattern, Locale.ENGLISH);
+  }
+
+  /**
+   * SQL style format compiled to DateTimeFormatter with placeholders of handlers. If the format
+   * itself has characters in the private use area of placeholders, the pattern is built with
+   * the handler output and compiled for each date instead.
+   */
+  private static class CompiledFormat {
+    private static final char PLACEHOLDER_START = '\uE000';
+    private static final char PLACEHOLDER_END = '\uF8FF';
+
+    private final List<String> patternParts;
+    private final List<DateTimeFormatHandler> handlers;
+    private final DateTimeFormatter formatter;
+
+    CompiledFormat(List<String> patternParts, List<DateTimeFormatHandler> handlers) {
+      this.patternParts = patternParts;
+      this.handlers = handlers;
+      this.formatter = hasPlaceholderConflict()
+          ? null : ofPattern(buildPattern(i -> String.valueOf(placeholder(i))));
+    }
+
+    String format(LocalDateTime date) {
+      if (formatter == null) {
+        return date.format(ofPattern(buildPattern(i -> handlers.get(i).getFormat(date))));
+      }
+
+      String formatted = date.format(formatter);
+      if (handlers.isEmpty()) {
+        return formatted;
+      }
+      StringBuilder result = new StringBuilder(formatted.length() + 8 * handlers.size());
+      for (int i = 0; i < formatted.length(); i++) {
+        char c = formatted.charAt(i);
+        int index = c - PLACEHOLDER_START;
+        if (index >= 0 && index < handlers.size()) {
+          result.append(handlers.get(index).getFormat(date));
+        } else {
+          result.append(c);
+        }
+      }
+      return result.toString();
+    }
+
+    /**
+     * Build the pattern with each handler replaced by its quoted text.
+     */
+    private String buildPattern(IntFunction<String> handlerText) {
+      StringBuilder pattern = new StringBuilder(patternParts.get(0));
+      for (int i = 0; i < handlers.size(); i++) {
+        pattern.append('\'').append(handlerText.apply(i)).append('\'')
+            .append(patternParts.get(i + 1));
+      }
+      return pattern.toString();
+    }
+
+    private boolean hasPlaceholderConflict() {
+      return handlers.size() > PLACEHOLDER_END - PLACEHOLDER_START + 1
+          || patternParts.stream().flatMapToInt(String::chars)
+              .anyMatch(c -> c >= PLACEHOLDER_START && c <= PLACEHOLDER_END);
+    }
+
+    private static char placeholder(int index) {
+      return (char) (PLACEHOLDER_START + index);
+    }
   }
 
   /**
@@ -13,6 +13,9 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.experimental.UtilityClass;
 import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.data.type.ExprType;
@@ -220,6 +223,41 @@ public class FunctionDSL {
     };
   }
 
+  /**
+   * Binary INTEGER function implemented on primitive int values.
+   */
+  public static SerializableBiFunction<ExprValue, ExprValue, ExprValue> integerFunction(
+      SerializableIntBinaryOperator function) {
+    return (v1, v2) -> ExprIntegerValue.of(
+        function.applyAsInt((int) v1.longValueRaw(), (int) v2.longValueRaw()));
+  }
+
+  /**
+   * Binary LONG function implemented on primitive long values.
+   */
+  public static SerializableBiFunction<ExprValue, ExprValue, ExprValue> longFunction(
+      SerializableLongBinaryOperator function) {
+    return (v1, v2) -> ExprLongValue.of(
+        function.applyAsLong(v1.longValueRaw(), v2.longValueRaw()));
+  }
+
+  /**
+   * Unary DOUBLE function implemented on primitive double value.
+   */
+  public static SerializableFunction<ExprValue, ExprValue> doubleFunction(
+      SerializableDoubleUnaryOperator function) {
+    return v -> new ExprDoubleValue(function.applyAsDouble(v.doubleValueRaw()));
+  }
+
+  /**
+   * Binary DOUBLE function implemented on primitive double values.
+   */
+  public static SerializableBiFunction<ExprValue, ExprValue, ExprValue> doubleFunction(
+      SerializableDoubleBinaryOperator function) {
+    return (v1, v2) -> new ExprDoubleValue(
+        function.applyAsDouble(v1.doubleValueRaw(), v2.doubleValueRaw()));
+  }
+
   /**
    * Wrapper the unary ExprValue function with default NULL and MISSING handling.
    */
@@ -0,0 +1,16 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.expression.function;
+
+import java.io.Serializable;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Serializable DoubleUnaryOperator.
+ */
+public interface SerializableDoubleUnaryOperator extends DoubleUnaryOperator, Serializable {
+}
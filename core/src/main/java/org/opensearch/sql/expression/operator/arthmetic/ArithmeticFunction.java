@@ -61,12 +61,11 @@ public class ArithmeticFunction {
             SHORT, SHORT, SHORT),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> new ExprIntegerValue(Math.addExact(v1.integerValue(),
-                    v2.integerValue()))),
+                FunctionDSL.integerFunction(Math::addExact)),
             INTEGER, INTEGER, INTEGER),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> new ExprLongValue(Math.addExact(v1.longValue(), v2.longValue()))),
+                FunctionDSL.longFunction(Math::addExact)),
             LONG, LONG, LONG),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
@@ -74,7 +73,7 @@ public class ArithmeticFunction {
             FLOAT, FLOAT, FLOAT),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> new ExprDoubleValue(v1.doubleValue() + v2.doubleValue())),
+                FunctionDSL.doubleFunction((v1, v2) -> v1 + v2)),
             DOUBLE, DOUBLE, DOUBLE)
     );
   }
@@ -91,12 +90,11 @@ public class ArithmeticFunction {
             SHORT, SHORT, SHORT),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> new ExprIntegerValue(Math.subtractExact(v1.integerValue(),
-                    v2.integerValue()))),
+                FunctionDSL.integerFunction(Math::subtractExact)),
             INTEGER, INTEGER, INTEGER),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> new ExprLongValue(Math.subtractExact(v1.longValue(), v2.longValue()))),
+                FunctionDSL.longFunction(Math::subtractExact)),
             LONG, LONG, LONG),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
@@ -104,7 +102,7 @@ public class ArithmeticFunction {
             FLOAT, FLOAT, FLOAT),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> new ExprDoubleValue(v1.doubleValue() - v2.doubleValue())),
+                FunctionDSL.doubleFunction((v1, v2) -> v1 - v2)),
             DOUBLE, DOUBLE, DOUBLE)
     );
   }
@@ -121,12 +119,11 @@ public class ArithmeticFunction {
             SHORT, SHORT, SHORT),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> new ExprIntegerValue(Math.multiplyExact(v1.integerValue(),
-                    v2.integerValue()))),
+                FunctionDSL.integerFunction(Math::multiplyExact)),
             INTEGER, INTEGER, INTEGER),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> new ExprLongValue(Math.multiplyExact(v1.longValue(), v2.longValue()))),
+                FunctionDSL.longFunction(Math::multiplyExact)),
             LONG, LONG, LONG),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
@@ -134,7 +131,7 @@ public class ArithmeticFunction {
             FLOAT, FLOAT, FLOAT),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> new ExprDoubleValue(v1.doubleValue() * v2.doubleValue())),
+                FunctionDSL.doubleFunction((v1, v2) -> v1 * v2)),
             DOUBLE, DOUBLE, DOUBLE)
     );
   }
@@ -152,13 +149,13 @@ public class ArithmeticFunction {
             SHORT, SHORT, SHORT),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> v2.integerValue() == 0 ? ExprNullValue.of() :
-                    new ExprIntegerValue(v1.integerValue() / v2.integerValue())),
+                (v1, v2) -> v2.longValueRaw() == 0 ? ExprNullValue.of() :
+                    ExprIntegerValue.of((int) v1.longValueRaw() / (int) v2.longValueRaw())),
             INTEGER, INTEGER, INTEGER),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> v2.longValue() == 0 ? ExprNullValue.of() :
-                    new ExprLongValue(v1.longValue() / v2.longValue())),
+                (v1, v2) -> v2.longValueRaw() == 0 ? ExprNullValue.of() :
+                    ExprLongValue.of(v1.longValueRaw() / v2.longValueRaw())),
             LONG, LONG, LONG),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
@@ -167,8 +164,8 @@ public class ArithmeticFunction {
             FLOAT, FLOAT, FLOAT),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> v2.doubleValue() == 0 ? ExprNullValue.of() :
-                    new ExprDoubleValue(v1.doubleValue() / v2.doubleValue())),
+                (v1, v2) -> v2.doubleValueRaw() == 0 ? ExprNullValue.of() :
+                    new ExprDoubleValue(v1.doubleValueRaw() / v2.doubleValueRaw())),
             DOUBLE, DOUBLE, DOUBLE)
     );
   }
@@ -187,13 +184,13 @@ public class ArithmeticFunction {
             SHORT, SHORT, SHORT),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> v2.integerValue() == 0 ? ExprNullValue.of() :
-                    new ExprIntegerValue(v1.integerValue() % v2.integerValue())),
+                (v1, v2) -> v2.longValueRaw() == 0 ? ExprNullValue.of() :
+                    ExprIntegerValue.of((int) v1.longValueRaw() % (int) v2.longValueRaw())),
             INTEGER, INTEGER, INTEGER),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> v2.longValue() == 0 ? ExprNullValue.of() :
-                    new ExprLongValue(v1.longValue() % v2.longValue())),
+                (v1, v2) -> v2.longValueRaw() == 0 ? ExprNullValue.of() :
+                    ExprLongValue.of(v1.longValueRaw() % v2.longValueRaw())),
             LONG, LONG, LONG),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
@@ -202,8 +199,8 @@ public class ArithmeticFunction {
             FLOAT, FLOAT, FLOAT),
         FunctionDSL.impl(
             FunctionDSL.nullMissingHandling(
-                (v1, v2) -> v2.doubleValue() == 0 ? ExprNullValue.of() :
-                    new ExprDoubleValue(v1.doubleValue() % v2.doubleValue())),
+                (v1, v2) -> v2.doubleValueRaw() == 0 ? ExprNullValue.of() :
+                    new ExprDoubleValue(v1.doubleValueRaw() % v2.doubleValueRaw())),
             DOUBLE, DOUBLE, DOUBLE)
     );
   }
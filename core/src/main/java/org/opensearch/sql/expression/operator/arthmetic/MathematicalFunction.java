@@ -106,7 +106,7 @@ public class MathematicalFunction {
             FunctionDSL.nullMissingHandling(v -> new ExprFloatValue(Math.abs(v.floatValue()))),
             FLOAT, FLOAT),
         FunctionDSL.impl(
-            FunctionDSL.nullMissingHandling(v -> new ExprDoubleValue(Math.abs(v.doubleValue()))),
+            FunctionDSL.nullMissingHandling(FunctionDSL.doubleFunction(Math::abs)),
             DOUBLE, DOUBLE)
     );
   }
@@ -192,7 +192,7 @@ public class MathematicalFunction {
     return FunctionDSL.define(BuiltinFunctionName.EXP.getName(),
         ExprCoreType.numberTypes().stream()
             .map(type -> FunctionDSL.impl(FunctionDSL.nullMissingHandling(
-                v -> new ExprDoubleValue(Math.exp(v.doubleValue()))),
+                FunctionDSL.doubleFunction(Math::exp)),
                 type, DOUBLE)).collect(Collectors.toList()));
   }
 
@@ -216,7 +216,7 @@ public class MathematicalFunction {
     return FunctionDSL.define(BuiltinFunctionName.LN.getName(),
         ExprCoreType.numberTypes().stream()
             .map(type -> FunctionDSL.impl(FunctionDSL.nullMissingHandling(
-                v -> new ExprDoubleValue(Math.log(v.doubleValue()))),
+                FunctionDSL.doubleFunction(Math::log)),
                 type, DOUBLE)).collect(Collectors.toList()));
   }
 
@@ -232,7 +232,7 @@ public class MathematicalFunction {
     // build unary log(x), SHORT/INTEGER/LONG/FLOAT/DOUBLE -> DOUBLE
     for (ExprType type : ExprCoreType.numberTypes()) {
       builder.add(FunctionDSL.impl(FunctionDSL
-              .nullMissingHandling(v -> new ExprDoubleValue(Math.log(v.doubleValue()))),
+              .nullMissingHandling(FunctionDSL.doubleFunction(Math::log)),
           DOUBLE, type));
     }
 
@@ -257,7 +257,7 @@ public class MathematicalFunction {
     return FunctionDSL.define(BuiltinFunctionName.LOG10.getName(),
         ExprCoreType.numberTypes().stream()
             .map(type -> FunctionDSL.impl(FunctionDSL.nullMissingHandling(
-                v -> new ExprDoubleValue(Math.log10(v.doubleValue()))),
+                FunctionDSL.doubleFunction(Math::log10)),
                 type, DOUBLE)).collect(Collectors.toList()));
   }
 
@@ -269,7 +269,7 @@ public class MathematicalFunction {
     return FunctionDSL.define(BuiltinFunctionName.LOG2.getName(),
         ExprCoreType.numberTypes().stream()
             .map(type -> FunctionDSL.impl(FunctionDSL.nullMissingHandling(
-                v -> new ExprDoubleValue(Math.log(v.doubleValue()) / Math.log(2))), DOUBLE, type))
+                FunctionDSL.doubleFunction(v -> Math.log(v) / Math.log(2))), DOUBLE, type))
             .collect(Collectors.toList()));
   }
 
@@ -554,11 +554,10 @@ public class MathematicalFunction {
 
     for (ExprType type : ExprCoreType.numberTypes()) {
       builder.add(FunctionDSL.impl(FunctionDSL
-              .nullMissingHandling(x -> new ExprDoubleValue(Math.atan(x.doubleValue()))), type,
+              .nullMissingHandling(FunctionDSL.doubleFunction(Math::atan)), type,
           DOUBLE));
       builder.add(FunctionDSL.impl(FunctionDSL
-          .nullMissingHandling((y, x) -> new ExprDoubleValue(Math.atan2(y.doubleValue(),
-              x.doubleValue()))), DOUBLE, type, type));
+          .nullMissingHandling(FunctionDSL.doubleFunction(Math::atan2)), DOUBLE, type, type));
     }
 
     return FunctionDSL.define(BuiltinFunctionName.ATAN.getName(), builder.build());
@@ -577,8 +576,7 @@ public class MathematicalFunction {
 
     for (ExprType type : ExprCoreType.numberTypes()) {
       builder.add(FunctionDSL.impl(FunctionDSL
-          .nullMissingHandling((y, x) -> new ExprDoubleValue(Math.atan2(y.doubleValue(),
-              x.doubleValue()))), DOUBLE, type, type));
+          .nullMissingHandling(FunctionDSL.doubleFunction(Math::atan2)), DOUBLE, type, type));
     }
 
     return FunctionDSL.define(BuiltinFunctionName.ATAN2.getName(), builder.build());
@@ -594,7 +592,7 @@ public class MathematicalFunction {
     return FunctionDSL.define(BuiltinFunctionName.COS.getName(),
         ExprCoreType.numberTypes().stream()
             .map(type -> FunctionDSL.impl(FunctionDSL.nullMissingHandling(
-                v -> new ExprDoubleValue(Math.cos(v.doubleValue()))),
+                FunctionDSL.doubleFunction(Math::cos)),
                 DOUBLE, type)).collect(Collectors.toList()));
   }
 
@@ -629,7 +627,7 @@ public class MathematicalFunction {
     return FunctionDSL.define(BuiltinFunctionName.DEGREES.getName(),
         ExprCoreType.numberTypes().stream()
             .map(type -> FunctionDSL.impl(FunctionDSL.nullMissingHandling(
-                v -> new ExprDoubleValue(Math.toDegrees(v.doubleValue()))),
+                FunctionDSL.doubleFunction(Math::toDegrees)),
                 type, DOUBLE)).collect(Collectors.toList()));
   }
 
@@ -643,7 +641,7 @@ public class MathematicalFunction {
     return FunctionDSL.define(BuiltinFunctionName.RADIANS.getName(),
         ExprCoreType.numberTypes().stream()
             .map(type -> FunctionDSL.impl(FunctionDSL.nullMissingHandling(
-                v -> new ExprDoubleValue(Math.toRadians(v.doubleValue()))),
+                FunctionDSL.doubleFunction(Math::toRadians)),
                 DOUBLE, type)).collect(Collectors.toList()));
   }
 
@@ -657,7 +655,7 @@ public class MathematicalFunction {
     return FunctionDSL.define(BuiltinFunctionName.SIN.getName(),
         ExprCoreType.numberTypes().stream()
             .map(type -> FunctionDSL.impl(FunctionDSL.nullMissingHandling(
-                v -> new ExprDoubleValue(Math.sin(v.doubleValue()))),
+                FunctionDSL.doubleFunction(Math::sin)),
                 DOUBLE, type)).collect(Collectors.toList()));
   }
 
@@ -671,7 +669,7 @@ public class MathematicalFunction {
     return FunctionDSL.define(BuiltinFunctionName.TAN.getName(),
         ExprCoreType.numberTypes().stream()
             .map(type -> FunctionDSL.impl(FunctionDSL.nullMissingHandling(
-                v -> new ExprDoubleValue(Math.tan(v.doubleValue()))),
+                FunctionDSL.doubleFunction(Math::tan)),
                 DOUBLE, type)).collect(Collectors.toList()));
   }
 }
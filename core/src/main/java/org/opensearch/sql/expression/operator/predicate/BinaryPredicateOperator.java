@@ -33,6 +33,7 @@ import org.opensearch.sql.utils.OperatorUtils;
  * or,  Accepts two Boolean values and produces a Boolean.
  * xor, Accepts two Boolean values and produces a Boolean.
  * equalTo, Compare the left expression and right expression and produces a Boolean.
+ * in, Check if the first expression is equal to any of the other expressions.
  */
 @UtilityClass
 public class BinaryPredicateOperator {
@@ -51,6 +52,7 @@ public class BinaryPredicateOperator {
     repository.register(lte());
     repository.register(greater());
     repository.register(gte());
+    repository.register(new InFunctionResolver());
     repository.register(like());
     repository.register(notLike());
     repository.register(regexp());
@@ -0,0 +1,213 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.predicate;
+
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTERVAL;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+
+/**
+ * The IN predicate, field IN (value1, value2, ...).
+ * Instead of evaluating an OR chain of equal comparisons, the value list is materialized once
+ * into a lookup set when all the values are constant, which makes each probe O(1) for hashable
+ * values and O(log n) without boxing for numbers.
+ * The NULL and MISSING handling is the same as the OR chain of equal comparisons, that is
+ * NULL or MISSING field returns NULL or MISSING, and if the field is not found in the value
+ * list which contains NULL, then NULL is returned.
+ */
+public class InExpression extends FunctionExpression {
+
+  @Getter
+  private final Expression field;
+
+  @Getter
+  private final List<Expression> values;
+
+  /**
+   * The type which all the arguments are compared as.
+   */
+  private final ExprType compareType;
+
+  /**
+   * The lookup set built from constant values, null if any of the values is not constant.
+   */
+  private final ValueSet constantValueSet;
+
+  /**
+   * Constructor of InExpression.
+   *
+   * @param arguments field followed by the value list
+   * @param compareType the type which all the arguments are compared as
+   */
+  public InExpression(List<Expression> arguments, ExprType compareType) {
+    super(BuiltinFunctionName.IN.getName(), arguments);
+    this.field = arguments.get(0);
+    this.values = new ArrayList<>(arguments.subList(1, arguments.size()));
+    this.compareType = compareType;
+    this.constantValueSet = values.stream().allMatch(InExpression::isConstant)
+        ? ValueSet.of(compareType, evaluate(values, null)) : null;
+  }
+
+  @Override
+  public ExprValue valueOf(Environment<Expression, ExprValue> valueEnv) {
+    ExprValue value = field.valueOf(valueEnv);
+    if (value.isMissing()) {
+      return LITERAL_MISSING;
+    } else if (value.isNull()) {
+      return LITERAL_NULL;
+    }
+
+    ValueSet valueSet = (constantValueSet != null)
+        ? constantValueSet : ValueSet.of(compareType, evaluate(values, valueEnv));
+    if (valueSet.contains(value)) {
+      return LITERAL_TRUE;
+    }
+    return valueSet.hasNull ? LITERAL_NULL : LITERAL_FALSE;
+  }
+
+  @Override
+  public ExprType type() {
+    return BOOLEAN;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("%s(%s)", getFunctionName(),
+        getArguments().stream()
+            .map(Object::toString)
+            .collect(Collectors.joining(", ")));
+  }
+
+  /**
+   * Literal or function of literals only, such as the cast function wrapped on literal.
+   */
+  private static boolean isConstant(Expression expr) {
+    if (expr instanceof LiteralExpression) {
+      return true;
+    } else if (expr instanceof FunctionExpression) {
+      List<Expression> arguments = ((FunctionExpression) expr).getArguments();
+      return !arguments.isEmpty()
+          && arguments.stream().allMatch(arg -> arg instanceof LiteralExpression);
+    }
+    return false;
+  }
+
+  private static List<ExprValue> evaluate(List<Expression> values,
+                                          Environment<Expression, ExprValue> valueEnv) {
+    return values.stream()
+        .map(value -> value.valueOf(valueEnv))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Lookup set of the value list.
+   */
+  private abstract static class ValueSet implements Serializable {
+
+    /**
+     * The value list contains NULL or MISSING.
+     */
+    protected boolean hasNull;
+
+    abstract boolean contains(ExprValue value);
+
+    static ValueSet of(ExprType compareType, List<ExprValue> values) {
+      List<ExprValue> nonNullValues = values.stream()
+          .filter(value -> !(value.isNull() || value.isMissing()))
+          .collect(Collectors.toList());
+
+      ValueSet valueSet;
+      if (compareType == FLOAT || compareType == DOUBLE) {
+        valueSet = new DoubleValueSet(nonNullValues);
+      } else if (ExprCoreType.numberTypes().contains(compareType)) {
+        valueSet = new LongValueSet(nonNullValues);
+      } else {
+        valueSet = new ObjectValueSet(compareType, nonNullValues);
+      }
+      valueSet.hasNull = nonNullValues.size() < values.size();
+      return valueSet;
+    }
+  }
+
+  /**
+   * Sorted long array for integral numbers.
+   */
+  private static class LongValueSet extends ValueSet {
+    private final long[] sortedValues;
+
+    LongValueSet(List<ExprValue> values) {
+      this.sortedValues = values.stream()
+          .mapToLong(ExprValue::longValue)
+          .sorted()
+          .distinct()
+          .toArray();
+    }
+
+    @Override
+    boolean contains(ExprValue value) {
+      return Arrays.binarySearch(sortedValues, value.longValue()) >= 0;
+    }
+  }
+
+  /**
+   * Sorted double array for floating point numbers.
+   */
+  private static class DoubleValueSet extends ValueSet {
+    private final double[] sortedValues;
+
+    DoubleValueSet(List<ExprValue> values) {
+      this.sortedValues = values.stream()
+          .mapToDouble(ExprValue::doubleValue)
+          .sorted()
+          .distinct()
+          .toArray();
+    }
+
+    @Override
+    boolean contains(ExprValue value) {
+      return Arrays.binarySearch(sortedValues, value.doubleValue()) >= 0;
+    }
+  }
+
+  /**
+   * Hash set for other values. Interval value doesn't define hash code consistent with equals,
+   * so a list is used instead.
+   */
+  private static class ObjectValueSet extends ValueSet {
+    private final Collection<ExprValue> values;
+
+    ObjectValueSet(ExprType compareType, List<ExprValue> values) {
+      this.values = (compareType == INTERVAL) ? new ArrayList<>(values) : new HashSet<>(values);
+    }
+
+    @Override
+    boolean contains(ExprValue value) {
+      return values.contains(value);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.predicate;
+
+import java.util.Collections;
+import java.util.List;
+import lombok.Getter;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.data.type.WideningTypeRule;
+import org.opensearch.sql.exception.ExpressionEvaluationException;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionBuilder;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.function.FunctionResolver;
+import org.opensearch.sql.expression.function.FunctionSignature;
+
+/**
+ * Function resolver of the variable arity IN predicate, in(field, value1, value2, ...).
+ * Same as the equal function, all the arguments are resolved to the core type which they could
+ * be widened to with the minimal widening distance. The arguments are then cast to this type
+ * by the function repository if required.
+ */
+public class InFunctionResolver implements FunctionResolver {
+
+  @Getter
+  private final FunctionName functionName = BuiltinFunctionName.IN.getName();
+
+  @Override
+  public Pair<FunctionSignature, FunctionBuilder> resolve(FunctionSignature unresolvedSignature) {
+    List<ExprType> paramTypes = unresolvedSignature.getParamTypeList();
+    if (paramTypes.size() < 2) {
+      throw new ExpressionEvaluationException(String.format(
+          "%s function expected at least 2 arguments, but get %d",
+          functionName, paramTypes.size()));
+    }
+
+    ExprType compareType = null;
+    int minDistance = WideningTypeRule.IMPOSSIBLE_WIDENING;
+    for (ExprType candidate : ExprCoreType.coreTypes()) {
+      int distance = distance(paramTypes, candidate);
+      if (distance < minDistance) {
+        compareType = candidate;
+        minDistance = distance;
+      }
+    }
+
+    if (compareType == null) {
+      throw new ExpressionEvaluationException(String.format(
+          "%s function expected arguments of compatible types, but get %s",
+          functionName, unresolvedSignature.formatTypes()));
+    }
+
+    ExprType resolvedType = compareType;
+    FunctionSignature resolvedSignature = new FunctionSignature(functionName,
+        Collections.nCopies(paramTypes.size(), resolvedType));
+    FunctionBuilder functionBuilder = args -> new InExpression(args, resolvedType);
+    return Pair.of(resolvedSignature, functionBuilder);
+  }
+
+  private int distance(List<ExprType> paramTypes, ExprType targetType) {
+    int total = WideningTypeRule.TYPE_EQUAL;
+    for (ExprType paramType : paramTypes) {
+      int distance = WideningTypeRule.distance(paramType, targetType);
+      if (distance == WideningTypeRule.IMPOSSIBLE_WIDENING) {
+        return WideningTypeRule.IMPOSSIBLE_WIDENING;
+      }
+      total += distance;
+    }
+    return total;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.vector;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.ReferenceExpression;
+
+/**
+ * A batch of rows passed between physical operators at a time. Besides the rows, the column of
+ * a field referenced by vectorized expression is materialized into {@link ColumnVector} once
+ * on demand. Thus the expression is evaluated over primitive arrays in tight loop rather than
+ * row by row through the binding tuple of each row.
+ */
+@ToString
+@RequiredArgsConstructor
+public class Batch {
+
+  /**
+   * Default maximum number of rows in a batch.
+   */
+  public static final int DEFAULT_SIZE = 1000;
+
+  @Getter
+  private final List<ExprValue> rows;
+
+  @ToString.Exclude
+  private final Map<ReferenceExpression, ColumnVector> columns = new HashMap<>();
+
+  public int size() {
+    return rows.size();
+  }
+
+  public boolean isEmpty() {
+    return rows.isEmpty();
+  }
+
+  /**
+   * Get the column of the field in the batch.
+   *
+   * @param ref field reference of type supported by {@link ColumnVector}
+   * @return column vector
+   */
+  public ColumnVector column(ReferenceExpression ref) {
+    return columns.computeIfAbsent(ref, key -> ColumnVector.of(key.type(),
+        rows.stream()
+            .map(row -> key.valueOf(row.bindingTuples()))
+            .collect(Collectors.toList())));
+  }
+
+  /**
+   * Select the rows by position.
+   *
+   * @param selected predicate on the position of row
+   * @return new batch with the rows selected
+   */
+  public Batch select(IntPredicate selected) {
+    List<ExprValue> result = new ArrayList<>();
+    for (int i = 0; i < rows.size(); i++) {
+      if (selected.test(i)) {
+        result.add(rows.get(i));
+      }
+    }
+    return new Batch(result);
+  }
+
+  /**
+   * Map each row in the batch.
+   *
+   * @param mapper row mapper
+   * @return new batch with the rows mapped
+   */
+  public Batch map(UnaryOperator<ExprValue> mapper) {
+    return new Batch(rows.stream().map(mapper).collect(Collectors.toList()));
+  }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.vector;
+
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+
+import com.google.common.collect.ImmutableSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.LongBinaryOperator;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprType;
+
+/**
+ * Column of primitive values of the rows in a {@link Batch}. Value of integral type is stored in
+ * long array, floating point type in double array and boolean type in boolean array.
+ * NULL and MISSING are both marked as null. They are not distinguished because a boolean column
+ * is only used to tell whether the condition is true for each row, which is the same for both.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ColumnVector {
+
+  private static final Set<ExprType> INTEGRAL_TYPES = ImmutableSet.of(BYTE, SHORT, INTEGER, LONG);
+
+  private static final Set<ExprType> FLOATING_POINT_TYPES = ImmutableSet.of(FLOAT, DOUBLE);
+
+  private final int size;
+
+  private final long[] longs;
+
+  private final double[] doubles;
+
+  private final boolean[] booleans;
+
+  private final boolean[] nulls;
+
+  /**
+   * Whether the value of the type can be stored in column vector.
+   *
+   * @param type expression type
+   * @return true if supported
+   */
+  public static boolean isSupported(ExprType type) {
+    return isNumber(type) || type == BOOLEAN;
+  }
+
+  /**
+   * Whether the type is stored as number in column vector.
+   *
+   * @param type expression type
+   * @return true if stored as number
+   */
+  public static boolean isNumber(ExprType type) {
+    return INTEGRAL_TYPES.contains(type) || FLOATING_POINT_TYPES.contains(type);
+  }
+
+  /**
+   * Build column vector from the values of supported type.
+   *
+   * @param type   value type
+   * @param values values
+   * @return column vector
+   */
+  public static ColumnVector of(ExprType type, List<ExprValue> values) {
+    int size = values.size();
+    boolean[] nulls = new boolean[size];
+    for (int i = 0; i < size; i++) {
+      nulls[i] = values.get(i).isNull() || values.get(i).isMissing();
+    }
+
+    if (INTEGRAL_TYPES.contains(type)) {
+      long[] longs = new long[size];
+      for (int i = 0; i < size; i++) {
+        longs[i] = nulls[i] ? 0L : values.get(i).longValue();
+      }
+      return new ColumnVector(size, longs, null, null, nulls);
+    } else if (FLOATING_POINT_TYPES.contains(type)) {
+      double[] doubles = new double[size];
+      for (int i = 0; i < size; i++) {
+        doubles[i] = nulls[i] ? 0D : values.get(i).doubleValue();
+      }
+      return new ColumnVector(size, null, doubles, null, nulls);
+    } else {
+      boolean[] booleans = new boolean[size];
+      for (int i = 0; i < size; i++) {
+        booleans[i] = !nulls[i] && values.get(i).booleanValue();
+      }
+      return new ColumnVector(size, null, null, booleans, nulls);
+    }
+  }
+
+  /**
+   * Whether the boolean value at the index is true, which means not null and not false.
+   */
+  public boolean isTrue(int index) {
+    return !nulls[index] && booleans[index];
+  }
+
+  private boolean isFalse(int index) {
+    return !nulls[index] && !booleans[index];
+  }
+
+  /**
+   * Compare with the number column of the same type element-wise.
+   *
+   * @param other  other column
+   * @param result predicate on the comparison result
+   * @return boolean column
+   */
+  public ColumnVector compare(ColumnVector other, IntPredicate result) {
+    boolean[] resultNulls = mergeNulls(other);
+    boolean[] values = new boolean[size];
+    if (doubles != null) {
+      for (int i = 0; i < size; i++) {
+        values[i] = !resultNulls[i] && result.test(Double.compare(doubles[i], other.doubles[i]));
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        values[i] = !resultNulls[i] && result.test(Long.compare(longs[i], other.longs[i]));
+      }
+    }
+    return new ColumnVector(size, null, null, values, resultNulls);
+  }
+
+  /**
+   * Apply the operator on the integral column of the same type element-wise.
+   *
+   * @param other    other column
+   * @param operator operator
+   * @return integral column
+   */
+  public ColumnVector applyLong(ColumnVector other, LongBinaryOperator operator) {
+    boolean[] resultNulls = mergeNulls(other);
+    long[] values = new long[size];
+    for (int i = 0; i < size; i++) {
+      if (!resultNulls[i]) {
+        values[i] = operator.applyAsLong(longs[i], other.longs[i]);
+      }
+    }
+    return new ColumnVector(size, values, null, null, resultNulls);
+  }
+
+  /**
+   * Apply the operator on the floating point column of the same type element-wise.
+   *
+   * @param other    other column
+   * @param operator operator
+   * @return floating point column
+   */
+  public ColumnVector applyDouble(ColumnVector other, DoubleBinaryOperator operator) {
+    boolean[] resultNulls = mergeNulls(other);
+    double[] values = new double[size];
+    for (int i = 0; i < size; i++) {
+      if (!resultNulls[i]) {
+        values[i] = operator.applyAsDouble(doubles[i], other.doubles[i]);
+      }
+    }
+    return new ColumnVector(size, null, values, null, resultNulls);
+  }
+
+  /**
+   * Logical AND with the boolean column element-wise. False wins over null.
+   */
+  public ColumnVector and(ColumnVector other) {
+    boolean[] values = new boolean[size];
+    boolean[] resultNulls = new boolean[size];
+    for (int i = 0; i < size; i++) {
+      if (isFalse(i) || other.isFalse(i)) {
+        continue;
+      }
+      resultNulls[i] = nulls[i] || other.nulls[i];
+      values[i] = !resultNulls[i];
+    }
+    return new ColumnVector(size, null, null, values, resultNulls);
+  }
+
+  /**
+   * Logical OR with the boolean column element-wise. True wins over null.
+   */
+  public ColumnVector or(ColumnVector other) {
+    boolean[] values = new boolean[size];
+    boolean[] resultNulls = new boolean[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = isTrue(i) || other.isTrue(i);
+      resultNulls[i] = !values[i] && (nulls[i] || other.nulls[i]);
+    }
+    return new ColumnVector(size, null, null, values, resultNulls);
+  }
+
+  /**
+   * Logical NOT of the boolean column element-wise.
+   */
+  public ColumnVector not() {
+    boolean[] values = new boolean[size];
+    for (int i = 0; i < size; i++) {
+      values[i] = isFalse(i);
+    }
+    return new ColumnVector(size, null, null, values, nulls);
+  }
+
+  private boolean[] mergeNulls(ColumnVector other) {
+    boolean[] result = new boolean[size];
+    for (int i = 0; i < size; i++) {
+      result[i] = nulls[i] || other.nulls[i];
+    }
+    return result;
+  }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.vector;
+
+/**
+ * Expression evaluated over all the rows of a batch at a time.
+ */
+@FunctionalInterface
+public interface VectorExpression {
+
+  /**
+   * Evaluate the expression over the batch.
+   *
+   * @param batch batch of rows
+   * @return column of the result for each row
+   */
+  ColumnVector evaluate(Batch batch);
+}
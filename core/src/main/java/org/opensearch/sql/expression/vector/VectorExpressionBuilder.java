@@ -0,0 +1,161 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.vector;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.ADD;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.AND;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.EQUAL;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.GREATER;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.GTE;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.LESS;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.LTE;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.MULTIPLY;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.NOT;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.NOTEQUAL;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.OR;
+import static org.opensearch.sql.expression.function.BuiltinFunctionName.SUBTRACT;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.IntPredicate;
+import java.util.function.LongBinaryOperator;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.function.FunctionName;
+
+/**
+ * Builder that converts a boolean condition into {@link VectorExpression} if all its nodes can be
+ * evaluated over primitive column vectors. Supported are reference and literal of numeric or
+ * boolean type, comparison of numbers, arithmetic +, -, * on INTEGER, LONG and DOUBLE, and the
+ * logical AND, OR and NOT. The arithmetic follows the same overflow checking as row by row
+ * evaluation. For any other expression, nothing is built and the caller falls back to evaluate
+ * the condition row by row.
+ */
+public class VectorExpressionBuilder extends ExpressionNodeVisitor<VectorExpression, Object> {
+
+  private static final Map<FunctionName, IntPredicate> COMPARISONS =
+      new ImmutableMap.Builder<FunctionName, IntPredicate>()
+          .put(EQUAL.getName(), result -> result == 0)
+          .put(NOTEQUAL.getName(), result -> result != 0)
+          .put(LESS.getName(), result -> result < 0)
+          .put(LTE.getName(), result -> result <= 0)
+          .put(GREATER.getName(), result -> result > 0)
+          .put(GTE.getName(), result -> result >= 0)
+          .build();
+
+  private static final Map<FunctionName, LongBinaryOperator> INTEGER_ARITHMETIC =
+      ImmutableMap.of(
+          ADD.getName(), (v1, v2) -> Math.addExact((int) v1, (int) v2),
+          SUBTRACT.getName(), (v1, v2) -> Math.subtractExact((int) v1, (int) v2),
+          MULTIPLY.getName(), (v1, v2) -> Math.multiplyExact((int) v1, (int) v2));
+
+  private static final Map<FunctionName, LongBinaryOperator> LONG_ARITHMETIC =
+      ImmutableMap.of(
+          ADD.getName(), Math::addExact,
+          SUBTRACT.getName(), Math::subtractExact,
+          MULTIPLY.getName(), Math::multiplyExact);
+
+  private static final Map<FunctionName, DoubleBinaryOperator> DOUBLE_ARITHMETIC =
+      ImmutableMap.of(
+          ADD.getName(), (v1, v2) -> v1 + v2,
+          SUBTRACT.getName(), (v1, v2) -> v1 - v2,
+          MULTIPLY.getName(), (v1, v2) -> v1 * v2);
+
+  /**
+   * Build vector expression for the condition.
+   *
+   * @param condition boolean condition
+   * @return vector expression or empty if any node of the condition is not supported
+   */
+  public static Optional<VectorExpression> build(Expression condition) {
+    return Optional.ofNullable(condition.accept(new VectorExpressionBuilder(), null));
+  }
+
+  @Override
+  public VectorExpression visitLiteral(LiteralExpression node, Object context) {
+    if (!ColumnVector.isSupported(node.type())) {
+      return null;
+    }
+    ExprValue value = node.valueOf(null);
+    return batch -> ColumnVector.of(node.type(), Collections.nCopies(batch.size(), value));
+  }
+
+  @Override
+  public VectorExpression visitReference(ReferenceExpression node, Object context) {
+    if (!ColumnVector.isSupported(node.type())) {
+      return null;
+    }
+    return batch -> batch.column(node);
+  }
+
+  @Override
+  public VectorExpression visitAggregator(Aggregator<?> node, Object context) {
+    return null;
+  }
+
+  @Override
+  public VectorExpression visitNamedAggregator(NamedAggregator node, Object context) {
+    return null;
+  }
+
+  @Override
+  public VectorExpression visitFunction(FunctionExpression node, Object context) {
+    List<VectorExpression> arguments = new ArrayList<>();
+    for (Expression argument : node.getArguments()) {
+      VectorExpression vector = argument.accept(this, context);
+      if (vector == null) {
+        return null;
+      }
+      arguments.add(vector);
+    }
+
+    FunctionName name = node.getFunctionName();
+    if (COMPARISONS.containsKey(name)
+        && ColumnVector.isNumber(node.getArguments().get(0).type())) {
+      IntPredicate comparison = COMPARISONS.get(name);
+      return binary(arguments, (left, right) -> left.compare(right, comparison));
+    } else if (name.equals(AND.getName())) {
+      return binary(arguments, ColumnVector::and);
+    } else if (name.equals(OR.getName())) {
+      return binary(arguments, ColumnVector::or);
+    } else if (name.equals(NOT.getName())) {
+      VectorExpression argument = arguments.get(0);
+      return batch -> argument.evaluate(batch).not();
+    } else if (node.type() == INTEGER && INTEGER_ARITHMETIC.containsKey(name)) {
+      LongBinaryOperator operator = INTEGER_ARITHMETIC.get(name);
+      return binary(arguments, (left, right) -> left.applyLong(right, operator));
+    } else if (node.type() == LONG && LONG_ARITHMETIC.containsKey(name)) {
+      LongBinaryOperator operator = LONG_ARITHMETIC.get(name);
+      return binary(arguments, (left, right) -> left.applyLong(right, operator));
+    } else if (node.type() == DOUBLE && DOUBLE_ARITHMETIC.containsKey(name)) {
+      DoubleBinaryOperator operator = DOUBLE_ARITHMETIC.get(name);
+      return binary(arguments, (left, right) -> left.applyDouble(right, operator));
+    }
+    return null;
+  }
+
+  private VectorExpression binary(List<VectorExpression> arguments,
+                                  BinaryOperator<ColumnVector> operator) {
+    VectorExpression left = arguments.get(0);
+    VectorExpression right = arguments.get(1);
+    return batch -> operator.apply(left.evaluate(batch), right.evaluate(batch));
+  }
+}
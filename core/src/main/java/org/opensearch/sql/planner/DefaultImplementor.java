@@ -10,6 +10,7 @@ import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalDedupe;
 import org.opensearch.sql.planner.logical.LogicalEval;
 import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalJoin;
 import org.opensearch.sql.planner.logical.LogicalLimit;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
@@ -25,6 +26,7 @@ import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.EvalOperator;
 import org.opensearch.sql.planner.physical.FilterOperator;
+import org.opensearch.sql.planner.physical.HashJoinOperator;
 import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.ProjectOperator;
@@ -78,7 +80,7 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
   public PhysicalPlan visitWindow(LogicalWindow node, C context) {
     return new WindowOperator(
         visitChild(node, context),
-        node.getWindowFunction(),
+        node.getWindowFunctions(),
         node.getWindowDefinition());
   }
 
@@ -123,6 +125,16 @@ public class DefaultImplementor<C> extends LogicalPlanNodeVisitor<PhysicalPlan,
     return new LimitOperator(visitChild(node, context), node.getLimit(), node.getOffset());
   }
 
+  @Override
+  public PhysicalPlan visitJoin(LogicalJoin node, C context) {
+    return new HashJoinOperator(
+        node.getLeft().accept(this, context),
+        node.getRight().accept(this, context),
+        node.getJoinType(),
+        node.getLeftKeys(),
+        node.getRightKeys());
+  }
+
   @Override
   public PhysicalPlan visitRelation(LogicalRelation node, C context) {
     throw new UnsupportedOperationException("Storage engine is responsible for "
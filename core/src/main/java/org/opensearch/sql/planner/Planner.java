@@ -9,10 +9,12 @@ package org.opensearch.sql.planner;
 
 import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.planner.logical.LogicalJoin;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
 import org.opensearch.sql.planner.logical.LogicalRelation;
 import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
+import org.opensearch.sql.planner.physical.HashJoinOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.Table;
 
@@ -33,6 +35,10 @@ public class Planner {
    * @return optimal physical plan
    */
   public PhysicalPlan plan(LogicalPlan plan) {
+    if (hasJoin(plan)) {
+      return planJoin(optimize(plan));
+    }
+
     Table table = findTable(plan);
     if (table == null) {
       return plan.accept(new DefaultImplementor<>(), null);
@@ -41,6 +47,38 @@ public class Planner {
         table.optimize(optimize(plan)));
   }
 
+  /**
+   * Plan each input of join on its own, since they may scan different tables. The operators
+   * above join are translated to physical operators by default implementor.
+   */
+  private PhysicalPlan planJoin(LogicalPlan plan) {
+    return plan.accept(new DefaultImplementor<>() {
+      @Override
+      public PhysicalPlan visitJoin(LogicalJoin node, Object context) {
+        return new HashJoinOperator(
+            plan(node.getLeft()),
+            plan(node.getRight()),
+            node.getJoinType(),
+            node.getLeftKeys(),
+            node.getRightKeys());
+      }
+    }, null);
+  }
+
+  private boolean hasJoin(LogicalPlan plan) {
+    return plan.accept(new LogicalPlanNodeVisitor<Boolean, Object>() {
+      @Override
+      public Boolean visitNode(LogicalPlan node, Object context) {
+        return node.getChild().stream().anyMatch(child -> child.accept(this, context));
+      }
+
+      @Override
+      public Boolean visitJoin(LogicalJoin node, Object context) {
+        return true;
+      }
+    }, null);
+  }
+
   private Table findTable(LogicalPlan plan) {
     return plan.accept(new LogicalPlanNodeVisitor<Table, Object>() {
 
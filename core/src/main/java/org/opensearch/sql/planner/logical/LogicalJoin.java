@@ -0,0 +1,71 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.logical;
+
+import java.util.Arrays;
+import java.util.List;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.expression.Expression;
+
+/**
+ * Logical equi-join of two inputs. Row of left input is joined with the rows of right input
+ * whose join keys are equal to its own. Row with null or missing key never matches any row.
+ * Fields of the joined row are the fields of left row followed by those of right row. The
+ * same field on both sides is only allowed for the join key of the same name on both sides.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Getter
+@ToString
+public class LogicalJoin extends LogicalPlan {
+
+  /**
+   * Join type.
+   */
+  public enum JoinType {
+    /**
+     * Only the rows matched are returned.
+     */
+    INNER,
+
+    /**
+     * Row of left input without any match is returned too with null right fields.
+     */
+    LEFT
+  }
+
+  private final JoinType joinType;
+
+  private final List<Expression> leftKeys;
+
+  private final List<Expression> rightKeys;
+
+  /**
+   * Constructor of LogicalJoin.
+   */
+  public LogicalJoin(LogicalPlan left, LogicalPlan right, JoinType joinType,
+                     List<Expression> leftKeys, List<Expression> rightKeys) {
+    super(Arrays.asList(left, right));
+    this.joinType = joinType;
+    this.leftKeys = leftKeys;
+    this.rightKeys = rightKeys;
+  }
+
+  public LogicalPlan getLeft() {
+    return getChild().get(0);
+  }
+
+  public LogicalPlan getRight() {
+    return getChild().get(1);
+  }
+
+  @Override
+  public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitJoin(this, context);
+  }
+}
@@ -24,6 +24,7 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
 import org.opensearch.sql.storage.Table;
 
 /**
@@ -116,4 +117,9 @@ public class LogicalPlanDSL {
     return new LogicalLimit(input, limit, offset);
   }
 
+  public static LogicalPlan join(LogicalPlan left, LogicalPlan right, JoinType joinType,
+                                 List<Expression> leftKeys, List<Expression> rightKeys) {
+    return new LogicalJoin(left, right, joinType, leftKeys, rightKeys);
+  }
+
 }
@@ -34,6 +34,10 @@ public abstract class LogicalPlanNodeVisitor<R, C> {
     return visitNode(plan, context);
   }
 
+  public R visitJoin(LogicalJoin plan, C context) {
+    return visitNode(plan, context);
+  }
+
   public R visitDedupe(LogicalDedupe plan, C context) {
     return visitNode(plan, context);
   }
@@ -15,7 +15,10 @@ import java.util.stream.Collectors;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.optimizer.rule.MergeFilterAndFilter;
+import org.opensearch.sql.planner.optimizer.rule.MergeWindowAndWindow;
 import org.opensearch.sql.planner.optimizer.rule.PushFilterUnderSort;
+import org.opensearch.sql.planner.optimizer.rule.PushLimitUnderRowPreservingOperator;
+import org.opensearch.sql.planner.optimizer.rule.RemoveRedundantSort;
 
 /**
  * {@link LogicalPlan} Optimizer.
@@ -41,7 +44,10 @@ public class LogicalPlanOptimizer {
   public static LogicalPlanOptimizer create(DSL dsl) {
     return new LogicalPlanOptimizer(Arrays.asList(
         new MergeFilterAndFilter(dsl),
-        new PushFilterUnderSort()));
+        new PushFilterUnderSort(),
+        new PushLimitUnderRowPreservingOperator(),
+        new RemoveRedundantSort(),
+        new MergeWindowAndWindow()));
   }
 
   /**
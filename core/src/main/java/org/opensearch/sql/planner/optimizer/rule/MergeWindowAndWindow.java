@@ -0,0 +1,65 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalWindow;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Merge Window --> Window of the same window definition to the single Window which computes
+ * all window functions in one pass over the input.
+ * Window(f2) - Window(f1) - Child --> Window(f1, f2) - Child
+ */
+public class MergeWindowAndWindow implements Rule<LogicalWindow> {
+
+  private final Capture<LogicalWindow> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalWindow> pattern;
+
+  /**
+   * Constructor of MergeWindowAndWindow.
+   */
+  public MergeWindowAndWindow() {
+    this.capture = Capture.newCapture();
+    this.pattern = typeOf(LogicalWindow.class)
+        .matching(MergeWindowAndWindow::hasSameWindowDefinitionAsChild)
+        .with(source().matching(typeOf(LogicalWindow.class).capturedAs(capture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalWindow window,
+                           Captures captures) {
+    LogicalWindow childWindow = captures.get(capture);
+    return new LogicalWindow(
+        childWindow.getChild().get(0),
+        ImmutableList.<NamedExpression>builder()
+            .addAll(childWindow.getWindowFunctions())
+            .addAll(window.getWindowFunctions())
+            .build(),
+        window.getWindowDefinition()
+    );
+  }
+
+  private static boolean hasSameWindowDefinitionAsChild(LogicalWindow window) {
+    LogicalPlan child = window.getChild().get(0);
+    return child instanceof LogicalWindow
+        && ((LogicalWindow) child).getWindowDefinition().equals(window.getWindowDefinition());
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.Collections;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.planner.logical.LogicalEval;
+import org.opensearch.sql.planner.logical.LogicalLimit;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalProject;
+import org.opensearch.sql.planner.logical.LogicalRemove;
+import org.opensearch.sql.planner.logical.LogicalRename;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Push Limit under the operator which maps each input row to exactly one output row.
+ * Limit - Eval/Rename/Project/Remove - Child --> Eval/Rename/Project/Remove - Limit - Child
+ * Once the Limit reaches the storage scan, it could be merged into the storage request.
+ */
+public class PushLimitUnderRowPreservingOperator implements Rule<LogicalLimit> {
+
+  private final Capture<LogicalPlan> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalLimit> pattern;
+
+  /**
+   * Constructor of PushLimitUnderRowPreservingOperator.
+   */
+  public PushLimitUnderRowPreservingOperator() {
+    this.capture = Capture.newCapture();
+    this.pattern = typeOf(LogicalLimit.class)
+        .with(source().matching(typeOf(LogicalPlan.class)
+            .matching(PushLimitUnderRowPreservingOperator::isRowPreserving)
+            .capturedAs(capture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalLimit limit,
+                           Captures captures) {
+    LogicalPlan operator = captures.get(capture);
+    limit.replaceChildPlans(operator.getChild());
+    return operator.replaceChildPlans(Collections.singletonList(limit));
+  }
+
+  private static boolean isRowPreserving(LogicalPlan plan) {
+    return plan instanceof LogicalEval
+        || plan instanceof LogicalRename
+        || plan instanceof LogicalProject
+        || plan instanceof LogicalRemove;
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.optimizer.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.List;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort.SortOption;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.logical.LogicalWindow;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Remove Sort if its input is already sorted by the same sort list. Because Window preserves
+ * the order of input rows, this is mostly for the Sort generated for each window function.
+ * Sort(a) - Window - ... - Window - Sort(a, b) - Child
+ * --> Window - ... - Window - Sort(a, b) - Child
+ */
+public class RemoveRedundantSort implements Rule<LogicalSort> {
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalSort> pattern;
+
+  /**
+   * Constructor of RemoveRedundantSort.
+   */
+  public RemoveRedundantSort() {
+    this.pattern = typeOf(LogicalSort.class)
+        .matching(RemoveRedundantSort::isInputSortedBySameSortList);
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalSort sort,
+                           Captures captures) {
+    return sort.getChild().get(0);
+  }
+
+  private static boolean isInputSortedBySameSortList(LogicalSort sort) {
+    LogicalPlan input = sort.getChild().get(0);
+    while (input instanceof LogicalWindow) {
+      input = input.getChild().get(0);
+    }
+    return input instanceof LogicalSort
+        && isPrefix(sort.getSortList(), ((LogicalSort) input).getSortList());
+  }
+
+  private static boolean isPrefix(List<Pair<SortOption, Expression>> sortList,
+                                  List<Pair<SortOption, Expression>> inputSortList) {
+    return sortList.size() <= inputSortList.size()
+        && sortList.equals(inputSortList.subList(0, sortList.size()));
+  }
+}
@@ -18,6 +18,7 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.aggregation.Aggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.span.SpanExpression;
+import org.opensearch.sql.expression.vector.Batch;
 import org.opensearch.sql.planner.physical.collector.Collector;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
@@ -94,8 +95,9 @@ public class AggregationOperator extends PhysicalPlan {
   @Override
   public void open() {
     super.open();
-    while (input.hasNext()) {
-      collector.collect(input.next().bindingTuples());
+    for (Batch batch = input.nextBatch(Batch.DEFAULT_SIZE); !batch.isEmpty();
+         batch = input.nextBatch(Batch.DEFAULT_SIZE)) {
+      batch.getRows().forEach(row -> collector.collect(row.bindingTuples()));
     }
     iterator = collector.results().iterator();
   }
@@ -8,9 +8,11 @@ package org.opensearch.sql.planner.physical;
 
 import com.google.common.collect.ImmutableList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import lombok.EqualsAndHashCode;
@@ -40,7 +42,7 @@ public class DedupeOperator extends PhysicalPlan {
   private final Boolean consecutive;
 
   @EqualsAndHashCode.Exclude
-  private final Deduper<List<ExprValue>> deduper;
+  private final Deduper<Object> deduper;
   @EqualsAndHashCode.Exclude
   private ExprValue next;
 
@@ -75,7 +77,13 @@ public class DedupeOperator extends PhysicalPlan {
     this.allowedDuplication = allowedDuplication;
     this.keepEmpty = keepEmpty;
     this.consecutive = consecutive;
-    this.deduper = this.consecutive ? Deduper.consecutiveDeduper() : Deduper.historicalDeduper();
+    if (this.consecutive) {
+      this.deduper = Deduper.consecutiveDeduper();
+    } else if (ALL_ONE_DUPLICATION.equals(this.allowedDuplication)) {
+      this.deduper = Deduper.historicalSeenSetDeduper();
+    } else {
+      this.deduper = Deduper.historicalDeduper();
+    }
   }
 
   @Override
@@ -116,16 +124,25 @@ public class DedupeOperator extends PhysicalPlan {
    */
   public boolean keep(ExprValue value) {
     BindingTuple bindingTuple = value.bindingTuples();
-    ImmutableList.Builder<ExprValue> dedupeKeyBuilder = new ImmutableList.Builder<>();
-    for (Expression expression : dedupeList) {
-      ExprValue exprValue = expression.valueOf(bindingTuple);
+    int seenTimes;
+    if (dedupeList.size() == 1) {
+      // Use the single value as key directly to avoid wrapping each key in a list.
+      ExprValue exprValue = dedupeList.get(0).valueOf(bindingTuple);
       if (NULL_OR_MISSING.test(exprValue)) {
         return keepEmpty;
       }
-      dedupeKeyBuilder.add(exprValue);
+      seenTimes = deduper.seenTimes(exprValue);
+    } else {
+      ImmutableList.Builder<ExprValue> dedupeKeyBuilder = new ImmutableList.Builder<>();
+      for (Expression expression : dedupeList) {
+        ExprValue exprValue = expression.valueOf(bindingTuple);
+        if (NULL_OR_MISSING.test(exprValue)) {
+          return keepEmpty;
+        }
+        dedupeKeyBuilder.add(exprValue);
+      }
+      seenTimes = deduper.seenTimes(dedupeKeyBuilder.build());
     }
-    List<ExprValue> dedupeKey = dedupeKeyBuilder.build();
-    int seenTimes = deduper.seenTimes(dedupeKey);
     return seenTimes <= allowedDuplication;
   }
 
@@ -135,41 +152,67 @@ public class DedupeOperator extends PhysicalPlan {
    *
    * @param <K> dedupe key
    */
-  @RequiredArgsConstructor
-  static class Deduper<K> {
-    private final BiFunction<Map<K, Integer>, K, Integer> seenFirstTime;
-    private final Map<K, Integer> seenMap = new ConcurrentHashMap<>();
+  interface Deduper<K> {
+    int seenTimes(K dedupeKey);
 
     /**
      * The Historical Deduper monitor the duplicated element with all the seen value.
      */
-    public static <K> Deduper<K> historicalDeduper() {
-      return new Deduper<>(
+    static <K> Deduper<K> historicalDeduper() {
+      return new SeenCountDeduper<>(
           (map, key) -> {
             map.put(key, SEEN_FIRST_TIME);
             return SEEN_FIRST_TIME;
           });
     }
 
+    /**
+     * The Historical Deduper which only remembers the seen value without counting. It is used
+     * when only one duplication is allowed, any value seen before is reported as seen twice.
+     */
+    static <K> Deduper<K> historicalSeenSetDeduper() {
+      return new SeenSetDeduper<>();
+    }
+
     /**
      * The Consecutive Deduper monitor the duplicated element with consecutive seen value. It means
      * only the consecutive duplicated value will be counted.
      */
-    public static <K> Deduper<K> consecutiveDeduper() {
-      return new Deduper<>(
+    static <K> Deduper<K> consecutiveDeduper() {
+      return new SeenCountDeduper<>(
           (map, key) -> {
             map.clear();
             map.put(key, SEEN_FIRST_TIME);
             return SEEN_FIRST_TIME;
           });
     }
+  }
+
+  /**
+   * Deduper counting the seen times of each dedupe key in map. The function decides how the map
+   * is updated when a dedupe key is seen first time.
+   */
+  @RequiredArgsConstructor
+  static class SeenCountDeduper<K> implements Deduper<K> {
+    private final BiFunction<Map<K, Integer>, K, Integer> seenFirstTime;
+    private final Map<K, Integer> seenMap = new HashMap<>();
+
+    @Override
+    public int seenTimes(K dedupeKey) {
+      Integer seenTimes = seenMap.computeIfPresent(dedupeKey, (k, v) -> v + 1);
+      return seenTimes != null ? seenTimes : seenFirstTime.apply(seenMap, dedupeKey);
+    }
+  }
 
+  /**
+   * Deduper remembering the seen dedupe keys in set only.
+   */
+  static class SeenSetDeduper<K> implements Deduper<K> {
+    private final Set<K> seenSet = new HashSet<>();
+
+    @Override
     public int seenTimes(K dedupeKey) {
-      if (seenMap.containsKey(dedupeKey)) {
-        return seenMap.computeIfPresent(dedupeKey, (k, v) -> v + 1);
-      } else {
-        return seenFirstTime.apply(seenMap, dedupeKey);
-      }
+      return seenSet.add(dedupeKey) ? SEEN_FIRST_TIME : SEEN_FIRST_TIME + 1;
     }
   }
 }
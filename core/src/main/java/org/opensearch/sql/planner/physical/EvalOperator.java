@@ -16,9 +16,9 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.sql.data.model.ExprTupleValue;
@@ -26,7 +26,10 @@ import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.compiler.CompiledExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.expression.vector.Batch;
 
 /**
  * The eval operator evaluate the {@link EvalOperator#expressionList} and put the result into to
@@ -36,15 +39,31 @@ import org.opensearch.sql.expression.env.Environment;
  * <p>The {@link EvalOperator#expressionList} are evaluated from left to right. It means you can
  * reference previous evaluated field.
  * e.g. fields velocity = distance/time, doubleVelocity = 2 * velocity
+ *
+ * <p>The expressions are compiled by {@link ExpressionCompiler} once and evaluated for each row.
  */
 @ToString
 @EqualsAndHashCode(callSuper = false)
-@RequiredArgsConstructor
 public class EvalOperator extends PhysicalPlan {
   @Getter
   private final PhysicalPlan input;
   @Getter
   private final List<Pair<ReferenceExpression, Expression>> expressionList;
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private final List<CompiledExpression> compiledExpressions;
+
+  /**
+   * Constructor of EvalOperator.
+   */
+  public EvalOperator(PhysicalPlan input,
+                      List<Pair<ReferenceExpression, Expression>> expressionList) {
+    this.input = input;
+    this.expressionList = expressionList;
+    this.compiledExpressions = expressionList.stream()
+        .map(pair -> ExpressionCompiler.compile(pair.getValue()))
+        .collect(Collectors.toList());
+  }
 
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
@@ -63,7 +82,15 @@ public class EvalOperator extends PhysicalPlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
+    return evaluate(input.next());
+  }
+
+  @Override
+  public Batch nextBatch(int maxSize) {
+    return input.nextBatch(maxSize).map(this::evaluate);
+  }
+
+  private ExprValue evaluate(ExprValue inputValue) {
     Map<String, ExprValue> evalMap = eval(inputValue.bindingTuples());
 
     if (STRUCT == inputValue.type()) {
@@ -91,9 +118,9 @@ public class EvalOperator extends PhysicalPlan {
    */
   private Map<String, ExprValue> eval(Environment<Expression, ExprValue> env) {
     Map<String, ExprValue> evalResultMap = new LinkedHashMap<>();
-    for (Pair<ReferenceExpression, Expression> pair : expressionList) {
-      ReferenceExpression var = pair.getKey();
-      ExprValue value = pair.getValue().valueOf(env);
+    for (int i = 0; i < expressionList.size(); i++) {
+      ReferenceExpression var = expressionList.get(i).getKey();
+      ExprValue value = compiledExpressions.get(i).evaluate(env);
       env = extendEnv(env, var, value);
       evalResultMap.put(var.toString(), value);
     }
@@ -7,30 +7,55 @@ package org.opensearch.sql.planner.physical;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.IntPredicate;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.compiler.CompiledExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.operator.predicate.BinaryPredicateOperator;
+import org.opensearch.sql.expression.vector.Batch;
+import org.opensearch.sql.expression.vector.ColumnVector;
+import org.opensearch.sql.expression.vector.VectorExpression;
+import org.opensearch.sql.expression.vector.VectorExpressionBuilder;
 import org.opensearch.sql.storage.bindingtuple.BindingTuple;
 
 /**
  * The Filter operator use the conditions to evaluate the input {@link BindingTuple}.
  * The Filter operator only return the results that evaluated to true.
  * The NULL and MISSING are handled by the logic defined in {@link BinaryPredicateOperator}.
+ * The conditions are compiled by {@link ExpressionCompiler} for row by row evaluation. When pulled
+ * in batch, the conditions are evaluated over the column vectors of the batch if supported by
+ * {@link VectorExpressionBuilder}.
  */
 @EqualsAndHashCode(callSuper = false)
 @ToString
-@RequiredArgsConstructor
 public class FilterOperator extends PhysicalPlan {
   @Getter
   private final PhysicalPlan input;
   @Getter
   private final Expression conditions;
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private final CompiledExpression compiledConditions;
+  @ToString.Exclude
+  @EqualsAndHashCode.Exclude
+  private final Optional<VectorExpression> vectorConditions;
   @ToString.Exclude private ExprValue next = null;
 
+  /**
+   * Constructor of FilterOperator.
+   */
+  public FilterOperator(PhysicalPlan input, Expression conditions) {
+    this.input = input;
+    this.conditions = conditions;
+    this.compiledConditions = ExpressionCompiler.compile(conditions);
+    this.vectorConditions = VectorExpressionBuilder.build(conditions);
+  }
+
   @Override
   public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
     return visitor.visitFilter(this, context);
@@ -45,8 +70,7 @@ public class FilterOperator extends PhysicalPlan {
   public boolean hasNext() {
     while (input.hasNext()) {
       ExprValue inputValue = input.next();
-      ExprValue exprValue = conditions.valueOf(inputValue.bindingTuples());
-      if (!(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue())) {
+      if (isTrue(inputValue)) {
         next = inputValue;
         return true;
       }
@@ -58,4 +82,28 @@ public class FilterOperator extends PhysicalPlan {
   public ExprValue next() {
     return next;
   }
+
+  @Override
+  public Batch nextBatch(int maxSize) {
+    Batch batch;
+    Batch selected;
+    do {
+      batch = input.nextBatch(maxSize);
+      selected = batch.select(filter(batch));
+    } while (selected.isEmpty() && !batch.isEmpty());
+    return selected;
+  }
+
+  private IntPredicate filter(Batch batch) {
+    if (vectorConditions.isPresent()) {
+      ColumnVector result = vectorConditions.get().evaluate(batch);
+      return result::isTrue;
+    }
+    return index -> isTrue(batch.getRows().get(index));
+  }
+
+  private boolean isTrue(ExprValue inputValue) {
+    ExprValue exprValue = compiledConditions.evaluate(inputValue.bindingTuples());
+    return !(exprValue.isNull() || exprValue.isMissing()) && (exprValue.booleanValue());
+  }
 }
@@ -0,0 +1,340 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Iterators;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.data.model.ExprNullValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.exception.SemanticCheckException;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
+import org.opensearch.sql.storage.TableScanOperator;
+
+/**
+ * Hash join operator of equi-join. The rows of the build side are loaded into a hash table by
+ * join keys, and the rows of the other side, the probe side, are streamed through and matched
+ * against the hash table.
+ *
+ * <p>The right input is built by default and read first. If it turns out to be larger than
+ * {@link HashJoinOperator#buildThreshold} rows, both inputs are read in turn until either is
+ * exhausted, and the smaller one is built instead. For left join with left input built, the
+ * left rows without match are returned after all right rows are probed. When the right input
+ * is built before the left is opened, its keys are pushed down to the table scan of left input
+ * of inner join so that the rows without match are filtered out by the storage.
+ *
+ * <p>Fields of right row are appended to those of left row. Left row without match is extended
+ * with null for each field seen in right rows. A field of the same name on both sides is only
+ * allowed if it's the join key of both, because any other field would lose its value.
+ */
+@ToString(onlyExplicitlyIncluded = true)
+@EqualsAndHashCode(callSuper = false, onlyExplicitlyIncluded = true)
+public class HashJoinOperator extends PhysicalPlan {
+
+  /**
+   * Default rows of right input read before choosing the build side.
+   */
+  public static final int DEFAULT_BUILD_THRESHOLD = 10_000;
+
+  /**
+   * Maximum distinct keys of build side pushed down to the table scan of probe side.
+   */
+  public static final int MAX_PUSHDOWN_KEYS = 1_024;
+
+  @Getter
+  @EqualsAndHashCode.Include
+  @ToString.Include
+  private final PhysicalPlan left;
+
+  @Getter
+  @EqualsAndHashCode.Include
+  @ToString.Include
+  private final PhysicalPlan right;
+
+  @Getter
+  @EqualsAndHashCode.Include
+  @ToString.Include
+  private final JoinType joinType;
+
+  @Getter
+  @EqualsAndHashCode.Include
+  @ToString.Include
+  private final List<Expression> leftKeys;
+
+  @Getter
+  @EqualsAndHashCode.Include
+  @ToString.Include
+  private final List<Expression> rightKeys;
+
+  @Getter
+  private final int buildThreshold;
+
+  /**
+   * Fields that are the join key of the same name on both sides, whose values are always equal
+   * in joined row and thus only the left one is kept.
+   */
+  private final Set<String> sharedKeyFields;
+
+  /**
+   * Whether left input is the build side.
+   */
+  private boolean buildLeft;
+
+  private Map<Object, List<ExprValue>> hashTable;
+
+  private Iterator<ExprValue> probe;
+
+  private Iterator<ExprValue> joined = Collections.emptyIterator();
+
+  /**
+   * Fields seen in right rows, used to extend left row without match for left join.
+   */
+  private Set<String> rightFields;
+
+  /**
+   * Left rows built for left join, returned with null right fields if never matched.
+   */
+  private List<ExprValue> outerLeftRows;
+
+  private Set<ExprValue> matchedLeftRows;
+
+  public HashJoinOperator(PhysicalPlan left, PhysicalPlan right, JoinType joinType,
+                          List<Expression> leftKeys, List<Expression> rightKeys) {
+    this(left, right, joinType, leftKeys, rightKeys, DEFAULT_BUILD_THRESHOLD);
+  }
+
+  /**
+   * Constructor of HashJoinOperator.
+   */
+  public HashJoinOperator(PhysicalPlan left, PhysicalPlan right, JoinType joinType,
+                          List<Expression> leftKeys, List<Expression> rightKeys,
+                          int buildThreshold) {
+    this.left = left;
+    this.right = right;
+    this.joinType = joinType;
+    this.leftKeys = leftKeys;
+    this.rightKeys = rightKeys;
+    this.buildThreshold = buildThreshold;
+    this.sharedKeyFields = sharedKeyFields(leftKeys, rightKeys);
+  }
+
+  @Override
+  public <R, C> R accept(PhysicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitHashJoin(this, context);
+  }
+
+  @Override
+  public List<PhysicalPlan> getChild() {
+    return Arrays.asList(left, right);
+  }
+
+  @Override
+  public void open() {
+    rightFields = new LinkedHashSet<>();
+    outerLeftRows = null;
+    right.open();
+    List<ExprValue> rightRows = new ArrayList<>();
+    while (right.hasNext() && rightRows.size() < buildThreshold) {
+      rightRows.add(right.next());
+    }
+
+    if (!right.hasNext()) {
+      buildLeft = false;
+      hashTable = build(rightRows, rightKeys);
+      rightRows.forEach(this::collectRightFields);
+      if (joinType == JoinType.INNER) {
+        pushDownKeys();
+      }
+      left.open();
+      probe = left;
+      return;
+    }
+
+    // Right input is large, read both in turn to find out the smaller one
+    left.open();
+    List<ExprValue> leftRows = new ArrayList<>();
+    while (left.hasNext() && right.hasNext()) {
+      leftRows.add(left.next());
+      rightRows.add(right.next());
+    }
+    buildLeft = !left.hasNext();
+    if (buildLeft) {
+      hashTable = build(leftRows, leftKeys);
+      probe = Iterators.concat(rightRows.iterator(), right);
+      if (joinType == JoinType.LEFT) {
+        outerLeftRows = leftRows;
+        matchedLeftRows = Collections.newSetFromMap(new IdentityHashMap<>());
+      }
+    } else {
+      hashTable = build(rightRows, rightKeys);
+      rightRows.forEach(this::collectRightFields);
+      probe = Iterators.concat(leftRows.iterator(), left);
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!joined.hasNext()) {
+      if (probe.hasNext()) {
+        joined = join(probe.next());
+      } else if (outerLeftRows != null) {
+        joined = outerLeftRows.stream()
+            .filter(row -> !matchedLeftRows.contains(row))
+            .map(row -> combine(row, null))
+            .iterator();
+        outerLeftRows = null;
+      } else {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @Override
+  public ExprValue next() {
+    return joined.next();
+  }
+
+  @Override
+  public void close() {
+    super.close();
+    hashTable = null;
+    outerLeftRows = null;
+    matchedLeftRows = null;
+  }
+
+  private Map<Object, List<ExprValue>> build(List<ExprValue> rows, List<Expression> keys) {
+    Map<Object, List<ExprValue>> table = new HashMap<>();
+    for (ExprValue row : rows) {
+      Object key = key(row, keys);
+      if (key != null) {
+        table.computeIfAbsent(key, k -> new ArrayList<>(1)).add(row);
+      }
+    }
+    return table;
+  }
+
+  /**
+   * Push down the keys of right input as filter of left input if it's a table scan, possibly
+   * with filter on it.
+   */
+  private void pushDownKeys() {
+    if (leftKeys.size() != 1 || !(leftKeys.get(0) instanceof ReferenceExpression)
+        || hashTable.size() > MAX_PUSHDOWN_KEYS) {
+      return;
+    }
+    ReferenceExpression field = (ReferenceExpression) leftKeys.get(0);
+    Set<ExprValue> values = hashTable.keySet().stream()
+        .map(ExprValue.class::cast)
+        .collect(Collectors.toSet());
+    left.accept(new PhysicalPlanNodeVisitor<Void, Object>() {
+      @Override
+      public Void visitFilter(FilterOperator node, Object context) {
+        return node.getInput().accept(this, context);
+      }
+
+      @Override
+      public Void visitTableScan(TableScanOperator node, Object context) {
+        node.pushDownValues(field, values);
+        return null;
+      }
+    }, null);
+  }
+
+  private Iterator<ExprValue> join(ExprValue probeRow) {
+    if (buildLeft) {
+      collectRightFields(probeRow);
+    }
+    Object key = key(probeRow, buildLeft ? rightKeys : leftKeys);
+    List<ExprValue> matches = hashTable.getOrDefault(key, Collections.emptyList());
+    if (matches.isEmpty()) {
+      // Left row without match is returned here only if it's probed
+      return joinType == JoinType.LEFT && !buildLeft
+          ? Iterators.singletonIterator(combine(probeRow, null)) : Collections.emptyIterator();
+    }
+    if (outerLeftRows != null) {
+      matchedLeftRows.addAll(matches);
+    }
+    return matches.stream()
+        .map(match -> buildLeft ? combine(match, probeRow) : combine(probeRow, match))
+        .iterator();
+  }
+
+  /**
+   * Join key of the row, which is the single key value itself or a list of key values. Null is
+   * returned if any key value is null or missing, since it doesn't match any other key.
+   */
+  private Object key(ExprValue row, List<Expression> keys) {
+    if (keys.size() == 1) {
+      ExprValue value = keys.get(0).valueOf(row.bindingTuples());
+      return value.isNull() || value.isMissing() ? null : value;
+    }
+    ImmutableList.Builder<ExprValue> builder = new ImmutableList.Builder<>();
+    for (Expression key : keys) {
+      ExprValue value = key.valueOf(row.bindingTuples());
+      if (value.isNull() || value.isMissing()) {
+        return null;
+      }
+      builder.add(value);
+    }
+    return builder.build();
+  }
+
+  private void collectRightFields(ExprValue rightRow) {
+    rightFields.addAll(rightRow.tupleValue().keySet());
+  }
+
+  /**
+   * Combine left row with right row, or with null for each right field if right row is null.
+   */
+  private ExprValue combine(ExprValue leftRow, ExprValue rightRow) {
+    Map<String, ExprValue> fields = new LinkedHashMap<>(leftRow.tupleValue());
+    Map<String, ExprValue> rightValues = rightRow == null ? null : rightRow.tupleValue();
+    for (String field : rightRow == null ? rightFields : rightValues.keySet()) {
+      if (fields.containsKey(field)) {
+        if (!sharedKeyFields.contains(field)) {
+          throw new SemanticCheckException(String.format(
+              "Field [%s] exists in both inputs of join, rename either of them to keep both",
+              field));
+        }
+        continue;
+      }
+      fields.put(field, rightRow == null ? ExprNullValue.of() : rightValues.get(field));
+    }
+    return ExprTupleValue.fromExprValueMap(fields);
+  }
+
+  private static Set<String> sharedKeyFields(List<Expression> leftKeys,
+                                             List<Expression> rightKeys) {
+    Set<String> fields = new HashSet<>();
+    for (int i = 0; i < leftKeys.size(); i++) {
+      if (leftKeys.get(i) instanceof ReferenceExpression
+          && leftKeys.get(i).equals(rightKeys.get(i))) {
+        fields.add(((ReferenceExpression) leftKeys.get(i)).getAttr());
+      }
+    }
+    return fields;
+  }
+}
@@ -6,9 +6,12 @@
 
 package org.opensearch.sql.planner.physical;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
+import org.opensearch.sql.expression.vector.Batch;
 import org.opensearch.sql.planner.PlanNode;
 
 /**
@@ -36,6 +39,24 @@ public abstract class PhysicalPlan implements PlanNode<PhysicalPlan>,
     getChild().forEach(PhysicalPlan::close);
   }
 
+  /**
+   * Return the next batch of at most maxSize rows, or an empty batch if no more row left.
+   * By default, the rows are pulled one by one by {@link #hasNext()} and {@link #next()}.
+   * Operator which is able to process rows in batch overrides it to avoid the per-row overhead
+   * through the operator pipeline. Consumer should iterate the plan either by this method or by
+   * {@link #hasNext()} and {@link #next()}, but not both.
+   *
+   * @param maxSize maximum number of rows in the batch
+   * @return next batch
+   */
+  public Batch nextBatch(int maxSize) {
+    List<ExprValue> rows = new ArrayList<>();
+    while (rows.size() < maxSize && hasNext()) {
+      rows.add(next());
+    }
+    return new Batch(rows);
+  }
+
   public ExecutionEngine.Schema schema() {
     throw new IllegalStateException(String.format("[BUG] schema can been only applied to "
         + "ProjectOperator, instead of %s", toString()));
@@ -21,6 +21,7 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
 
 /**
  * Physical Plan DSL.
@@ -105,4 +106,10 @@ public class PhysicalPlanDSL {
   public static LimitOperator limit(PhysicalPlan input, Integer limit, Integer offset) {
     return new LimitOperator(input, limit, offset);
   }
+
+  public static HashJoinOperator hashJoin(PhysicalPlan left, PhysicalPlan right,
+                                          JoinType joinType, List<Expression> leftKeys,
+                                          List<Expression> rightKeys) {
+    return new HashJoinOperator(left, right, joinType, leftKeys, rightKeys);
+  }
 }
@@ -72,6 +72,10 @@ public abstract class PhysicalPlanNodeVisitor<R, C> {
     return visitNode(node, context);
   }
 
+  public R visitHashJoin(HashJoinOperator node, C context) {
+    return visitNode(node, context);
+  }
+
   public R visitMLCommons(PhysicalPlan node, C context) {
     return visitNode(node, context);
   }
@@ -22,6 +22,7 @@ import org.opensearch.sql.data.model.ExprValueUtils;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.parse.ParseExpression;
+import org.opensearch.sql.expression.vector.Batch;
 
 /**
  * Project the fields specified in {@link ProjectOperator#projectList} from input.
@@ -54,7 +55,15 @@ public class ProjectOperator extends PhysicalPlan {
 
   @Override
   public ExprValue next() {
-    ExprValue inputValue = input.next();
+    return project(input.next());
+  }
+
+  @Override
+  public Batch nextBatch(int maxSize) {
+    return input.nextBatch(maxSize).map(this::project);
+  }
+
+  private ExprValue project(ExprValue inputValue) {
     ImmutableMap.Builder<String, ExprValue> mapBuilder = new Builder<>();
 
     // ParseExpression will always override NamedExpression when identifier conflicts
@@ -10,6 +10,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Streams;
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -17,6 +18,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
@@ -121,18 +123,8 @@ public class RareTopNOperator extends PhysicalPlan {
     public void push(ExprValue inputValue) {
       Key groupKey = new Key(inputValue, groupByExprList);
       Key fieldKey = new Key(inputValue, fieldExprList);
-      groupListMap.computeIfAbsent(groupKey, k -> {
-        Map<Key, Integer> map = new HashMap<>();
-        map.put(fieldKey, 1);
-        return map;
-      });
-      groupListMap.computeIfPresent(groupKey, (key, map) -> {
-        map.computeIfAbsent(fieldKey, f -> 1);
-        map.computeIfPresent(fieldKey, (field, count) -> {
-          return count + 1;
-        });
-        return map;
-      });
+      groupListMap.computeIfAbsent(groupKey, k -> new HashMap<>())
+          .merge(fieldKey, 1, Integer::sum);
     }
 
     /**
@@ -156,6 +148,8 @@ public class RareTopNOperator extends PhysicalPlan {
 
     /**
      * Get a list of result.
+     * A bounded heap of size noOfResults keeps the most (top) or least (rare) frequent keys
+     * instead of sorting all the distinct keys of the group.
      */
     public List<Key> find(Map<Key, Integer> map) {
       Comparator<Map.Entry<Key, Integer>> valueComparator;
@@ -165,8 +159,22 @@ public class RareTopNOperator extends PhysicalPlan {
         valueComparator = Map.Entry.comparingByValue();
       }
 
-      return map.entrySet().stream().sorted(valueComparator).limit(noOfResults)
-          .map(Map.Entry::getKey).collect(Collectors.toList());
+      // The head of the heap is the worst entry kept so far.
+      PriorityQueue<Map.Entry<Key, Integer>> heap =
+          new PriorityQueue<>(Math.max(1, Math.min(noOfResults, map.size())),
+              valueComparator.reversed());
+      for (Map.Entry<Key, Integer> entry : map.entrySet()) {
+        if (heap.size() < noOfResults) {
+          heap.offer(entry);
+        } else if (!heap.isEmpty() && valueComparator.compare(entry, heap.peek()) < 0) {
+          heap.poll();
+          heap.offer(entry);
+        }
+      }
+
+      List<Map.Entry<Key, Integer>> result = new ArrayList<>(heap);
+      result.sort(valueComparator);
+      return result.stream().map(Map.Entry::getKey).collect(Collectors.toList());
     }
   }
 
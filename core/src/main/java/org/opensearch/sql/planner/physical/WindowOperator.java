@@ -6,11 +6,15 @@
 
 package org.opensearch.sql.planner.physical;
 
+import com.google.common.collect.AbstractIterator;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Iterators;
 import com.google.common.collect.PeekingIterator;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -22,7 +26,9 @@ import org.opensearch.sql.expression.window.WindowFunctionExpression;
 import org.opensearch.sql.expression.window.frame.WindowFrame;
 
 /**
- * Physical operator for window function computation.
+ * Physical operator for window function computation. All window functions in the operator share
+ * the same window definition, so the input is consumed in a single pass and each output row is
+ * built only once with the results of all window functions.
  */
 @EqualsAndHashCode(callSuper = false)
 @ToString
@@ -31,23 +37,31 @@ public class WindowOperator extends PhysicalPlan {
   private final PhysicalPlan input;
 
   @Getter
-  private final NamedExpression windowFunction;
+  private final List<NamedExpression> windowFunctions;
 
   @Getter
   private final WindowDefinition windowDefinition;
 
+  /**
+   * Window frame of each window function, because frame state is changed by the function
+   * evaluated on it.
+   */
   @EqualsAndHashCode.Exclude
   @ToString.Exclude
-  private final WindowFrame windowFrame;
+  private final List<WindowFrame> windowFrames;
 
   /**
-   * Peeking iterator that can peek next element which is required
+   * Peeking iterator of each window frame that can peek next element which is required
    * by window frame such as peer frame to prefetch all rows related
    * to same peer (of same sorting key).
    */
   @EqualsAndHashCode.Exclude
   @ToString.Exclude
-  private final PeekingIterator<ExprValue> peekingIterator;
+  private final List<PeekingIterator<ExprValue>> peekingIterators;
+
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final SharedInput sharedInput;
 
   /**
    * Initialize window operator.
@@ -58,11 +72,28 @@ public class WindowOperator extends PhysicalPlan {
   public WindowOperator(PhysicalPlan input,
                         NamedExpression windowFunction,
                         WindowDefinition windowDefinition) {
+    this(input, Collections.singletonList(windowFunction), windowDefinition);
+  }
+
+  /**
+   * Initialize window operator for window functions of the same window definition.
+   * @param input             child operator
+   * @param windowFunctions   window functions
+   * @param windowDefinition  window definition
+   */
+  public WindowOperator(PhysicalPlan input,
+                        List<NamedExpression> windowFunctions,
+                        WindowDefinition windowDefinition) {
     this.input = input;
-    this.windowFunction = windowFunction;
+    this.windowFunctions = windowFunctions;
     this.windowDefinition = windowDefinition;
-    this.windowFrame = createWindowFrame();
-    this.peekingIterator = Iterators.peekingIterator(input);
+    this.windowFrames = windowFunctions.stream()
+        .map(this::createWindowFrame)
+        .collect(Collectors.toList());
+    this.sharedInput = new SharedInput(input);
+    this.peekingIterators = windowFunctions.stream()
+        .map(windowFunction -> Iterators.peekingIterator(sharedInput.newCursor()))
+        .collect(Collectors.toList());
   }
 
   @Override
@@ -75,18 +106,25 @@ public class WindowOperator extends PhysicalPlan {
     return Collections.singletonList(input);
   }
 
+  /**
+   * All window frames move forward one row at a time in lockstep,
+   * so it's enough to check the first one.
+   */
   @Override
   public boolean hasNext() {
-    return peekingIterator.hasNext() || windowFrame.hasNext();
+    return peekingIterators.get(0).hasNext() || windowFrames.get(0).hasNext();
   }
 
   @Override
   public ExprValue next() {
-    windowFrame.load(peekingIterator);
+    for (int i = 0; i < windowFrames.size(); i++) {
+      windowFrames.get(i).load(peekingIterators.get(i));
+    }
+    sharedInput.release();
     return enrichCurrentRowByWindowFunctionResult();
   }
 
-  private WindowFrame createWindowFrame() {
+  private WindowFrame createWindowFrame(NamedExpression windowFunction) {
     return ((WindowFunctionExpression) windowFunction.getDelegated())
         .createWindowFrame(windowDefinition);
   }
@@ -94,18 +132,74 @@ public class WindowOperator extends PhysicalPlan {
   private ExprValue enrichCurrentRowByWindowFunctionResult() {
     ImmutableMap.Builder<String, ExprValue> mapBuilder = new ImmutableMap.Builder<>();
     preserveAllOriginalColumns(mapBuilder);
-    addWindowFunctionResultColumn(mapBuilder);
+    addWindowFunctionResultColumns(mapBuilder);
     return ExprTupleValue.fromExprValueMap(mapBuilder.build());
   }
 
   private void preserveAllOriginalColumns(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
-    ExprValue inputValue = windowFrame.current();
+    ExprValue inputValue = windowFrames.get(0).current();
     inputValue.tupleValue().forEach(mapBuilder::put);
   }
 
-  private void addWindowFunctionResultColumn(ImmutableMap.Builder<String, ExprValue> mapBuilder) {
-    ExprValue exprValue = windowFunction.valueOf(windowFrame);
-    mapBuilder.put(windowFunction.getName(), exprValue);
+  private void addWindowFunctionResultColumns(
+      ImmutableMap.Builder<String, ExprValue> mapBuilder) {
+    for (int i = 0; i < windowFunctions.size(); i++) {
+      NamedExpression windowFunction = windowFunctions.get(i);
+      ExprValue exprValue = windowFunction.valueOf(windowFrames.get(i));
+      mapBuilder.put(windowFunction.getName(), exprValue);
+    }
+  }
+
+  /**
+   * Input rows shared by the window frames. Each frame reads by its own cursor and a row is
+   * buffered only until all cursors have passed it. Because frames move in lockstep, the buffer
+   * never grows beyond the rows prefetched by a single frame, such as one peer group.
+   */
+  private static class SharedInput {
+    private final Iterator<ExprValue> input;
+    private final List<ExprValue> buffer = new ArrayList<>();
+    private final List<Cursor> cursors = new ArrayList<>();
+
+    /**
+     * Position of the first buffered row in input.
+     */
+    private long offset;
+
+    SharedInput(Iterator<ExprValue> input) {
+      this.input = input;
+    }
+
+    Iterator<ExprValue> newCursor() {
+      Cursor cursor = new Cursor();
+      cursors.add(cursor);
+      return cursor;
+    }
+
+    /**
+     * Release buffered rows already read by all cursors.
+     */
+    void release() {
+      long minPosition = cursors.stream().mapToLong(cursor -> cursor.position).min().getAsLong();
+      buffer.subList(0, (int) (minPosition - offset)).clear();
+      offset = minPosition;
+    }
+
+    private class Cursor extends AbstractIterator<ExprValue> {
+      private long position;
+
+      @Override
+      protected ExprValue computeNext() {
+        int index = (int) (position - offset);
+        if (index == buffer.size()) {
+          if (!input.hasNext()) {
+            return endOfData();
+          }
+          buffer.add(input.next());
+        }
+        position++;
+        return buffer.get(index);
+      }
+    }
   }
 
 }
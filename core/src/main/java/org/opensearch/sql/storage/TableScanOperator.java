@@ -6,8 +6,11 @@
 
 package org.opensearch.sql.storage;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
 
@@ -27,6 +30,17 @@ public abstract class TableScanOperator extends PhysicalPlan {
     return Collections.emptyList();
   }
 
+  /**
+   * Push down the filter that field value is one of the values given, which are known only at
+   * runtime, e.g. keys of the build side of hash join. It is called before the scan is opened.
+   * The filter is only an optimization that storage may ignore and scan all the rows.
+   *
+   * @param field  field of the rows scanned
+   * @param values values of the field
+   */
+  public void pushDownValues(ReferenceExpression field, Collection<ExprValue> values) {
+  }
+
   /**
    * Explain the execution plan.
    *
@@ -39,7 +39,12 @@ public class OperatorUtils {
 
   private static final char DEFAULT_ESCAPE = '\\';
 
-  private static String patternToRegex(String patternString) {
+  /**
+   * Convert wildcard pattern to an anchored regular expression.
+   * @param patternString wildcard pattern with percent and underscore.
+   * @return regular expression that matches the whole text.
+   */
+  public static String patternToRegex(String patternString) {
     StringBuilder regex = new StringBuilder(patternString.length() * 2);
     regex.append('^');
     boolean escaped = false;
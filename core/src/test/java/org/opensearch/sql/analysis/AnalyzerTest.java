@@ -99,6 +99,20 @@ class AnalyzerTest extends AnalyzerTestBase {
             AstDSL.equalTo(AstDSL.field("integer_value"), AstDSL.intLiteral(1))));
   }
 
+  @Test
+  public void filter_relation_with_constant_expression() {
+    assertAnalyzeEqual(
+        LogicalPlanDSL.filter(
+            LogicalPlanDSL.relation("schema", table),
+            dsl.equal(DSL.ref("integer_value", INTEGER), DSL.literal(integerValue(3)))),
+        AstDSL.filter(
+            AstDSL.relation("schema"),
+            AstDSL.and(
+                AstDSL.booleanLiteral(true),
+                AstDSL.equalTo(AstDSL.field("integer_value"),
+                    AstDSL.function("+", AstDSL.intLiteral(1), AstDSL.intLiteral(2))))));
+  }
+
   @Test
   public void filter_relation_with_alias() {
     assertAnalyzeEqual(
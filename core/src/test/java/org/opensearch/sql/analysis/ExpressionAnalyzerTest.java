@@ -376,13 +376,20 @@ class ExpressionAnalyzerTest extends AnalyzerTestBase {
 
   @Test
   void visit_in() {
+    assertAnalyzeEqual(
+        dsl.in(DSL.ref("integer_value", INTEGER),
+            DSL.literal(1), DSL.literal(2), DSL.literal(3)),
+        AstDSL.in(field("integer_value"), intLiteral(1), intLiteral(2), intLiteral(3)));
+
+    assertAnalyzeEqual(
+        dsl.equal(DSL.ref("integer_value", INTEGER), DSL.literal(1)),
+        AstDSL.in(field("integer_value"), intLiteral(1)));
+
     assertAnalyzeEqual(
         dsl.or(
             dsl.equal(DSL.ref("integer_value", INTEGER), DSL.literal(1)),
-            dsl.or(
-                dsl.equal(DSL.ref("integer_value", INTEGER), DSL.literal(2)),
-                dsl.equal(DSL.ref("integer_value", INTEGER), DSL.literal(3)))),
-        AstDSL.in(field("integer_value"), intLiteral(1), intLiteral(2), intLiteral(3)));
+            dsl.equal(DSL.ref("integer_value", INTEGER), DSL.ref("integer_value", INTEGER))),
+        AstDSL.in(field("integer_value"), intLiteral(1), field("integer_value")));
 
     assertThrows(
         SemanticCheckException.class,
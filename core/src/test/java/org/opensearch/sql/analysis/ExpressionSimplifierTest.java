@@ -0,0 +1,204 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.conditional.cases.WhenClause;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.function.BuiltinFunctionRepository;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExpressionSimplifierTest {
+
+  private final BuiltinFunctionRepository repository = new ExpressionConfig().functionRepository();
+
+  private final DSL dsl = new ExpressionConfig().dsl(repository);
+
+  private final ExpressionSimplifier simplifier = new ExpressionSimplifier(repository);
+
+  private final Expression booleanField = DSL.ref("boolean_value", BOOLEAN);
+
+  private final Expression integerField = DSL.ref("integer_value", INTEGER);
+
+  @Test
+  void reference_and_literal_should_not_be_changed() {
+    assertSame(integerField, simplifier.simplify(integerField));
+    Expression literal = DSL.literal(1);
+    assertSame(literal, simplifier.simplify(literal));
+  }
+
+  @Test
+  void function_with_all_literal_arguments_should_be_folded() {
+    assertEquals(
+        DSL.literal(10),
+        simplifier.simplify(dsl.multiply(dsl.abs(DSL.literal(-5)), DSL.literal(2))));
+    assertEquals(
+        DSL.literal(new ExprTimestampValue("2022-01-01 00:00:00")),
+        simplifier.simplify(dsl.castTimestamp(DSL.literal("2022-01-01 00:00:00"))));
+  }
+
+  @Test
+  void constant_argument_should_be_folded_and_function_recompiled() {
+    assertEquals(
+        dsl.greater(integerField, DSL.literal(10)),
+        simplifier.simplify(
+            dsl.greater(integerField, dsl.multiply(DSL.literal(5), DSL.literal(2)))));
+  }
+
+  @Test
+  void function_with_non_literal_argument_should_not_be_changed() {
+    Expression expr = dsl.abs(integerField);
+    assertSame(expr, simplifier.simplify(expr));
+  }
+
+  @Test
+  void function_without_argument_or_non_deterministic_should_not_be_folded() {
+    Expression pi = dsl.pi();
+    assertSame(pi, simplifier.simplify(pi));
+
+    Expression rand = dsl.rand(DSL.literal(1));
+    assertSame(rand, simplifier.simplify(rand));
+  }
+
+  @Test
+  void function_failed_to_evaluate_should_not_be_folded() {
+    Expression expr = dsl.castInt(DSL.literal("abc"));
+    assertSame(expr, simplifier.simplify(expr));
+  }
+
+  @Test
+  void function_evaluated_to_null_should_not_be_folded() {
+    Expression expr = dsl.divide(DSL.literal(1), DSL.literal(0));
+    assertSame(expr, simplifier.simplify(expr));
+  }
+
+  @Test
+  void and_with_boolean_literal_should_be_simplified() {
+    assertEquals(booleanField,
+        simplifier.simplify(dsl.and(DSL.literal(true), booleanField)));
+    assertEquals(booleanField,
+        simplifier.simplify(dsl.and(booleanField, DSL.literal(true))));
+    assertEquals(DSL.literal(false),
+        simplifier.simplify(dsl.and(DSL.literal(false), booleanField)));
+    assertEquals(DSL.literal(false),
+        simplifier.simplify(dsl.and(booleanField, DSL.literal(false))));
+
+    Expression expr = dsl.and(booleanField, dsl.not(booleanField));
+    assertSame(expr, simplifier.simplify(expr));
+  }
+
+  @Test
+  void or_with_boolean_literal_should_be_simplified() {
+    assertEquals(DSL.literal(true),
+        simplifier.simplify(dsl.or(DSL.literal(true), booleanField)));
+    assertEquals(DSL.literal(true),
+        simplifier.simplify(dsl.or(booleanField, DSL.literal(true))));
+    assertEquals(booleanField,
+        simplifier.simplify(dsl.or(DSL.literal(false), booleanField)));
+    assertEquals(booleanField,
+        simplifier.simplify(dsl.or(booleanField, DSL.literal(false))));
+
+    Expression expr = dsl.or(booleanField, dsl.not(booleanField));
+    assertSame(expr, simplifier.simplify(expr));
+  }
+
+  @Test
+  void double_negation_should_be_removed() {
+    assertEquals(booleanField, simplifier.simplify(dsl.not(dsl.not(booleanField))));
+
+    Expression expr = dsl.not(booleanField);
+    assertSame(expr, simplifier.simplify(expr));
+
+    expr = dsl.not(dsl.equal(integerField, DSL.literal(1)));
+    assertSame(expr, simplifier.simplify(expr));
+  }
+
+  @Test
+  void filter_condition_should_be_simplified() {
+    assertEquals(
+        dsl.equal(integerField, DSL.literal(3)),
+        simplifier.simplify(
+            dsl.and(
+                dsl.equal(DSL.literal(1), DSL.literal(1)),
+                dsl.equal(integerField, dsl.add(DSL.literal(1), DSL.literal(2))))));
+  }
+
+  @Test
+  void when_clause_with_literal_condition_should_be_eliminated() {
+    WhenClause when = DSL.when(dsl.equal(integerField, DSL.literal(1)), DSL.literal("one"));
+    assertEquals(
+        DSL.cases(DSL.literal("other"), when),
+        simplifier.simplify(DSL.cases(DSL.literal("other"),
+            DSL.when(DSL.literal(false), DSL.literal("never")),
+            when)));
+    assertEquals(
+        DSL.cases(DSL.literal("always"), when),
+        simplifier.simplify(DSL.cases(DSL.literal("other"),
+            when,
+            DSL.when(dsl.equal(DSL.literal(1), DSL.literal(1)), DSL.literal("always")),
+            DSL.when(dsl.equal(integerField, DSL.literal(2)), DSL.literal("two")))));
+    assertEquals(
+        DSL.cases(null, when),
+        simplifier.simplify(DSL.cases(null, when)));
+  }
+
+  @Test
+  void case_with_all_when_clauses_eliminated_should_be_replaced_by_default_result() {
+    assertEquals(
+        DSL.literal("always"),
+        simplifier.simplify(DSL.cases(DSL.literal("other"),
+            DSL.when(DSL.literal(true), DSL.literal("always")))));
+    assertEquals(
+        DSL.literal("other"),
+        simplifier.simplify(DSL.cases(DSL.literal("other"),
+            DSL.when(DSL.literal(false), DSL.literal("never")))));
+
+    Expression expr = DSL.cases(null, DSL.when(DSL.literal(false), DSL.literal("never")));
+    assertSame(expr, simplifier.simplify(expr));
+  }
+
+  @Test
+  void aggregator_parse_and_when_expression_should_not_be_changed() {
+    Expression avg = dsl.avg(integerField);
+    assertSame(avg, simplifier.simplify(avg));
+
+    Expression namedAvg = DSL.named("avg", dsl.avg(integerField));
+    assertSame(namedAvg, simplifier.simplify(namedAvg));
+
+    Expression regex = DSL.regex(DSL.ref("string_value", STRING),
+        DSL.literal("(?<group>.*)"), DSL.literal("group"));
+    assertSame(regex, simplifier.simplify(regex));
+
+    WhenClause when = DSL.when(DSL.literal(true), DSL.literal("always"));
+    assertSame(when, when.accept(simplifier, null));
+  }
+
+  @Test
+  void named_expression_should_be_simplified() {
+    NamedExpression named = DSL.named("ts", dsl.abs(integerField));
+    assertSame(named, simplifier.simplify(named));
+
+    assertEquals(
+        DSL.named("ts", DSL.literal(new ExprTimestampValue("2022-01-01 00:00:00")), "alias"),
+        simplifier.simplify(DSL.named("ts",
+            dsl.castTimestamp(DSL.literal("2022-01-01 00:00:00")), "alias")));
+    assertEquals(TIMESTAMP, simplifier.simplify(DSL.named("ts",
+        dsl.castTimestamp(DSL.literal("2022-01-01 00:00:00")))).type());
+  }
+}
@@ -7,6 +7,9 @@
 package org.opensearch.sql.data.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Assertions;
@@ -26,4 +29,44 @@ public class ExprNumberValueTest {
   public void key_value() {
     assertTrue(new ExprIntegerValue(1).keyValue("path").isMissing());
   }
+
+  @Test
+  public void getRawValue() {
+    assertEquals(1L, new ExprIntegerValue(1).longValueRaw());
+    assertEquals(-2L, new ExprLongValue(-2L).longValueRaw());
+    assertEquals(3L, new ExprDoubleValue(3.7D).longValueRaw());
+    assertEquals(1.0D, new ExprIntegerValue(1).doubleValueRaw());
+    assertEquals(1.5D, new ExprFloatValue(1.5F).doubleValueRaw());
+    assertEquals(2.5D, new ExprDoubleValue(2.5D).doubleValueRaw());
+  }
+
+  @Test
+  public void getRawValueFromIncompatibleExprValue() {
+    ExprBooleanValue booleanValue = ExprBooleanValue.of(true);
+    ExpressionEvaluationException exception = assertThrows(
+        ExpressionEvaluationException.class, booleanValue::longValueRaw);
+    assertEquals("invalid to get longValue from value of type BOOLEAN", exception.getMessage());
+    exception = assertThrows(ExpressionEvaluationException.class, booleanValue::doubleValueRaw);
+    assertEquals("invalid to get doubleValue from value of type BOOLEAN", exception.getMessage());
+  }
+
+  @Test
+  public void smallIntegerValueIsCached() {
+    assertSame(ExprIntegerValue.of(-128), ExprIntegerValue.of(-128));
+    assertSame(ExprIntegerValue.of(1023), ExprIntegerValue.of(1023));
+    assertNotSame(ExprIntegerValue.of(-129), ExprIntegerValue.of(-129));
+    assertNotSame(ExprIntegerValue.of(1024), ExprIntegerValue.of(1024));
+    assertEquals(new ExprIntegerValue(7), ExprIntegerValue.of(7));
+    assertEquals(new ExprIntegerValue(7).hashCode(), ExprIntegerValue.of(7).hashCode());
+  }
+
+  @Test
+  public void smallLongValueIsCached() {
+    assertSame(ExprLongValue.of(-128L), ExprLongValue.of(-128L));
+    assertSame(ExprLongValue.of(1023L), ExprLongValue.of(1023L));
+    assertNotSame(ExprLongValue.of(-129L), ExprLongValue.of(-129L));
+    assertNotSame(ExprLongValue.of(1024L), ExprLongValue.of(1024L));
+    assertEquals(new ExprLongValue(-1L), ExprLongValue.of(-1L));
+    assertEquals(new ExprLongValue(-1L).hashCode(), ExprLongValue.of(-1L).hashCode());
+  }
 }
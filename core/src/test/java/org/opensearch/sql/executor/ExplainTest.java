@@ -21,6 +21,7 @@ import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.agg;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.dedupe;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.eval;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.hashJoin;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.limit;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.project;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.rareTopN;
@@ -51,6 +52,7 @@ import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.TableScanOperator;
 
@@ -226,6 +228,23 @@ class ExplainTest extends ExpressionTestBase {
     );
   }
 
+  @Test
+  void can_explain_hash_join() {
+    List<Expression> keys = List.of(ref("id", INTEGER));
+    PhysicalPlan plan = hashJoin(tableScan, tableScan, JoinType.INNER, keys, keys);
+    assertEquals(
+        new ExplainResponse(
+            new ExplainResponseNode(
+                "HashJoinOperator",
+                ImmutableMap.of(
+                    "joinType", JoinType.INNER,
+                    "leftKeys", "[id]",
+                    "rightKeys", "[id]"),
+                List.of(tableScan.explainNode(), tableScan.explainNode()))),
+        explain.apply(plan)
+    );
+  }
+
   private static class FakeTableScan extends TableScanOperator {
     @Override
     public boolean hasNext() {
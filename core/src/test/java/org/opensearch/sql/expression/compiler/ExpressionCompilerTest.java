@@ -0,0 +1,188 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.compiler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.exception.ExpressionEvaluationException;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class ExpressionCompilerTest {
+
+  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+
+  private final Expression intField = DSL.ref("int_value", INTEGER);
+
+  private final Expression longField = DSL.ref("long_value", LONG);
+
+  private final Expression doubleField = DSL.ref("double_value", DOUBLE);
+
+  private final Expression floatField = DSL.ref("float_value", FLOAT);
+
+  private final Expression boolField1 = DSL.ref("bool_value1", BOOLEAN);
+
+  private final Expression boolField2 = DSL.ref("bool_value2", BOOLEAN);
+
+  private final List<ExprValue> numberRows = Arrays.asList(
+      row(7, 10L, 1.5D, 2.5F),
+      row(-3, -4L, Double.NaN, -0.0F),
+      row(0, 0L, -0.0D, 0.0F),
+      row(1000, 1000000L, 0.0D, Float.NaN),
+      tuple("int_value", LITERAL_NULL, "long_value", LITERAL_NULL,
+          "double_value", LITERAL_NULL, "float_value", LITERAL_NULL),
+      tuple());
+
+  @Test
+  void comparison_should_be_same_as_interpreter() {
+    List<Expression> fields = ImmutableList.of(intField, longField, doubleField, floatField);
+    List<Expression> literals = ImmutableList.of(
+        DSL.literal(0), DSL.literal(0L), DSL.literal(0.0D), DSL.literal(0.0F));
+    for (int i = 0; i < fields.size(); i++) {
+      Expression field = fields.get(i);
+      Expression literal = literals.get(i);
+      assertSameAsInterpreter(numberRows, dsl.equal(field, literal));
+      assertSameAsInterpreter(numberRows, dsl.notequal(field, field));
+      assertSameAsInterpreter(numberRows, dsl.less(field, literal));
+      assertSameAsInterpreter(numberRows, dsl.lte(literal, field));
+      assertSameAsInterpreter(numberRows, dsl.greater(field, literal));
+      assertSameAsInterpreter(numberRows, dsl.gte(field, literal));
+    }
+    assertSameAsInterpreter(numberRows, dsl.equal(doubleField, DSL.literal(Double.NaN)));
+  }
+
+  @Test
+  void arithmetic_should_be_same_as_interpreter() {
+    List<BiFunction<Expression, Expression, Expression>> functions = ImmutableList.of(
+        dsl::add, dsl::subtract, dsl::multiply, dsl::divide, dsl::module);
+    for (BiFunction<Expression, Expression, Expression> function : functions) {
+      assertSameAsInterpreter(numberRows, function.apply(intField, DSL.literal(3)));
+      assertSameAsInterpreter(numberRows, function.apply(DSL.literal(5), intField));
+      assertSameAsInterpreter(numberRows, function.apply(longField, DSL.literal(3L)));
+      assertSameAsInterpreter(numberRows, function.apply(DSL.literal(5L), longField));
+      assertSameAsInterpreter(numberRows, function.apply(doubleField, DSL.literal(2.0D)));
+      assertSameAsInterpreter(numberRows, function.apply(DSL.literal(5.0D), doubleField));
+    }
+    assertSameAsInterpreter(numberRows,
+        dsl.greater(dsl.add(dsl.multiply(intField, DSL.literal(2)), DSL.literal(1)),
+            DSL.literal(0)));
+  }
+
+  @Test
+  void arithmetic_overflow_should_fail_as_interpreter() {
+    Expression intOverflow = dsl.subtract(intField, DSL.literal(1));
+    Expression longOverflow = dsl.multiply(longField, DSL.literal(2L));
+    ExprValue row = row(Integer.MIN_VALUE, Long.MIN_VALUE, 0.0D, 0.0F);
+    assertThrows(ArithmeticException.class,
+        () -> ExpressionCompiler.compile(intOverflow).evaluate(row.bindingTuples()));
+    assertThrows(ArithmeticException.class,
+        () -> ExpressionCompiler.compile(longOverflow).evaluate(row.bindingTuples()));
+  }
+
+  @Test
+  void logical_operator_should_be_same_as_interpreter() {
+    List<ExprValue> values = ImmutableList.of(
+        LITERAL_TRUE, LITERAL_FALSE, LITERAL_NULL, LITERAL_MISSING);
+    List<ExprValue> rows = new ArrayList<>();
+    for (ExprValue value1 : values) {
+      for (ExprValue value2 : values) {
+        rows.add(tuple("bool_value1", value1, "bool_value2", value2));
+      }
+    }
+    assertSameAsInterpreter(rows, dsl.and(boolField1, boolField2));
+    assertSameAsInterpreter(rows, dsl.or(boolField1, boolField2));
+    assertSameAsInterpreter(rows, dsl.not(boolField1));
+    assertSameAsInterpreter(rows, dsl.and(dsl.not(boolField1), dsl.or(boolField2, boolField1)));
+  }
+
+  @Test
+  void unsupported_function_should_fall_back_to_interpreter() {
+    Expression stringField = DSL.ref("string_value", STRING);
+    List<ExprValue> rows = Arrays.asList(
+        tuple("string_value", new ExprStringValue("a"), "int_value", new ExprIntegerValue(-2),
+            "float_value", new ExprFloatValue(1.5F)),
+        tuple("string_value", LITERAL_NULL, "int_value", LITERAL_NULL),
+        tuple());
+    assertSameAsInterpreter(rows, dsl.equal(stringField, DSL.literal("a")));
+    assertSameAsInterpreter(rows, dsl.greater(dsl.abs(intField), DSL.literal(1)));
+    assertSameAsInterpreter(rows, dsl.abs(longField));
+    assertSameAsInterpreter(rows, dsl.abs(doubleField));
+    assertSameAsInterpreter(rows, dsl.add(floatField, floatField));
+    assertSameAsInterpreter(rows, dsl.xor(dsl.isnull(stringField), DSL.literal(true)));
+    assertSameAsInterpreter(rows, DSL.named("abs", dsl.abs(intField)));
+    assertSameAsInterpreter(rows, DSL.cases(DSL.literal(0),
+        DSL.when(dsl.less(intField, DSL.literal(0)), DSL.literal(1))));
+  }
+
+  @Test
+  void aggregator_should_fall_back_to_interpreter() {
+    CompiledExpression avg = ExpressionCompiler.compile(dsl.avg(intField));
+    assertThrows(ExpressionEvaluationException.class,
+        () -> avg.evaluate(numberRows.get(0).bindingTuples()));
+
+    CompiledExpression namedAvg = ExpressionCompiler.compile(DSL.named("avg", dsl.avg(intField)));
+    assertThrows(ExpressionEvaluationException.class,
+        () -> namedAvg.evaluate(numberRows.get(0).bindingTuples()));
+  }
+
+  private void assertSameAsInterpreter(List<ExprValue> rows, Expression expression) {
+    CompiledExpression compiled = ExpressionCompiler.compile(expression);
+    for (ExprValue row : rows) {
+      assertEquals(
+          expression.valueOf(row.bindingTuples()),
+          compiled.evaluate(row.bindingTuples()),
+          String.format("%s on row %s", expression, row));
+    }
+  }
+
+  private static ExprValue row(int intValue, long longValue, double doubleValue,
+                               float floatValue) {
+    return tuple(
+        "int_value", new ExprIntegerValue(intValue),
+        "long_value", new ExprLongValue(longValue),
+        "double_value", new ExprDoubleValue(doubleValue),
+        "float_value", new ExprFloatValue(floatValue));
+  }
+
+  private static ExprValue tuple(Object... keyValues) {
+    Map<String, ExprValue> map = new LinkedHashMap<>();
+    for (int i = 0; i < keyValues.length; i += 2) {
+      map.put((String) keyValues[i], (ExprValue) keyValues[i + 1]);
+    }
+    return ExprTupleValue.fromExprValueMap(Collections.unmodifiableMap(map));
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.datetime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class DateTimeFormatterUtilTest {
+
+  private final ExprValue timestamp = new ExprTimestampValue("2020-08-17 01:02:03.456789");
+
+  private final ExprValue anotherTimestamp = new ExprTimestampValue("2022-10-03 23:59:59");
+
+  @Test
+  void static_format_should_be_reused_for_different_dates() {
+    ExprValue format = new ExprStringValue("%Y-%m-%d %H:%i:%s on %W");
+    assertEquals(new ExprStringValue("2020-08-17 01:02:03 on Monday"),
+        DateTimeFormatterUtil.getFormattedDate(timestamp, format));
+    assertEquals(new ExprStringValue("2022-10-03 23:59:59 on Monday"),
+        DateTimeFormatterUtil.getFormattedDate(anotherTimestamp, format));
+  }
+
+  @Test
+  void date_dependent_format_should_be_resolved_for_each_date() {
+    ExprValue format = new ExprStringValue("%D of %M, week %U %% %f %Q");
+    assertEquals(new ExprStringValue("17th of August, week 33 % 456789 Q"),
+        DateTimeFormatterUtil.getFormattedDate(timestamp, format));
+    assertEquals(new ExprStringValue("3rd of October, week 40 % 0 Q"),
+        DateTimeFormatterUtil.getFormattedDate(anotherTimestamp, format));
+  }
+
+  @Test
+  void quotes_next_to_date_dependent_specifier_should_be_kept() {
+    assertEquals(new ExprStringValue("'456789'"), DateTimeFormatterUtil.getFormattedDate(
+        timestamp, new ExprStringValue("'%f'")));
+    assertEquals(new ExprStringValue("'456789"), DateTimeFormatterUtil.getFormattedDate(
+        timestamp, new ExprStringValue("''%f")));
+    assertEquals(new ExprStringValue("'17th' of 2020"), DateTimeFormatterUtil.getFormattedDate(
+        timestamp, new ExprStringValue("'%D' of %Y")));
+  }
+
+  @Test
+  void private_use_character_in_format_should_not_be_replaced() {
+    ExprValue format = new ExprStringValue("\uE000 %f \uE001");
+    assertEquals(new ExprStringValue("\uE000 456789 \uE001"),
+        DateTimeFormatterUtil.getFormattedDate(timestamp, format));
+  }
+
+  @Test
+  void invalid_format_should_fail_every_time() {
+    ExprValue format = new ExprStringValue("%Y{");
+    assertThrows(IllegalArgumentException.class,
+        () -> DateTimeFormatterUtil.getFormattedDate(timestamp, format));
+    assertThrows(IllegalArgumentException.class,
+        () -> DateTimeFormatterUtil.getFormattedDate(timestamp, format));
+  }
+}
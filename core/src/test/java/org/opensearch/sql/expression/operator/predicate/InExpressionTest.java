@@ -0,0 +1,168 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.operator.predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.config.TestConfig.INT_TYPE_MISSING_VALUE_FIELD;
+import static org.opensearch.sql.config.TestConfig.INT_TYPE_NULL_VALUE_FIELD;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_FALSE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
+import static org.opensearch.sql.data.model.ExprValueUtils.intervalValue;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.exception.ExpressionEvaluationException;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ExpressionTestBase;
+import org.opensearch.sql.expression.FunctionExpression;
+
+class InExpressionTest extends ExpressionTestBase {
+
+  @Test
+  public void in_integer_values() {
+    FunctionExpression in = dsl.in(DSL.ref("integer_value", INTEGER),
+        DSL.literal(3), DSL.literal(1), DSL.literal(2));
+    assertTrue(in instanceof InExpression);
+    assertEquals(BOOLEAN, in.type());
+    assertEquals(LITERAL_TRUE, in.valueOf(valueEnv()));
+    assertEquals("in(integer_value, 3, 1, 2)", in.toString());
+
+    in = dsl.in(DSL.ref("long_value", LONG), DSL.literal(2), DSL.literal(3L));
+    assertEquals(LITERAL_FALSE, in.valueOf(valueEnv()));
+  }
+
+  @Test
+  public void in_values_of_different_number_types() {
+    FunctionExpression in = dsl.in(DSL.ref("integer_value", INTEGER),
+        DSL.literal(1.0D), DSL.literal(2.5D));
+    assertEquals(LITERAL_TRUE, in.valueOf(valueEnv()));
+
+    in = dsl.in(DSL.ref("double_value", DOUBLE), DSL.literal(1), DSL.literal(2));
+    assertEquals(LITERAL_TRUE, in.valueOf(valueEnv()));
+
+    in = dsl.in(DSL.ref("integer_value", INTEGER), DSL.literal(1.5D), DSL.literal(2.5D));
+    assertEquals(LITERAL_FALSE, in.valueOf(valueEnv()));
+  }
+
+  @Test
+  public void in_float_values() {
+    FunctionExpression in = dsl.in(DSL.ref("float_value", FLOAT),
+        DSL.literal(1f), DSL.literal(2f));
+    assertEquals(LITERAL_TRUE, in.valueOf(valueEnv()));
+  }
+
+  @Test
+  public void in_interval_values() {
+    FunctionExpression in = dsl.in(DSL.literal(intervalValue(Duration.ofDays(1))),
+        DSL.literal(intervalValue(Duration.ofDays(1))),
+        DSL.literal(intervalValue(Duration.ofDays(2))));
+    assertEquals(LITERAL_TRUE, in.valueOf(valueEnv()));
+  }
+
+  @Test
+  public void in_values_wrapped_by_cast() {
+    FunctionExpression in = dsl.in(DSL.ref("string_value", STRING),
+        DSL.literal(true), DSL.literal(false));
+    assertEquals("in(string_value, cast_to_string(true), cast_to_string(false))",
+        in.toString());
+    assertEquals(LITERAL_FALSE, in.valueOf(valueEnv()));
+  }
+
+  @Test
+  public void in_string_values() {
+    FunctionExpression in = dsl.in(DSL.ref("string_value", STRING),
+        DSL.literal("abc"), DSL.literal("str"));
+    assertEquals(LITERAL_TRUE, in.valueOf(valueEnv()));
+
+    in = dsl.in(DSL.ref("string_value", STRING), DSL.literal("abc"), DSL.literal("def"));
+    assertEquals(LITERAL_FALSE, in.valueOf(valueEnv()));
+  }
+
+  @Test
+  public void in_with_null_or_missing_field() {
+    FunctionExpression in = dsl.in(DSL.ref(INT_TYPE_NULL_VALUE_FIELD, INTEGER),
+        DSL.literal(1), DSL.literal(2));
+    assertEquals(LITERAL_NULL, in.valueOf(valueEnv()));
+
+    in = dsl.in(DSL.ref(INT_TYPE_MISSING_VALUE_FIELD, INTEGER), DSL.literal(1), DSL.literal(2));
+    assertEquals(LITERAL_MISSING, in.valueOf(valueEnv()));
+  }
+
+  @Test
+  public void in_with_null_value_in_list() {
+    FunctionExpression in = dsl.in(DSL.ref("integer_value", INTEGER),
+        DSL.literal(2), DSL.ref(INT_TYPE_NULL_VALUE_FIELD, INTEGER));
+    assertEquals(LITERAL_NULL, in.valueOf(valueEnv()));
+
+    in = dsl.in(DSL.ref("integer_value", INTEGER),
+        DSL.literal(1), DSL.ref(INT_TYPE_NULL_VALUE_FIELD, INTEGER));
+    assertEquals(LITERAL_TRUE, in.valueOf(valueEnv()));
+  }
+
+  @Test
+  public void in_with_missing_value_in_list() {
+    FunctionExpression in = dsl.in(DSL.ref("integer_value", INTEGER),
+        DSL.literal(2), DSL.ref(INT_TYPE_MISSING_VALUE_FIELD, INTEGER));
+    assertEquals(LITERAL_NULL, in.valueOf(valueEnv()));
+  }
+
+  @Test
+  public void in_non_constant_values() {
+    FunctionExpression in = dsl.in(DSL.literal(1),
+        DSL.literal(2), DSL.ref("integer_value", INTEGER));
+    assertEquals(LITERAL_TRUE, in.valueOf(valueEnv()));
+
+    in = dsl.in(DSL.literal(1), DSL.literal(2), dsl.abs(DSL.ref("integer_value", INTEGER)));
+    assertEquals(LITERAL_TRUE, in.valueOf(valueEnv()));
+
+    in = dsl.in(DSL.literal(1.0D), DSL.literal(2.0D), dsl.pi());
+    assertEquals(LITERAL_FALSE, in.valueOf(valueEnv()));
+  }
+
+  @Test
+  public void in_values_of_incompatible_type() {
+    ExpressionEvaluationException exception = assertThrows(ExpressionEvaluationException.class,
+        () -> dsl.in(DSL.ref("integer_value", INTEGER), DSL.literal("a"), DSL.literal("b")));
+    assertEquals("in function expected arguments of compatible types, "
+        + "but get [INTEGER,STRING,STRING]", exception.getMessage());
+  }
+
+  @Test
+  public void in_without_value() {
+    assertThrows(ExpressionEvaluationException.class,
+        () -> dsl.in(DSL.ref("integer_value", INTEGER)));
+  }
+
+  @Test
+  public void serialization() throws Exception {
+    Expression expression = dsl.in(DSL.ref("integer_value", INTEGER),
+        DSL.literal(1), DSL.literal(2));
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutput = new ObjectOutputStream(output);
+    objectOutput.writeObject(expression);
+    objectOutput.flush();
+
+    ObjectInputStream objectInput =
+        new ObjectInputStream(new ByteArrayInputStream(output.toByteArray()));
+    Expression deserialized = (Expression) objectInput.readObject();
+    assertEquals(LITERAL_TRUE, deserialized.valueOf(valueEnv()));
+  }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.vector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.ReferenceExpression;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class BatchTest {
+
+  private final ExprValue row1 = tupleValue(ImmutableMap.of("id", 1));
+
+  private final ExprValue row2 = tupleValue(ImmutableMap.of("id", 2));
+
+  private final ExprValue row3 = tupleValue(ImmutableMap.of("id", 3));
+
+  private final Batch batch = new Batch(Arrays.asList(row1, row2, row3));
+
+  @Test
+  void size_and_empty() {
+    assertEquals(3, batch.size());
+    assertFalse(batch.isEmpty());
+    assertTrue(new Batch(Collections.emptyList()).isEmpty());
+  }
+
+  @Test
+  void column_should_be_materialized_once() {
+    ReferenceExpression id = DSL.ref("id", INTEGER);
+    ColumnVector column = batch.column(id);
+    assertSame(column, batch.column(id));
+    assertTrue(column.compare(column, result -> result == 0).isTrue(2));
+  }
+
+  @Test
+  void select_rows_by_position() {
+    assertEquals(Arrays.asList(row1, row3), batch.select(index -> index != 1).getRows());
+  }
+
+  @Test
+  void map_each_row() {
+    assertEquals(
+        Arrays.asList(integerValue(1), integerValue(2), integerValue(3)),
+        batch.map(row -> row.tupleValue().get("id")).getRows());
+  }
+}
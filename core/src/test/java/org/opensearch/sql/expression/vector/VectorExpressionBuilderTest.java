@@ -0,0 +1,169 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.expression.vector;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.type.ExprCoreType.BOOLEAN;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprBooleanValue;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class VectorExpressionBuilderTest {
+
+  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+
+  private final Expression intField = DSL.ref("int_value", INTEGER);
+
+  private final Expression longField = DSL.ref("long_value", LONG);
+
+  private final Expression doubleField = DSL.ref("double_value", DOUBLE);
+
+  private final Expression floatField = DSL.ref("float_value", FLOAT);
+
+  private final Expression booleanField = DSL.ref("boolean_value", BOOLEAN);
+
+  private final List<ExprValue> rows = Arrays.asList(
+      row(1, 10L, 1.5D, 2.5F, true),
+      row(5, -3L, Double.NaN, -0.0F, false),
+      row(-2, 0L, -0.0D, 1.0F, true),
+      ExprTupleValue.fromExprValueMap(ImmutableMap.of(
+          "int_value", LITERAL_NULL,
+          "long_value", LITERAL_NULL,
+          "double_value", LITERAL_NULL,
+          "float_value", LITERAL_NULL,
+          "boolean_value", LITERAL_NULL)),
+      ExprTupleValue.fromExprValueMap(ImmutableMap.of()));
+
+  @Test
+  void comparison_should_be_same_as_row_by_row() {
+    List<Expression> fields = ImmutableList.of(intField, longField, doubleField, floatField);
+    List<Expression> literals = ImmutableList.of(
+        DSL.literal(1), DSL.literal(0L), DSL.literal(0.0D), DSL.literal(1.0F));
+    for (int i = 0; i < fields.size(); i++) {
+      Expression field = fields.get(i);
+      Expression literal = literals.get(i);
+      assertSameAsRowByRow(dsl.equal(field, literal));
+      assertSameAsRowByRow(dsl.notequal(field, literal));
+      assertSameAsRowByRow(dsl.less(field, literal));
+      assertSameAsRowByRow(dsl.lte(literal, field));
+      assertSameAsRowByRow(dsl.greater(field, literal));
+      assertSameAsRowByRow(dsl.gte(field, field));
+    }
+    assertSameAsRowByRow(dsl.equal(doubleField, DSL.literal(Double.NaN)));
+    assertSameAsRowByRow(dsl.less(doubleField, DSL.literal(0.0D)));
+  }
+
+  @Test
+  void arithmetic_should_be_same_as_row_by_row() {
+    assertSameAsRowByRow(dsl.greater(dsl.add(intField, DSL.literal(2)), DSL.literal(3)));
+    assertSameAsRowByRow(dsl.equal(dsl.subtract(intField, intField), DSL.literal(0)));
+    assertSameAsRowByRow(dsl.less(dsl.multiply(intField, DSL.literal(-3)), DSL.literal(-4)));
+    assertSameAsRowByRow(dsl.gte(dsl.add(longField, longField), DSL.literal(0L)));
+    assertSameAsRowByRow(dsl.equal(dsl.subtract(longField, DSL.literal(1L)), DSL.literal(9L)));
+    assertSameAsRowByRow(dsl.less(dsl.multiply(longField, longField), DSL.literal(50L)));
+    assertSameAsRowByRow(dsl.gte(dsl.add(doubleField, DSL.literal(1.0D)), DSL.literal(2.5D)));
+    assertSameAsRowByRow(
+        dsl.equal(dsl.subtract(doubleField, doubleField), DSL.literal(0.0D)));
+    assertSameAsRowByRow(
+        dsl.less(dsl.multiply(doubleField, DSL.literal(2.0D)), DSL.literal(1.0D)));
+  }
+
+  @Test
+  void logical_operator_should_be_same_as_row_by_row() {
+    Expression positive = dsl.greater(intField, DSL.literal(0));
+    assertSameAsRowByRow(booleanField);
+    assertSameAsRowByRow(dsl.and(positive, booleanField));
+    assertSameAsRowByRow(dsl.and(booleanField, dsl.not(positive)));
+    assertSameAsRowByRow(dsl.or(positive, booleanField));
+    assertSameAsRowByRow(dsl.or(dsl.not(booleanField), positive));
+    assertSameAsRowByRow(dsl.and(DSL.literal(true), booleanField));
+    assertSameAsRowByRow(dsl.or(DSL.literal(false), dsl.not(booleanField)));
+  }
+
+  @Test
+  void arithmetic_overflow_should_fail_as_row_by_row() {
+    Batch batch = new Batch(Collections.singletonList(
+        ExprTupleValue.fromExprValueMap(ImmutableMap.of(
+            "int_value", new ExprIntegerValue(Integer.MAX_VALUE),
+            "long_value", new ExprLongValue(Long.MIN_VALUE)))));
+    VectorExpression intOverflow = VectorExpressionBuilder.build(
+        dsl.greater(dsl.add(intField, DSL.literal(1)), DSL.literal(0))).get();
+    assertThrows(ArithmeticException.class, () -> intOverflow.evaluate(batch));
+
+    VectorExpression longOverflow = VectorExpressionBuilder.build(
+        dsl.greater(dsl.subtract(longField, DSL.literal(1L)), DSL.literal(0L))).get();
+    assertThrows(ArithmeticException.class, () -> longOverflow.evaluate(batch));
+  }
+
+  @Test
+  void unsupported_expression_should_not_be_vectorized() {
+    Expression stringField = DSL.ref("string_value", STRING);
+    assertNotVectorized(dsl.equal(stringField, DSL.literal("a")));
+    assertNotVectorized(dsl.equal(booleanField, DSL.literal(true)));
+    assertNotVectorized(dsl.greater(dsl.abs(intField), DSL.literal(1)));
+    assertNotVectorized(dsl.greater(dsl.abs(longField), DSL.literal(1L)));
+    assertNotVectorized(dsl.greater(dsl.abs(doubleField), DSL.literal(1.0D)));
+    assertNotVectorized(dsl.greater(dsl.add(floatField, floatField), DSL.literal(1.0F)));
+    assertNotVectorized(dsl.equal(dsl.pi(), DSL.literal(3.14D)));
+    assertNotVectorized(DSL.literal(LITERAL_NULL));
+    assertNotVectorized(dsl.avg(intField));
+    assertNotVectorized(new NamedAggregator("avg", dsl.avg(intField)));
+  }
+
+  private void assertSameAsRowByRow(Expression condition) {
+    VectorExpression vector = VectorExpressionBuilder.build(condition).get();
+    ColumnVector result = vector.evaluate(new Batch(rows));
+    for (int i = 0; i < rows.size(); i++) {
+      ExprValue expected = condition.valueOf(rows.get(i).bindingTuples());
+      assertEquals(
+          !expected.isNull() && !expected.isMissing() && expected.booleanValue(),
+          result.isTrue(i),
+          String.format("%s on row %d", condition, i));
+    }
+  }
+
+  private void assertNotVectorized(Expression expression) {
+    assertFalse(VectorExpressionBuilder.build(expression).isPresent());
+  }
+
+  private static ExprValue row(int intValue, long longValue, double doubleValue,
+                               float floatValue, boolean booleanValue) {
+    return ExprTupleValue.fromExprValueMap(ImmutableMap.of(
+        "int_value", new ExprIntegerValue(intValue),
+        "long_value", new ExprLongValue(longValue),
+        "double_value", new ExprDoubleValue(doubleValue),
+        "float_value", new ExprFloatValue(floatValue),
+        "boolean_value", ExprBooleanValue.of(booleanValue),
+        "string_value", new ExprStringValue("a")));
+  }
+}
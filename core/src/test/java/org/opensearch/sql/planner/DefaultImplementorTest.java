@@ -49,6 +49,7 @@ import org.opensearch.sql.expression.aggregation.AvgAggregator;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
 import org.opensearch.sql.expression.window.WindowDefinition;
 import org.opensearch.sql.expression.window.ranking.RowNumberFunction;
+import org.opensearch.sql.planner.logical.LogicalJoin;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.planner.logical.LogicalRelation;
@@ -197,4 +198,18 @@ class DefaultImplementorTest {
 
     assertEquals(physicalPlan, logicalPlan.accept(implementor, null));
   }
+
+  @Test
+  public void visitJoinShouldReturnPhysicalHashJoinOperator() {
+    List<Expression> keys = List.of(ref("id", INTEGER));
+    LogicalPlan logicalPlan = LogicalPlanDSL.join(
+        values(List.of(literal(1))), values(List.of(literal(2))),
+        LogicalJoin.JoinType.LEFT, keys, keys);
+
+    PhysicalPlan physicalPlan = PhysicalPlanDSL.hashJoin(
+        PhysicalPlanDSL.values(List.of(literal(1))), PhysicalPlanDSL.values(List.of(literal(2))),
+        LogicalJoin.JoinType.LEFT, keys, keys);
+
+    assertEquals(physicalPlan, logicalPlan.accept(implementor, null));
+  }
 }
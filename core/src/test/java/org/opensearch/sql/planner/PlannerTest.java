@@ -17,6 +17,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,8 +27,10 @@ import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.planner.logical.LogicalAggregation;
 import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
@@ -109,6 +112,41 @@ public class PlannerTest extends PhysicalPlanTestBase {
     );
   }
 
+  @Test
+  public void plan_join_of_relations() {
+    doAnswer(returnsFirstArg()).when(optimizer).optimize(any());
+    Table table = storageEngine.getTable("schema");
+    List<Expression> keys = ImmutableList.of(DSL.ref("id", INTEGER));
+    assertPhysicalPlan(
+        PhysicalPlanDSL.project(
+            PhysicalPlanDSL.hashJoin(
+                PhysicalPlanDSL.filter(
+                    scan,
+                    dsl.equal(DSL.ref("response", INTEGER), DSL.literal(10))
+                ),
+                scan,
+                JoinType.INNER,
+                keys,
+                keys
+            ),
+            DSL.named("response", DSL.ref("response", INTEGER))
+        ),
+        LogicalPlanDSL.project(
+            LogicalPlanDSL.join(
+                LogicalPlanDSL.filter(
+                    LogicalPlanDSL.relation("schema", table),
+                    dsl.equal(DSL.ref("response", INTEGER), DSL.literal(10))
+                ),
+                LogicalPlanDSL.relation("schema", table),
+                JoinType.INNER,
+                keys,
+                keys
+            ),
+            DSL.named("response", DSL.ref("response", INTEGER))
+        )
+    );
+  }
+
   protected void assertPhysicalPlan(PhysicalPlan expected, LogicalPlan logicalPlan) {
     assertEquals(expected, analyze(logicalPlan));
   }
@@ -143,6 +143,11 @@ class LogicalPlanNodeVisitorTest {
         });
     assertNull(ad.accept(new LogicalPlanNodeVisitor<Integer, Object>() {
     }, null));
+
+    LogicalPlan join = LogicalPlanDSL.join(relation, relation, LogicalJoin.JoinType.INNER,
+        ImmutableList.of(expression), ImmutableList.of(expression));
+    assertNull(join.accept(new LogicalPlanNodeVisitor<Integer, Object>() {
+    }, null));
   }
 
   private static class NodesCount extends LogicalPlanNodeVisitor<Integer, Object> {
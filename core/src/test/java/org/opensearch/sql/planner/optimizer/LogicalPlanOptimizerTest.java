@@ -11,18 +11,32 @@ import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
 import static org.opensearch.sql.data.model.ExprValueUtils.longValue;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.eval;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.remove;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.rename;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.window;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.opensearch.sql.analysis.AnalyzerTestBase;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.expression.window.aggregation.AggregateWindowFunction;
 import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalWindow;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -108,6 +122,187 @@ class LogicalPlanOptimizerTest extends AnalyzerTestBase {
     );
   }
 
+  /**
+   * Limit - Eval --> Eval - Limit.
+   */
+  @Test
+  void push_limit_under_eval() {
+    assertEquals(
+        eval(
+            limit(
+                relation("schema", table),
+                10, 0
+            ),
+            Pair.of(DSL.ref("absV", INTEGER), dsl.abs(DSL.ref("intV", INTEGER)))
+        ),
+        optimize(
+            limit(
+                eval(
+                    relation("schema", table),
+                    Pair.of(DSL.ref("absV", INTEGER), dsl.abs(DSL.ref("intV", INTEGER)))
+                ),
+                10, 0
+            )
+        )
+    );
+  }
+
+  /**
+   * Limit - Project - Remove - Rename --> Project - Remove - Rename - Limit.
+   */
+  @Test
+  void push_limit_under_project_remove_and_rename() {
+    assertEquals(
+        project(
+            remove(
+                rename(
+                    limit(
+                        relation("schema", table),
+                        5, 2
+                    ),
+                    ImmutableMap.of(DSL.ref("intV", INTEGER), DSL.ref("i", INTEGER))
+                ),
+                DSL.ref("longV", LONG)
+            ),
+            DSL.named("i", DSL.ref("i", INTEGER))
+        ),
+        optimize(
+            limit(
+                project(
+                    remove(
+                        rename(
+                            relation("schema", table),
+                            ImmutableMap.of(DSL.ref("intV", INTEGER), DSL.ref("i", INTEGER))
+                        ),
+                        DSL.ref("longV", LONG)
+                    ),
+                    DSL.named("i", DSL.ref("i", INTEGER))
+                ),
+                5, 2
+            )
+        )
+    );
+  }
+
+  /**
+   * Limit - Filter --> Limit - Filter.
+   */
+  @Test
+  void limit_should_not_be_pushed_under_filter() {
+    assertEquals(
+        limit(
+            filter(
+                relation("schema", table),
+                dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))
+            ),
+            10, 0
+        ),
+        optimize(
+            limit(
+                filter(
+                    relation("schema", table),
+                    dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))
+                ),
+                10, 0
+            )
+        )
+    );
+  }
+
+  /**
+   * Window(f2) - Sort - Window(f1) - Sort --> Window(f1, f2) - Sort.
+   */
+  @Test
+  void window_functions_of_same_definition_should_be_merged_with_redundant_sort_removed() {
+    Pair<Sort.SortOption, Expression> sortByString =
+        Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("string_value", STRING));
+    Pair<Sort.SortOption, Expression> sortByInteger =
+        Pair.of(Sort.SortOption.DEFAULT_DESC, DSL.ref("integer_value", INTEGER));
+    WindowDefinition definition = new WindowDefinition(
+        ImmutableList.of(DSL.ref("string_value", STRING)), ImmutableList.of(sortByInteger));
+    NamedExpression rank = DSL.named("rank()", dsl.rank());
+    NamedExpression sum = DSL.named("sum(integer_value)",
+        new AggregateWindowFunction(dsl.sum(DSL.ref("integer_value", INTEGER))));
+
+    assertEquals(
+        new LogicalWindow(
+            sort(relation("schema", table), sortByString, sortByInteger),
+            ImmutableList.of(rank, sum),
+            definition),
+        optimize(
+            window(
+                sort(
+                    window(
+                        sort(relation("schema", table), sortByString, sortByInteger),
+                        rank,
+                        definition),
+                    sortByString, sortByInteger),
+                sum,
+                definition)
+        )
+    );
+  }
+
+  /**
+   * Window(f2) - Window(f1) with different definition --> no change.
+   */
+  @Test
+  void window_functions_of_different_definition_should_not_be_merged() {
+    WindowDefinition definition1 = new WindowDefinition(
+        ImmutableList.of(), ImmutableList.of());
+    WindowDefinition definition2 = new WindowDefinition(
+        ImmutableList.of(DSL.ref("string_value", STRING)), ImmutableList.of());
+    NamedExpression rank = DSL.named("rank()", dsl.rank());
+    NamedExpression rowNumber = DSL.named("row_number()", dsl.rowNumber());
+
+    assertEquals(
+        window(window(relation("schema", table), rank, definition1), rowNumber, definition2),
+        optimize(
+            window(window(relation("schema", table), rank, definition1), rowNumber, definition2))
+    );
+  }
+
+  /**
+   * Sort(a) - Sort(a, b) --> Sort(a, b).
+   */
+  @Test
+  void sort_by_prefix_of_input_sort_list_should_be_removed() {
+    Pair<Sort.SortOption, Expression> sortByA =
+        Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("a", INTEGER));
+    Pair<Sort.SortOption, Expression> sortByB =
+        Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("b", INTEGER));
+
+    assertEquals(
+        sort(relation("schema", table), sortByA, sortByB),
+        optimize(sort(sort(relation("schema", table), sortByA, sortByB), sortByA))
+    );
+  }
+
+  /**
+   * Sort(a, b) - Window - Sort(a) --> no change.
+   * Sort(b) - Window - Sort(a) --> no change.
+   */
+  @Test
+  void sort_not_by_prefix_of_input_sort_list_should_not_be_removed() {
+    Pair<Sort.SortOption, Expression> sortByA =
+        Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("a", INTEGER));
+    Pair<Sort.SortOption, Expression> sortByB =
+        Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("b", INTEGER));
+    WindowDefinition definition = new WindowDefinition(
+        ImmutableList.of(), ImmutableList.of(sortByA));
+    NamedExpression rank = DSL.named("rank()", dsl.rank());
+
+    LogicalPlan plan = sort(
+        window(sort(relation("schema", table), sortByA), rank, definition), sortByA, sortByB);
+    assertEquals(plan, optimize(plan));
+
+    plan = sort(window(sort(relation("schema", table), sortByA), rank, definition), sortByB);
+    assertEquals(plan, optimize(plan));
+
+    plan = sort(window(relation("schema", table), rank, definition), sortByA);
+    assertEquals(plan, optimize(plan));
+  }
+
   private LogicalPlan optimize(LogicalPlan plan) {
     final LogicalPlanOptimizer optimizer = LogicalPlanOptimizer.create(dsl);
     final LogicalPlan optimize = optimizer.optimize(plan);
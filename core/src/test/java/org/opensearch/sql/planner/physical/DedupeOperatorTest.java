@@ -246,6 +246,20 @@ class DedupeOperatorTest extends PhysicalPlanTestBase {
     assertEquals(3, deduper.seenTimes(1));
   }
 
+  @Test
+  public void historical_seen_set_deduper() {
+    Deduper<Integer> deduper = Deduper.historicalSeenSetDeduper();
+
+    // first time seen 1
+    assertEquals(1, deduper.seenTimes(1));
+    // seen 1 before
+    assertEquals(2, deduper.seenTimes(1));
+    // first time seen 2
+    assertEquals(1, deduper.seenTimes(2));
+    // seen 1 before
+    assertEquals(2, deduper.seenTimes(1));
+  }
+
   @Test
   public void consecutive_deduper() {
     Deduper<Integer> deduper = Deduper.consecutiveDeduper();
@@ -8,6 +8,7 @@ package org.opensearch.sql.planner.physical;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.iterableWithSize;
 import static org.mockito.Mockito.when;
@@ -16,6 +17,7 @@ import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.eval;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.List;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -53,6 +55,26 @@ class EvalOperatorTest extends PhysicalPlanTestBase {
                     ImmutableMap.of("distance", 100, "time", 10, "velocity", 10)))));
   }
 
+  @Test
+  public void create_new_field_in_batch() {
+    PhysicalPlan plan =
+        eval(
+            testScan(ImmutableList.of(
+                ExprValueUtils.tupleValue(ImmutableMap.of("distance", 100, "time", 10)),
+                ExprValueUtils.tupleValue(ImmutableMap.of("distance", 60, "time", 20)))),
+            ImmutablePair.of(
+                DSL.ref("velocity", INTEGER),
+                dsl.divide(DSL.ref("distance", INTEGER), DSL.ref("time", INTEGER))));
+    plan.open();
+    assertThat(
+        plan.nextBatch(10).getRows(),
+        contains(
+            ExprValueUtils.tupleValue(
+                ImmutableMap.of("distance", 100, "time", 10, "velocity", 10)),
+            ExprValueUtils.tupleValue(
+                ImmutableMap.of("distance", 60, "time", 20, "velocity", 3))));
+  }
+
   @Test
   public void create_multiple_field_using_field_defined_in_input_tuple() {
     when(inputPlan.hasNext()).thenReturn(true, false);
@@ -9,11 +9,14 @@ package org.opensearch.sql.planner.physical;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_MISSING;
 import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -43,6 +46,24 @@ class FilterOperatorTest extends PhysicalPlanTestBase {
                 "www.amazon.com"))));
   }
 
+  @Test
+  public void filterInBatchWithVectorizedConditions() {
+    FilterOperator plan = new FilterOperator(new TestScan(),
+        dsl.equal(DSL.ref("response", INTEGER), DSL.literal(404)));
+    plan.open();
+    assertEquals(ImmutableList.of(inputs.get(1)), plan.nextBatch(2).getRows());
+    assertTrue(plan.nextBatch(2).isEmpty());
+  }
+
+  @Test
+  public void filterInBatchWithConditionsEvaluatedRowByRow() {
+    FilterOperator plan = new FilterOperator(new TestScan(),
+        dsl.equal(DSL.ref("action", STRING), DSL.literal("POST")));
+    plan.open();
+    assertEquals(ImmutableList.of(inputs.get(3), inputs.get(4)), plan.nextBatch(10).getRows());
+    assertTrue(plan.nextBatch(10).isEmpty());
+  }
+
   @Test
   public void nullValueShouldBeenIgnored() {
     LinkedHashMap<String, ExprValue> value = new LinkedHashMap<>();
@@ -0,0 +1,243 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.planner.physical;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.model.ExprValueUtils.tupleValue;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.hashJoin;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.exception.SemanticCheckException;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
+import org.opensearch.sql.storage.TableScanOperator;
+
+class HashJoinOperatorTest extends PhysicalPlanTestBase {
+
+  private final List<ExprValue> employees = Arrays.asList(
+      row("name", "alice", "dept", 1),
+      row("name", "bob", "dept", 2),
+      row("name", "carol", "dept", 2),
+      row("name", "dave", "dept", null),
+      row("name", "erin"));
+
+  private final List<ExprValue> departments = Arrays.asList(
+      row("dept", 1, "title", "engineering"),
+      row("dept", 2, "title", "sales"),
+      row("dept", 3, "title", "marketing"),
+      row("dept", null, "title", "unknown"));
+
+  private final List<Expression> deptKey = List.of(ref("dept", INTEGER));
+
+  @Test
+  public void inner_join_with_right_input_built() {
+    TestTableScan left = new TestTableScan(employees);
+    PhysicalPlan plan = hashJoin(new FilterOperator(left, literal(true)),
+        testScan(departments), JoinType.INNER, deptKey, deptKey);
+    assertThat(execute(plan), contains(
+        row("name", "alice", "dept", 1, "title", "engineering"),
+        row("name", "bob", "dept", 2, "title", "sales"),
+        row("name", "carol", "dept", 2, "title", "sales")));
+
+    assertEquals(ref("dept", INTEGER), left.pushedField);
+    assertThat(left.pushedValues, containsInAnyOrder(
+        integerValue(1), integerValue(2), integerValue(3)));
+  }
+
+  @Test
+  public void inner_join_with_smaller_left_input_built() {
+    PhysicalPlan plan = new HashJoinOperator(testScan(departments.subList(0, 2)),
+        testScan(employees), JoinType.INNER, deptKey, deptKey, 2);
+    assertThat(execute(plan), contains(
+        row("dept", 1, "title", "engineering", "name", "alice"),
+        row("dept", 2, "title", "sales", "name", "bob"),
+        row("dept", 2, "title", "sales", "name", "carol")));
+  }
+
+  @Test
+  public void inner_join_with_smaller_right_input_built() {
+    PhysicalPlan plan = new HashJoinOperator(testScan(employees), testScan(departments),
+        JoinType.INNER, deptKey, deptKey, 2);
+    assertThat(execute(plan), contains(
+        row("name", "alice", "dept", 1, "title", "engineering"),
+        row("name", "bob", "dept", 2, "title", "sales"),
+        row("name", "carol", "dept", 2, "title", "sales")));
+  }
+
+  @Test
+  public void left_join_returns_left_rows_without_match() {
+    PhysicalPlan plan = new HashJoinOperator(testScan(employees), testScan(departments),
+        JoinType.LEFT, deptKey, deptKey, 1);
+    assertThat(execute(plan), contains(
+        row("name", "alice", "dept", 1, "title", "engineering"),
+        row("name", "bob", "dept", 2, "title", "sales"),
+        row("name", "carol", "dept", 2, "title", "sales"),
+        row("name", "dave", "dept", null, "title", null),
+        row("name", "erin", "dept", null, "title", null)));
+  }
+
+  @Test
+  public void left_join_with_smaller_left_input_built() {
+    PhysicalPlan plan = new HashJoinOperator(
+        testScan(Arrays.asList(employees.get(0), employees.get(3))), testScan(departments),
+        JoinType.LEFT, deptKey, deptKey, 1);
+    assertThat(execute(plan), contains(
+        row("name", "alice", "dept", 1, "title", "engineering"),
+        row("name", "dave", "dept", null, "title", null)));
+  }
+
+  @Test
+  public void join_fails_if_non_key_field_exists_in_both_inputs() {
+    PhysicalPlan plan = hashJoin(testScan(employees),
+        testScan(List.of(row("dept", 1, "name", "engineering"))),
+        JoinType.INNER, deptKey, deptKey);
+    SemanticCheckException exception =
+        assertThrows(SemanticCheckException.class, () -> execute(plan));
+    assertEquals(
+        "Field [name] exists in both inputs of join, rename either of them to keep both",
+        exception.getMessage());
+  }
+
+  @Test
+  public void join_on_multiple_keys() {
+    List<Expression> keys = List.of(ref("dept", INTEGER), ref("name", STRING));
+    TestTableScan left = new TestTableScan(employees);
+    PhysicalPlan plan = hashJoin(left, testScan(Arrays.asList(
+            row("dept", 2, "name", "bob", "role", "manager"),
+            row("dept", 1, "name", "bob", "role", "intern"),
+            row("dept", null, "name", "dave", "role", "unknown"))),
+        JoinType.INNER, keys, keys);
+    assertThat(execute(plan), contains(
+        row("name", "bob", "dept", 2, "role", "manager")));
+    assertNull(left.pushedField);
+  }
+
+  @Test
+  public void keys_not_pushed_down_if_not_field_or_too_many() {
+    TestTableScan left = new TestTableScan(employees);
+    assertThat(execute(hashJoin(left, testScan(Arrays.asList(
+            row("id", 1, "title", "engineering"),
+            row("id", 2, "title", "sales"))), JoinType.INNER,
+        List.of(literal(1)), List.of(ref("id", INTEGER)))), contains(
+            row("name", "alice", "dept", 1, "id", 1, "title", "engineering"),
+            row("name", "bob", "dept", 2, "id", 1, "title", "engineering"),
+            row("name", "carol", "dept", 2, "id", 1, "title", "engineering"),
+            row("name", "dave", "dept", null, "id", 1, "title", "engineering"),
+            row("name", "erin", "id", 1, "title", "engineering")));
+    assertNull(left.pushedField);
+
+    List<ExprValue> manyDepartments = IntStream.rangeClosed(1, 2000)
+        .mapToObj(dept -> row("dept", dept))
+        .collect(Collectors.toList());
+    left = new TestTableScan(employees);
+    assertEquals(3, execute(hashJoin(left, testScan(manyDepartments), JoinType.INNER,
+        deptKey, deptKey)).size());
+    assertNull(left.pushedField);
+
+    left = new TestTableScan(employees);
+    assertEquals(5, execute(hashJoin(left, testScan(manyDepartments), JoinType.LEFT,
+        deptKey, deptKey)).size());
+    assertNull(left.pushedField);
+  }
+
+  @Test
+  public void keys_not_pushed_down_through_other_operators() {
+    TestTableScan left = new TestTableScan(employees);
+    PhysicalPlan plan = hashJoin(new LimitOperator(left, 10, 0), testScan(departments),
+        JoinType.INNER, deptKey, deptKey);
+    assertEquals(3, execute(plan).size());
+    assertNull(left.pushedField);
+  }
+
+  @Test
+  public void join_with_empty_input() {
+    assertTrue(execute(hashJoin(testScan(employees), testScan(Collections.emptyList()),
+        JoinType.INNER, deptKey, deptKey)).isEmpty());
+    assertTrue(execute(new HashJoinOperator(testScan(Collections.emptyList()),
+        testScan(departments), JoinType.INNER, deptKey, deptKey, 1)).isEmpty());
+  }
+
+  @Test
+  public void plan_properties() {
+    HashJoinOperator plan = hashJoin(testScan(employees), testScan(departments),
+        JoinType.INNER, deptKey, deptKey);
+    assertEquals(HashJoinOperator.DEFAULT_BUILD_THRESHOLD, plan.getBuildThreshold());
+    assertEquals(Arrays.asList(plan.getLeft(), plan.getRight()), plan.getChild());
+    assertEquals(plan, hashJoin(plan.getLeft(), plan.getRight(), JoinType.INNER,
+        deptKey, deptKey));
+    assertFalse(plan.equals(hashJoin(plan.getLeft(), plan.getRight(), JoinType.LEFT,
+        deptKey, deptKey)));
+    assertTrue(plan.toString().contains("joinType=INNER"));
+  }
+
+  private static ExprValue row(Object... fieldAndValues) {
+    Map<String, Object> fields = new LinkedHashMap<>();
+    for (int i = 0; i < fieldAndValues.length; i += 2) {
+      fields.put((String) fieldAndValues[i], fieldAndValues[i + 1]);
+    }
+    return tupleValue(fields);
+  }
+
+  /**
+   * Table scan which records the values pushed down.
+   */
+  private static class TestTableScan extends TableScanOperator {
+    private final TestScan scan;
+
+    private ReferenceExpression pushedField;
+
+    private Collection<ExprValue> pushedValues;
+
+    TestTableScan(List<ExprValue> rows) {
+      this.scan = new TestScan(rows);
+    }
+
+    @Override
+    public void pushDownValues(ReferenceExpression field, Collection<ExprValue> values) {
+      super.pushDownValues(field, values);
+      this.pushedField = field;
+      this.pushedValues = values;
+    }
+
+    @Override
+    public String explain() {
+      return "test";
+    }
+
+    @Override
+    public boolean hasNext() {
+      return scan.hasNext();
+    }
+
+    @Override
+    public ExprValue next() {
+      return scan.next();
+    }
+  }
+}
@@ -26,6 +26,7 @@ import org.opensearch.sql.ast.tree.Sort.SortOption;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.window.WindowDefinition;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
 
 /**
  * Todo, testing purpose, delete later.
@@ -132,6 +133,11 @@ class PhysicalPlanNodeVisitorTest extends PhysicalPlanTestBase {
     PhysicalPlan limit = PhysicalPlanDSL.limit(plan, 1, 1);
     assertNull(limit.accept(new PhysicalPlanNodeVisitor<Integer, Object>() {
     }, null));
+
+    PhysicalPlan hashJoin = PhysicalPlanDSL.hashJoin(plan, plan, JoinType.INNER,
+        ImmutableList.of(ref), ImmutableList.of(ref));
+    assertNull(hashJoin.accept(new PhysicalPlanNodeVisitor<Integer, Object>() {
+    }, null));
   }
 
   @Test
@@ -52,6 +52,21 @@ class ProjectOperatorTest extends PhysicalPlanTestBase {
             hasItems(ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET")))));
   }
 
+  @Test
+  public void project_one_field_in_batch() {
+    PhysicalPlan plan = project(testScan(ImmutableList.of(
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET", "response", 200)),
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST", "response", 404)))),
+        DSL.named("action", DSL.ref("action", STRING)));
+    plan.open();
+
+    assertThat(
+        plan.nextBatch(10).getRows(),
+        contains(
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "GET")),
+            ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST"))));
+  }
+
   @Test
   public void project_two_field_follow_the_project_order() {
     when(inputPlan.hasNext()).thenReturn(true, false);
@@ -80,6 +80,30 @@ public class RareTopNOperatorTest extends PhysicalPlanTestBase {
     ));
   }
 
+  @Test
+  public void rare_n_without_group() {
+    PhysicalPlan plan = new RareTopNOperator(new TestScan(),
+        CommandType.RARE,
+        1,
+        Collections.singletonList(DSL.ref("action", ExprCoreType.STRING)),
+        Collections.emptyList());
+    List<ExprValue> result = execute(plan);
+    assertEquals(1, result.size());
+    assertThat(result, containsInAnyOrder(
+        ExprValueUtils.tupleValue(ImmutableMap.of("action", "POST"))
+    ));
+  }
+
+  @Test
+  public void top_zero_should_return_empty_result() {
+    PhysicalPlan plan = new RareTopNOperator(new TestScan(),
+        CommandType.TOP,
+        0,
+        Collections.singletonList(DSL.ref("action", ExprCoreType.STRING)),
+        Collections.emptyList());
+    assertEquals(0, execute(plan).size());
+  }
+
   @Test
   public void top_n_with_group() {
     PhysicalPlan plan = new RareTopNOperator(new TestScan(),
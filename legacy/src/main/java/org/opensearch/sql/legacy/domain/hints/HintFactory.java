@@ -178,6 +178,7 @@ public class HintFactory {
     private static Hint parseHintForQueryPlanner(String hintStr) {
         if (hintStr.contains("(")
                 && (hintStr.startsWith("! JOIN_ALGORITHM_BLOCK_SIZE")
+                        || hintStr.startsWith("! JOIN_ALGORITHM_MEMORY_LIMIT")
                         || hintStr.startsWith("! JOIN_SCROLL_PAGE_SIZE")
                         || hintStr.startsWith("! JOIN_CIRCUIT_BREAK_LIMIT")
                         || hintStr.startsWith("! JOIN_BACK_OFF_RETRY_INTERVALS")
@@ -26,6 +26,7 @@ public enum HintType {
     POST_FILTER,
     JOIN_ALGORITHM_BLOCK_SIZE,
     JOIN_ALGORITHM_USE_LEGACY,
+    JOIN_ALGORITHM_MEMORY_LIMIT,
     JOIN_SCROLL_PAGE_SIZE,
     JOIN_CIRCUIT_BREAK_LIMIT,
     JOIN_BACK_OFF_RETRY_INTERVALS,
@@ -72,6 +72,11 @@ public abstract class OpenSearchJoinQueryAction extends QueryAction {
                         queryPlannerConfig(requestBuilder).configureBlockSize(hint.getParams());
                     }
                     break;
+                case JOIN_ALGORITHM_MEMORY_LIMIT:
+                    if (requestBuilder instanceof HashJoinQueryPlanRequestBuilder) {
+                        queryPlannerConfig(requestBuilder).configureMemoryLimit(hint.getParams());
+                    }
+                    break;
                 case JOIN_SCROLL_PAGE_SIZE:
                     if (requestBuilder instanceof HashJoinQueryPlanRequestBuilder) {
                         queryPlannerConfig(requestBuilder).configureScrollPageSize(hint.getParams());
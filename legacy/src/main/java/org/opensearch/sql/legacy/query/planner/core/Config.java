@@ -16,16 +16,28 @@ import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize.Fixe
 public class Config {
 
     public static final int DEFAULT_BLOCK_SIZE = 10000;
+    public static final int DEFAULT_MAX_BLOCK_SIZE = 1000000;
     public static final int DEFAULT_SCROLL_PAGE_SIZE = 10000;
     public static final int DEFAULT_CIRCUIT_BREAK_LIMIT = 85;
     public static final double[] DEFAULT_BACK_OFF_RETRY_INTERVALS = {4, 8 + 4, 16 + 4};
     public static final int DEFAULT_TIME_OUT = 60;
+    public static final int DEFAULT_MEMORY_LIMIT_MB = 64;
 
     /**
      * Block size for join algorithm
      */
     private BlockSize blockSize = new FixedBlockSize(DEFAULT_BLOCK_SIZE);
 
+    /**
+     * Block size is configured by hint and thus not chosen by cost estimation
+     */
+    private boolean isBlockSizeConfigured = false;
+
+    /**
+     * Memory limit (bytes) of rows loaded in each block for join algorithm
+     */
+    private long memoryLimit = DEFAULT_MEMORY_LIMIT_MB * 1024L * 1024L;
+
     /**
      * Page size for scroll on each index
      */
@@ -70,10 +82,28 @@ public class Config {
     public void configureBlockSize(Object[] params) {
         if (params.length > 0) {
             Integer size = (Integer) params[0];
+            isBlockSizeConfigured = true;
             if (size > 0) {
                 blockSize = new FixedBlockSize(size);
             } else {
-                blockSize = new AdaptiveBlockSize(0);
+                blockSize = new AdaptiveBlockSize(DEFAULT_BLOCK_SIZE, DEFAULT_MAX_BLOCK_SIZE);
+            }
+        }
+    }
+
+    public boolean isBlockSizeConfigured() {
+        return isBlockSizeConfigured;
+    }
+
+    public long memoryLimit() {
+        return memoryLimit;
+    }
+
+    public void configureMemoryLimit(Object[] params) {
+        if (params.length > 0) {
+            Integer limitInMb = (Integer) params[0];
+            if (limitInMb > 0) {
+                memoryLimit = limitInMb * 1024L * 1024L;
             }
         }
     }
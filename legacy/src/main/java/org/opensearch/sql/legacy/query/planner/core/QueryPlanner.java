@@ -63,7 +63,7 @@ public class QueryPlanner {
         this.stats = new Stats(client);
         this.resourceMgr = new ResourceManager(stats, config);
 
-        logicalPlan = new LogicalPlan(config, params);
+        logicalPlan = new LogicalPlan(config, params, stats);
         logicalPlan.optimize();
 
         physicalPlan = new PhysicalPlan(logicalPlan);
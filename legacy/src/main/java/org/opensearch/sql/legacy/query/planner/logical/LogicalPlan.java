@@ -31,6 +31,8 @@ import org.opensearch.sql.legacy.query.planner.logical.node.TableScan;
 import org.opensearch.sql.legacy.query.planner.logical.node.Top;
 import org.opensearch.sql.legacy.query.planner.logical.rule.ProjectionPushDown;
 import org.opensearch.sql.legacy.query.planner.logical.rule.SelectionPushDown;
+import org.opensearch.sql.legacy.query.planner.resource.Stats;
+import org.opensearch.sql.legacy.query.planner.resource.Stats.IndexStats;
 
 /**
  * Logical query plan.
@@ -47,6 +49,11 @@ public class LogicalPlan implements Plan {
      */
     private final QueryParams params;
 
+    /**
+     * Statistics collector for cost estimation
+     */
+    private final Stats stats;
+
     /**
      * Root node of logical query plan tree
      */
@@ -60,9 +67,10 @@ public class LogicalPlan implements Plan {
             new ProjectionPushDown()
     );
 
-    public LogicalPlan(Config config, QueryParams params) {
+    public LogicalPlan(Config config, QueryParams params, Stats stats) {
         this.config = config;
         this.params = params;
+        this.stats = stats;
         this.root = buildPlanTree();
     }
 
@@ -88,11 +96,13 @@ public class LogicalPlan implements Plan {
                                 filter(
                                         join(
                                                 top(
-                                                        group(params.firstRequest(), config.scrollPageSize()[0]),
+                                                        group(params.firstRequest(), config.scrollPageSize()[0],
+                                                                Map.Entry::getKey),
                                                         config.tableLimit1()
                                                 ),
                                                 top(
-                                                        group(params.secondRequest(), config.scrollPageSize()[1]),
+                                                        group(params.secondRequest(), config.scrollPageSize()[1],
+                                                                Map.Entry::getValue),
                                                         config.tableLimit2()
                                                 )
                                         )
@@ -158,6 +168,8 @@ public class LogicalPlan implements Plan {
                 params.joinType(),
                 groupJoinConditionByOr(),
                 config.blockSize(),
+                config.isBlockSizeConfigured(),
+                config.memoryLimit(),
                 config.isUseTermsFilterOptimization()
         );
     }
@@ -192,8 +204,32 @@ public class LogicalPlan implements Plan {
         return orCond;
     }
 
-    private LogicalOperator group(TableInJoinRequestBuilder request, int pageSize) {
-        return new Group(new TableScan(request, pageSize));
+    private LogicalOperator group(TableInJoinRequestBuilder request, int pageSize,
+                                  Function<Map.Entry<Field, Field>, Field> joinField) {
+        IndexStats indexStats = isIndexStatsRequired()
+                ? stats.collectIndexStats(request, joinColumnNames(joinField))
+                : IndexStats.UNKNOWN;
+        return new Group(new TableScan(request, pageSize, indexStats));
+    }
+
+    /**
+     * Index statistics are collected by extra requests only if join strategy is left to cost estimation,
+     * namely there are columns in ON condition and block size and terms filter are not both given by hint.
+     */
+    private boolean isIndexStatsRequired() {
+        return !params.joinConditions().isEmpty()
+                && !(config.isBlockSizeConfigured() && config.isUseTermsFilterOptimization());
+    }
+
+    /**
+     * Names of columns in ON condition of the table on either side
+     */
+    private String[] joinColumnNames(Function<Map.Entry<Field, Field>, Field> joinField) {
+        return params.joinConditions().stream().
+                flatMap(List::stream).
+                map(joinField.andThen(Field::getName)).
+                distinct().
+                toArray(String[]::new);
     }
 
     private List<TableInJoinRequestBuilder> getRequests() {
@@ -8,18 +8,34 @@ package org.opensearch.sql.legacy.query.planner.logical.node;
 
 import static com.alibaba.druid.sql.ast.statement.SQLJoinTableSource.JoinType;
 
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import org.opensearch.sql.legacy.query.planner.core.Config;
 import org.opensearch.sql.legacy.query.planner.core.PlanNode;
 import org.opensearch.sql.legacy.query.planner.logical.LogicalOperator;
 import org.opensearch.sql.legacy.query.planner.physical.PhysicalOperator;
+import org.opensearch.sql.legacy.query.planner.physical.estimation.Cost;
 import org.opensearch.sql.legacy.query.planner.physical.node.join.BlockHashJoin;
+import org.opensearch.sql.legacy.query.planner.physical.node.join.GraceHashJoin;
+import org.opensearch.sql.legacy.query.planner.physical.node.join.RowCodec;
+import org.opensearch.sql.legacy.query.planner.physical.node.scroll.SearchHitRowCodec;
 import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize.FixedBlockSize;
 
 /**
  * Join expression
  */
 public class Join implements LogicalOperator {
 
+    /**
+     * Join types that can build hash table from either side
+     */
+    private static final Set<JoinType> SWAPPABLE_JOIN_TYPES =
+            EnumSet.of(JoinType.JOIN, JoinType.INNER_JOIN, JoinType.CROSS_JOIN, JoinType.COMMA);
+
     private final LogicalOperator left;
     private final LogicalOperator right;
 
@@ -38,6 +54,16 @@ public class Join implements LogicalOperator {
      */
     private final BlockSize blockSize;
 
+    /**
+     * Block size is configured by hint rather than chosen by estimation
+     */
+    private final boolean isBlockSizeConfigured;
+
+    /**
+     * Memory limit in bytes of rows loaded in each block
+     */
+    private final long memoryLimit;
+
     /**
      * Use terms filter optimization or not
      */
@@ -49,12 +75,16 @@ public class Join implements LogicalOperator {
                 JoinType joinType,
                 JoinCondition condition,
                 BlockSize blockSize,
+                boolean isBlockSizeConfigured,
+                long memoryLimit,
                 boolean isUseTermsFilterOptimization) {
         this.left = left;
         this.right = right;
         this.type = joinType;
         this.condition = condition;
         this.blockSize = blockSize;
+        this.isBlockSizeConfigured = isBlockSizeConfigured;
+        this.memoryLimit = memoryLimit;
         this.isUseTermsFilterOptimization = isUseTermsFilterOptimization;
     }
 
@@ -63,16 +93,61 @@ public class Join implements LogicalOperator {
         return new PlanNode[]{left, right};
     }
 
+    /**
+     * Candidates are hash join and block join with terms filter, which is in fact an index nested loop join
+     * looking up right side by join keys for each block from left. For inner join, the same are generated
+     * with left and right swapped too so that hash table can be built from either side.
+     */
     @Override
     public <T> PhysicalOperator[] toPhysical(Map<LogicalOperator, PhysicalOperator<T>> optimalOps) {
         PhysicalOperator<T> optimalLeft = optimalOps.get(left);
         PhysicalOperator<T> optimalRight = optimalOps.get(right);
-        return new PhysicalOperator[]{
-                new BlockHashJoin<>(
-                        optimalLeft, optimalRight, type, condition,
-                        blockSize, isUseTermsFilterOptimization
-                )
-        };
+
+        List<PhysicalOperator<T>> candidates = new ArrayList<>();
+        addCandidates(candidates, optimalLeft, optimalRight, condition);
+        if (SWAPPABLE_JOIN_TYPES.contains(type)) {
+            addCandidates(candidates, optimalRight, optimalLeft, condition.swap());
+        }
+        return candidates.toArray(new PhysicalOperator[0]);
+    }
+
+    private <T> void addCandidates(List<PhysicalOperator<T>> candidates,
+                                   PhysicalOperator<T> buildSide,
+                                   PhysicalOperator<T> probeSide,
+                                   JoinCondition cond) {
+        candidates.add(hashJoin(buildSide, probeSide, cond));
+        if (!isUseTermsFilterOptimization && cond.groupSize() > 0) {
+            candidates.add(new BlockHashJoin<>(buildSide, probeSide, type, cond, blockSize, true));
+        }
+    }
+
+    /**
+     * Rows can be hash partitioned to disk by join key only if there is no OR in join condition.
+     * Otherwise rows matched by different OR conditions may fall into different partitions.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> PhysicalOperator<T> hashJoin(PhysicalOperator<T> buildSide,
+                                             PhysicalOperator<T> probeSide,
+                                             JoinCondition cond) {
+        if (cond.groupSize() == 1) {
+            return new GraceHashJoin<>(
+                    buildSide, probeSide, type, cond, blockSizeOf(buildSide), memoryLimit,
+                    isUseTermsFilterOptimization, (RowCodec<T>) new SearchHitRowCodec()
+            );
+        }
+        return new BlockHashJoin<>(buildSide, probeSide, type, cond, blockSize, isUseTermsFilterOptimization);
+    }
+
+    /**
+     * Enlarge block size to load the build side estimated in one block. Grace hash join still partitions it
+     * to disk if it turns out to exceed memory limit.
+     */
+    private BlockSize blockSizeOf(PhysicalOperator<?> buildSide) {
+        Cost cost = buildSide.estimate();
+        if (isBlockSizeConfigured || cost.isUnknown() || cost.rows() <= blockSize.size()) {
+            return blockSize;
+        }
+        return new FixedBlockSize((int) Math.min(cost.rows(), Config.DEFAULT_MAX_BLOCK_SIZE));
     }
 
     public JoinCondition conditions() {
@@ -106,13 +181,40 @@ public class Join implements LogicalOperator {
         private final String[][] leftColumnNames;
         private final String[][] rightColumnNames;
 
+        /**
+         * Left and right are swapped from the order of tables in query
+         */
+        private final boolean isSwapped;
+
         public JoinCondition(String leftTableAlias,
                              String rightTableAlias,
                              int groupSize) {
+            this(leftTableAlias, rightTableAlias, new String[groupSize][], new String[groupSize][], false);
+        }
+
+        private JoinCondition(String leftTableAlias,
+                              String rightTableAlias,
+                              String[][] leftColumnNames,
+                              String[][] rightColumnNames,
+                              boolean isSwapped) {
             this.leftTableAlias = leftTableAlias;
             this.rightTableAlias = rightTableAlias;
-            this.leftColumnNames = new String[groupSize][];
-            this.rightColumnNames = new String[groupSize][];
+            this.leftColumnNames = leftColumnNames;
+            this.rightColumnNames = rightColumnNames;
+            this.isSwapped = isSwapped;
+        }
+
+        /**
+         * Swap left and right so that hash table can be built from right table.
+         *
+         * @return join condition swapped
+         */
+        public JoinCondition swap() {
+            return new JoinCondition(rightTableAlias, leftTableAlias, rightColumnNames, leftColumnNames, !isSwapped);
+        }
+
+        public boolean isSwapped() {
+            return isSwapped;
         }
 
         public void addLeftColumnNames(int groupNum, String[] colNames) {
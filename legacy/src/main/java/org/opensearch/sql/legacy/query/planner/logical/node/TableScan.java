@@ -12,6 +12,7 @@ import org.opensearch.sql.legacy.query.planner.core.PlanNode;
 import org.opensearch.sql.legacy.query.planner.logical.LogicalOperator;
 import org.opensearch.sql.legacy.query.planner.physical.PhysicalOperator;
 import org.opensearch.sql.legacy.query.planner.physical.node.scroll.Scroll;
+import org.opensearch.sql.legacy.query.planner.resource.Stats.IndexStats;
 
 /**
  * Table scan
@@ -28,9 +29,15 @@ public class TableScan implements LogicalOperator {
      */
     private final int pageSize;
 
-    public TableScan(TableInJoinRequestBuilder request, int pageSize) {
+    /**
+     * Statistics of the table for cost estimation
+     */
+    private final IndexStats indexStats;
+
+    public TableScan(TableInJoinRequestBuilder request, int pageSize, IndexStats indexStats) {
         this.request = request;
         this.pageSize = pageSize;
+        this.indexStats = indexStats;
     }
 
     @Override
@@ -41,7 +48,7 @@ public class TableScan implements LogicalOperator {
     @Override
     public <T> PhysicalOperator[] toPhysical(Map<LogicalOperator, PhysicalOperator<T>> optimalOps) {
         return new PhysicalOperator[]{
-                new Scroll(request, pageSize)
+                new Scroll(request, pageSize, indexStats)
         };
     }
 
@@ -59,9 +59,14 @@ public class Top<T> implements LogicalOperator, PhysicalOperator<T> {
         return new PhysicalOperator[]{new Top<>(optimalOps.get(next), count)};
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public Cost estimate() {
-        return new Cost();
+        Cost cost = ((PhysicalOperator<T>) next).estimate();
+        if (cost.isUnknown() || cost.rows() <= count) {
+            return cost;
+        }
+        return new Cost(count, cost.time() * count / cost.rows(), cost.cardinality());
     }
 
     @Override
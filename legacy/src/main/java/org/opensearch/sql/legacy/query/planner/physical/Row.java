@@ -51,6 +51,14 @@ public interface Row<T> {
     T data();
 
 
+    /**
+     * Estimate the size of the row to limit memory used by rows buffered, ex. hash table in join.
+     *
+     * @return approximate size of row in bytes
+     */
+    long sizeInBytes();
+
+
     /**
      * Key that help Row be sorted or hashed.
      */
@@ -6,19 +6,86 @@
 
 package org.opensearch.sql.legacy.query.planner.physical.estimation;
 
+import static java.util.Collections.emptyMap;
+
+import java.util.Map;
+
+/**
+ * Estimated cost of physical operator. Time is measured in the unit of fetching one row from OpenSearch.
+ * Cost without statistics is unknown which is regarded as equal to other unknown cost and larger than
+ * any known cost.
+ */
 public class Cost implements Comparable<Cost> {
 
     public static final Cost INFINITY = new Cost();
 
-    private long inputSize;
+    /**
+     * Estimated number of rows returned
+     */
+    private final long rows;
 
-    private long time;
+    /**
+     * Estimated time to return all rows
+     */
+    private final double time;
 
+    /**
+     * Approximate number of distinct values by column full name (tableAlias.colName)
+     */
+    private final Map<String, Long> cardinality;
+
+    /**
+     * Unknown cost
+     */
     public Cost() {
+        this(-1, Double.POSITIVE_INFINITY, emptyMap());
+    }
+
+    public Cost(long rows, double time, Map<String, Long> cardinality) {
+        this.rows = rows;
+        this.time = time;
+        this.cardinality = cardinality;
+    }
+
+    public boolean isUnknown() {
+        return rows < 0;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public double time() {
+        return time;
+    }
+
+    /**
+     * Number of distinct values of the column which is assumed unique if unknown.
+     *
+     * @param colFullName column full name
+     * @return cardinality no more than number of rows
+     */
+    public long cardinality(String colFullName) {
+        return Math.max(Math.min(cardinality.getOrDefault(colFullName, rows), rows), 1);
+    }
+
+    public Map<String, Long> cardinality() {
+        return cardinality;
     }
 
     @Override
     public int compareTo(Cost o) {
-        return 0;
+        if (isUnknown() || o.isUnknown()) {
+            return Boolean.compare(isUnknown(), o.isUnknown());
+        }
+        return Double.compare(time, o.time);
+    }
+
+    @Override
+    public String toString() {
+        if (isUnknown()) {
+            return "Cost[ unknown ]";
+        }
+        return "Cost[ rows=" + rows + ", time=" + Math.round(time) + " ]";
     }
 }
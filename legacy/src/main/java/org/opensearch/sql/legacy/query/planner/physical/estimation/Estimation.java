@@ -6,11 +6,10 @@
 
 package org.opensearch.sql.legacy.query.planner.physical.estimation;
 
-import static java.util.Comparator.comparing;
-
-import java.util.Arrays;
 import java.util.IdentityHashMap;
 import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.opensearch.sql.legacy.query.planner.core.PlanNode;
 import org.opensearch.sql.legacy.query.planner.logical.LogicalOperator;
 import org.opensearch.sql.legacy.query.planner.logical.LogicalPlanVisitor;
@@ -23,6 +22,8 @@ import org.opensearch.sql.legacy.query.planner.physical.PhysicalOperator;
  */
 public class Estimation<T> implements LogicalPlanVisitor {
 
+    private static final Logger LOG = LogManager.getLogger();
+
     /**
      * Optimal physical operator for logical operator based on completed estimation
      */
@@ -42,10 +43,20 @@ public class Estimation<T> implements LogicalPlanVisitor {
     @Override
     public void endVisit(PlanNode node) {
         LogicalOperator op = (LogicalOperator) node;
-        PhysicalOperator<T> optimal = Arrays.stream(op.toPhysical(optimalOps)).
-                min(comparing(PhysicalOperator::estimate)).
-                orElseThrow(() -> new IllegalStateException(
-                        "No optimal operator found: " + op));
+        PhysicalOperator<T> optimal = null;
+        Cost minCost = null;
+        for (PhysicalOperator<T> candidate : op.toPhysical(optimalOps)) {
+            Cost cost = candidate.estimate();
+            LOG.debug("Estimated {} for candidate {}", cost, candidate);
+            if (minCost == null || cost.compareTo(minCost) < 0) {
+                optimal = candidate;
+                minCost = cost;
+            }
+        }
+
+        if (optimal == null) {
+            throw new IllegalStateException("No optimal operator found: " + op);
+        }
         optimalOps.put(op, optimal);
         root = optimal;
     }
@@ -0,0 +1,158 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.legacy.query.planner.physical.estimation;
+
+import static com.alibaba.druid.sql.ast.statement.SQLJoinTableSource.JoinType;
+import static org.opensearch.sql.legacy.query.planner.logical.node.Join.JoinCondition;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cost model of join algorithms by estimated rows from both sides and cardinality of joined columns:
+ * <p>
+ * 1) Left side is loaded block by block to build hash table, and right side is scanned once for each block.
+ * 2) With terms filter, only right rows matching the join keys of the block are fetched, which is in fact
+ * an index nested loop join. Its selectivity is estimated by the cardinality of joined columns on both sides,
+ * though each key in terms filter costs a lookup too.
+ * 3) If left side is partitioned to disk by Grace hash join, both sides are scanned only once but spilled.
+ */
+public final class JoinCostModel {
+
+    /**
+     * Time of adding one row to hash table and holding it in memory
+     */
+    public static final double BUILD_TIME_PER_ROW = 0.1;
+
+    /**
+     * Time of looking up one key of terms filter
+     */
+    public static final double LOOKUP_TIME_PER_KEY = 1;
+
+    /**
+     * Time of writing one row to disk and reading it back relative to fetching it from OpenSearch
+     */
+    public static final double SPILL_TIME_PER_ROW = 0.2;
+
+    /**
+     * Time of the round trip of a search request in the number of rows fetched meanwhile
+     */
+    public static final double REQUEST_TIME = 100;
+
+    private JoinCostModel() {
+    }
+
+    /**
+     * Cost of block hash join (possibly with terms filter) that scans right side once for each block from left.
+     */
+    public static Cost blockHashJoin(Cost left, Cost right, JoinType type, JoinCondition condition,
+                                     int blockSize, boolean isUseTermsFilterOptimization) {
+        if (left.isUnknown() || right.isUnknown()) {
+            return Cost.INFINITY;
+        }
+
+        long blocks = numOfBlocks(left.rows(), blockSize);
+        double rightTimePerBlock = right.time();
+        if (isUseTermsFilterOptimization) {
+            long rowsPerBlock = blockSize > 0 ? Math.min(left.rows(), blockSize) : left.rows();
+            rightTimePerBlock = right.time() * selectivity(left, right, condition, rowsPerBlock)
+                    + LOOKUP_TIME_PER_KEY * numOfKeys(left, condition, rowsPerBlock);
+        }
+        double time = buildTime(left) + blocks * (REQUEST_TIME + rightTimePerBlock);
+        return joined(left, right, type, condition, time);
+    }
+
+    /**
+     * Cost of Grace hash join that joins in memory if left side fits in one block or partitions both sides otherwise.
+     */
+    public static Cost graceHashJoin(Cost left, Cost right, JoinType type, JoinCondition condition,
+                                     int blockSize, boolean isUseTermsFilterOptimization) {
+        if (left.isUnknown() || right.isUnknown()) {
+            return Cost.INFINITY;
+        }
+
+        if (numOfBlocks(left.rows(), blockSize) <= 1) {
+            return blockHashJoin(left, right, type, condition, blockSize, isUseTermsFilterOptimization);
+        }
+        double spillTime = SPILL_TIME_PER_ROW * (left.rows() + right.rows());
+        return joined(left, right, type, condition, buildTime(left) + REQUEST_TIME + right.time() + spillTime);
+    }
+
+    private static double buildTime(Cost left) {
+        return left.time() + BUILD_TIME_PER_ROW * left.rows();
+    }
+
+    private static long numOfBlocks(long rows, int blockSize) {
+        if (blockSize <= 0) {
+            return Math.min(rows, 1);
+        }
+        return (rows + blockSize - 1) / blockSize;
+    }
+
+    /**
+     * Fraction of rows from right matched by terms filter built from the join keys of the rows from left.
+     * Each AND condition narrows it down and each OR condition adds it up.
+     */
+    private static double selectivity(Cost left, Cost right, JoinCondition condition, long leftRows) {
+        if (condition.groupSize() == 0) {
+            return 1;
+        }
+
+        double selectivity = 0;
+        for (int i = 0; i < condition.groupSize(); i++) {
+            String[] leftColumnNames = condition.leftColumnNames(i);
+            String[] rightColumnNames = condition.rightColumnNames(i);
+            double andSelectivity = 1;
+            for (int j = 0; j < leftColumnNames.length; j++) {
+                long leftKeys = Math.min(left.cardinality(condition.leftTableAlias() + "." + leftColumnNames[j]),
+                        leftRows);
+                long rightKeys = right.cardinality(condition.rightTableAlias() + "." + rightColumnNames[j]);
+                andSelectivity *= Math.min(1.0, (double) leftKeys / rightKeys);
+            }
+            selectivity += andSelectivity;
+        }
+        return Math.min(selectivity, 1.0);
+    }
+
+    /**
+     * Number of distinct keys in terms filter built from the rows from left.
+     */
+    private static long numOfKeys(Cost left, JoinCondition condition, long leftRows) {
+        long keys = 0;
+        for (int i = 0; i < condition.groupSize(); i++) {
+            for (String colName : condition.leftColumnNames(i)) {
+                keys += Math.min(left.cardinality(condition.leftTableAlias() + "." + colName), leftRows);
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Cost of joined rows with the number of rows estimated by the larger cardinality of joined columns.
+     */
+    private static Cost joined(Cost left, Cost right, JoinType type, JoinCondition condition, double time) {
+        double crossRows = (double) left.rows() * right.rows();
+        double rows = condition.groupSize() == 0 ? crossRows : 0;
+        for (int i = 0; i < condition.groupSize(); i++) {
+            double leftKeys = 1;
+            double rightKeys = 1;
+            for (int j = 0; j < condition.leftColumnNames(i).length; j++) {
+                leftKeys *= left.cardinality(condition.leftTableAlias() + "." + condition.leftColumnNames(i)[j]);
+                rightKeys *= right.cardinality(condition.rightTableAlias() + "." + condition.rightColumnNames(i)[j]);
+            }
+            rows += crossRows / Math.max(leftKeys, rightKeys);
+        }
+        rows = Math.min(rows, crossRows);
+        if (type == JoinType.LEFT_OUTER_JOIN) {
+            rows = Math.max(rows, left.rows());
+        }
+
+        Map<String, Long> cardinality = new HashMap<>(left.cardinality());
+        cardinality.putAll(right.cardinality());
+        return new Cost((long) Math.min(rows, Long.MAX_VALUE), time, cardinality);
+    }
+}
@@ -30,7 +30,7 @@ public abstract class BatchPhysicalOperator<T> implements PhysicalOperator<T> {
     /**
      * Resource monitor to avoid consuming too much resource
      */
-    private ResourceManager resourceMgr;
+    protected ResourceManager resourceMgr;
 
     /**
      * Current batch of data
@@ -22,6 +22,7 @@ import org.opensearch.sql.legacy.query.planner.core.ExecuteParams;
 import org.opensearch.sql.legacy.query.planner.physical.PhysicalOperator;
 import org.opensearch.sql.legacy.query.planner.physical.Row;
 import org.opensearch.sql.legacy.query.planner.physical.estimation.Cost;
+import org.opensearch.sql.legacy.query.planner.physical.estimation.JoinCostModel;
 import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize;
 
 /**
@@ -47,7 +48,9 @@ public class BlockHashJoin<T> extends JoinAlgorithm<T> {
 
     @Override
     public Cost estimate() {
-        return new Cost();
+        return JoinCostModel.blockHashJoin(
+                left.estimate(), right.estimate(), type, condition, blockSize.size(), isUseTermsFilterOptimization
+        );
     }
 
     @Override
@@ -68,6 +71,7 @@ public class BlockHashJoin<T> extends JoinAlgorithm<T> {
         /* Return if already found enough matched rows to give ResourceMgr a chance to check resource usage */
         while (right.hasNext() && totalSize < hashTable.size()) {
             Row<T> rightRow = right.next();
+            numOfProbedRows++;
             Collection<Row<T>> matchedLeftRows = hashTable.match(rightRow);
 
             if (!matchedLeftRows.isEmpty()) {
@@ -35,6 +35,17 @@ public class CombinedRow<T> {
         return combinedRows;
     }
 
+    /**
+     * Combine right row with each left row in the order of tables in query if left and right are swapped.
+     */
+    public List<Row<T>> combineReversely() {
+        List<Row<T>> combinedRows = new ArrayList<>();
+        for (Row<T> leftRow : leftRows) {
+            combinedRows.add(rightRow.combine(leftRow));
+        }
+        return combinedRows;
+    }
+
     public Collection<Row<T>> leftMatchedRows() {
         return Collections.unmodifiableCollection(leftRows);
     }
@@ -0,0 +1,381 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.legacy.query.planner.physical.node.join;
+
+import static com.alibaba.druid.sql.ast.statement.SQLJoinTableSource.JoinType;
+import static org.opensearch.sql.legacy.query.planner.logical.node.Join.JoinCondition;
+
+import com.google.common.collect.Iterators;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.sql.legacy.query.planner.core.ExecuteParams;
+import org.opensearch.sql.legacy.query.planner.core.PlanNode;
+import org.opensearch.sql.legacy.query.planner.physical.PhysicalOperator;
+import org.opensearch.sql.legacy.query.planner.physical.Row;
+import org.opensearch.sql.legacy.query.planner.physical.Row.RowKey;
+import org.opensearch.sql.legacy.query.planner.physical.estimation.Cost;
+import org.opensearch.sql.legacy.query.planner.physical.estimation.JoinCostModel;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize.FixedBlockSize;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockStats;
+
+/**
+ * Hash join that switches to Grace hash join when left side, namely the build side, is too large
+ * to be loaded in one block in memory:
+ * <p>
+ * 1) Load first block from left limited by both block size and memory limit. If that's all rows from left,
+ * join it with right in memory by block hash join.
+ * 2) Otherwise, hash partition rows of both sides by join key into files on disk. Rows that could match
+ * each other always fall into the partitions of the same number on both sides.
+ * 3) Join each pair of partitions by block hash join. Right side is scanned only once from OpenSearch
+ * rather than once for each block from left.
+ * <p>
+ * If terms filter optimization is on, the rest of left is joined by block hash join instead of partitioned,
+ * because scanning right only once means scanning the whole index without the terms filter.
+ * <p>
+ * Because rows are partitioned by one key, this only applies to the join condition without OR.
+ */
+public class GraceHashJoin<T> implements PhysicalOperator<T> {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    /**
+     * Number of partitions on each side in power of 2
+     */
+    public static final int PARTITION_BITS = 5;
+    public static final int NUM_OF_PARTITIONS = 1 << PARTITION_BITS;
+
+    private final PhysicalOperator<T> left;
+    private final PhysicalOperator<T> right;
+
+    /**
+     * Join type ex. inner join, left join
+     */
+    private final JoinType type;
+
+    /**
+     * Joined columns in ON conditions
+     */
+    private final JoinCondition condition;
+
+    /**
+     * Block size calculator
+     */
+    private final BlockSize blockSize;
+
+    /**
+     * Memory limit in bytes of rows loaded in each block
+     */
+    private final long memoryLimit;
+
+    /**
+     * Use terms filter optimization or not when joining in memory
+     */
+    private final boolean isUseTermsFilterOptimization;
+
+    /**
+     * Codec of rows spilled to disk
+     */
+    private final RowCodec<T> codec;
+
+    private final List<SpillFile<T>> leftPartitions = new ArrayList<>();
+    private final List<SpillFile<T>> rightPartitions = new ArrayList<>();
+
+    /**
+     * Block size of partition join limited by memory limit and average row size
+     */
+    private BlockSize partitionBlockSize;
+
+    /**
+     * Number of next partition to join
+     */
+    private int nextPartition;
+
+    /**
+     * Join operator for all rows in memory or for current pair of partitions
+     */
+    private PhysicalOperator<T> current;
+
+    private ExecuteParams params;
+
+    public GraceHashJoin(PhysicalOperator<T> left,
+                         PhysicalOperator<T> right,
+                         JoinType type,
+                         JoinCondition condition,
+                         BlockSize blockSize,
+                         long memoryLimit,
+                         boolean isUseTermsFilterOptimization,
+                         RowCodec<T> codec) {
+        this.left = left;
+        this.right = right;
+        this.type = type;
+        this.condition = condition;
+        this.blockSize = blockSize;
+        this.memoryLimit = memoryLimit;
+        this.isUseTermsFilterOptimization = isUseTermsFilterOptimization;
+        this.codec = codec;
+    }
+
+    @Override
+    public PlanNode[] children() {
+        return new PlanNode[]{left, right};
+    }
+
+    @Override
+    public Cost estimate() {
+        return JoinCostModel.graceHashJoin(
+                left.estimate(), right.estimate(), type, condition, blockSize.size(), isUseTermsFilterOptimization
+        );
+    }
+
+    @Override
+    public void open(ExecuteParams params) throws Exception {
+        this.params = params;
+        left.open(params);
+
+        List<Row<T>> block = loadFirstBlockFromLeft();
+        if (!left.hasNext()) {
+            LOG.debug("All {} rows from left loaded in one block, join in memory", block.size());
+            current = new BlockHashJoin<>(
+                    new RowList<>(block.iterator()), right, type, condition,
+                    new FixedBlockSize(Math.max(block.size(), 1)), isUseTermsFilterOptimization
+            );
+            current.open(params);
+        } else if (isUseTermsFilterOptimization) {
+            LOG.debug("Rows from left exceed one block, join block by block with terms filter on right");
+            current = new BlockHashJoin<>(
+                    new RowList<>(Iterators.concat(block.iterator(), left)), right, type, condition,
+                    partitionBlockSize, true
+            );
+            current.open(params);
+        } else {
+            partition(block);
+            current = nextPartitionJoin();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (current != null && !current.hasNext()) {
+            current.close();
+            try {
+                current = nextPartitionJoin();
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to join next partition", e);
+            }
+        }
+        return current != null;
+    }
+
+    @Override
+    public Row<T> next() {
+        return current.next();
+    }
+
+    @Override
+    public void close() {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+        left.close();
+        leftPartitions.forEach(SpillFile::close);
+        rightPartitions.forEach(SpillFile::close);
+        leftPartitions.clear();
+        rightPartitions.clear();
+        LOG.debug("Cleared all resources used by join");
+    }
+
+    private List<Row<T>> loadFirstBlockFromLeft() {
+        int maxRows = blockSize.size() > 0 ? blockSize.size() : Integer.MAX_VALUE;
+        List<Row<T>> block = new ArrayList<>();
+        long totalSize = 0;
+        while (block.size() < maxRows && totalSize < memoryLimit && left.hasNext()) {
+            Row<T> row = left.next();
+            block.add(row);
+            totalSize += row.sizeInBytes();
+        }
+
+        long avgRowSize = Math.max(totalSize / Math.max(block.size(), 1), 1);
+        partitionBlockSize = new MemoryBoundBlockSize(blockSize, (int) Math.max(memoryLimit / avgRowSize, 1));
+        return block;
+    }
+
+    /**
+     * Partition all rows from both sides to disk. Rows from right with NULL key are dropped because
+     * they never match. Whereas rows from left with NULL key are kept in first partition for outer join.
+     * Right is closed here once scanned, whereas in other cases it's closed by the block hash join.
+     */
+    private void partition(List<Row<T>> firstBlock) throws Exception {
+        for (int i = 0; i < NUM_OF_PARTITIONS; i++) {
+            leftPartitions.add(new SpillFile<>(codec));
+            rightPartitions.add(new SpillFile<>(codec));
+        }
+
+        String[] leftColumnNames = condition.leftColumnNames(0);
+        for (Row<T> row : firstBlock) {
+            leftPartitions.get(partitionOf(row.key(leftColumnNames))).add(row);
+        }
+        firstBlock.clear();
+        while (left.hasNext()) {
+            Row<T> row = left.next();
+            leftPartitions.get(partitionOf(row.key(leftColumnNames))).add(row);
+        }
+
+        String[] rightColumnNames = condition.rightColumnNames(0);
+        right.open(params);
+        try {
+            while (right.hasNext()) {
+                Row<T> row = right.next();
+                RowKey key = row.key(rightColumnNames);
+                if (key != RowKey.NULL) {
+                    rightPartitions.get(partitionOf(key)).add(row);
+                }
+            }
+        } finally {
+            right.close();
+        }
+
+        finish(leftPartitions);
+        finish(rightPartitions);
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Partitioned rows from left: {}", leftPartitions);
+            LOG.debug("Partitioned rows from right: {}", rightPartitions);
+        }
+    }
+
+    /**
+     * Spread hash code by Fibonacci hashing to avoid all keys in the same partition end up
+     * in the same bucket of hash table too.
+     */
+    private int partitionOf(RowKey key) {
+        if (key == RowKey.NULL) {
+            return 0;
+        }
+        return (key.hashCode() * 0x9E3779B9) >>> (Integer.SIZE - PARTITION_BITS);
+    }
+
+    private void finish(List<SpillFile<T>> partitions) throws IOException {
+        for (SpillFile<T> partition : partitions) {
+            partition.finish();
+        }
+    }
+
+    /**
+     * Open join for next pair of partitions and delete files of the pairs joined already.
+     *
+     * @return join operator or null if no more partition
+     */
+    private PhysicalOperator<T> nextPartitionJoin() throws Exception {
+        while (nextPartition < leftPartitions.size()) {
+            if (nextPartition > 0) {
+                leftPartitions.get(nextPartition - 1).close();
+                rightPartitions.get(nextPartition - 1).close();
+            }
+
+            SpillFile<T> leftPartition = leftPartitions.get(nextPartition);
+            SpillFile<T> rightPartition = rightPartitions.get(nextPartition);
+            nextPartition++;
+
+            if (leftPartition.isEmpty()
+                    || (rightPartition.isEmpty() && type != JoinType.LEFT_OUTER_JOIN)) {
+                continue;
+            }
+
+            PhysicalOperator<T> join = new BlockHashJoin<>(
+                    leftPartition.scan(), rightPartition.scan(), type, condition, partitionBlockSize, false
+            );
+            join.open(params);
+            return join;
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[ conditions=" + condition + ", type=" + type
+                + ", blockSize=[" + blockSize + "], memoryLimit=" + memoryLimit + " ]";
+    }
+
+    /*********************************************
+     *          Getters for Explain
+     *********************************************/
+
+    public boolean isUseTermsFilterOptimization() {
+        return isUseTermsFilterOptimization;
+    }
+
+    /**
+     * Block size calculated by the block size configured but no more than the rows fitting in memory limit.
+     * Statistics of blocks are passed through so that adaptive block size still works for partition join.
+     */
+    private static class MemoryBoundBlockSize implements BlockSize {
+
+        private final BlockSize blockSize;
+
+        private final int maxRowsInMemory;
+
+        MemoryBoundBlockSize(BlockSize blockSize, int maxRowsInMemory) {
+            this.blockSize = blockSize;
+            this.maxRowsInMemory = maxRowsInMemory;
+        }
+
+        @Override
+        public int size() {
+            int size = blockSize.size();
+            return size > 0 ? Math.min(size, maxRowsInMemory) : maxRowsInMemory;
+        }
+
+        @Override
+        public void update(BlockStats stats) {
+            blockSize.update(stats);
+        }
+
+        @Override
+        public String toString() {
+            return blockSize + " bound by maxRowsInMemory=" + maxRowsInMemory;
+        }
+    }
+
+    /**
+     * Rows from left loaded in memory as first block, followed by the rest of left if any.
+     * Left is opened and closed by the Grace hash join rather than by this operator.
+     */
+    private static class RowList<T> implements PhysicalOperator<T> {
+
+        private final Iterator<Row<T>> rows;
+
+        RowList(Iterator<Row<T>> rows) {
+            this.rows = rows;
+        }
+
+        @Override
+        public PlanNode[] children() {
+            return new PlanNode[0];
+        }
+
+        @Override
+        public Cost estimate() {
+            return new Cost();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return rows.hasNext();
+        }
+
+        @Override
+        public Row<T> next() {
+            return rows.next();
+        }
+    }
+
+}
@@ -23,6 +23,7 @@ import org.opensearch.sql.legacy.query.planner.physical.PhysicalOperator;
 import org.opensearch.sql.legacy.query.planner.physical.Row;
 import org.opensearch.sql.legacy.query.planner.physical.node.BatchPhysicalOperator;
 import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockSize;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockStats;
 
 /**
  * Join algorithm base class
@@ -36,7 +37,7 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
     /**
      * Left child operator
      */
-    private final PhysicalOperator<T> left;
+    protected final PhysicalOperator<T> left;
 
     /**
      * Right child operator handled by concrete join algorithm subclass
@@ -46,17 +47,17 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
     /**
      * Join type ex. inner join, left join
      */
-    private final JoinType type;
+    protected final JoinType type;
 
     /**
      * Joined columns in ON conditions
      */
-    private final JoinCondition condition;
+    protected final JoinCondition condition;
 
     /**
      * Block size calculator
      */
-    private final BlockSize blockSize;
+    protected final BlockSize blockSize;
 
     /**
      * Bookkeeping unmatched rows in current block from left
@@ -73,6 +74,18 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
      */
     protected ExecuteParams params;
 
+    /**
+     * Number of rows probed in current run updated by concrete join algorithm subclass
+     */
+    protected long numOfProbedRows;
+
+    /**
+     * Statistics of current run to re-evaluate block size for next block
+     */
+    private int curBlockRows;
+    private long curBlockBytes;
+    private long curRunStartTime;
+
     JoinAlgorithm(PhysicalOperator<T> left,
                   PhysicalOperator<T> right,
                   JoinType type,
@@ -165,7 +178,7 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
             }
 
             for (CombinedRow<T> row : combinedRows) {
-                matchRows.addAll(row.combine());
+                matchRows.addAll(condition.isSwapped() ? row.combineReversely() : row.combine());
             }
 
             if (LOG.isTraceEnabled()) {
@@ -223,14 +236,22 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
      * Build hash table from data block.
      */
     private void buildHashTableByNextBlock() {
-        List<Row<T>> block = loadNextBlockFromLeft(blockSize.size());
+        int size = blockSize.size();
+        LOG.debug("Load next block from left with block size {}", size);
+
+        List<Row<T>> block = loadNextBlockFromLeft(size);
         if (LOG.isTraceEnabled()) {
             LOG.trace("Build hash table on conditions with block: {}, {}", condition, block);
         }
 
+        curBlockRows = block.size();
+        curBlockBytes = 0;
         for (Row<T> data : block) {
             hashTable.add(data);
+            curBlockBytes += data.sizeInBytes();
         }
+        numOfProbedRows = 0;
+        curRunStartTime = System.nanoTime();
 
         if (type == JoinType.LEFT_OUTER_JOIN) {
             leftMismatch.addAll(block);
@@ -239,11 +260,22 @@ public abstract class JoinAlgorithm<T> extends BatchPhysicalOperator<T> {
 
     private void cleanUpAndCloseRight() {
         LOG.debug("No more data from right. Clean up and close right.");
+        updateBlockSize();
         hashTable.clear();
         leftMismatch.clear();
         right.close();
     }
 
+    /**
+     * Feed back statistics of current run to block size calculator before the block is released.
+     */
+    private void updateBlockSize() {
+        BlockStats stats = new BlockStats(curBlockRows, curBlockBytes, numOfProbedRows,
+                System.nanoTime() - curRunStartTime, resourceMgr.memoryHeadroom());
+        blockSize.update(stats);
+        LOG.debug("Block size updated by {}: {}", stats, blockSize);
+    }
+
     private List<Row<T>> loadNextBlockFromLeft(int blockSize) {
         List<Row<T>> block = new ArrayList<>();
         for (int i = 0; i < blockSize && left.hasNext(); i++) {
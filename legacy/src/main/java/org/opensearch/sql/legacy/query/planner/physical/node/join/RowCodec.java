@@ -0,0 +1,38 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.legacy.query.planner.physical.node.join;
+
+import java.io.IOException;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.sql.legacy.query.planner.physical.Row;
+
+/**
+ * Binary encoding of rows spilled to disk by join algorithm.
+ *
+ * @param <T> data object underlying
+ */
+public interface RowCodec<T> {
+
+    /**
+     * Write row to the output.
+     *
+     * @param row row
+     * @param out output
+     */
+    void write(Row<T> row, StreamOutput out) throws IOException;
+
+
+    /**
+     * Read row written by write() from the input.
+     *
+     * @param in input
+     * @return row
+     */
+    Row<T> read(StreamInput in) throws IOException;
+
+}
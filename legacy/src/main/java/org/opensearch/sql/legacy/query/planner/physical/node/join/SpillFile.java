@@ -0,0 +1,173 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.legacy.query.planner.physical.node.join;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.common.io.stream.InputStreamStreamInput;
+import org.opensearch.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.sql.legacy.query.planner.core.ExecuteParams;
+import org.opensearch.sql.legacy.query.planner.core.PlanNode;
+import org.opensearch.sql.legacy.query.planner.physical.PhysicalOperator;
+import org.opensearch.sql.legacy.query.planner.physical.Row;
+import org.opensearch.sql.legacy.query.planner.physical.estimation.Cost;
+
+/**
+ * Rows spilled to a temporary file which are written once and then scanned as many times as needed.
+ * The file is created on first row written and deleted on close.
+ *
+ * @param <T> data object underlying
+ */
+class SpillFile<T> implements AutoCloseable {
+
+    private static final Logger LOG = LogManager.getLogger();
+
+    private final RowCodec<T> codec;
+
+    /**
+     * Temporary file path, null if no row written
+     */
+    private Path path;
+
+    /**
+     * Output of the file which is closed once all rows written
+     */
+    private StreamOutput out;
+
+    /**
+     * Number of rows written
+     */
+    private int size;
+
+    SpillFile(RowCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    void add(Row<T> row) throws IOException {
+        if (path == null) {
+            path = Files.createTempFile("opensearch-sql-join-", ".spill");
+            out = new OutputStreamStreamOutput(new BufferedOutputStream(Files.newOutputStream(path)));
+        }
+        codec.write(row, out);
+        size++;
+    }
+
+    /**
+     * Flush and close output so that rows written are ready for scan.
+     */
+    void finish() throws IOException {
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return operator that reads all rows from the beginning on each open
+     */
+    PhysicalOperator<T> scan() {
+        return new Scan();
+    }
+
+    @Override
+    public void close() {
+        try {
+            finish();
+            if (path != null) {
+                Files.deleteIfExists(path);
+                path = null;
+            }
+        } catch (IOException e) {
+            LOG.warn("Failed to delete spill file: {}", path, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SpillFile [ path=" + path + ", size=" + size + " ]";
+    }
+
+    /**
+     * Scan over the rows in spill file.
+     */
+    private class Scan implements PhysicalOperator<T> {
+
+        private StreamInput in;
+
+        /**
+         * Number of rows not read yet
+         */
+        private int remaining;
+
+        @Override
+        public PlanNode[] children() {
+            return new PlanNode[0];
+        }
+
+        @Override
+        public Cost estimate() {
+            return new Cost();
+        }
+
+        @Override
+        public void open(ExecuteParams params) throws Exception {
+            close();
+            remaining = size;
+            if (remaining > 0) {
+                in = new InputStreamStreamInput(new BufferedInputStream(Files.newInputStream(path)));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+
+        @Override
+        public Row<T> next() {
+            try {
+                remaining--;
+                return codec.read(in);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed to read row from spill file: " + path, e);
+            }
+        }
+
+        @Override
+        public void close() {
+            if (in != null) {
+                try {
+                    in.close();
+                } catch (IOException e) {
+                    LOG.warn("Failed to close spill file: {}", path, e);
+                }
+                in = null;
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Scan [ " + SpillFile.this + " ]";
+        }
+    }
+
+}
@@ -34,4 +34,9 @@ public class BindingTupleRow implements Row<BindingTuple> {
     public BindingTuple data() {
         return bindingTuple;
     }
+
+    @Override
+    public long sizeInBytes() {
+        throw new RuntimeException("unsupported operation");
+    }
 }
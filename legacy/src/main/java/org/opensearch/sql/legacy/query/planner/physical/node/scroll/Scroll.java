@@ -8,6 +8,8 @@ package org.opensearch.sql.legacy.query.planner.physical.node.scroll;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import org.opensearch.action.search.ClearScrollResponse;
 import org.opensearch.action.search.SearchResponse;
@@ -29,6 +31,7 @@ import org.opensearch.sql.legacy.query.planner.physical.Row;
 import org.opensearch.sql.legacy.query.planner.physical.estimation.Cost;
 import org.opensearch.sql.legacy.query.planner.physical.node.BatchPhysicalOperator;
 import org.opensearch.sql.legacy.query.planner.resource.ResourceManager;
+import org.opensearch.sql.legacy.query.planner.resource.Stats.IndexStats;
 
 /**
  * OpenSearch Scroll API as physical implementation of TableScan
@@ -45,6 +48,11 @@ public class Scroll extends BatchPhysicalOperator<SearchHit> {
      */
     private final int pageSize;
 
+    /**
+     * Statistics of documents matched by the request
+     */
+    private final IndexStats indexStats;
+
     /**
      * Client connection to ElasticSearch
      */
@@ -66,9 +74,10 @@ public class Scroll extends BatchPhysicalOperator<SearchHit> {
     private ResourceManager resourceMgr;
 
 
-    public Scroll(TableInJoinRequestBuilder request, int pageSize) {
+    public Scroll(TableInJoinRequestBuilder request, int pageSize, IndexStats indexStats) {
         this.request = request;
         this.pageSize = pageSize;
+        this.indexStats = indexStats;
     }
 
     @Override
@@ -78,7 +87,15 @@ public class Scroll extends BatchPhysicalOperator<SearchHit> {
 
     @Override
     public Cost estimate() {
-        return new Cost();
+        if (indexStats.isUnknown()) {
+            return new Cost();
+        }
+
+        Map<String, Long> cardinality = new HashMap<>();
+        indexStats.getCardinality().forEach(
+                (colName, value) -> cardinality.put(request.getAlias() + "." + colName, value)
+        );
+        return new Cost(indexStats.getDocNum(), indexStats.getDocNum(), cardinality);
     }
 
     @Override
@@ -7,9 +7,12 @@
 package org.opensearch.sql.legacy.query.planner.physical.node.scroll;
 
 import com.google.common.base.Strings;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
 import org.opensearch.common.text.Text;
 import org.opensearch.index.mapper.MapperService;
 import org.opensearch.search.SearchHit;
@@ -109,6 +112,39 @@ class SearchHitRow implements Row<SearchHit> {
         return hit;
     }
 
+    /**
+     * Estimated by the length of source which is proportional to the size of source map parsed.
+     */
+    @Override
+    public long sizeInBytes() {
+        return hit.getSourceRef() == null ? 0 : hit.getSourceRef().length();
+    }
+
+    /**
+     * Write the row in compact format for spilling to disk. Only the fields needed to rebuild the row
+     * are written and source is kept in its original bytes rather than the source map parsed.
+     */
+    void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalString(tableAlias);
+        out.writeInt(hit.docId());
+        out.writeOptionalString(hit.getId());
+        out.writeMap(hit.getFields(), StreamOutput::writeString, (output, field) -> field.writeTo(output));
+        out.writeOptionalBytesReference(hit.getSourceRef());
+    }
+
+    /**
+     * Read the row written by writeTo().
+     */
+    static SearchHitRow readFrom(StreamInput in) throws IOException {
+        String tableAlias = in.readOptionalString();
+        int docId = in.readInt();
+        String id = in.readOptionalString();
+        Map<String, DocumentField> fields = in.readMap(StreamInput::readString, DocumentField::new);
+        SearchHit hit = newHit(docId, id, fields);
+        hit.sourceRef(in.readOptionalBytesReference());
+        return new SearchHitRow(hit, tableAlias);
+    }
+
     @Override
     public String toString() {
         return "SearchHitRow{" + "hit=" + source + '}';
@@ -142,21 +178,24 @@ class SearchHitRow implements Row<SearchHit> {
     }
 
     private SearchHit cloneHit(Row<SearchHit> other) {
-        Map<String, DocumentField> documentFields = new HashMap<>();
-        Map<String, DocumentField> metaFields = new HashMap<>();
-        hit.getFields().forEach((fieldName, docField) ->
-            (MapperService.META_FIELDS_BEFORE_7DOT8.contains(fieldName) ? metaFields : documentFields).put(fieldName, docField));
-        SearchHit combined = new SearchHit(
+        SearchHit combined = newHit(
                 hit.docId(),
                 hit.getId() + "|" + (other == NULL ? "0" : ((SearchHitRow) other).hit.getId()),
-                documentFields,
-                metaFields
+                hit.getFields()
         );
         combined.sourceRef(hit.getSourceRef());
         combined.getSourceAsMap().clear();
         return combined;
     }
 
+    private static SearchHit newHit(int docId, String id, Map<String, DocumentField> fields) {
+        Map<String, DocumentField> documentFields = new HashMap<>();
+        Map<String, DocumentField> metaFields = new HashMap<>();
+        fields.forEach((fieldName, docField) ->
+            (MapperService.META_FIELDS_BEFORE_7DOT8.contains(fieldName) ? metaFields : documentFields).put(fieldName, docField));
+        return new SearchHit(docId, id, documentFields, metaFields);
+    }
+
     private void collectFullName(Map<String, Object> newSource, SearchHitRow row) {
         row.source.forEach((colName, value) -> newSource.put(row.tableAlias + "." + colName, value));
     }
@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.legacy.query.planner.physical.node.scroll;
+
+import java.io.IOException;
+import org.opensearch.common.io.stream.StreamInput;
+import org.opensearch.common.io.stream.StreamOutput;
+import org.opensearch.search.SearchHit;
+import org.opensearch.sql.legacy.query.planner.physical.Row;
+import org.opensearch.sql.legacy.query.planner.physical.node.join.RowCodec;
+
+/**
+ * Codec of search hit rows returned by Scroll.
+ */
+public class SearchHitRowCodec implements RowCodec<SearchHit> {
+
+    @Override
+    public void write(Row<SearchHit> row, StreamOutput out) throws IOException {
+        ((SearchHitRow) row).writeTo(out);
+    }
+
+    @Override
+    public Row<SearchHit> read(StreamInput in) throws IOException {
+        return SearchHitRow.readFrom(in);
+    }
+
+}
@@ -30,6 +30,11 @@ public class ResourceManager {
      */
     private final List<Monitor> monitors = new ArrayList<>();
 
+    /**
+     * Total memory monitor to calculate memory headroom
+     */
+    private final TotalMemoryMonitor memoryMonitor;
+
     /**
      * Time out for the execution
      */
@@ -42,7 +47,8 @@ public class ResourceManager {
     private final MetaSearchResult metaResult;
 
     public ResourceManager(Stats stats, Config config) {
-        this.monitors.add(new TotalMemoryMonitor(stats, config));
+        this.memoryMonitor = new TotalMemoryMonitor(stats, config);
+        this.monitors.add(memoryMonitor);
         this.timeout = config.timeout();
         this.startTime = Instant.now();
         this.metaResult = new MetaSearchResult();
@@ -66,6 +72,15 @@ public class ResourceManager {
         return Duration.between(startTime, Instant.now()).getSeconds() >= timeout;
     }
 
+    /**
+     * Memory available before circuit breaker is triggered
+     *
+     * @return memory headroom in bytes
+     */
+    public long memoryHeadroom() {
+        return memoryMonitor.headroom();
+    }
+
     public MetaSearchResult getMetaResult() {
         return metaResult;
     }
@@ -6,7 +6,20 @@
 
 package org.opensearch.sql.legacy.query.planner.resource;
 
+import static java.util.Collections.emptyMap;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.Client;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.metrics.Cardinality;
+import org.opensearch.sql.legacy.query.join.TableInJoinRequestBuilder;
 
 /**
  * Statistics collector collects from OpenSearch stats, JVM etc for other components:
@@ -17,8 +30,10 @@ import org.opensearch.client.Client;
  */
 public class Stats {
 
+    private static final Logger LOG = LogManager.getLogger();
+
     /**
-     * Client connection to OpenSearch cluster (unused now)
+     * Client connection to OpenSearch cluster
      */
     private Client client;
 
@@ -54,16 +69,92 @@ public class Stats {
         }
     }
 
-    /*
-    public class IndexStats {
-        private long size;
-        private long docNum;
+    /**
+     * Collect number of documents matched by the query of table and cardinality of the fields given.
+     * This is done by a single search request with size 0 and cardinality aggregations which is cheap.
+     * If aggregation fails, ex. on text field, only the number of documents is collected.
+     *
+     * @param request request of the table
+     * @param fields  fields to collect cardinality
+     * @return index statistics or UNKNOWN if failed to collect
+     */
+    public IndexStats collectIndexStats(TableInJoinRequestBuilder request, String... fields) {
+        SearchRequest searchRequest = request.getRequestBuilder().request();
+        try {
+            return collectIndexStats(searchRequest, fields);
+        } catch (Exception e) {
+            LOG.debug("Failed to collect cardinality of fields {} so try to collect count only",
+                    Arrays.toString(fields), e);
+        }
+
+        try {
+            return collectIndexStats(searchRequest);
+        } catch (Exception e) {
+            LOG.debug("Failed to collect statistics of index {}", Arrays.toString(searchRequest.indices()), e);
+            return IndexStats.UNKNOWN;
+        }
+    }
+
+    private IndexStats collectIndexStats(SearchRequest searchRequest, String... fields) {
+        SearchRequestBuilder countRequest = client.prepareSearch(searchRequest.indices()).
+                setSize(0).
+                setTrackTotalHits(true);
+        if (searchRequest.source() != null && searchRequest.source().query() != null) {
+            countRequest.setQuery(searchRequest.source().query());
+        }
+        for (String field : fields) {
+            countRequest.addAggregation(AggregationBuilders.cardinality(field).field(field));
+        }
+
+        SearchResponse response = countRequest.get();
+        Map<String, Long> cardinality = new HashMap<>();
+        for (String field : fields) {
+            cardinality.put(field, ((Cardinality) response.getAggregations().get(field)).getValue());
+        }
+
+        IndexStats indexStats = new IndexStats(response.getHits().getTotalHits().value, cardinality);
+        LOG.debug("Collected statistics of index {}: {}", Arrays.toString(searchRequest.indices()), indexStats);
+        return indexStats;
+    }
 
-        public IndexStats(long size, long docNum) {
-            this.size = size;
+    /**
+     * Statistics data class for documents in index matched by query of the table
+     */
+    public static class IndexStats {
+
+        /**
+         * Statistics not available
+         */
+        public static final IndexStats UNKNOWN = new IndexStats(-1, emptyMap());
+
+        private final long docNum;
+
+        /**
+         * Approximate number of distinct values by field name
+         */
+        private final Map<String, Long> cardinality;
+
+        public IndexStats(long docNum, Map<String, Long> cardinality) {
             this.docNum = docNum;
+            this.cardinality = cardinality;
+        }
+
+        public boolean isUnknown() {
+            return docNum < 0;
+        }
+
+        public long getDocNum() {
+            return docNum;
+        }
+
+        public Map<String, Long> getCardinality() {
+            return cardinality;
+        }
+
+        @Override
+        public String toString() {
+            return "IndexStats[ docNum=" + docNum + ", cardinality=" + cardinality + " ]";
         }
     }
-    */
 
 }
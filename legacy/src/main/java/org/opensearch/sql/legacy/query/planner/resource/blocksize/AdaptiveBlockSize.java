@@ -6,25 +6,139 @@
 
 package org.opensearch.sql.legacy.query.planner.resource.blocksize;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
 /**
- * Adaptive block size calculator based on resource usage dynamically.
+ * Adaptive block size calculator based on resource usage dynamically. Block size is re-evaluated
+ * by the statistics of each block joined:
+ * <p>
+ * 1) Grow the block size exponentially to reduce the number of times right side is scanned.
+ * 2) Shrink it by half if probe throughput drops sharply, which is likely caused by the larger block.
+ * 3) Limit it to the number of rows fitting in a ratio of memory headroom by average row size observed.
  */
 public class AdaptiveBlockSize implements BlockSize {
 
-    private int upperLimit;
+    /**
+     * Minimum block size to avoid scanning right side too many times
+     */
+    public static final int MIN_BLOCK_SIZE = 100;
+
+    /**
+     * Ratio of memory headroom that rows in a block can take up. The rest is left for the overhead
+     * of hash table and rows parsed.
+     */
+    public static final double MEMORY_HEADROOM_RATIO = 0.25;
+
+    /**
+     * Probe throughput lower than this ratio of last throughput is regarded as a slowdown
+     */
+    public static final double THROUGHPUT_DROP_RATIO = 0.5;
+
+    /**
+     * Number of recent block sizes kept for explain
+     */
+    private static final int MAX_HISTORY = 16;
+
+    private final int upperLimit;
+
+    /**
+     * Current block size
+     */
+    private int size;
+
+    /**
+     * Total rows and bytes of all blocks observed to calculate average row size
+     */
+    private long totalRows;
+    private long totalBytes;
+
+    /**
+     * Probe throughput of last block in rows per second
+     */
+    private double lastThroughput;
 
-    public AdaptiveBlockSize(int upperLimit) {
+    /**
+     * Recent block sizes chosen
+     */
+    private final Deque<Integer> history = new ArrayDeque<>();
+
+    public AdaptiveBlockSize(int initialSize, int upperLimit) {
         this.upperLimit = upperLimit;
+        this.size = bound(initialSize);
+        this.history.add(size);
     }
 
     @Override
     public int size() {
-        //TODO: calculate dynamically on each call
+        return size;
+    }
+
+    @Override
+    public void update(BlockStats stats) {
+        if (stats.getRows() == 0) {
+            return;
+        }
+        totalRows += stats.getRows();
+        totalBytes += stats.getBytes();
+
+        long nextSize = Math.min(sizeByThroughput(stats.probeThroughput()), sizeByMemory(stats));
+        size = bound(nextSize);
+
+        if (history.size() == MAX_HISTORY) {
+            history.removeFirst();
+        }
+        history.addLast(size);
+    }
+
+    private long sizeByThroughput(double throughput) {
+        if (throughput == 0) {
+            return size;
+        }
+
+        long nextSize;
+        if (lastThroughput > 0 && throughput < lastThroughput * THROUGHPUT_DROP_RATIO) {
+            nextSize = size / 2;
+        } else {
+            nextSize = size * 2L;
+        }
+        lastThroughput = throughput;
+        return nextSize;
+    }
+
+    private long sizeByMemory(BlockStats stats) {
+        long avgRowSize = Math.max(totalBytes / totalRows, 1);
+
+        // Rows of last block are released before next block loaded
+        long available = stats.getMemoryHeadroom() + stats.getBytes();
+        return (long) (available * MEMORY_HEADROOM_RATIO / avgRowSize);
+    }
+
+    private int bound(long size) {
+        return (int) Math.max(Math.min(size, upperLimit), Math.min(MIN_BLOCK_SIZE, upperLimit));
+    }
+
+    /*********************************************
+     *          Getters for Explain
+     *********************************************/
+
+    public int getUpperLimit() {
         return upperLimit;
     }
 
+    public long getAvgRowSize() {
+        return totalRows == 0 ? 0 : totalBytes / totalRows;
+    }
+
+    public List<Integer> getHistory() {
+        return new ArrayList<>(history);
+    }
+
     @Override
     public String toString() {
-        return "AdaptiveBlockSize with " + "upperLimit=" + upperLimit;
+        return "AdaptiveBlockSize with " + "size=" + size + ", upperLimit=" + upperLimit
+                + ", avgRowSize=" + getAvgRowSize() + ", history=" + history;
     }
 }
@@ -18,6 +18,14 @@ public interface BlockSize {
      */
     int size();
 
+    /**
+     * Feed back statistics of the block just joined so that the size of next block can be re-evaluated.
+     * Block size is not affected by default.
+     *
+     * @param stats statistics of last block
+     */
+    default void update(BlockStats stats) {
+    }
 
     /**
      * Default implementation with fixed block size
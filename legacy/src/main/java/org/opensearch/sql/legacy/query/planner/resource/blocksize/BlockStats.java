@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.legacy.query.planner.resource.blocksize;
+
+/**
+ * Statistics of a block joined, which is fed back to block size calculator for the next block.
+ */
+public class BlockStats {
+
+    /**
+     * Number of rows in the block
+     */
+    private final long rows;
+
+    /**
+     * Total size in bytes of rows in the block
+     */
+    private final long bytes;
+
+    /**
+     * Number of rows probed against the block
+     */
+    private final long probedRows;
+
+    /**
+     * Time spent on probing in nanoseconds
+     */
+    private final long probeNanos;
+
+    /**
+     * Memory available before circuit breaker is triggered, measured while the block is still in memory
+     */
+    private final long memoryHeadroom;
+
+    public BlockStats(long rows, long bytes, long probedRows, long probeNanos, long memoryHeadroom) {
+        this.rows = rows;
+        this.bytes = bytes;
+        this.probedRows = probedRows;
+        this.probeNanos = probeNanos;
+        this.memoryHeadroom = memoryHeadroom;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getProbedRows() {
+        return probedRows;
+    }
+
+    public long getProbeNanos() {
+        return probeNanos;
+    }
+
+    public long getMemoryHeadroom() {
+        return memoryHeadroom;
+    }
+
+    /**
+     * Probe throughput in rows per second.
+     *
+     * @return throughput or 0 if nothing probed
+     */
+    public double probeThroughput() {
+        if (probedRows == 0 || probeNanos <= 0) {
+            return 0;
+        }
+        return probedRows * 1_000_000_000.0 / probeNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "BlockStats[ rows=" + rows + ", bytes=" + bytes + ", probedRows=" + probedRows
+                + ", probeNanos=" + probeNanos + ", memoryHeadroom=" + memoryHeadroom + " ]";
+    }
+}
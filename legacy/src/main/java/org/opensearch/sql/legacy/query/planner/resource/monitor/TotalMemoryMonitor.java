@@ -46,6 +46,17 @@ public class TotalMemoryMonitor implements Monitor {
         return usage < limit;
     }
 
+    /**
+     * Memory available in bytes before circuit breaker is triggered.
+     *
+     * @return memory headroom
+     */
+    public long headroom() {
+        MemStats memStats = stats.collectMemStats();
+        long used = memStats.getTotal() - memStats.getFree();
+        return Math.max(memStats.getTotal() * limit / 100 - used, 0);
+    }
+
     private int percentage(double usage) {
         return (int) Math.round(usage * 100);
     }
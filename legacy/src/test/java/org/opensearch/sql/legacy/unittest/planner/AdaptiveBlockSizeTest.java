@@ -0,0 +1,99 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.legacy.unittest.planner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.Test;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.AdaptiveBlockSize;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.BlockStats;
+
+/**
+ * Adaptive block size calculation test
+ */
+public class AdaptiveBlockSizeTest {
+
+    private static final long ONE_SECOND = 1_000_000_000L;
+
+    private static final long LARGE_HEADROOM = 1L << 40;
+
+    @Test
+    public void initialSizeShouldBeBoundedByLimits() {
+        assertThat(new AdaptiveBlockSize(1000, 500).size(), is(500));
+        assertThat(new AdaptiveBlockSize(10, 500).size(), is(AdaptiveBlockSize.MIN_BLOCK_SIZE));
+        assertThat(new AdaptiveBlockSize(10, 50).size(), is(50));
+    }
+
+    @Test
+    public void sizeShouldGrowUpToUpperLimitIfThroughputHolds() {
+        AdaptiveBlockSize blockSize = new AdaptiveBlockSize(1000, 5000);
+        blockSize.update(new BlockStats(1000, 100_000, 10_000, ONE_SECOND, LARGE_HEADROOM));
+        assertThat(blockSize.size(), is(2000));
+
+        blockSize.update(new BlockStats(2000, 200_000, 10_000, ONE_SECOND, LARGE_HEADROOM));
+        assertThat(blockSize.size(), is(4000));
+
+        blockSize.update(new BlockStats(4000, 400_000, 10_000, ONE_SECOND, LARGE_HEADROOM));
+        assertThat(blockSize.size(), is(5000));
+        assertThat(blockSize.getHistory(), contains(1000, 2000, 4000, 5000));
+        assertThat(blockSize.getAvgRowSize(), is(100L));
+    }
+
+    @Test
+    public void sizeShouldShrinkIfThroughputDrops() {
+        AdaptiveBlockSize blockSize = new AdaptiveBlockSize(1000, 100_000);
+        blockSize.update(new BlockStats(1000, 100_000, 10_000, ONE_SECOND, LARGE_HEADROOM));
+        assertThat(blockSize.size(), is(2000));
+
+        blockSize.update(new BlockStats(2000, 200_000, 10_000, 3 * ONE_SECOND, LARGE_HEADROOM));
+        assertThat(blockSize.size(), is(1000));
+
+        // Compared with throughput of last block rather than the first one
+        blockSize.update(new BlockStats(1000, 100_000, 10_000, 3 * ONE_SECOND, LARGE_HEADROOM));
+        assertThat(blockSize.size(), is(2000));
+    }
+
+    @Test
+    public void sizeShouldBeLimitedByMemoryHeadroomAndRowSize() {
+        AdaptiveBlockSize blockSize = new AdaptiveBlockSize(1000, 100_000);
+
+        // 100KB per row and (300MB + 100MB) * 0.25 available for next block
+        blockSize.update(new BlockStats(1000, 100_000_000, 10_000, ONE_SECOND, 300_000_000));
+        assertThat(blockSize.size(), is(1000));
+
+        // Never below minimum even if memory is exhausted, which is protected by circuit breaker instead
+        blockSize.update(new BlockStats(1000, 100_000_000, 10_000, ONE_SECOND, 0));
+        assertThat(blockSize.size(), is(250));
+        blockSize.update(new BlockStats(250, 25_000_000, 10_000, ONE_SECOND, 0));
+        assertThat(blockSize.size(), is(AdaptiveBlockSize.MIN_BLOCK_SIZE));
+    }
+
+    @Test
+    public void sizeShouldNotChangeIfNothingObserved() {
+        AdaptiveBlockSize blockSize = new AdaptiveBlockSize(1000, 100_000);
+        blockSize.update(new BlockStats(0, 0, 0, ONE_SECOND, LARGE_HEADROOM));
+        assertThat(blockSize.size(), is(1000));
+
+        blockSize.update(new BlockStats(1000, 100_000, 0, ONE_SECOND, LARGE_HEADROOM));
+        assertThat(blockSize.size(), is(1000));
+        assertThat(blockSize.getHistory(), contains(1000, 1000));
+    }
+
+    @Test
+    public void historyShouldKeepRecentSizesOnlyAndShowInExplain() {
+        AdaptiveBlockSize blockSize = new AdaptiveBlockSize(100, 100_000);
+        for (int i = 0; i < 20; i++) {
+            blockSize.update(new BlockStats(100, 10_000, 10_000, ONE_SECOND, LARGE_HEADROOM));
+        }
+        assertThat(blockSize.getHistory(), hasSize(16));
+        assertThat(blockSize.toString(), containsString("size=100000, upperLimit=100000, avgRowSize=100"));
+    }
+}
@@ -11,6 +11,7 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.both;
 import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.opensearch.sql.legacy.util.MatcherUtils.featureValueOf;
 
@@ -22,6 +23,7 @@ import org.opensearch.sql.legacy.domain.hints.HintType;
 import org.opensearch.sql.legacy.exception.SqlParseException;
 import org.opensearch.sql.legacy.query.planner.HashJoinQueryPlanRequestBuilder;
 import org.opensearch.sql.legacy.query.planner.core.Config;
+import org.opensearch.sql.legacy.query.planner.resource.blocksize.AdaptiveBlockSize;
 
 /**
  * Hint & Configuring Ability Test Cases
@@ -52,6 +54,17 @@ public class QueryPlannerConfigTest extends QueryPlannerTest {
         );
     }
 
+    @Test
+    public void algorithmMemoryLimitHint() {
+        assertThat(
+            parseHint("! JOIN_ALGORITHM_MEMORY_LIMIT(128)"),
+            hint(
+                hintType(HintType.JOIN_ALGORITHM_MEMORY_LIMIT),
+                hintValues(128)
+            )
+        );
+    }
+
     @Test
     public void algorithmBlockSizeHintWithSpaces() {
         assertThat(
@@ -134,6 +147,25 @@ public class QueryPlannerConfigTest extends QueryPlannerTest {
         );
     }
 
+    @Test
+    public void adaptiveBlockSizeConfig() {
+        Config config = queryPlannerConfig(
+            "SELECT /*! JOIN_ALGORITHM_BLOCK_SIZE(0) */ " +
+            "  d.name FROM employee e JOIN department d ON d.id = e.departmentId ");
+        assertThat(config.blockSize(), instanceOf(AdaptiveBlockSize.class));
+        assertThat(
+            config,
+            config(
+                blockSize(Config.DEFAULT_BLOCK_SIZE),
+                scrollPageSize(Config.DEFAULT_SCROLL_PAGE_SIZE, Config.DEFAULT_SCROLL_PAGE_SIZE),
+                circuitBreakLimit(Config.DEFAULT_CIRCUIT_BREAK_LIMIT),
+                backOffRetryIntervals(Config.DEFAULT_BACK_OFF_RETRY_INTERVALS),
+                DEFAULT_TOTAL_AND_TABLE_LIMIT_MATCHER,
+                timeOut(Config.DEFAULT_TIME_OUT)
+            )
+        );
+    }
+
     @Test
     public void scrollPageSizeConfig() {
         assertThat(queryPlannerConfig(
@@ -214,6 +246,19 @@ public class QueryPlannerConfigTest extends QueryPlannerTest {
         );
     }
 
+    @Test
+    public void memoryLimitConfig() {
+        assertThat(queryPlannerConfig(
+            "SELECT d.name FROM employee e JOIN department d ON d.id = e.departmentId ").memoryLimit(),
+            is(Config.DEFAULT_MEMORY_LIMIT_MB * 1024L * 1024L)
+        );
+        assertThat(queryPlannerConfig(
+            "SELECT /*! JOIN_ALGORITHM_MEMORY_LIMIT(16) */ " +
+            "  d.name FROM employee e JOIN department d ON d.id = e.departmentId ").memoryLimit(),
+            is(16L * 1024 * 1024)
+        );
+    }
+
     @Test
     public void multipleConfigCombined() {
         assertThat(queryPlannerConfig(
@@ -0,0 +1,187 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.legacy.unittest.planner;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.legacy.util.MatcherUtils.hit;
+import static org.opensearch.sql.legacy.util.MatcherUtils.hits;
+
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.TotalHits.Relation;
+import org.junit.Test;
+import org.opensearch.action.search.SearchRequestBuilder;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.metrics.Cardinality;
+import org.opensearch.sql.legacy.util.MatcherUtils;
+
+/**
+ * Query planner test for join algorithm and build side chosen by estimated cost from index statistics
+ */
+public class QueryPlannerCostTest extends QueryPlannerTest {
+
+    @Test
+    public void hashTableShouldBeBuiltFromSmallerRightSideForInnerJoin() {
+        indexStats("employee", 1_000_000, "departmentId", 100);
+        indexStats("department", 100, "id", 100);
+
+        String explain = plan(
+            "SELECT d.name, e.lastname FROM employee e " +
+            "  JOIN department d ON d.id = e.departmentId"
+        ).explain();
+        assertThat(explain, containsString("GraceHashJoin[ conditions=( d.id = e.departmentId )"));
+    }
+
+    @Test
+    public void rowsShouldBeJoinedInOriginalOrderIfBuildSideSwapped() {
+        indexStats("employee", 1_000_000, "departmentId", 100);
+        indexStats("department", 100, "id", 100);
+
+        // Department is scanned first as build side
+        assertThat(
+            query(
+                "SELECT d.name, e.lastname FROM employee e " +
+                "  JOIN department d ON d.id = e.departmentId",
+                departments(
+                    department(1, "1", "AWS"),
+                    department(2, "2", "Retail")
+                ),
+                employees(
+                    employee(1, "Alice", "1"),
+                    employee(2, "Hank", "2"),
+                    employee(3, "Allen", "3")
+                )
+            ),
+            hits(
+                hit(
+                    MatcherUtils.kv("d.name", "AWS"),
+                    MatcherUtils.kv("e.lastname", "Alice")
+                ),
+                hit(
+                    MatcherUtils.kv("d.name", "Retail"),
+                    MatcherUtils.kv("e.lastname", "Hank")
+                )
+            )
+        );
+    }
+
+    @Test
+    public void buildSideShouldNotBeSwappedForLeftJoin() {
+        indexStats("employee", 1_000_000, "departmentId", 100);
+        indexStats("department", 100, "id", 100);
+
+        String explain = plan(
+            "SELECT d.name, e.lastname FROM employee e " +
+            "  LEFT JOIN department d ON d.id = e.departmentId"
+        ).explain();
+        assertThat(explain, containsString("( e.departmentId = d.id )"));
+        assertThat(explain, not(containsString("( d.id = e.departmentId )")));
+    }
+
+    @Test
+    public void termsFilterShouldBeUsedToLookUpLargeRightSideForSelectiveJoin() {
+        indexStats("employee", 10, "departmentId", 10);
+        indexStats("department", 1_000_000, "id", 1_000_000);
+
+        String explain = plan(
+            "SELECT d.name, e.lastname FROM employee e " +
+            "  JOIN department d ON d.id = e.departmentId"
+        ).explain();
+        assertThat(explain, containsString("BlockHashJoin[ conditions=( e.departmentId = d.id )"));
+
+        assertThat(
+            query(
+                "SELECT d.name, e.lastname FROM employee e " +
+                "  JOIN department d ON d.id = e.departmentId",
+                employees(
+                    employee(1, "Alice", "1"),
+                    employee(2, "Hank", "2")
+                ),
+                departments(
+                    department(1, "1", "AWS"),
+                    department(2, "3", "Retail")
+                )
+            ),
+            hits(
+                hit(
+                    MatcherUtils.kv("d.name", "AWS"),
+                    MatcherUtils.kv("e.lastname", "Alice")
+                )
+            )
+        );
+    }
+
+    @Test
+    public void blockSizeShouldBeEnlargedToLoadBuildSideInOneBlockUnlessConfigured() {
+        indexStats("employee", 20_000, "departmentId", 20_000);
+        indexStats("department", 30_000, "id", 30_000);
+
+        String explain = plan(
+            "SELECT d.name, e.lastname FROM employee e " +
+            "  LEFT JOIN department d ON d.id = e.departmentId"
+        ).explain();
+        assertThat(explain, containsString("GraceHashJoin[ conditions=( e.departmentId = d.id )"));
+        assertThat(explain, containsString("FixedBlockSize with size=20000"));
+
+        explain = plan(
+            "SELECT /*! JOIN_ALGORITHM_BLOCK_SIZE(5000) */ d.name, e.lastname FROM employee e " +
+            "  LEFT JOIN department d ON d.id = e.departmentId"
+        ).explain();
+        assertThat(explain, containsString("FixedBlockSize with size=5000"));
+    }
+
+    @Test
+    public void defaultPlanShouldBeChosenIfStatisticsUnavailable() {
+        String explain = plan(
+            "SELECT d.name, e.lastname FROM employee e " +
+            "  JOIN department d ON d.id = e.departmentId"
+        ).explain();
+        assertThat(explain, containsString("GraceHashJoin[ conditions=( e.departmentId = d.id )"));
+        assertThat(explain, containsString("FixedBlockSize with size=10000"));
+    }
+
+    @Test
+    public void statisticsShouldNotBeCollectedIfJoinStrategyGivenByHints() {
+        String explain = plan(
+            "SELECT /*! JOIN_ALGORITHM_BLOCK_SIZE(5000) */ /*! HASH_WITH_TERMS_FILTER*/ " +
+            "  d.name, e.lastname FROM employee e " +
+            "    JOIN department d ON d.id = e.departmentId"
+        ).explain();
+        assertThat(explain, containsString("FixedBlockSize with size=5000"));
+        verify(client, never()).prepareSearch(any());
+    }
+
+    /**
+     * Mock response of the size-0 search request with cardinality aggregation for index statistics.
+     */
+    private void indexStats(String index, long docNum, String field, long cardinality) {
+        SearchRequestBuilder request = mock(SearchRequestBuilder.class, RETURNS_SELF);
+        SearchResponse response = mock(SearchResponse.class);
+        Aggregations aggregations = mock(Aggregations.class);
+        Cardinality cardinalityAgg = mock(Cardinality.class);
+
+        when(client.prepareSearch(index)).thenReturn(request);
+        doReturn(response).when(request).get();
+        doReturn(new SearchHits(new SearchHit[0], new TotalHits(docNum, Relation.EQUAL_TO), 0))
+            .when(response).getHits();
+        doReturn(aggregations).when(response).getAggregations();
+        doReturn(cardinalityAgg).when(aggregations).get(field);
+        doReturn(cardinality).when(cardinalityAgg).getValue();
+    }
+
+}
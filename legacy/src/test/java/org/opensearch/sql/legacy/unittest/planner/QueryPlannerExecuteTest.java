@@ -393,6 +393,132 @@ public class QueryPlannerExecuteTest extends QueryPlannerTest {
         );
     }
 
+    @Test
+    public void simpleJoinWithLeftPartitionedToDisk() {
+        MatcherAssert.assertThat(
+            query(
+                "SELECT /*! JOIN_ALGORITHM_BLOCK_SIZE(2) */ d.name, e.lastname FROM employee e " +
+                "  JOIN department d ON d.id = e.departmentId",
+                employees(
+                    employee(1, "Alice", "1"),
+                    employee(2, "Hank", "2"),
+                    employee(3, "Dell", "1"),
+                    employee(4, "Ellis", null),
+                    employee(5, "Allen", "3")
+                ),
+                departments(
+                    department(1, "1", "AWS"),
+                    department(2, "2", "Retail"),
+                    department(3, "4", "Sales"),
+                    department(4, null, "Unknown")
+                )
+            ),
+            hits(
+                hit(
+                    MatcherUtils.kv("d.name", "AWS"),
+                    MatcherUtils.kv("e.lastname", "Alice")
+                ),
+                hit(
+                    MatcherUtils.kv("d.name", "Retail"),
+                    MatcherUtils.kv("e.lastname", "Hank")
+                ),
+                hit(
+                    MatcherUtils.kv("d.name", "AWS"),
+                    MatcherUtils.kv("e.lastname", "Dell")
+                )
+            )
+        );
+    }
+
+    @Test
+    public void simpleLeftJoinWithLeftPartitionedToDisk() {
+        MatcherAssert.assertThat(
+            query(
+                "SELECT /*! JOIN_ALGORITHM_BLOCK_SIZE(2) */ d.name, e.lastname FROM employee e " +
+                "  LEFT JOIN department d ON d.id = e.departmentId",
+                employees(
+                    employee(1, "Alice", "1"),
+                    employee(2, "Hank", "2"),
+                    employee(3, "Dell", "1"),
+                    employee(4, "Ellis", null),
+                    employee(5, "Allen", "3")
+                ),
+                departments(
+                    department(1, "1", "AWS"),
+                    department(2, "2", "Retail"),
+                    department(3, "4", "Sales")
+                )
+            ),
+            hits(
+                hit(
+                    MatcherUtils.kv("d.name", "AWS"),
+                    MatcherUtils.kv("e.lastname", "Alice")
+                ),
+                hit(
+                    MatcherUtils.kv("d.name", "Retail"),
+                    MatcherUtils.kv("e.lastname", "Hank")
+                ),
+                hit(
+                    MatcherUtils.kv("d.name", "AWS"),
+                    MatcherUtils.kv("e.lastname", "Dell")
+                ),
+                hit(
+                    MatcherUtils.kv("d.name", null),
+                    MatcherUtils.kv("e.lastname", "Ellis")
+                ),
+                hit(
+                    MatcherUtils.kv("d.name", null),
+                    MatcherUtils.kv("e.lastname", "Allen")
+                )
+            )
+        );
+    }
+
+    @Test
+    public void simpleJoinWithTermsFilterAndLeftExceedingOneBlock() {
+        MatcherAssert.assertThat(
+            query(
+                "SELECT /*! JOIN_ALGORITHM_BLOCK_SIZE(2) */ /*! HASH_WITH_TERMS_FILTER*/ " +
+                "  d.name, e.lastname FROM employee e " +
+                "    LEFT JOIN department d ON d.id = e.departmentId",
+                employees(
+                    employee(1, "Alice", "1"),
+                    employee(2, "Hank", "2"),
+                    employee(3, "Dell", "1"),
+                    employee(4, "Ellis", null),
+                    employee(5, "Allen", "3")
+                ),
+                departments(
+                    department(1, "1", "AWS"),
+                    department(2, "2", "Retail"),
+                    department(3, "4", "Sales")
+                )
+            ),
+            hits(
+                hit(
+                    MatcherUtils.kv("d.name", "AWS"),
+                    MatcherUtils.kv("e.lastname", "Alice")
+                ),
+                hit(
+                    MatcherUtils.kv("d.name", "Retail"),
+                    MatcherUtils.kv("e.lastname", "Hank")
+                ),
+                hit(
+                    MatcherUtils.kv("d.name", "AWS"),
+                    MatcherUtils.kv("e.lastname", "Dell")
+                ),
+                hit(
+                    MatcherUtils.kv("d.name", null),
+                    MatcherUtils.kv("e.lastname", "Ellis")
+                ),
+                hit(
+                    MatcherUtils.kv("d.name", null),
+                    MatcherUtils.kv("e.lastname", "Allen")
+                )
+            )
+        );
+    }
+
     @Test
     public void simpleQueryWithTotalLimit() {
         MatcherAssert.assertThat(
@@ -656,6 +782,37 @@ public class QueryPlannerExecuteTest extends QueryPlannerTest {
         );
     }
 
+    @Test
+    public void complexJoinWithOrConditionsAndAdaptiveBlockSize() {
+        MatcherAssert.assertThat(
+            query(
+                "SELECT /*! JOIN_ALGORITHM_BLOCK_SIZE(0) */ d.name, e.lastname " +
+                "  FROM employee e " +
+                "    JOIN department d " +
+                "      ON d.id = e.departmentId OR d.name = e.lastname",
+                employees(
+                    employee(1, "Alice", "1"),
+                    employee(2, "Dell", "2"),
+                    employee(3, "Hank", "3")
+                ),
+                departments(
+                    department(1, "1", "Dell"),
+                    department(2, "4", "AWS")
+                )
+            ),
+            hits(
+                hit(
+                    MatcherUtils.kv("d.name", "Dell"),
+                    MatcherUtils.kv("e.lastname", "Alice")
+                ),
+                hit(
+                    MatcherUtils.kv("d.name", "Dell"),
+                    MatcherUtils.kv("e.lastname", "Dell")
+                )
+            )
+        );
+    }
+
     @Test
     public void complexJoinWithOrConditionsDuplicate() {
         MatcherAssert.assertThat(
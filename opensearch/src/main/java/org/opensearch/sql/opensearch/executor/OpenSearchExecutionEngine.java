@@ -14,6 +14,7 @@ import org.opensearch.sql.common.response.ResponseListener;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.executor.ExecutionEngine;
 import org.opensearch.sql.executor.Explain;
+import org.opensearch.sql.expression.vector.Batch;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.executor.protector.ExecutionProtector;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
@@ -36,8 +37,9 @@ public class OpenSearchExecutionEngine implements ExecutionEngine {
             List<ExprValue> result = new ArrayList<>();
             plan.open();
 
-            while (plan.hasNext()) {
-              result.add(plan.next());
+            for (Batch batch = plan.nextBatch(Batch.DEFAULT_SIZE); !batch.isEmpty();
+                 batch = plan.nextBatch(Batch.DEFAULT_SIZE)) {
+              result.addAll(batch.getRows());
             }
 
             QueryResponse response = new QueryResponse(physicalPlan.schema(), result);
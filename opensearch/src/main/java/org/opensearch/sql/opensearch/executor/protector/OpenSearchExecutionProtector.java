@@ -14,6 +14,7 @@ import org.opensearch.sql.planner.physical.AggregationOperator;
 import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.EvalOperator;
 import org.opensearch.sql.planner.physical.FilterOperator;
+import org.opensearch.sql.planner.physical.HashJoinOperator;
 import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.ProjectOperator;
@@ -88,15 +89,18 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
 
   @Override
   public PhysicalPlan visitDedupe(DedupeOperator node, Object context) {
-    return new DedupeOperator(visitInput(node.getInput(), context), node.getDedupeList(),
-        node.getAllowedDuplication(), node.getKeepEmpty(), node.getConsecutive());
+    PhysicalPlan input = visitInput(node.getInput(), context);
+    // The non-consecutive dedupe remembers all the seen keys, monitor the memory usage.
+    return new DedupeOperator(node.getConsecutive() ? input : doProtect(input),
+        node.getDedupeList(), node.getAllowedDuplication(), node.getKeepEmpty(),
+        node.getConsecutive());
   }
 
   @Override
   public PhysicalPlan visitWindow(WindowOperator node, Object context) {
     return new WindowOperator(
         doProtect(visitInput(node.getInput(), context)),
-        node.getWindowFunction(),
+        node.getWindowFunctions(),
         node.getWindowDefinition());
   }
 
@@ -150,6 +154,21 @@ public class OpenSearchExecutionProtector extends ExecutionProtector {
     );
   }
 
+  /**
+   * Decorate both inputs with {@link ResourceMonitorPlan}, since either of them may be loaded
+   * into memory as the build side.
+   */
+  @Override
+  public PhysicalPlan visitHashJoin(HashJoinOperator node, Object context) {
+    return new HashJoinOperator(
+        doProtect(visitInput(node.getLeft(), context)),
+        doProtect(visitInput(node.getRight(), context)),
+        node.getJoinType(),
+        node.getLeftKeys(),
+        node.getRightKeys(),
+        node.getBuildThreshold());
+  }
+
   PhysicalPlan visitInput(PhysicalPlan node, Object context) {
     if (null == node) {
       return node;
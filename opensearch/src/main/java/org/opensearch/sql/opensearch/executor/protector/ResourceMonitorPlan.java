@@ -11,6 +11,7 @@ import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.vector.Batch;
 import org.opensearch.sql.monitor.ResourceMonitor;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanNodeVisitor;
@@ -82,4 +83,15 @@ public class ResourceMonitorPlan extends PhysicalPlan {
     }
     return delegate.next();
   }
+
+  /**
+   * Resource is checked once for each batch pulled from delegate.
+   */
+  @Override
+  public Batch nextBatch(int maxSize) {
+    if (!this.monitor.isHealthy()) {
+      throw new IllegalStateException("resource is not enough to load next batch, quit.");
+    }
+    return delegate.nextBatch(maxSize);
+  }
 }
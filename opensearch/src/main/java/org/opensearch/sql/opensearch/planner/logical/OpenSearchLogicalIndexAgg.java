@@ -55,6 +55,12 @@ public class OpenSearchLogicalIndexAgg extends LogicalPlan {
   @Setter
   private List<Pair<Sort.SortOption, Expression>> sortList;
 
+  /**
+   * Number of top buckets to return in the order of sort list.
+   */
+  @Setter
+  private Integer limit;
+
   /**
    * ElasticsearchLogicalIndexAgg Constructor.
    */
@@ -64,13 +70,15 @@ public class OpenSearchLogicalIndexAgg extends LogicalPlan {
       Expression filter,
       List<NamedAggregator> aggregatorList,
       List<NamedExpression> groupByList,
-      List<Pair<Sort.SortOption, Expression>> sortList) {
+      List<Pair<Sort.SortOption, Expression>> sortList,
+      Integer limit) {
     super(ImmutableList.of());
     this.relationName = relationName;
     this.filter = filter;
     this.aggregatorList = aggregatorList;
     this.groupByList = groupByList;
     this.sortList = sortList;
+    this.limit = limit;
   }
 
   @Override
@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.planner.logical;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.ast.tree.RareTopN.CommandType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+
+/**
+ * Logical Index Scan Rare and TopN Operation.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = false)
+public class OpenSearchLogicalIndexRareTopN extends LogicalPlan {
+
+  private final String relationName;
+
+  /**
+   * Filter Condition.
+   */
+  private final Expression filter;
+
+  /**
+   * Rare or TopN.
+   */
+  private final CommandType commandType;
+
+  /**
+   * Number of results for each group.
+   */
+  private final Integer noOfResults;
+
+  /**
+   * Field List.
+   */
+  private final List<Expression> fieldList;
+
+  /**
+   * Group List.
+   */
+  private final List<Expression> groupByList;
+
+  /**
+   * OpenSearchLogicalIndexRareTopN Constructor.
+   */
+  @Builder
+  public OpenSearchLogicalIndexRareTopN(
+      String relationName,
+      Expression filter,
+      CommandType commandType,
+      Integer noOfResults,
+      List<Expression> fieldList,
+      List<Expression> groupByList) {
+    super(ImmutableList.of());
+    this.relationName = relationName;
+    this.filter = filter;
+    this.commandType = commandType;
+    this.noOfResults = noOfResults;
+    this.fieldList = fieldList;
+    this.groupByList = groupByList;
+  }
+
+  @Override
+  public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitNode(this, context);
+  }
+}
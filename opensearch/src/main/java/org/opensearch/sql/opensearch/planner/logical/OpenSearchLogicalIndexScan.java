@@ -58,6 +58,12 @@ public class OpenSearchLogicalIndexScan extends LogicalPlan {
   @Setter
   private Integer limit;
 
+  /**
+   * Field to collapse the search hits by, which keeps only the first hit of each field value.
+   */
+  @Setter
+  private ReferenceExpression collapseField;
+
   /**
    * ElasticsearchLogicalIndexScan Constructor.
    */
@@ -67,7 +73,8 @@ public class OpenSearchLogicalIndexScan extends LogicalPlan {
       Expression filter,
       Set<ReferenceExpression> projectList,
       List<Pair<Sort.SortOption, Expression>> sortList,
-      Integer limit, Integer offset) {
+      Integer limit, Integer offset,
+      ReferenceExpression collapseField) {
     super(ImmutableList.of());
     this.relationName = relationName;
     this.filter = filter;
@@ -75,6 +82,7 @@ public class OpenSearchLogicalIndexScan extends LogicalPlan {
     this.sortList = sortList;
     this.limit = limit;
     this.offset = offset;
+    this.collapseField = collapseField;
   }
 
   @Override
@@ -86,6 +94,10 @@ public class OpenSearchLogicalIndexScan extends LogicalPlan {
     return limit != null;
   }
 
+  public boolean hasCollapse() {
+    return collapseField != null;
+  }
+
   /**
    * Test has projects or not.
    *
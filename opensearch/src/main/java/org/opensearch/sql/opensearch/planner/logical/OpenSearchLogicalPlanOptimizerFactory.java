@@ -10,9 +10,14 @@ import java.util.Arrays;
 import lombok.experimental.UtilityClass;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeAggAndIndexScan;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeAggAndRelation;
+import org.opensearch.sql.opensearch.planner.logical.rule.MergeDedupeAndIndexScan;
+import org.opensearch.sql.opensearch.planner.logical.rule.MergeDedupeAndRelation;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeFilterAndRelation;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeLimitAndIndexScan;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeLimitAndRelation;
+import org.opensearch.sql.opensearch.planner.logical.rule.MergeLimitAndSortAndIndexAgg;
+import org.opensearch.sql.opensearch.planner.logical.rule.MergeRareTopNAndIndexScan;
+import org.opensearch.sql.opensearch.planner.logical.rule.MergeRareTopNAndRelation;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeSortAndIndexAgg;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeSortAndIndexScan;
 import org.opensearch.sql.opensearch.planner.logical.rule.MergeSortAndRelation;
@@ -34,12 +39,17 @@ public class OpenSearchLogicalPlanOptimizerFactory {
         new MergeFilterAndRelation(),
         new MergeAggAndIndexScan(),
         new MergeAggAndRelation(),
+        new MergeRareTopNAndIndexScan(),
+        new MergeRareTopNAndRelation(),
+        new MergeDedupeAndIndexScan(),
+        new MergeDedupeAndRelation(),
         new MergeSortAndRelation(),
         new MergeSortAndIndexScan(),
         new MergeSortAndIndexAgg(),
         new MergeSortAndIndexScan(),
         new MergeLimitAndRelation(),
         new MergeLimitAndIndexScan(),
+        new MergeLimitAndSortAndIndexAgg(),
         new PushProjectAndRelation(),
         new PushProjectAndIndexScan()
     ));
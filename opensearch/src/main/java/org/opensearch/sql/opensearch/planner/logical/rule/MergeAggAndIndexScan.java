@@ -38,7 +38,7 @@ public class MergeAggAndIndexScan implements Rule<LogicalAggregation> {
     this.capture = Capture.newCapture();
     this.pattern = typeOf(LogicalAggregation.class)
         .with(source().matching(typeOf(OpenSearchLogicalIndexScan.class)
-            .matching(indexScan -> !indexScan.hasLimit())
+            .matching(indexScan -> !indexScan.hasLimit() && !indexScan.hasCollapse())
             .capturedAs(capture)));
   }
 
@@ -0,0 +1,63 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.planner.logical.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexScan;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Merge Dedupe -- IndexScan to IndexScan collapsed by the dedupe field.
+ * The first hit of each field value in the order of the sort list is kept, which is the same as
+ * the in-memory dedupe on the sorted hits. The IndexScan with limit can't be collapsed, because
+ * the limit should be applied before dedupe.
+ */
+public class MergeDedupeAndIndexScan implements Rule<LogicalDedupe> {
+
+  private final Capture<OpenSearchLogicalIndexScan> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalDedupe> pattern;
+
+  /**
+   * Constructor of MergeDedupeAndIndexScan.
+   */
+  public MergeDedupeAndIndexScan() {
+    this.capture = Capture.newCapture();
+    this.pattern = typeOf(LogicalDedupe.class)
+        .matching(OptimizationRuleUtils::isDedupePushDownSupported)
+        .with(source().matching(typeOf(OpenSearchLogicalIndexScan.class)
+            .matching(indexScan -> !indexScan.hasLimit() && !indexScan.hasCollapse())
+            .capturedAs(capture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalDedupe dedupe,
+                           Captures captures) {
+    OpenSearchLogicalIndexScan indexScan = captures.get(capture);
+    return OpenSearchLogicalIndexScan.builder()
+        .relationName(indexScan.getRelationName())
+        .filter(indexScan.getFilter())
+        .projectList(indexScan.getProjectList())
+        .sortList(indexScan.getSortList())
+        .offset(indexScan.getOffset())
+        .limit(indexScan.getLimit())
+        .collapseField((ReferenceExpression) dedupe.getDedupeList().get(0))
+        .build();
+  }
+}
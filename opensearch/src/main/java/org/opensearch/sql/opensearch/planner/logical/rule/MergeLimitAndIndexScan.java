@@ -44,8 +44,17 @@ public class MergeLimitAndIndexScan implements Rule<LogicalLimit> {
         OpenSearchLogicalIndexScan.builder();
     builder.relationName(indexScan.getRelationName())
         .filter(indexScan.getFilter())
-        .offset(plan.getOffset())
-        .limit(plan.getLimit());
+        .projectList(indexScan.getProjectList())
+        .collapseField(indexScan.getCollapseField());
+    if (indexScan.hasLimit()) {
+      // Limit above a limited scan, e.g. head 10 | eval ... | head 5 from 2, only reads the
+      // window of the inner limit.
+      int offset = indexScan.getOffset() + plan.getOffset();
+      int limit = Math.max(0, Math.min(plan.getLimit(), indexScan.getLimit() - plan.getOffset()));
+      builder.offset(offset).limit(limit);
+    } else {
+      builder.offset(plan.getOffset()).limit(plan.getLimit());
+    }
     if (indexScan.getSortList() != null) {
       builder.sortList(indexScan.getSortList());
     }
@@ -0,0 +1,121 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.planner.logical.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.ast.tree.Sort;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexAgg;
+import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
+import org.opensearch.sql.planner.logical.LogicalLimit;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalSort;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Merge Limit -- Sort -- IndexScanAggregation to IndexScanAggregation which returns the top N
+ * buckets, e.g. stats count() by host | sort - count() | head 10.
+ * The sort by aggregator can't be pushed down to composite aggregation, it is pushed down as terms
+ * aggregation ordered by the metric instead. Only a single group by field without offset is
+ * supported. Note that terms aggregation collects the top buckets per shard, so the order by
+ * metric is approximate when the buckets are spread across shards, and the documents missing the
+ * group by field don't form a null bucket.
+ */
+public class MergeLimitAndSortAndIndexAgg implements Rule<LogicalLimit> {
+
+  private final Capture<LogicalSort> sortCapture;
+
+  private final Capture<OpenSearchLogicalIndexAgg> indexAggCapture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalLimit> pattern;
+
+  /**
+   * Constructor of MergeLimitAndSortAndIndexAgg.
+   */
+  public MergeLimitAndSortAndIndexAgg() {
+    this.sortCapture = Capture.newCapture();
+    this.indexAggCapture = Capture.newCapture();
+    final AtomicReference<LogicalSort> sortRef = new AtomicReference<>();
+
+    this.pattern = typeOf(LogicalLimit.class)
+        .matching(limit -> limit.getOffset() == 0)
+        .with(source().matching(typeOf(LogicalSort.class)
+            .matching(OptimizationRuleUtils::sortByFieldsOnly)
+            .matching(sort -> {
+              sortRef.set(sort);
+              return true;
+            })
+            .capturedAs(sortCapture)
+            .with(source().matching(typeOf(OpenSearchLogicalIndexAgg.class)
+                .matching(indexAgg -> isTopBucketsSupported(sortRef.get(), indexAgg))
+                .capturedAs(indexAggCapture)))));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalLimit limit,
+                           Captures captures) {
+    LogicalSort sort = captures.get(sortCapture);
+    OpenSearchLogicalIndexAgg indexAgg = captures.get(indexAggCapture);
+    return OpenSearchLogicalIndexAgg.builder()
+        .relationName(indexAgg.getRelationName())
+        .filter(indexAgg.getFilter())
+        .groupByList(indexAgg.getGroupByList())
+        .aggregatorList(indexAgg.getAggregatorList())
+        .sortList(sort.getSortList())
+        .limit(limit.getLimit())
+        .build();
+  }
+
+  /**
+   * The first sort field must be an aggregator which terms aggregation could order by,
+   * the optional second sort field must be the group by field.
+   */
+  private boolean isTopBucketsSupported(LogicalSort sort, OpenSearchLogicalIndexAgg agg) {
+    if (agg.getSortList() != null || agg.getLimit() != null
+        || agg.getGroupByList().size() != 1) {
+      return false;
+    }
+    NamedExpression group = agg.getGroupByList().get(0);
+    if (!(group.getDelegated() instanceof ReferenceExpression)
+        || group.type() == ExprCoreType.BOOLEAN) {
+      return false;
+    }
+
+    List<Pair<Sort.SortOption, Expression>> sortList = sort.getSortList();
+    if (sortList.isEmpty() || sortList.size() > 2) {
+      return false;
+    }
+    Optional<NamedAggregator> aggregator = agg.getAggregatorList().stream()
+        .filter(namedAgg -> namedAgg.getName().equals(sortField(sortList.get(0))))
+        .findFirst();
+    if (!aggregator.isPresent() || !AggregationQueryBuilder.canOrderBucketsBy(aggregator.get())) {
+      return false;
+    }
+    return sortList.size() == 1 || group.getNameOrAlias().equals(sortField(sortList.get(1)));
+  }
+
+  private String sortField(Pair<Sort.SortOption, Expression> sortPair) {
+    return ((ReferenceExpression) sortPair.getRight()).getAttr();
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.planner.logical.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexRareTopN;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexScan;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalRareTopN;
+import org.opensearch.sql.planner.optimizer.Rule;
+
+/**
+ * Merge RareTopN -- IndexScan to IndexScanRareTopN.
+ */
+public class MergeRareTopNAndIndexScan implements Rule<LogicalRareTopN> {
+
+  private final Capture<OpenSearchLogicalIndexScan> capture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalRareTopN> pattern;
+
+  /**
+   * Constructor of MergeRareTopNAndIndexScan.
+   */
+  public MergeRareTopNAndIndexScan() {
+    this.capture = Capture.newCapture();
+    this.pattern = typeOf(LogicalRareTopN.class)
+        .matching(OptimizationRuleUtils::isRareTopNPushDownSupported)
+        .with(source().matching(typeOf(OpenSearchLogicalIndexScan.class)
+            .matching(indexScan -> !indexScan.hasLimit() && indexScan.getSortList() == null
+                && !indexScan.hasCollapse())
+            .capturedAs(capture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalRareTopN rareTopN,
+                           Captures captures) {
+    OpenSearchLogicalIndexScan indexScan = captures.get(capture);
+    return OpenSearchLogicalIndexRareTopN
+        .builder()
+        .relationName(indexScan.getRelationName())
+        .filter(indexScan.getFilter())
+        .commandType(rareTopN.getCommandType())
+        .noOfResults(rareTopN.getNoOfResults())
+        .fieldList(rareTopN.getFieldList())
+        .groupByList(rareTopN.getGroupByList())
+        .build();
+  }
+}
@@ -24,7 +24,7 @@ import org.opensearch.sql.planner.logical.LogicalSort;
 import org.opensearch.sql.planner.optimizer.Rule;
 
 /**
- * Merge Sort with IndexScan only when Sort by fields.
+ * Merge Sort with IndexScan only when Sort by fields or expressions supported by script sort.
  */
 public class MergeSortAndIndexScan implements Rule<LogicalSort> {
 
@@ -36,9 +36,12 @@ public class MergeSortAndIndexScan implements Rule<LogicalSort> {
    */
   public MergeSortAndIndexScan() {
     this.indexScanCapture = Capture.newCapture();
-    this.pattern = typeOf(LogicalSort.class).matching(OptimizationRuleUtils::sortByFieldsOnly)
+    this.pattern = typeOf(LogicalSort.class)
+        .matching(OptimizationRuleUtils::sortByFieldsOrScriptSupported)
         .with(source()
-            .matching(typeOf(OpenSearchLogicalIndexScan.class).capturedAs(indexScanCapture)));
+            .matching(typeOf(OpenSearchLogicalIndexScan.class)
+                .matching(indexScan -> !indexScan.hasCollapse())
+                .capturedAs(indexScanCapture)));
   }
 
   @Override
@@ -19,7 +19,7 @@ import org.opensearch.sql.planner.logical.LogicalSort;
 import org.opensearch.sql.planner.optimizer.Rule;
 
 /**
- * Merge Sort with Relation only when Sort by fields.
+ * Merge Sort with Relation only when Sort by fields or expressions supported by script sort.
  */
 public class MergeSortAndRelation implements Rule<LogicalSort> {
 
@@ -31,7 +31,8 @@ public class MergeSortAndRelation implements Rule<LogicalSort> {
    */
   public MergeSortAndRelation() {
     this.relationCapture = Capture.newCapture();
-    this.pattern = typeOf(LogicalSort.class).matching(OptimizationRuleUtils::sortByFieldsOnly)
+    this.pattern = typeOf(LogicalSort.class)
+        .matching(OptimizationRuleUtils::sortByFieldsOrScriptSupported)
         .with(source().matching(typeOf(LogicalRelation.class).capturedAs(relationCapture)));
   }
 
@@ -14,6 +14,9 @@ import lombok.experimental.UtilityClass;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.opensearch.storage.script.sort.SortQueryBuilder;
+import org.opensearch.sql.planner.logical.LogicalDedupe;
+import org.opensearch.sql.planner.logical.LogicalRareTopN;
 import org.opensearch.sql.planner.logical.LogicalSort;
 
 @UtilityClass
@@ -31,6 +34,50 @@ public class OptimizationRuleUtils {
         .reduce(true, Boolean::logicalAnd);
   }
 
+  /**
+   * Does the sort list only contain {@link ReferenceExpression} or expression which could be
+   * sorted by script based sorting.
+   *
+   * @param logicalSort LogicalSort.
+   * @return true if all the sort expressions could be pushed down, otherwise false.
+   */
+  public static boolean sortByFieldsOrScriptSupported(LogicalSort logicalSort) {
+    return logicalSort.getSortList().stream()
+        .map(sort -> sort.getRight() instanceof ReferenceExpression
+            || SortQueryBuilder.isScriptSortSupported(sort.getRight()))
+        .reduce(true, Boolean::logicalAnd);
+  }
+
+  /**
+   * Could the rare or top command be pushed down as terms aggregation, which requires exactly one
+   * field and only {@link ReferenceExpression} in the field and group by list.
+   *
+   * @param rareTopN LogicalRareTopN.
+   * @return true if the rare or top command could be pushed down, otherwise false.
+   */
+  public static boolean isRareTopNPushDownSupported(LogicalRareTopN rareTopN) {
+    return rareTopN.getNoOfResults() > 0
+        && rareTopN.getFieldList().size() == 1
+        && rareTopN.getFieldList().get(0) instanceof ReferenceExpression
+        && rareTopN.getGroupByList().stream().allMatch(ReferenceExpression.class::isInstance);
+  }
+
+  /**
+   * Could the dedupe command be pushed down as field collapsing, which requires the default
+   * options, i.e. keep one event of each value of a single {@link ReferenceExpression}, drop
+   * the events with empty value and not only the consecutive events are deduped.
+   *
+   * @param dedupe LogicalDedupe.
+   * @return true if the dedupe command could be pushed down, otherwise false.
+   */
+  public static boolean isDedupePushDownSupported(LogicalDedupe dedupe) {
+    return dedupe.getAllowedDuplication() == 1
+        && !dedupe.getKeepEmpty()
+        && !dedupe.getConsecutive()
+        && dedupe.getDedupeList().size() == 1
+        && dedupe.getDedupeList().get(0) instanceof ReferenceExpression;
+  }
+
   /**
    * Find reference expression from expression.
    * @param expressions a list of expression.
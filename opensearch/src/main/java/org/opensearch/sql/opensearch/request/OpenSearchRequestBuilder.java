@@ -18,11 +18,11 @@ import lombok.Getter;
 import lombok.ToString;
 import org.apache.commons.lang3.tuple.Pair;
 import org.opensearch.common.unit.TimeValue;
-import org.opensearch.index.query.BoolQueryBuilder;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
 import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.sql.ast.expression.Literal;
@@ -33,6 +33,7 @@ import org.opensearch.sql.exception.SemanticCheckException;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.storage.script.filter.FilterQueryNormalizer;
 
 /**
  * OpenSearch search request builder.
@@ -74,6 +75,11 @@ public class OpenSearchRequestBuilder {
    */
   private Integer querySize;
 
+  /**
+   * Whether limit and offset have been pushed down.
+   */
+  private boolean limitPushedDown = false;
+
   public OpenSearchRequestBuilder(String indexName,
                                   Integer maxResultWindow,
                                   Settings settings,
@@ -109,12 +115,31 @@ public class OpenSearchRequestBuilder {
 
     if (from + size <= maxResultWindow) {
       return new OpenSearchQueryRequest(indexName, sourceBuilder, exprValueFactory);
+    } else if (sourceBuilder.collapse() != null) {
+      throw new IllegalStateException(String.format(
+          "Field collapsing is not supported by scroll request, but from [%d] and size [%d] "
+              + "are beyond the max result window [%d]", from, size, maxResultWindow));
     } else {
       sourceBuilder.size(maxResultWindow - from);
       return new OpenSearchScrollRequest(indexName, sourceBuilder, exprValueFactory);
     }
   }
 
+  /**
+   * Check if the hits of the given limit and offset, or the hits of query size if no limit,
+   * are all in the max result window, which means the request is not a scroll request.
+   *
+   * @param limit  limit or null if no limit
+   * @param offset offset of the limit
+   * @return true if within the max result window
+   */
+  public boolean isWithinMaxResultWindow(Integer limit, Integer offset) {
+    if (limit == null) {
+      return sourceBuilder.from() + sourceBuilder.size() <= maxResultWindow;
+    }
+    return offset + limit <= maxResultWindow;
+  }
+
   /**
    * Push down query to DSL request.
    *
@@ -126,13 +151,10 @@ public class OpenSearchRequestBuilder {
     if (current == null) {
       sourceBuilder.query(query);
     } else {
-      if (isBoolFilterQuery(current)) {
-        ((BoolQueryBuilder) current).filter(query);
-      } else {
-        sourceBuilder.query(QueryBuilders.boolQuery()
-            .filter(current)
-            .filter(query));
-      }
+      // Nested filter clauses are flattened by normalizer
+      sourceBuilder.query(new FilterQueryNormalizer().normalize(QueryBuilders.boolQuery()
+          .filter(current)
+          .filter(query)));
     }
 
     if (sourceBuilder.sorts() == null) {
@@ -163,14 +185,39 @@ public class OpenSearchRequestBuilder {
     }
   }
 
+  /**
+   * Push down field collapsing to DSL request, which only returns the first hit of each field
+   * value. The hits missing the field are filtered out.
+   *
+   * @param field field to collapse the hits by.
+   */
+  public void pushDownCollapse(String field) {
+    pushDown(QueryBuilders.existsQuery(field));
+    sourceBuilder.collapse(new CollapseBuilder(field));
+  }
+
   /**
    * Push down size (limit) and from (offset) to DSL request.
    */
   public void pushDownLimit(Integer limit, Integer offset) {
     querySize = limit;
+    limitPushedDown = true;
     sourceBuilder.from(offset).size(limit);
   }
 
+  /**
+   * Check if the filter pushed down now only removes the documents not matched from the result.
+   * Otherwise, limit, offset, collapse or aggregation pushed down before would be applied after
+   * the filter and return different documents.
+   *
+   * @return true if the request has no limit, offset, collapse or aggregation
+   */
+  public boolean isFilterOnly() {
+    return !limitPushedDown
+        && sourceBuilder.collapse() == null
+        && sourceBuilder.aggregations() == null;
+  }
+
   /**
    * Add highlight to DSL requests.
    * @param field name of the field to highlight
@@ -216,8 +263,4 @@ public class OpenSearchRequestBuilder {
   public void pushTypeMapping(Map<String, ExprType> typeMapping) {
     exprValueFactory.setTypeMapping(typeMapping);
   }
-
-  private boolean isBoolFilterQuery(QueryBuilder current) {
-    return (current instanceof BoolQueryBuilder);
-  }
 }
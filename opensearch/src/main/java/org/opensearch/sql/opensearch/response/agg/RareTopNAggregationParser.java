@@ -0,0 +1,59 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.response.agg;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.search.aggregations.Aggregation;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.composite.CompositeAggregation;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+
+/**
+ * Rare and TopN Aggregation Parser which parses the terms aggregation on the field, optionally
+ * nested in the composite aggregation on the group by fields. Each terms bucket is returned as
+ * one row of the group key and the field value.
+ */
+@RequiredArgsConstructor
+public class RareTopNAggregationParser implements OpenSearchAggregationResponseParser {
+
+  /**
+   * Name of the terms aggregation.
+   */
+  private final String termsName;
+
+  /**
+   * Name of the field which the terms bucket key is returned as.
+   */
+  private final String fieldName;
+
+  @Override
+  public List<Map<String, Object>> parse(Aggregations aggregations) {
+    Aggregation aggregation = aggregations.asList().get(0);
+    if (aggregation instanceof CompositeAggregation) {
+      return ((CompositeAggregation) aggregation).getBuckets().stream()
+          .flatMap(bucket -> parse(bucket.getAggregations(), bucket.getKey()).stream())
+          .collect(Collectors.toList());
+    }
+    return parse(aggregations, Collections.emptyMap());
+  }
+
+  private List<Map<String, Object>> parse(Aggregations aggregations,
+                                          Map<String, Object> groupKey) {
+    return ((Terms) aggregations.get(termsName)).getBuckets().stream()
+        .map(bucket -> {
+          Map<String, Object> resultMap = new LinkedHashMap<>(groupKey);
+          resultMap.put(fieldName, bucket.getKey());
+          return resultMap;
+        })
+        .collect(Collectors.toList());
+  }
+}
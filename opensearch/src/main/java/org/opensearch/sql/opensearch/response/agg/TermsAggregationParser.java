@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.response.agg;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.opensearch.search.aggregations.Aggregations;
+import org.opensearch.search.aggregations.bucket.terms.Terms;
+
+/**
+ * Terms Aggregation Parser which include terms aggregation on one group field and metric parsers.
+ * The buckets are returned in the order given by the terms aggregation.
+ */
+public class TermsAggregationParser implements OpenSearchAggregationResponseParser {
+
+  /**
+   * Name of the group field which the bucket key is returned as.
+   */
+  private final String groupName;
+
+  private final MetricParserHelper metricsParser;
+
+  public TermsAggregationParser(String groupName, MetricParser... metricParserList) {
+    this(groupName, Arrays.asList(metricParserList));
+  }
+
+  public TermsAggregationParser(String groupName, List<MetricParser> metricParserList) {
+    this.groupName = groupName;
+    this.metricsParser = new MetricParserHelper(metricParserList);
+  }
+
+  @Override
+  public List<Map<String, Object>> parse(Aggregations aggregations) {
+    return ((Terms) aggregations.asList().get(0))
+        .getBuckets().stream().map(this::parse).collect(Collectors.toList());
+  }
+
+  private Map<String, Object> parse(Terms.Bucket bucket) {
+    Map<String, Object> resultMap = new HashMap<>();
+    resultMap.put(groupName, bucket.getKey());
+    resultMap.putAll(metricsParser.parse(bucket.getAggregations()));
+    return resultMap;
+  }
+}
@@ -7,8 +7,11 @@
 package org.opensearch.sql.opensearch.storage;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
@@ -17,9 +20,11 @@ import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.common.utils.StringUtils;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexAgg;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexRareTopN;
 import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexScan;
 import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalPlanOptimizerFactory;
 import org.opensearch.sql.opensearch.planner.physical.ADOperator;
@@ -27,6 +32,7 @@ import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.system.OpenSearchDescribeIndexRequest;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.storage.script.ScriptUtils;
 import org.opensearch.sql.opensearch.storage.script.aggregation.AggregationQueryBuilder;
 import org.opensearch.sql.opensearch.storage.script.filter.FilterQueryBuilder;
 import org.opensearch.sql.opensearch.storage.script.sort.SortQueryBuilder;
@@ -37,6 +43,8 @@ import org.opensearch.sql.planner.logical.LogicalHighlight;
 import org.opensearch.sql.planner.logical.LogicalMLCommons;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.physical.DedupeOperator;
+import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.storage.Table;
 
@@ -131,6 +139,8 @@ public class OpenSearchIndex implements Table {
         return visitIndexScan((OpenSearchLogicalIndexScan) plan, context);
       } else if (plan instanceof OpenSearchLogicalIndexAgg) {
         return visitIndexAggregation((OpenSearchLogicalIndexAgg) plan, context);
+      } else if (plan instanceof OpenSearchLogicalIndexRareTopN) {
+        return visitIndexRareTopN((OpenSearchLogicalIndexRareTopN) plan, context);
       } else {
         throw new IllegalStateException(StringUtils.format("unexpected plan node type %s",
             plan.getClass()));
@@ -143,7 +153,7 @@ public class OpenSearchIndex implements Table {
     public PhysicalPlan visitIndexScan(OpenSearchLogicalIndexScan node,
                                        OpenSearchIndexScan context) {
       if (null != node.getSortList()) {
-        final SortQueryBuilder builder = new SortQueryBuilder();
+        final SortQueryBuilder builder = new SortQueryBuilder(new DefaultExpressionSerializer());
         context.getRequestBuilder().pushDownSort(node.getSortList().stream()
             .map(sort -> builder.build(sort.getValue(), sort.getKey()))
             .collect(Collectors.toList()));
@@ -155,6 +165,17 @@ public class OpenSearchIndex implements Table {
         context.getRequestBuilder().pushDown(query);
       }
 
+      if (node.hasCollapse() && !context.getRequestBuilder()
+          .isWithinMaxResultWindow(node.getLimit(), node.getOffset())) {
+        return implementDedupe(node, context);
+      }
+
+      if (node.hasCollapse()) {
+        ReferenceExpression field = node.getCollapseField();
+        context.getRequestBuilder().pushDownCollapse(
+            ScriptUtils.convertTextToKeyword(field.getAttr(), field.type()));
+      }
+
       if (node.getLimit() != null) {
         context.getRequestBuilder().pushDownLimit(node.getLimit(), node.getOffset());
       }
@@ -165,6 +186,27 @@ public class OpenSearchIndex implements Table {
       return indexScan;
     }
 
+    /**
+     * Implement the collapsed index scan beyond the max result window by in-memory dedupe,
+     * because field collapsing can't be used in the scroll request. The limit is applied after
+     * dedupe, and the dedupe field is fetched in addition to the projects.
+     */
+    private PhysicalPlan implementDedupe(OpenSearchLogicalIndexScan node,
+                                         OpenSearchIndexScan context) {
+      ReferenceExpression field = node.getCollapseField();
+      if (node.hasProjects()) {
+        Set<ReferenceExpression> projects = new HashSet<>(node.getProjectList());
+        projects.add(field);
+        context.getRequestBuilder().pushDownProjects(projects);
+      }
+
+      PhysicalPlan plan = new DedupeOperator(indexScan, ImmutableList.of(field));
+      if (node.getLimit() != null) {
+        plan = new LimitOperator(plan, node.getLimit(), node.getOffset());
+      }
+      return plan;
+    }
+
     /**
      * Implement ElasticsearchLogicalIndexAgg.
      */
@@ -180,7 +222,7 @@ public class OpenSearchIndex implements Table {
           new AggregationQueryBuilder(new DefaultExpressionSerializer());
       Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder =
           builder.buildAggregationBuilder(node.getAggregatorList(),
-              node.getGroupByList(), node.getSortList());
+              node.getGroupByList(), node.getSortList(), node.getLimit());
       context.getRequestBuilder().pushDownAggregation(aggregationBuilder);
       context.getRequestBuilder().pushTypeMapping(
           builder.buildTypeMapping(node.getAggregatorList(),
@@ -188,6 +230,28 @@ public class OpenSearchIndex implements Table {
       return indexScan;
     }
 
+    /**
+     * Implement OpenSearchLogicalIndexRareTopN.
+     */
+    public PhysicalPlan visitIndexRareTopN(OpenSearchLogicalIndexRareTopN node,
+                                           OpenSearchIndexScan context) {
+      if (node.getFilter() != null) {
+        FilterQueryBuilder queryBuilder = new FilterQueryBuilder(
+            new DefaultExpressionSerializer());
+        QueryBuilder query = queryBuilder.build(node.getFilter());
+        context.getRequestBuilder().pushDown(query);
+      }
+      AggregationQueryBuilder builder =
+          new AggregationQueryBuilder(new DefaultExpressionSerializer());
+      Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser> aggregationBuilder =
+          builder.buildRareTopNAggregationBuilder(node.getCommandType(), node.getNoOfResults(),
+              node.getFieldList().get(0), node.getGroupByList());
+      context.getRequestBuilder().pushDownAggregation(aggregationBuilder);
+      context.getRequestBuilder().pushTypeMapping(
+          builder.buildRareTopNTypeMapping(node.getFieldList(), node.getGroupByList()));
+      return indexScan;
+    }
+
     @Override
     public PhysicalPlan visitRelation(LogicalRelation node, OpenSearchIndexScan context) {
       return indexScan;
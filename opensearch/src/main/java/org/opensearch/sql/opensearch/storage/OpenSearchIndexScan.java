@@ -6,18 +6,24 @@
 
 package org.opensearch.sql.opensearch.storage;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.vector.Batch;
 import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.request.OpenSearchRequest;
 import org.opensearch.sql.opensearch.request.OpenSearchRequestBuilder;
 import org.opensearch.sql.opensearch.response.OpenSearchResponse;
+import org.opensearch.sql.opensearch.storage.script.filter.lucene.TermsQuery;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /**
@@ -99,6 +105,18 @@ public class OpenSearchIndexScan extends TableScanOperator {
     return iterator.next();
   }
 
+  @Override
+  public Batch nextBatch(int maxSize) {
+    List<ExprValue> rows = new ArrayList<>();
+    while (rows.size() < maxSize && hasNext()) {
+      // Drain current search response without checking hasNext() for each row
+      while (rows.size() < maxSize && queryCount < querySize && iterator.hasNext()) {
+        rows.add(next());
+      }
+    }
+    return new Batch(rows);
+  }
+
   private void fetchNextBatch() {
     OpenSearchResponse response = client.search(request);
     if (!response.isEmpty()) {
@@ -113,6 +131,17 @@ public class OpenSearchIndexScan extends TableScanOperator {
     client.cleanup(request);
   }
 
+  /**
+   * Push down the values as terms query, unless the request has limit, offset, collapse or
+   * aggregation which should be applied to the documents without the values filtered.
+   */
+  @Override
+  public void pushDownValues(ReferenceExpression field, Collection<ExprValue> values) {
+    if (requestBuilder.isFilterOnly()) {
+      requestBuilder.pushDown(new TermsQuery().build(field, values));
+    }
+  }
+
   @Override
   public String explain() {
     return getRequestBuilder().build().toString();
@@ -13,11 +13,15 @@ import java.util.function.Function;
 import lombok.RequiredArgsConstructor;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.script.FilterScript;
+import org.opensearch.script.NumberSortScript;
 import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
+import org.opensearch.script.StringSortScript;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.opensearch.storage.script.aggregation.ExpressionAggregationScriptFactory;
 import org.opensearch.sql.opensearch.storage.script.filter.ExpressionFilterScriptFactory;
+import org.opensearch.sql.opensearch.storage.script.sort.ExpressionNumberSortScriptFactory;
+import org.opensearch.sql.opensearch.storage.script.sort.ExpressionStringSortScriptFactory;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
 /**
@@ -39,6 +43,8 @@ public class ExpressionScriptEngine implements ScriptEngine {
       new ImmutableMap.Builder<ScriptContext<?>, Function<Expression, Object>>()
           .put(FilterScript.CONTEXT, ExpressionFilterScriptFactory::new)
           .put(AggregationScript.CONTEXT, ExpressionAggregationScriptFactory::new)
+          .put(NumberSortScript.CONTEXT, ExpressionNumberSortScriptFactory::new)
+          .put(StringSortScript.CONTEXT, ExpressionStringSortScriptFactory::new)
           .build();
 
   /**
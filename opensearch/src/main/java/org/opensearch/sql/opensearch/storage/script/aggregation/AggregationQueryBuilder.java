@@ -9,11 +9,16 @@ package org.opensearch.sql.opensearch.storage.script.aggregation;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.tuple.Pair;
@@ -21,12 +26,17 @@ import org.apache.commons.lang3.tuple.Triple;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.aggregations.AggregatorFactories;
+import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.sort.SortOrder;
+import org.opensearch.sql.ast.tree.RareTopN;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
+import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.expression.aggregation.NamedAggregator;
@@ -34,6 +44,8 @@ import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.MetricParser;
 import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.RareTopNAggregationParser;
+import org.opensearch.sql.opensearch.response.agg.TermsAggregationParser;
 import org.opensearch.sql.opensearch.storage.script.aggregation.dsl.BucketAggregationBuilder;
 import org.opensearch.sql.opensearch.storage.script.aggregation.dsl.MetricAggregationBuilder;
 import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
@@ -50,6 +62,13 @@ public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBu
    */
   public static final int AGGREGATION_BUCKET_SIZE = 1000;
 
+  /**
+   * Aggregators which are built as single value metric aggregation that terms aggregation
+   * could order the buckets by.
+   */
+  private static final Set<String> SINGLE_VALUE_METRICS =
+      ImmutableSet.of("avg", "sum", "count", "min", "max");
+
   /**
    * Bucket Aggregation builder.
    */
@@ -75,6 +94,19 @@ public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBu
           List<NamedAggregator> namedAggregatorList,
           List<NamedExpression> groupByList,
           List<Pair<Sort.SortOption, Expression>> sortList) {
+    return buildAggregationBuilder(namedAggregatorList, groupByList, sortList, null);
+  }
+
+  /**
+   * Build AggregationBuilder. If the limit is given, the only group by field is bucketed by terms
+   * aggregation which returns the top limit buckets in the order of the sort list.
+   */
+  public Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser>
+      buildAggregationBuilder(
+          List<NamedAggregator> namedAggregatorList,
+          List<NamedExpression> groupByList,
+          List<Pair<Sort.SortOption, Expression>> sortList,
+          Integer limit) {
 
     final Pair<AggregatorFactories.Builder, List<MetricParser>> metrics =
         metricBuilder.build(namedAggregatorList);
@@ -84,6 +116,14 @@ public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBu
       return Pair.of(
           ImmutableList.copyOf(metrics.getLeft().getAggregatorFactories()),
           new NoBucketAggregationParser(metrics.getRight()));
+    } else if (limit != null) {
+      NamedExpression group = groupByList.get(0);
+      return Pair.of(
+          Collections.singletonList(
+              bucketBuilder.buildTerms(group,
+                      termsOrder(namedAggregatorList, group, sortList), limit)
+                  .subAggregations(metrics.getLeft())),
+          new TermsAggregationParser(group.getNameOrAlias(), metrics.getRight()));
     } else {
       GroupSortOrder groupSortOrder = new GroupSortOrder(sortList);
       return Pair.of(
@@ -103,6 +143,90 @@ public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBu
     }
   }
 
+  /**
+   * Build AggregationBuilder for rare and top command. The terms aggregation on the field returns
+   * the noOfResults least (rare) or most (top) frequent values, which is nested in the composite
+   * aggregation if there are group by fields.
+   */
+  public Pair<List<AggregationBuilder>, OpenSearchAggregationResponseParser>
+      buildRareTopNAggregationBuilder(
+          RareTopN.CommandType commandType,
+          Integer noOfResults,
+          Expression field,
+          List<Expression> groupByList) {
+    BucketOrder order = BucketOrder.compound(
+        BucketOrder.count(commandType == RareTopN.CommandType.RARE), BucketOrder.key(true));
+    TermsAggregationBuilder termsBuilder =
+        bucketBuilder.buildTerms(DSL.named(field.toString(), field), order, noOfResults);
+    OpenSearchAggregationResponseParser parser =
+        new RareTopNAggregationParser(BucketAggregationBuilder.TERMS_BUCKETS, field.toString());
+
+    if (groupByList.isEmpty()) {
+      return Pair.of(Collections.singletonList(termsBuilder), parser);
+    } else {
+      return Pair.of(
+          Collections.singletonList(
+              AggregationBuilders.composite(
+                      "composite_buckets",
+                      bucketBuilder.build(
+                          groupByList.stream()
+                              .map(expr -> Triple.of(DSL.named(expr.toString(), expr),
+                                  SortOrder.ASC, MissingOrder.FIRST))
+                              .collect(Collectors.toList())))
+                  .subAggregation(termsBuilder)
+                  .size(AGGREGATION_BUCKET_SIZE)),
+          parser);
+    }
+  }
+
+  /**
+   * Could terms aggregation order the buckets by the aggregator.
+   * Only the aggregator without filter which is built as single value metric is supported.
+   */
+  public static boolean canOrderBucketsBy(NamedAggregator aggregator) {
+    return aggregator.getDelegated().condition() == null
+        && SINGLE_VALUE_METRICS.contains(
+            aggregator.getFunctionName().getFunctionName().toLowerCase(Locale.ROOT));
+  }
+
+  /**
+   * Build the terms aggregation bucket order from the sort list. COUNT(*) is ordered by the doc
+   * count of the bucket. The bucket key in ascending order is the tie-breaker if the sort list
+   * doesn't include the group field.
+   */
+  private BucketOrder termsOrder(List<NamedAggregator> namedAggregatorList,
+                                 NamedExpression group,
+                                 List<Pair<Sort.SortOption, Expression>> sortList) {
+    List<BucketOrder> orders = new ArrayList<>();
+    boolean sortByGroup = false;
+    for (Pair<Sort.SortOption, Expression> sortPair : sortList) {
+      String name = ((ReferenceExpression) sortPair.getRight()).getAttr();
+      boolean asc = sortPair.getLeft().getSortOrder() == Sort.SortOrder.ASC;
+      if (name.equals(group.getNameOrAlias())) {
+        orders.add(BucketOrder.key(asc));
+        sortByGroup = true;
+        continue;
+      }
+      Optional<NamedAggregator> aggregator = namedAggregatorList.stream()
+          .filter(agg -> agg.getName().equals(name)).findFirst();
+      if (aggregator.isPresent() && isCountAll(aggregator.get())) {
+        orders.add(BucketOrder.count(asc));
+      } else {
+        orders.add(BucketOrder.aggregation(name, asc));
+      }
+    }
+    if (!sortByGroup) {
+      orders.add(BucketOrder.key(true));
+    }
+    return BucketOrder.compound(orders);
+  }
+
+  private boolean isCountAll(NamedAggregator aggregator) {
+    return "count".equalsIgnoreCase(aggregator.getFunctionName().getFunctionName())
+        && !aggregator.getDelegated().distinct()
+        && aggregator.getArguments().get(0) instanceof LiteralExpression;
+  }
+
   /**
    * Build ElasticsearchExprValueFactory.
    */
@@ -115,6 +239,18 @@ public class AggregationQueryBuilder extends ExpressionNodeVisitor<AggregationBu
     return builder.build();
   }
 
+  /**
+   * Build ElasticsearchExprValueFactory for rare and top command.
+   */
+  public Map<String, ExprType> buildRareTopNTypeMapping(
+      List<Expression> fieldList,
+      List<Expression> groupByList) {
+    ImmutableMap.Builder<String, ExprType> builder = new ImmutableMap.Builder<>();
+    groupByList.forEach(group -> builder.put(group.toString(), group.type()));
+    fieldList.forEach(field -> builder.put(field.toString(), field.type()));
+    return builder.build();
+  }
+
   /**
    * Group By field sort order.
    */
@@ -8,12 +8,15 @@ package org.opensearch.sql.opensearch.storage.script.aggregation.dsl;
 import com.google.common.collect.ImmutableList;
 import java.util.List;
 import org.apache.commons.lang3.tuple.Triple;
+import org.opensearch.search.aggregations.AggregationBuilders;
+import org.opensearch.search.aggregations.BucketOrder;
 import org.opensearch.search.aggregations.bucket.composite.CompositeValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.composite.DateHistogramValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.composite.HistogramValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.composite.TermsValuesSourceBuilder;
 import org.opensearch.search.aggregations.bucket.histogram.DateHistogramInterval;
 import org.opensearch.search.aggregations.bucket.missing.MissingOrder;
+import org.opensearch.search.aggregations.bucket.terms.TermsAggregationBuilder;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.sql.ast.expression.SpanUnit;
 import org.opensearch.sql.expression.NamedExpression;
@@ -25,6 +28,11 @@ import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
  */
 public class BucketAggregationBuilder {
 
+  /**
+   * Name of the terms aggregation.
+   */
+  public static final String TERMS_BUCKETS = "terms_buckets";
+
   private final AggregationBuilderHelper helper;
 
   public BucketAggregationBuilder(
@@ -47,6 +55,15 @@ public class BucketAggregationBuilder {
     return resultBuilder.build();
   }
 
+  /**
+   * Build the terms aggregation which returns the top size buckets of the group in given order.
+   */
+  public TermsAggregationBuilder buildTerms(NamedExpression group, BucketOrder order, int size) {
+    TermsAggregationBuilder termsBuilder =
+        AggregationBuilders.terms(TERMS_BUCKETS).order(order).size(size);
+    return helper.build(group.getDelegated(), termsBuilder::field, termsBuilder::script);
+  }
+
   // todo, Expression should implement buildCompositeValuesSourceBuilder() interface.
   private CompositeValuesSourceBuilder<?> buildCompositeValuesSourceBuilder(
       NamedExpression expr, SortOrder sortOrder, MissingOrder missingOrder) {
@@ -9,18 +9,26 @@ package org.opensearch.sql.opensearch.storage.script.core;
 import static java.util.stream.Collectors.toMap;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
 
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.time.chrono.ChronoZonedDateTime;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprFloatValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
+import org.opensearch.sql.data.model.ExprLongValue;
+import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
@@ -50,25 +58,42 @@ public class ExpressionScript {
   private final OpenSearchExprValueFactory valueFactory;
 
   /**
-   * Reference Fields.
+   * Reference Fields with doc value name resolved.
    */
   @EqualsAndHashCode.Exclude
-  private final Set<ReferenceExpression> fields;
+  private final List<DocValueField> fields;
+
+  /**
+   * Field values of current document. Because script instance is created for each segment
+   * and executed by single thread, the map is reused by all the documents to avoid building
+   * a new one every time.
+   */
+  @EqualsAndHashCode.Exclude
+  private final Map<Expression, ExprValue> valueMap = new HashMap<>();
+
+  /**
+   * Encapsulate map data structure into Environment.
+   */
+  @EqualsAndHashCode.Exclude
+  private final Environment<Expression, ExprValue> valueEnv = valueMap::get;
 
   /**
    * Expression constructor.
    */
   public ExpressionScript(Expression expression) {
     this.expression = expression;
-    this.fields = AccessController.doPrivileged((PrivilegedAction<Set<ReferenceExpression>>) () ->
-        extractFields(expression));
+    Set<ReferenceExpression> references =
+        AccessController.doPrivileged((PrivilegedAction<Set<ReferenceExpression>>) () ->
+            extractFields(expression));
+    this.fields = references.stream().map(DocValueField::new).collect(Collectors.toList());
     this.valueFactory =
         AccessController.doPrivileged(
-            (PrivilegedAction<OpenSearchExprValueFactory>) () -> buildValueFactory(fields));
+            (PrivilegedAction<OpenSearchExprValueFactory>) () -> buildValueFactory(references));
   }
 
   /**
-   * Evaluate on the doc generate by the doc provider.
+   * Evaluate on the doc generate by the doc provider. This is called for each document
+   * so privileged action is only required when script initialized.
    *
    * @param docProvider doc provider.
    * @param evaluator   evaluator
@@ -78,12 +103,11 @@ public class ExpressionScript {
                            BiFunction<Expression,
                                Environment<Expression,
                                    ExprValue>, ExprValue> evaluator) {
-    return AccessController.doPrivileged((PrivilegedAction<ExprValue>) () -> {
-      Environment<Expression, ExprValue> valueEnv =
-          buildValueEnv(fields, valueFactory, docProvider);
-      ExprValue result = evaluator.apply(expression, valueEnv);
-      return result;
-    });
+    for (DocValueField field : fields) {
+      ScriptDocValues<?> docValue = docProvider.get().get(field.docValueName);
+      valueMap.put(field.reference, getExprValue(field, docValue));
+    }
+    return evaluator.apply(expression, valueEnv);
   }
 
   private Set<ReferenceExpression> extractFields(Expression expr) {
@@ -112,42 +136,29 @@ public class ExpressionScript {
     return new OpenSearchExprValueFactory(typeEnv);
   }
 
-  private Environment<Expression, ExprValue> buildValueEnv(
-      Set<ReferenceExpression> fields, OpenSearchExprValueFactory valueFactory,
-      Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-
-    Map<Expression, ExprValue> valueEnv = new HashMap<>();
-    for (ReferenceExpression field : fields) {
-      String fieldName = field.getAttr();
-      ExprValue exprValue = valueFactory.construct(fieldName, getDocValue(field, docProvider));
-      valueEnv.put(field, exprValue);
+  private ExprValue getExprValue(DocValueField field, ScriptDocValues<?> docValue) {
+    if (docValue == null || docValue.isEmpty()) {
+      return ExprNullValue.of(); // No way to differentiate null and missing from doc value
     }
-    // Encapsulate map data structure into anonymous Environment class
-    return valueEnv::get;
-  }
 
-  private Object getDocValue(ReferenceExpression field,
-                             Supplier<Map<String, ScriptDocValues<?>>> docProvider) {
-    String fieldName = getDocValueName(field);
-    ScriptDocValues<?> docValue = docProvider.get().get(fieldName);
-    if (docValue == null || docValue.isEmpty()) {
-      return null; // No way to differentiate null and missing from doc value
+    // Read primitive value from numeric doc value directly without conversion by value factory
+    ExprType type = field.reference.type();
+    if (docValue instanceof ScriptDocValues.Longs && (type == LONG || type == INTEGER)) {
+      long value = ((ScriptDocValues.Longs) docValue).getValue();
+      return (type == LONG) ? new ExprLongValue(value) : new ExprIntegerValue((int) value);
+    } else if (docValue instanceof ScriptDocValues.Doubles) {
+      double value = ((ScriptDocValues.Doubles) docValue).getValue();
+      return (type == FLOAT) ? new ExprFloatValue((float) value) : new ExprDoubleValue(value);
     }
+    return valueFactory.construct(field.reference.getAttr(), getDocValue(field, docValue));
+  }
 
+  private Object getDocValue(DocValueField field, ScriptDocValues<?> docValue) {
     Object value = docValue.get(0);
     if (value instanceof ChronoZonedDateTime) {
       return ((ChronoZonedDateTime<?>) value).toInstant();
     }
-    return castNumberToFieldType(value, field.type());
-  }
-
-  /**
-   * Text field doesn't have doc value (exception thrown even when you call "get")
-   * Limitation: assume inner field name is always "keyword".
-   */
-  private String getDocValueName(ReferenceExpression field) {
-    String fieldName = field.getAttr();
-    return ScriptUtils.convertTextToKeyword(fieldName, field.type());
+    return castNumberToFieldType(value, field.reference.type());
   }
 
   /**
@@ -168,4 +179,22 @@ public class ExpressionScript {
       return value;
     }
   }
+
+  /**
+   * Reference field and the name of its doc value resolved once for all the documents.
+   */
+  private static class DocValueField {
+    private final ReferenceExpression reference;
+    private final String docValueName;
+
+    /**
+     * Text field doesn't have doc value (exception thrown even when you call "get")
+     * Limitation: assume inner field name is always "keyword".
+     */
+    DocValueField(ReferenceExpression reference) {
+      this.reference = reference;
+      this.docValueName =
+          ScriptUtils.convertTextToKeyword(reference.getAttr(), reference.type());
+    }
+  }
 }
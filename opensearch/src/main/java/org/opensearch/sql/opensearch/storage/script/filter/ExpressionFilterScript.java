@@ -15,6 +15,8 @@ import org.opensearch.sql.data.model.ExprBooleanValue;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.compiler.CompiledExpression;
+import org.opensearch.sql.expression.compiler.ExpressionCompiler;
 import org.opensearch.sql.expression.env.Environment;
 import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
 
@@ -30,22 +32,36 @@ class ExpressionFilterScript extends FilterScript {
    */
   private final ExpressionScript expressionScript;
 
+  /**
+   * Expression to execute, which is only used in error message.
+   */
+  @EqualsAndHashCode.Exclude
+  private final Expression expression;
+
+  /**
+   * Expression compiled once for all the documents in the segment.
+   */
+  @EqualsAndHashCode.Exclude
+  private final CompiledExpression compiledExpression;
+
   public ExpressionFilterScript(Expression expression,
                                 SearchLookup lookup,
                                 LeafReaderContext context,
                                 Map<String, Object> params) {
     super(params, lookup, context);
     this.expressionScript = new ExpressionScript(expression);
+    this.expression = expression;
+    this.compiledExpression = ExpressionCompiler.compile(expression);
   }
 
   @Override
   public boolean execute() {
-    return expressionScript.execute(this::getDoc, this::evaluateExpression).booleanValue();
+    return expressionScript.execute(this::getDoc,
+        (expr, valueEnv) -> evaluateExpression(valueEnv)).booleanValue();
   }
 
-  private ExprValue evaluateExpression(Expression expression,
-                                       Environment<Expression, ExprValue> valueEnv) {
-    ExprValue result = expression.valueOf(valueEnv);
+  private ExprValue evaluateExpression(Environment<Expression, ExprValue> valueEnv) {
+    ExprValue result = compiledExpression.evaluate(valueEnv);
     if (result.isNull()) {
       return ExprBooleanValue.of(false);
     }
@@ -8,6 +8,7 @@ package org.opensearch.sql.opensearch.storage.script.filter;
 
 import static java.util.Collections.emptyMap;
 import static org.opensearch.script.Script.DEFAULT_SCRIPT_TYPE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_TRUE;
 import static org.opensearch.sql.opensearch.storage.script.ExpressionScriptEngine.EXPRESSION_LANG_NAME;
 
 import com.google.common.collect.ImmutableMap;
@@ -22,12 +23,15 @@ import org.opensearch.script.Script;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.ExpressionNodeVisitor;
 import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
 import org.opensearch.sql.expression.function.BuiltinFunctionName;
 import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.opensearch.storage.script.filter.lucene.DateFunctionRangeQuery;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.LuceneQuery;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.RangeQuery;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.RangeQuery.Comparison;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.TermQuery;
+import org.opensearch.sql.opensearch.storage.script.filter.lucene.TermsQuery;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.WildcardQuery;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.relevance.MatchBoolPrefixQuery;
 import org.opensearch.sql.opensearch.storage.script.filter.lucene.relevance.MatchPhrasePrefixQuery;
@@ -46,12 +50,18 @@ public class FilterQueryBuilder extends ExpressionNodeVisitor<QueryBuilder, Obje
    */
   private final ExpressionSerializer serializer;
 
+  /**
+   * Normalizer that simplifies the bool query built.
+   */
+  private final FilterQueryNormalizer normalizer = new FilterQueryNormalizer();
+
   /**
    * Mapping from function name to lucene query builder.
    */
   private final Map<FunctionName, LuceneQuery> luceneQueries =
       ImmutableMap.<FunctionName, LuceneQuery>builder()
           .put(BuiltinFunctionName.EQUAL.getName(), new TermQuery())
+          .put(BuiltinFunctionName.IN.getName(), new TermsQuery())
           .put(BuiltinFunctionName.LESS.getName(), new RangeQuery(Comparison.LT))
           .put(BuiltinFunctionName.GREATER.getName(), new RangeQuery(Comparison.GT))
           .put(BuiltinFunctionName.LTE.getName(), new RangeQuery(Comparison.LTE))
@@ -70,13 +80,39 @@ public class FilterQueryBuilder extends ExpressionNodeVisitor<QueryBuilder, Obje
           .put(BuiltinFunctionName.MATCH_PHRASE_PREFIX.getName(), new MatchPhrasePrefixQuery())
           .build();
 
+  /**
+   * Mapping from comparison function name to lucene query builder for comparison between
+   * date function on timestamp field and literal, which is tried if the function is not
+   * supported by the lucene query above.
+   */
+  private final Map<FunctionName, LuceneQuery> dateFunctionRangeQueries =
+      ImmutableMap.<FunctionName, LuceneQuery>builder()
+          .put(BuiltinFunctionName.EQUAL.getName(), new DateFunctionRangeQuery(Comparison.BETWEEN))
+          .put(BuiltinFunctionName.LESS.getName(), new DateFunctionRangeQuery(Comparison.LT))
+          .put(BuiltinFunctionName.GREATER.getName(), new DateFunctionRangeQuery(Comparison.GT))
+          .put(BuiltinFunctionName.LTE.getName(), new DateFunctionRangeQuery(Comparison.LTE))
+          .put(BuiltinFunctionName.GTE.getName(), new DateFunctionRangeQuery(Comparison.GTE))
+          .build();
+
   /**
    * Build OpenSearch filter query from expression.
    * @param expr  expression
    * @return      query
    */
   public QueryBuilder build(Expression expr) {
-    return expr.accept(this, null);
+    return normalizer.normalize(expr.accept(this, null));
+  }
+
+  /**
+   * Boolean literal is left in the condition if it's not simplified away by analyzer,
+   * for example filter on literal false or true.
+   */
+  @Override
+  public QueryBuilder visitLiteral(LiteralExpression node, Object context) {
+    if (node.valueOf(null).equals(LITERAL_TRUE)) {
+      return QueryBuilders.matchAllQuery();
+    }
+    return QueryBuilders.matchNoneQuery();
   }
 
   @Override
@@ -94,6 +130,10 @@ public class FilterQueryBuilder extends ExpressionNodeVisitor<QueryBuilder, Obje
         if (query != null && query.canSupport(func)) {
           return query.build(func);
         }
+        LuceneQuery dateFunctionQuery = dateFunctionRangeQueries.get(name);
+        if (dateFunctionQuery != null && dateFunctionQuery.canSupport(func)) {
+          return dateFunctionQuery.build(func);
+        }
         return buildScriptQuery(func);
       }
     }
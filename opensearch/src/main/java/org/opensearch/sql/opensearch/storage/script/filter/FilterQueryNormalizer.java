@@ -0,0 +1,235 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script.filter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.MatchAllQueryBuilder;
+import org.opensearch.index.query.MatchNoneQueryBuilder;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.RangeQueryBuilder;
+
+/**
+ * Normalizer of the filter query built from pushed down predicates, which makes the query
+ * cheaper for Lucene to execute without changing the documents it matches:
+ * 1. Nested bool query of the same kind is flattened, for example the filter clauses of
+ *    a AND (b AND c) or of the successive filters pushed down to the same request.
+ * 2. Range query on a field in filter clause is dropped if another range query on the same
+ *    field has numeric bounds within its bounds, for example a &gt; 1 AND a &gt;= 3 is
+ *    a &gt;= 3. Ranges only overlapped, such as a &gt; 1 AND a &lt; 10, are not merged
+ *    into one because a multi-valued field may match them by different values.
+ * 3. Duplicate filter and must_not clauses are removed.
+ * 4. Contradiction, such as a range without any value or a literal false condition,
+ *    is detected and the query is replaced by match_none query.
+ * Only plain bool query which is generated by {@link FilterQueryBuilder} is rewritten.
+ * The should clauses are not deduplicated because they contribute to the score.
+ */
+public class FilterQueryNormalizer {
+
+  /**
+   * Normalize the filter query.
+   *
+   * @param query filter query
+   * @return normalized query
+   */
+  public QueryBuilder normalize(QueryBuilder query) {
+    if (!isPlainBool(query)) {
+      return query;
+    }
+
+    BoolQueryBuilder bool = (BoolQueryBuilder) query;
+    List<QueryBuilder> must = new ArrayList<>();
+    List<QueryBuilder> filter = new ArrayList<>();
+    List<QueryBuilder> mustNot = new ArrayList<>();
+    List<QueryBuilder> should = new ArrayList<>();
+    bool.must().forEach(clause -> must.add(normalize(clause)));
+    for (QueryBuilder clause : bool.filter()) {
+      QueryBuilder normalized = normalize(clause);
+      if (isConjunction(normalized)) {
+        filter.addAll(((BoolQueryBuilder) normalized).filter());
+        mustNot.addAll(((BoolQueryBuilder) normalized).mustNot());
+      } else {
+        filter.add(normalized);
+      }
+    }
+    bool.mustNot().forEach(clause -> mustNot.add(normalize(clause)));
+    for (QueryBuilder clause : bool.should()) {
+      QueryBuilder normalized = normalize(clause);
+      if (isDisjunction(normalized)) {
+        should.addAll(((BoolQueryBuilder) normalized).should());
+      } else {
+        should.add(normalized);
+      }
+    }
+
+    filter = mergeRanges(distinct(filter));
+    mustNot = distinct(mustNot);
+    if (filter.stream().anyMatch(MatchNoneQueryBuilder.class::isInstance)
+        || mustNot.stream().anyMatch(MatchAllQueryBuilder.class::isInstance)) {
+      return QueryBuilders.matchNoneQuery();
+    }
+    mustNot.removeIf(MatchNoneQueryBuilder.class::isInstance);
+    if (should.isEmpty()) {
+      // match_all in filter clause is safe to remove only if there is no should clause
+      // which becomes required once must and filter clauses are all gone
+      filter.removeIf(MatchAllQueryBuilder.class::isInstance);
+    } else if (must.isEmpty() && filter.isEmpty() && mustNot.isEmpty()) {
+      if (should.stream().anyMatch(MatchAllQueryBuilder.class::isInstance)) {
+        return QueryBuilders.matchAllQuery();
+      }
+      should.removeIf(MatchNoneQueryBuilder.class::isInstance);
+      if (should.isEmpty()) {
+        return QueryBuilders.matchNoneQuery();
+      }
+    }
+
+    BoolQueryBuilder result = QueryBuilders.boolQuery();
+    must.forEach(result::must);
+    filter.forEach(result::filter);
+    mustNot.forEach(result::mustNot);
+    should.forEach(result::should);
+    return result;
+  }
+
+  /**
+   * Only the bool query with the default minimum_should_match and adjust_pure_negative is
+   * rewritten since its semantics only depends on its clauses.
+   */
+  private boolean isPlainBool(QueryBuilder query) {
+    return query instanceof BoolQueryBuilder
+        && ((BoolQueryBuilder) query).minimumShouldMatch() == null
+        && ((BoolQueryBuilder) query).adjustPureNegative();
+  }
+
+  private boolean isConjunction(QueryBuilder query) {
+    return isPlainBool(query)
+        && ((BoolQueryBuilder) query).must().isEmpty()
+        && ((BoolQueryBuilder) query).should().isEmpty();
+  }
+
+  private boolean isDisjunction(QueryBuilder query) {
+    return isPlainBool(query)
+        && ((BoolQueryBuilder) query).must().isEmpty()
+        && ((BoolQueryBuilder) query).filter().isEmpty()
+        && ((BoolQueryBuilder) query).mustNot().isEmpty();
+  }
+
+  private List<QueryBuilder> distinct(List<QueryBuilder> clauses) {
+    return new ArrayList<>(new LinkedHashSet<>(clauses));
+  }
+
+  /**
+   * Merge the range queries on the same field if the bounds of one is within the other, by
+   * keeping the narrower one at the position of the first. The intersection of ranges only
+   * overlapped is not equivalent for multi-valued field, e.g. [0, 20] matches both a &gt; 1
+   * and a &lt; 10 but not 1 &lt; a &lt; 10, and thus both ranges are kept.
+   */
+  private List<QueryBuilder> mergeRanges(List<QueryBuilder> clauses) {
+    List<QueryBuilder> result = new ArrayList<>();
+    Map<String, List<Integer>> rangePositions = new HashMap<>();
+    for (QueryBuilder clause : clauses) {
+      if (!isMergeableRange(clause)) {
+        result.add(clause);
+        continue;
+      }
+
+      RangeQueryBuilder range = (RangeQueryBuilder) clause;
+      List<Integer> positions =
+          rangePositions.computeIfAbsent(range.fieldName(), field -> new ArrayList<>());
+      if (!mergeRange(result, positions, range)) {
+        positions.add(result.size());
+        result.add(range);
+      }
+    }
+    result.replaceAll(clause -> isMergeableRange(clause)
+        && isEmpty((RangeQueryBuilder) clause) ? QueryBuilders.matchNoneQuery() : clause);
+    return result;
+  }
+
+  private boolean mergeRange(List<QueryBuilder> result, List<Integer> positions,
+                             RangeQueryBuilder range) {
+    for (int position : positions) {
+      RangeQueryBuilder current = (RangeQueryBuilder) result.get(position);
+      RangeQueryBuilder intersection = intersect(current, range);
+      if (hasSameBounds(intersection, current)) {
+        return true;
+      } else if (hasSameBounds(intersection, range)) {
+        result.set(position, range);
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean isMergeableRange(QueryBuilder query) {
+    return query instanceof RangeQueryBuilder
+        && ((RangeQueryBuilder) query).format() == null
+        && ((RangeQueryBuilder) query).timeZone() == null
+        && ((RangeQueryBuilder) query).relation() == null
+        && isNumberBound(((RangeQueryBuilder) query).from())
+        && isNumberBound(((RangeQueryBuilder) query).to());
+  }
+
+  private boolean isNumberBound(Object bound) {
+    return bound == null || bound instanceof Number;
+  }
+
+  private RangeQueryBuilder intersect(RangeQueryBuilder left, RangeQueryBuilder right) {
+    // Missing lower bound is the smallest and missing upper bound is the largest
+    int lower = compareBound(left.from(), right.from(), -1);
+    int upper = compareBound(left.to(), right.to(), 1);
+    return QueryBuilders.rangeQuery(left.fieldName())
+        .from(lower >= 0 ? left.from() : right.from(),
+            lower > 0 ? left.includeLower() : lower < 0 ? right.includeLower()
+                : left.includeLower() && right.includeLower())
+        .to(upper <= 0 ? left.to() : right.to(),
+            upper < 0 ? left.includeUpper() : upper > 0 ? right.includeUpper()
+                : left.includeUpper() && right.includeUpper());
+  }
+
+  private boolean hasSameBounds(RangeQueryBuilder left, RangeQueryBuilder right) {
+    return compareBound(left.from(), right.from(), -1) == 0
+        && compareBound(left.to(), right.to(), 1) == 0
+        && (left.from() == null || left.includeLower() == right.includeLower())
+        && (left.to() == null || left.includeUpper() == right.includeUpper());
+  }
+
+  private boolean isEmpty(RangeQueryBuilder range) {
+    if (range.from() == null || range.to() == null) {
+      return false;
+    }
+    int result = compare(range.from(), range.to());
+    return result > 0 || (result == 0 && !(range.includeLower() && range.includeUpper()));
+  }
+
+  private int compareBound(Object left, Object right, int nullOrder) {
+    if (left == null) {
+      return (right == null) ? 0 : nullOrder;
+    } else if (right == null) {
+      return -nullOrder;
+    }
+    return compare(left, right);
+  }
+
+  private int compare(Object left, Object right) {
+    Number leftNumber = (Number) left;
+    Number rightNumber = (Number) right;
+    if (isIntegral(leftNumber) && isIntegral(rightNumber)) {
+      return Long.compare(leftNumber.longValue(), rightNumber.longValue());
+    }
+    return Double.compare(leftNumber.doubleValue(), rightNumber.doubleValue());
+  }
+
+  private boolean isIntegral(Number number) {
+    return number instanceof Long || number instanceof Integer
+        || number instanceof Short || number instanceof Byte;
+  }
+}
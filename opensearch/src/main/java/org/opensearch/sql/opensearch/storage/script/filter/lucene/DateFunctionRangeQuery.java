@@ -0,0 +1,213 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script.filter.lucene;
+
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.query.RangeQueryBuilder;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.opensearch.storage.script.filter.lucene.RangeQuery.Comparison;
+
+/**
+ * Lucene query that builds range query on timestamp field for comparison between date function
+ * on the field and literal, for example year(@timestamp) = 2022 or
+ * date_format(@timestamp, '%Y-%m') &gt;= '2022-09'.
+ * Each value of the date function supported corresponds to a continuous time bucket
+ * [start, end) of the field in UTC and the function is monotonic. So the comparison is
+ * equivalent to a range on the field which is served by index instead of script:
+ *  f(field) &lt; v  --&gt; field &lt; start(v)
+ *  f(field) &lt;= v --&gt; field &lt; end(v)
+ *  f(field) &gt; v  --&gt; field &gt;= end(v)
+ *  f(field) &gt;= v --&gt; field &gt;= start(v)
+ *  f(field) = v  --&gt; start(v) &lt;= field &lt; end(v)
+ */
+@RequiredArgsConstructor
+public class DateFunctionRangeQuery extends LuceneQuery {
+
+  /**
+   * Date format supported which truncates datetime to a time unit. String comparison on the
+   * formatted value is consistent with the time order since all the fields are zero padded.
+   */
+  private static final Map<String, BucketFormat> DATE_FORMATS =
+      ImmutableMap.<String, BucketFormat>builder()
+          .put("%Y", new BucketFormat("uuuu", ChronoUnit.YEARS))
+          .put("%Y-%m", new BucketFormat("uuuu-MM", ChronoUnit.MONTHS))
+          .put("%Y-%m-%d", new BucketFormat("uuuu-MM-dd", ChronoUnit.DAYS))
+          .put("%Y-%m-%d %H", new BucketFormat("uuuu-MM-dd HH", ChronoUnit.HOURS))
+          .put("%Y-%m-%d %H:%i", new BucketFormat("uuuu-MM-dd HH:mm", ChronoUnit.MINUTES))
+          .put("%Y-%m-%d %H:%i:%s", new BucketFormat("uuuu-MM-dd HH:mm:ss", ChronoUnit.SECONDS))
+          .put("%Y-%m-%d %H:%i:%S", new BucketFormat("uuuu-MM-dd HH:mm:ss", ChronoUnit.SECONDS))
+          .put("%Y-%m-%d %T", new BucketFormat("uuuu-MM-dd HH:mm:ss", ChronoUnit.SECONDS))
+          .build();
+
+  /**
+   * Format of date value cast to string, such as cast_to_string(date(field)).
+   */
+  private static final BucketFormat DATE_STRING_FORMAT = DATE_FORMATS.get("%Y-%m-%d");
+
+  /**
+   * Comparison between date function and literal. BETWEEN stands for equality which is
+   * the range between the start and end of the time bucket.
+   */
+  private final Comparison comparison;
+
+  @Override
+  public boolean canSupport(FunctionExpression func) {
+    return timeBucket(func).isPresent();
+  }
+
+  @Override
+  public QueryBuilder build(FunctionExpression func) {
+    TimeBucket bucket = timeBucket(func).get();
+    RangeQueryBuilder query = QueryBuilders.rangeQuery(bucket.fieldName);
+    switch (comparison) {
+      case LT:
+        return query.lt(bucket.start);
+      case LTE:
+        return query.lt(bucket.end);
+      case GT:
+        return query.gte(bucket.end);
+      case GTE:
+        return query.gte(bucket.start);
+      default:
+        return query.gte(bucket.start).lt(bucket.end);
+    }
+  }
+
+  private Optional<TimeBucket> timeBucket(FunctionExpression func) {
+    List<Expression> arguments = func.getArguments();
+    if (arguments.size() != 2
+        || !(arguments.get(0) instanceof FunctionExpression)
+        || ((FunctionExpression) arguments.get(0)).getArguments().isEmpty()
+        || !isLiteral(arguments.get(1))) {
+      return Optional.empty();
+    }
+
+    FunctionExpression dateFunction = (FunctionExpression) arguments.get(0);
+    ExprValue literal = literalValue(arguments.get(1));
+    try {
+      return timeBucket(dateFunction, literal);
+    } catch (DateTimeException | ArithmeticException e) {
+      // Literal out of the range of time bucket, fallback to script query
+      return Optional.empty();
+    }
+  }
+
+  private Optional<TimeBucket> timeBucket(FunctionExpression dateFunction, ExprValue literal) {
+    FunctionName functionName = dateFunction.getFunctionName();
+    Optional<String> fieldName = timestampField(dateFunction.getArguments().get(0));
+    if (functionName.equals(BuiltinFunctionName.YEAR.getName())
+        && literal.type() == ExprCoreType.INTEGER) {
+      return fieldName.map(field -> new TimeBucket(field,
+          LocalDateTime.of(literal.integerValue(), 1, 1, 0, 0), ChronoUnit.YEARS));
+    } else if (functionName.equals(BuiltinFunctionName.DATE.getName())
+        && literal.type() == ExprCoreType.DATE) {
+      return fieldName.map(field -> new TimeBucket(field,
+          literal.dateValue().atStartOfDay(), ChronoUnit.DAYS));
+    } else if (functionName.equals(BuiltinFunctionName.CAST_TO_STRING.getName())
+        && isDateFunction(dateFunction.getArguments().get(0))
+        && literal.type() == ExprCoreType.STRING) {
+      return timeBucket((FunctionExpression) dateFunction.getArguments().get(0),
+          DATE_STRING_FORMAT, literal.stringValue());
+    } else if (functionName.equals(BuiltinFunctionName.DATE_FORMAT.getName())
+        && dateFunction.getArguments().get(1) instanceof LiteralExpression
+        && literal.type() == ExprCoreType.STRING) {
+      String format = dateFunction.getArguments().get(1).valueOf(null).stringValue();
+      return Optional.ofNullable(DATE_FORMATS.get(format))
+          .flatMap(bucketFormat ->
+              timeBucket(dateFunction, bucketFormat, literal.stringValue()));
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Parse the start of time bucket from formatted string. The string is parsed strictly by the
+   * fixed width pattern, because the string comparison is not equivalent to time range unless
+   * the string is exactly what the date function outputs.
+   */
+  private Optional<TimeBucket> timeBucket(FunctionExpression dateFunction,
+                                          BucketFormat bucketFormat,
+                                          String value) {
+    LocalDateTime start = LocalDateTime.parse(value, bucketFormat.formatter);
+    return timestampField(dateFunction.getArguments().get(0))
+        .map(field -> new TimeBucket(field, start, bucketFormat.unit));
+  }
+
+  private boolean isDateFunction(Expression expr) {
+    return expr instanceof FunctionExpression
+        && ((FunctionExpression) expr).getFunctionName()
+            .equals(BuiltinFunctionName.DATE.getName());
+  }
+
+  /**
+   * Only raw timestamp field could be converted to range query.
+   */
+  private Optional<String> timestampField(Expression expr) {
+    if (expr instanceof ReferenceExpression && expr.type() == ExprCoreType.TIMESTAMP) {
+      return Optional.of(((ReferenceExpression) expr).getAttr());
+    }
+    return Optional.empty();
+  }
+
+  private static class BucketFormat {
+    private final DateTimeFormatter formatter;
+    private final ChronoUnit unit;
+
+    BucketFormat(String pattern, ChronoUnit unit) {
+      this.formatter = new DateTimeFormatterBuilder()
+          .appendPattern(pattern)
+          .parseDefaulting(MONTH_OF_YEAR, 1)
+          .parseDefaulting(DAY_OF_MONTH, 1)
+          .parseDefaulting(HOUR_OF_DAY, 0)
+          .parseDefaulting(MINUTE_OF_HOUR, 0)
+          .parseDefaulting(SECOND_OF_MINUTE, 0)
+          .toFormatter(Locale.ROOT)
+          .withResolverStyle(ResolverStyle.STRICT);
+      this.unit = unit;
+    }
+  }
+
+  /**
+   * Time bucket [start, end) of timestamp field in epoch millis.
+   */
+  private static class TimeBucket {
+    private final String fieldName;
+    private final long start;
+    private final long end;
+
+    TimeBucket(String fieldName, LocalDateTime start, ChronoUnit unit) {
+      this.fieldName = fieldName;
+      this.start = start.toInstant(ZoneOffset.UTC).toEpochMilli();
+      this.end = start.plus(1, unit).toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+  }
+}
@@ -52,8 +52,7 @@ public abstract class LuceneQuery {
   public boolean canSupport(FunctionExpression func) {
     return (func.getArguments().size() == 2)
         && (func.getArguments().get(0) instanceof ReferenceExpression)
-        && (func.getArguments().get(1) instanceof LiteralExpression
-        || literalExpressionWrappedByCast(func))
+        && isLiteral(func.getArguments().get(1))
         || isMultiParameterQuery(func);
   }
 
@@ -73,13 +72,16 @@ public abstract class LuceneQuery {
   }
 
   /**
-   * Check if the second argument of the function is a literal expression wrapped by cast function.
+   * Check if the expression is a literal expression or a literal expression wrapped by cast
+   * function.
    */
-  private boolean literalExpressionWrappedByCast(FunctionExpression func) {
-    if (func.getArguments().get(1) instanceof FunctionExpression) {
-      FunctionExpression expr = (FunctionExpression) func.getArguments().get(1);
-      return castMap.containsKey(expr.getFunctionName())
-          && expr.getArguments().get(0) instanceof LiteralExpression;
+  protected boolean isLiteral(Expression expr) {
+    if (expr instanceof LiteralExpression) {
+      return true;
+    } else if (expr instanceof FunctionExpression) {
+      FunctionExpression func = (FunctionExpression) expr;
+      return castMap.containsKey(func.getFunctionName())
+          && func.getArguments().get(0) instanceof LiteralExpression;
     }
     return false;
   }
@@ -93,12 +95,18 @@ public abstract class LuceneQuery {
    */
   public QueryBuilder build(FunctionExpression func) {
     ReferenceExpression ref = (ReferenceExpression) func.getArguments().get(0);
-    Expression expr = func.getArguments().get(1);
-    ExprValue literalValue = expr instanceof LiteralExpression ? expr
-        .valueOf(null) : cast((FunctionExpression) expr);
+    ExprValue literalValue = literalValue(func.getArguments().get(1));
     return doBuild(ref.getAttr(), ref.type(), literalValue);
   }
 
+  /**
+   * Get the value of literal expression checked by {@link #isLiteral(Expression)}.
+   */
+  protected ExprValue literalValue(Expression expr) {
+    return expr instanceof LiteralExpression ? expr
+        .valueOf(null) : cast((FunctionExpression) expr);
+  }
+
   private ExprValue cast(FunctionExpression castFunction) {
     return castMap.get(castFunction.getFunctionName()).apply(
         (LiteralExpression) castFunction.getArguments().get(0));
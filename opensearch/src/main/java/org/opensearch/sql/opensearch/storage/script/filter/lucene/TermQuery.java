@@ -23,7 +23,7 @@ public class TermQuery extends LuceneQuery {
     return QueryBuilders.termQuery(fieldName, value(literal));
   }
 
-  private Object value(ExprValue literal) {
+  protected Object value(ExprValue literal) {
     if (literal.type().equals(ExprCoreType.TIMESTAMP)) {
       return literal.timestampValue().toEpochMilli();
     } else {
@@ -0,0 +1,66 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script.filter.lucene;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.opensearch.index.query.QueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+
+/**
+ * Lucene query that build terms query for IN predicate.
+ */
+public class TermsQuery extends TermQuery {
+
+  /**
+   * Report supported if the first argument is a reference and the rest are all literals other
+   * than NULL. Because IN with NULL value is evaluated to NULL rather than FALSE if no value
+   * matched, it's left to script query.
+   */
+  @Override
+  public boolean canSupport(FunctionExpression func) {
+    List<Expression> arguments = func.getArguments();
+    return arguments.get(0) instanceof ReferenceExpression
+        && arguments.stream().skip(1).allMatch(arg -> isLiteral(arg) && !isNullLiteral(arg));
+  }
+
+  /**
+   * Check the literal, or the literal cast by function, checked by {@link #isLiteral(Expression)}.
+   */
+  private boolean isNullLiteral(Expression expr) {
+    Expression literal = expr instanceof FunctionExpression
+        ? ((FunctionExpression) expr).getArguments().get(0) : expr;
+    ExprValue value = literal.valueOf(null);
+    return value.isNull() || value.isMissing();
+  }
+
+  @Override
+  public QueryBuilder build(FunctionExpression func) {
+    ReferenceExpression ref = (ReferenceExpression) func.getArguments().get(0);
+    return build(ref, func.getArguments().stream().skip(1)
+        .map(this::literalValue)
+        .collect(Collectors.toList()));
+  }
+
+  /**
+   * Build terms query of the field and values.
+   *
+   * @param ref    field
+   * @param values values of field
+   * @return terms query
+   */
+  public QueryBuilder build(ReferenceExpression ref, Collection<ExprValue> values) {
+    List<Object> terms = values.stream()
+        .map(this::value)
+        .collect(Collectors.toList());
+    return QueryBuilders.termsQuery(convertTextToKeyword(ref.getAttr(), ref.type()), terms);
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage.script.sort;
+
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.script.NumberSortScript;
+import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
+
+/**
+ * Number sort expression script that evaluates the sort key on each document.
+ * Script based sorting has no missing option, so the NULL or MISSING result is
+ * replaced by the infinity which puts it at the position required by the null order.
+ * Only used for {@link SortQueryBuilder#NUMBER_SORT_TYPES} of which no value is infinity.
+ */
+@EqualsAndHashCode(callSuper = false)
+class ExpressionNumberSortScript extends NumberSortScript {
+
+  /**
+   * Expression Script.
+   */
+  private final ExpressionScript expressionScript;
+
+  /**
+   * Sort key of the document which evaluates to NULL or MISSING.
+   */
+  private final double nullValue;
+
+  public ExpressionNumberSortScript(Expression expression,
+                                    SearchLookup lookup,
+                                    LeafReaderContext context,
+                                    Map<String, Object> params) {
+    super(params, lookup, context);
+    this.expressionScript = new ExpressionScript(expression);
+    this.nullValue = SortQueryBuilder.isNullAsSmallest(params)
+        ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+  }
+
+  @Override
+  public double execute() {
+    ExprValue result = expressionScript.execute(this::getDoc, this::evaluateExpression);
+    return result.isNull() || result.isMissing() ? nullValue : result.doubleValue();
+  }
+
+  private ExprValue evaluateExpression(Expression expression,
+                                       Environment<Expression, ExprValue> valueEnv) {
+    return expression.valueOf(valueEnv);
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage.script.sort;
+
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import org.opensearch.script.NumberSortScript;
+import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.sql.expression.Expression;
+
+/**
+ * Number sort expression script factory that generates leaf factory.
+ */
+@EqualsAndHashCode
+public class ExpressionNumberSortScriptFactory implements NumberSortScript.Factory {
+
+  /**
+   * Expression to execute.
+   */
+  private final Expression expression;
+
+  public ExpressionNumberSortScriptFactory(Expression expression) {
+    this.expression = expression;
+  }
+
+  @Override
+  public boolean isResultDeterministic() {
+    // This implies the results are cacheable
+    return true;
+  }
+
+  @Override
+  public NumberSortScript.LeafFactory newFactory(Map<String, Object> params,
+                                                 SearchLookup lookup) {
+    return new ExpressionNumberSortScriptLeafFactory(expression, params, lookup);
+  }
+}
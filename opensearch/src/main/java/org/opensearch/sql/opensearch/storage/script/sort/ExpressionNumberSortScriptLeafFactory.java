@@ -0,0 +1,52 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage.script.sort;
+
+import java.util.Map;
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.script.NumberSortScript;
+import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.sql.expression.Expression;
+
+/**
+ * Number sort expression script leaf factory that produces script executor for each leaf.
+ */
+class ExpressionNumberSortScriptLeafFactory implements NumberSortScript.LeafFactory {
+
+  /**
+   * Expression to execute.
+   */
+  private final Expression expression;
+
+  /**
+   * Parameters for the expression.
+   */
+  private final Map<String, Object> params;
+
+  /**
+   * Document lookup that returns doc values.
+   */
+  private final SearchLookup lookup;
+
+  public ExpressionNumberSortScriptLeafFactory(Expression expression,
+                                               Map<String, Object> params,
+                                               SearchLookup lookup) {
+    this.expression = expression;
+    this.params = params;
+    this.lookup = lookup;
+  }
+
+  @Override
+  public NumberSortScript newInstance(LeafReaderContext ctx) {
+    return new ExpressionNumberSortScript(expression, lookup, ctx, params);
+  }
+
+  @Override
+  public boolean needs_score() {
+    return false;
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage.script.sort;
+
+import com.google.common.base.Strings;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.NumericUtils;
+import org.opensearch.script.StringSortScript;
+import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.env.Environment;
+import org.opensearch.sql.opensearch.storage.script.core.ExpressionScript;
+
+/**
+ * String sort expression script that evaluates the sort key on each document.
+ * Script based sorting has no missing option and can't return null, so every non-null key
+ * is prefixed by {@link #VALUE_PREFIX} and the NULL or MISSING result is replaced by a key
+ * which sorts before or after all of them as required by the null order.
+ * Number is encoded as fixed length hex string which sorts in the same order as the number,
+ * so that long is compared without the loss of precision in double.
+ */
+@EqualsAndHashCode(callSuper = false)
+class ExpressionStringSortScript extends StringSortScript {
+
+  /**
+   * Prefix of all non-null sort keys.
+   */
+  static final String VALUE_PREFIX = "\u0001";
+
+  /**
+   * Key which sorts before all prefixed keys.
+   */
+  static final String SMALLEST_NULL_VALUE = "";
+
+  /**
+   * Key which sorts after all prefixed keys.
+   */
+  static final String LARGEST_NULL_VALUE = "\u0002";
+
+  /**
+   * Expression Script.
+   */
+  private final ExpressionScript expressionScript;
+
+  /**
+   * Sort key of the document which evaluates to NULL or MISSING.
+   */
+  private final String nullValue;
+
+  public ExpressionStringSortScript(Expression expression,
+                                    SearchLookup lookup,
+                                    LeafReaderContext context,
+                                    Map<String, Object> params) {
+    super(params, lookup, context);
+    this.expressionScript = new ExpressionScript(expression);
+    this.nullValue = SortQueryBuilder.isNullAsSmallest(params)
+        ? SMALLEST_NULL_VALUE : LARGEST_NULL_VALUE;
+  }
+
+  @Override
+  public String execute() {
+    ExprValue result = expressionScript.execute(this::getDoc, this::evaluateExpression);
+    return result.isNull() || result.isMissing() ? nullValue : VALUE_PREFIX + sortKey(result);
+  }
+
+  private static String sortKey(ExprValue value) {
+    if (value.type() == ExprCoreType.LONG) {
+      return toSortableHex(value.longValue());
+    } else if (ExprCoreType.numberTypes().contains(value.type())) {
+      return toSortableHex(NumericUtils.doubleToSortableLong(value.doubleValue()));
+    } else {
+      return value.stringValue();
+    }
+  }
+
+  /**
+   * Flip the sign bit so that negative number sorts before positive one as unsigned hex string.
+   */
+  private static String toSortableHex(long value) {
+    return Strings.padStart(Long.toHexString(value ^ Long.MIN_VALUE), 16, '0');
+  }
+
+  private ExprValue evaluateExpression(Expression expression,
+                                       Environment<Expression, ExprValue> valueEnv) {
+    return expression.valueOf(valueEnv);
+  }
+}
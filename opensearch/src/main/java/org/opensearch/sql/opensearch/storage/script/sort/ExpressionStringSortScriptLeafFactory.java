@@ -0,0 +1,47 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage.script.sort;
+
+import java.util.Map;
+import org.apache.lucene.index.LeafReaderContext;
+import org.opensearch.script.StringSortScript;
+import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.sql.expression.Expression;
+
+/**
+ * String sort expression script leaf factory that produces script executor for each leaf.
+ */
+class ExpressionStringSortScriptLeafFactory implements StringSortScript.LeafFactory {
+
+  /**
+   * Expression to execute.
+   */
+  private final Expression expression;
+
+  /**
+   * Parameters for the expression.
+   */
+  private final Map<String, Object> params;
+
+  /**
+   * Document lookup that returns doc values.
+   */
+  private final SearchLookup lookup;
+
+  public ExpressionStringSortScriptLeafFactory(Expression expression,
+                                               Map<String, Object> params,
+                                               SearchLookup lookup) {
+    this.expression = expression;
+    this.params = params;
+    this.lookup = lookup;
+  }
+
+  @Override
+  public StringSortScript newInstance(LeafReaderContext ctx) {
+    return new ExpressionStringSortScript(expression, lookup, ctx, params);
+  }
+}
@@ -6,22 +6,58 @@
 
 package org.opensearch.sql.opensearch.storage.script.sort;
 
+import static org.opensearch.script.Script.DEFAULT_SCRIPT_TYPE;
+import static org.opensearch.sql.data.type.ExprCoreType.BYTE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.opensearch.storage.script.ExpressionScriptEngine.EXPRESSION_LANG_NAME;
+
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.script.Script;
 import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.ScriptSortBuilder;
+import org.opensearch.search.sort.ScriptSortBuilder.ScriptSortType;
 import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.search.sort.SortOrder;
 import org.opensearch.sql.ast.tree.Sort;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
 import org.opensearch.sql.opensearch.storage.script.ScriptUtils;
+import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
 /**
  * Builder of {@link SortBuilder}.
  */
+@RequiredArgsConstructor
 public class SortQueryBuilder {
 
+  /**
+   * Script parameter which tells the sort script if NULL and MISSING should be sorted as
+   * the smallest value. Script based sorting doesn't support the missing option.
+   */
+  static final String NULL_AS_SMALLEST = "null_as_smallest";
+
+  /**
+   * Types sorted by number sort script. Their values are exact and finite in double, so they
+   * never tie with the infinity of NULL and MISSING. The other number types, e.g. LONG beyond
+   * 2^53, are sorted by string sort script which encodes the value without loss.
+   */
+  static final Set<ExprType> NUMBER_SORT_TYPES = ImmutableSet.of(BYTE, SHORT, INTEGER);
+
+  /**
+   * Serializer that serializes expression for build script sort.
+   */
+  private final ExpressionSerializer serializer;
+
   /**
    * The mapping between Core Engine sort order and OpenSearch sort order.
    */
@@ -50,14 +86,48 @@ public class SortQueryBuilder {
   public SortBuilder<?> build(Expression expression, Sort.SortOption option) {
     if (expression instanceof ReferenceExpression) {
       return fieldBuild((ReferenceExpression) expression, option);
+    } else if (isScriptSortSupported(expression)) {
+      return scriptBuild((FunctionExpression) expression, option);
     } else {
       throw new IllegalStateException("unsupported expression " + expression.getClass());
     }
   }
 
+  /**
+   * Could the expression be sorted by OpenSearch script based sorting.
+   * Only number and string results are supported by script sort.
+   *
+   * @param expression expression
+   * @return true if script sort could be built, otherwise false.
+   */
+  public static boolean isScriptSortSupported(Expression expression) {
+    return expression instanceof FunctionExpression
+        && (ExprCoreType.numberTypes().contains(expression.type())
+            || expression.type() == STRING);
+  }
+
+  /**
+   * Read the {@link #NULL_AS_SMALLEST} parameter passed to sort script.
+   */
+  static boolean isNullAsSmallest(Map<String, Object> params) {
+    return Boolean.TRUE.equals(params.get(NULL_AS_SMALLEST));
+  }
+
   private FieldSortBuilder fieldBuild(ReferenceExpression ref, Sort.SortOption option) {
     return SortBuilders.fieldSort(ScriptUtils.convertTextToKeyword(ref.getAttr(), ref.type()))
         .order(sortOrderMap.get(option.getSortOrder()))
         .missing(missingMap.get(option.getNullOrder()));
   }
+
+  private ScriptSortBuilder scriptBuild(FunctionExpression expression, Sort.SortOption option) {
+    // NULL first in ascending order or NULL last in descending order means NULL is smallest
+    boolean nullAsSmallest = (option.getSortOrder() == Sort.SortOrder.ASC)
+        == (option.getNullOrder() == Sort.NullOrder.NULL_FIRST);
+    Script script = new Script(DEFAULT_SCRIPT_TYPE, EXPRESSION_LANG_NAME,
+        serializer.serialize(expression), ImmutableMap.of(NULL_AS_SMALLEST, nullAsSmallest));
+    ScriptSortType type = NUMBER_SORT_TYPES.contains(expression.type())
+        ? ScriptSortType.NUMBER : ScriptSortType.STRING;
+    return SortBuilders.scriptSort(script, type)
+        .order(sortOrderMap.get(option.getSortOrder()));
+  }
 }
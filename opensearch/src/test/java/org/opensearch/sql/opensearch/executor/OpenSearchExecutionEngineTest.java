@@ -12,6 +12,7 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -99,7 +100,7 @@ class OpenSearchExecutionEngineTest {
   void executeWithFailure() {
     PhysicalPlan plan = mock(PhysicalPlan.class);
     RuntimeException expected = new RuntimeException("Execution error");
-    when(plan.hasNext()).thenThrow(expected);
+    when(plan.nextBatch(anyInt())).thenThrow(expected);
     when(protector.protect(plan)).thenReturn(plan);
 
     OpenSearchExecutionEngine executor = new OpenSearchExecutionEngine(client, protector);
@@ -84,6 +84,25 @@ class ResourceMonitorPlanTest {
     assertEquals("resource is not enough to load next row, quit.", exception.getMessage());
   }
 
+  @Test
+  void nextBatchSuccess() {
+    when(resourceMonitor.isHealthy()).thenReturn(true);
+
+    monitorPlan.nextBatch(10);
+    monitorPlan.nextBatch(10);
+    verify(resourceMonitor, times(2)).isHealthy();
+    verify(plan, times(2)).nextBatch(10);
+  }
+
+  @Test
+  void nextBatchExceedResourceLimit() {
+    when(resourceMonitor.isHealthy()).thenReturn(false);
+
+    IllegalStateException exception =
+        assertThrows(IllegalStateException.class, () -> monitorPlan.nextBatch(10));
+    assertEquals("resource is not enough to load next batch, quit.", exception.getMessage());
+  }
+
   @Test
   void hasNextSuccess() {
     monitorPlan.hasNext();
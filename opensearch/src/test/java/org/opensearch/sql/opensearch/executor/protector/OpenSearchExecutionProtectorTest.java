@@ -18,6 +18,7 @@ import static org.opensearch.sql.expression.DSL.literal;
 import static org.opensearch.sql.expression.DSL.named;
 import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.filter;
+import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.hashJoin;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.sort;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.values;
 import static org.opensearch.sql.planner.physical.PhysicalPlanDSL.window;
@@ -58,6 +59,8 @@ import org.opensearch.sql.opensearch.planner.physical.ADOperator;
 import org.opensearch.sql.opensearch.planner.physical.MLCommonsOperator;
 import org.opensearch.sql.opensearch.setting.OpenSearchSettings;
 import org.opensearch.sql.opensearch.storage.OpenSearchIndexScan;
+import org.opensearch.sql.planner.logical.LogicalJoin.JoinType;
+import org.opensearch.sql.planner.physical.HashJoinOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlanDSL;
 
@@ -114,28 +117,30 @@ class OpenSearchExecutionProtectorTest {
         PhysicalPlanDSL.project(
             PhysicalPlanDSL.limit(
                 PhysicalPlanDSL.dedupe(
-                    PhysicalPlanDSL.rareTopN(
-                        resourceMonitor(
-                            PhysicalPlanDSL.sort(
-                                PhysicalPlanDSL.eval(
-                                    PhysicalPlanDSL.remove(
-                                        PhysicalPlanDSL.rename(
-                                            PhysicalPlanDSL.agg(
-                                                filter(
-                                                    resourceMonitor(
-                                                        new OpenSearchIndexScan(
-                                                            client, settings, indexName,
-                                                            maxResultWindow, exprValueFactory)),
-                                                    filterExpr),
-                                                aggregators,
-                                                groupByExprs),
-                                            mappings),
-                                        exclude),
-                                    newEvalField),
-                                sortField)),
-                        CommandType.TOP,
-                        topExprs,
-                        topField),
+                    resourceMonitor(
+                        PhysicalPlanDSL.rareTopN(
+                            resourceMonitor(
+                                PhysicalPlanDSL.sort(
+                                    PhysicalPlanDSL.eval(
+                                        PhysicalPlanDSL.remove(
+                                            PhysicalPlanDSL.rename(
+                                                PhysicalPlanDSL.agg(
+                                                    filter(
+                                                        resourceMonitor(
+                                                            new OpenSearchIndexScan(
+                                                                client, settings, indexName,
+                                                                maxResultWindow,
+                                                                exprValueFactory)),
+                                                        filterExpr),
+                                                    aggregators,
+                                                    groupByExprs),
+                                                mappings),
+                                            exclude),
+                                        newEvalField),
+                                    sortField)),
+                            CommandType.TOP,
+                            topExprs,
+                            topField)),
                     dedupeField),
                 limit,
                 offset),
@@ -241,6 +246,23 @@ class OpenSearchExecutionProtectorTest {
                 windowDefinition)));
   }
 
+  @Test
+  public void testProtectHashJoinInputs() {
+    List<Expression> keys = ImmutableList.of(DSL.ref("id", INTEGER));
+    HashJoinOperator protectedJoin = (HashJoinOperator) executionProtector.protect(
+        new HashJoinOperator(values(), values(), JoinType.INNER, keys, keys, 100));
+
+    assertEquals(
+        hashJoin(
+            resourceMonitor(values()),
+            resourceMonitor(values()),
+            JoinType.INNER,
+            keys,
+            keys),
+        protectedJoin);
+    assertEquals(100, protectedJoin.getBuildThreshold());
+  }
+
   @Test
   public void testWithoutProtection() {
     Expression filterExpr = literal(ExprBooleanValue.of(true));
@@ -17,9 +17,11 @@ import static org.opensearch.sql.opensearch.utils.Utils.indexScanAgg;
 import static org.opensearch.sql.opensearch.utils.Utils.noProjects;
 import static org.opensearch.sql.opensearch.utils.Utils.projects;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.dedupe;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.limit;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.rareTopN;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.sort;
 
@@ -31,6 +33,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.tree.RareTopN;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.config.ExpressionConfig;
@@ -215,10 +218,9 @@ class OpenSearchLogicOptimizerTest {
   }
 
   @Test
-  void sort_with_expression_cannot_merge_with_relation() {
+  void sort_with_expression_merge_with_relation() {
     assertEquals(
-        sort(
-            relation("schema", table),
+        indexScan("schema",
             Pair.of(Sort.SortOption.DEFAULT_ASC, dsl.abs(DSL.ref("intV", INTEGER)))
         ),
         optimize(
@@ -230,6 +232,24 @@ class OpenSearchLogicOptimizerTest {
     );
   }
 
+  @Test
+  void sort_with_boolean_expression_cannot_merge_with_relation() {
+    assertEquals(
+        sort(
+            relation("schema", table),
+            Pair.of(Sort.SortOption.DEFAULT_ASC,
+                dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1))))
+        ),
+        optimize(
+            sort(
+                relation("schema", table),
+                Pair.of(Sort.SortOption.DEFAULT_ASC,
+                    dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1))))
+            )
+        )
+    );
+  }
+
   /**
    * SELECT avg(intV) FROM schema GROUP BY stringV ORDER BY stringV.
    */
@@ -408,6 +428,31 @@ class OpenSearchLogicOptimizerTest {
     );
   }
 
+  /**
+   * SELECT intV FROM (SELECT intV FROM schema LIMIT 8 OFFSET 1) LIMIT 10 OFFSET 5.
+   */
+  @Test
+  void limit_merge_with_limited_index_scan() {
+    assertEquals(
+        project(
+            indexScan("schema", 6, 3, projects(DSL.ref("intV", INTEGER))),
+            DSL.named("intV", DSL.ref("intV", INTEGER))
+        ),
+        optimize(
+            project(
+                limit(
+                    limit(
+                        relation("schema", table),
+                        8, 1
+                    ),
+                    10, 5
+                ),
+                DSL.named("intV", DSL.ref("intV", INTEGER))
+            )
+        )
+    );
+  }
+
   @Test
   void aggregation_cant_merge_index_scan_with_limit() {
     assertEquals(
@@ -571,6 +616,243 @@ class OpenSearchLogicOptimizerTest {
     );
   }
 
+  /**
+   * SELECT stringV, avg(intV) FROM schema GROUP BY stringV ORDER BY avg(intV) DESC LIMIT 10.
+   */
+  @Test
+  void limit_and_sort_by_aggregator_merge_with_indexAgg() {
+    assertEquals(
+        project(
+            indexScanAgg("schema",
+                ImmutableList.of(DSL.named("AVG(intV)", dsl.avg(DSL.ref("intV", INTEGER)))),
+                ImmutableList.of(DSL.named("stringV", DSL.ref("stringV", STRING))),
+                ImmutableList.of(
+                    Pair.of(Sort.SortOption.DEFAULT_DESC, DSL.ref("AVG(intV)", DOUBLE)),
+                    Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("stringV", STRING))),
+                10),
+            DSL.named("AVG(intV)", DSL.ref("AVG(intV)", DOUBLE))),
+        optimize(
+            project(
+                limit(
+                    sort(
+                        aggregation(
+                            relation("schema", table),
+                            ImmutableList.of(DSL.named("AVG(intV)",
+                                dsl.avg(DSL.ref("intV", INTEGER)))),
+                            ImmutableList.of(DSL.named("stringV", DSL.ref("stringV", STRING)))),
+                        Pair.of(Sort.SortOption.DEFAULT_DESC, DSL.ref("AVG(intV)", DOUBLE)),
+                        Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("stringV", STRING))),
+                    10, 0),
+                DSL.named("AVG(intV)", DSL.ref("AVG(intV)", DOUBLE)))
+        )
+    );
+  }
+
+  /**
+   * SELECT stringV, avg(intV) FROM schema GROUP BY stringV ORDER BY avg(intV) LIMIT 10 OFFSET 5.
+   */
+  @Test
+  void limit_with_offset_and_sort_by_aggregator_should_not_merge_with_indexAgg() {
+    assertEquals(
+        limit(
+            sort(
+                indexScanAgg("schema",
+                    ImmutableList.of(DSL.named("AVG(intV)", dsl.avg(DSL.ref("intV", INTEGER)))),
+                    ImmutableList.of(DSL.named("stringV", DSL.ref("stringV", STRING)))),
+                Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("AVG(intV)", DOUBLE))),
+            10, 5),
+        optimize(
+            limit(
+                sort(
+                    aggregation(
+                        relation("schema", table),
+                        ImmutableList.of(DSL.named("AVG(intV)",
+                            dsl.avg(DSL.ref("intV", INTEGER)))),
+                        ImmutableList.of(DSL.named("stringV", DSL.ref("stringV", STRING)))),
+                    Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("AVG(intV)", DOUBLE))),
+                10, 5)
+        )
+    );
+  }
+
+  /**
+   * SELECT stringV, longV, avg(intV) FROM schema GROUP BY stringV, longV
+   * ORDER BY avg(intV) LIMIT 10.
+   */
+  @Test
+  void limit_and_sort_by_aggregator_with_multiple_groups_should_not_merge_with_indexAgg() {
+    assertEquals(
+        limit(
+            sort(
+                indexScanAgg("schema",
+                    ImmutableList.of(DSL.named("AVG(intV)", dsl.avg(DSL.ref("intV", INTEGER)))),
+                    ImmutableList.of(DSL.named("stringV", DSL.ref("stringV", STRING)),
+                        DSL.named("longV", DSL.ref("longV", LONG)))),
+                Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("AVG(intV)", DOUBLE))),
+            10, 0),
+        optimize(
+            limit(
+                sort(
+                    aggregation(
+                        relation("schema", table),
+                        ImmutableList.of(DSL.named("AVG(intV)",
+                            dsl.avg(DSL.ref("intV", INTEGER)))),
+                        ImmutableList.of(DSL.named("stringV", DSL.ref("stringV", STRING)),
+                            DSL.named("longV", DSL.ref("longV", LONG)))),
+                    Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("AVG(intV)", DOUBLE))),
+                10, 0)
+        )
+    );
+  }
+
+  /**
+   * source = schema | where intV > 1 | top 3 stringV by longV.
+   */
+  @Test
+  void rare_top_n_merge_with_filter_and_relation() {
+    assertEquals(
+        OpenSearchLogicalIndexRareTopN.builder()
+            .relationName("schema")
+            .filter(dsl.greater(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1))))
+            .commandType(RareTopN.CommandType.TOP)
+            .noOfResults(3)
+            .fieldList(ImmutableList.of(DSL.ref("stringV", STRING)))
+            .groupByList(ImmutableList.of(DSL.ref("longV", LONG)))
+            .build(),
+        optimize(
+            rareTopN(
+                filter(
+                    relation("schema", table),
+                    dsl.greater(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))),
+                RareTopN.CommandType.TOP,
+                3,
+                ImmutableList.of(DSL.ref("longV", LONG)),
+                DSL.ref("stringV", STRING))
+        )
+    );
+  }
+
+  /**
+   * source = schema | rare stringV.
+   */
+  @Test
+  void rare_top_n_merge_with_relation() {
+    assertEquals(
+        OpenSearchLogicalIndexRareTopN.builder()
+            .relationName("schema")
+            .commandType(RareTopN.CommandType.RARE)
+            .noOfResults(10)
+            .fieldList(ImmutableList.of(DSL.ref("stringV", STRING)))
+            .groupByList(ImmutableList.of())
+            .build(),
+        optimize(
+            rareTopN(
+                relation("schema", table),
+                RareTopN.CommandType.RARE,
+                ImmutableList.of(),
+                DSL.ref("stringV", STRING))
+        )
+    );
+  }
+
+  /**
+   * source = schema | top stringV, longV.
+   */
+  @Test
+  void rare_top_n_on_multiple_fields_should_not_merge_with_relation() {
+    LogicalPlan plan = rareTopN(
+        relation("schema", table),
+        RareTopN.CommandType.TOP,
+        ImmutableList.of(),
+        DSL.ref("stringV", STRING),
+        DSL.ref("longV", LONG));
+    assertEquals(plan, optimize(plan));
+  }
+
+  /**
+   * source = schema | where intV > 1 | dedup stringV | head 5.
+   */
+  @Test
+  void dedupe_merge_with_filter_and_relation() {
+    assertEquals(
+        OpenSearchLogicalIndexScan.builder()
+            .relationName("schema")
+            .filter(dsl.greater(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1))))
+            .collapseField(DSL.ref("stringV", STRING))
+            .offset(0)
+            .limit(5)
+            .build(),
+        optimize(
+            limit(
+                dedupe(
+                    filter(
+                        relation("schema", table),
+                        dsl.greater(DSL.ref("intV", INTEGER), DSL.literal(integerValue(1)))),
+                    DSL.ref("stringV", STRING)),
+                5, 0)
+        )
+    );
+  }
+
+  /**
+   * source = schema | dedup stringV.
+   */
+  @Test
+  void dedupe_merge_with_relation() {
+    assertEquals(
+        OpenSearchLogicalIndexScan.builder()
+            .relationName("schema")
+            .collapseField(DSL.ref("stringV", STRING))
+            .build(),
+        optimize(
+            dedupe(
+                relation("schema", table),
+                DSL.ref("stringV", STRING))
+        )
+    );
+  }
+
+  /**
+   * source = schema | dedup 2 stringV.
+   */
+  @Test
+  void dedupe_with_allowed_duplication_should_not_merge_with_relation() {
+    assertEquals(
+        dedupe(
+            relation("schema", table),
+            2, false, false,
+            DSL.ref("stringV", STRING)),
+        optimize(
+            dedupe(
+                relation("schema", table),
+                2, false, false,
+                DSL.ref("stringV", STRING))
+        )
+    );
+  }
+
+  /**
+   * source = schema | dedup stringV | sort intV.
+   */
+  @Test
+  void sort_should_not_merge_with_collapsed_index_scan() {
+    assertEquals(
+        sort(
+            OpenSearchLogicalIndexScan.builder()
+                .relationName("schema")
+                .collapseField(DSL.ref("stringV", STRING))
+                .build(),
+            Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER))),
+        optimize(
+            sort(
+                dedupe(
+                    relation("schema", table),
+                    DSL.ref("stringV", STRING)),
+                Pair.of(Sort.SortOption.DEFAULT_ASC, DSL.ref("intV", INTEGER)))
+        )
+    );
+  }
+
   private LogicalPlan optimize(LogicalPlan plan) {
     final LogicalPlanOptimizer optimizer = OpenSearchLogicalPlanOptimizerFactory.create();
     final LogicalPlan optimize = optimizer.optimize(plan);
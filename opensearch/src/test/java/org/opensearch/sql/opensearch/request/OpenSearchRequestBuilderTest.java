@@ -7,7 +7,12 @@
 package org.opensearch.sql.opensearch.request;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
+import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
+import static org.opensearch.search.sort.SortOrder.ASC;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,7 +20,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.common.unit.TimeValue;
+import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 
@@ -73,4 +80,53 @@ public class OpenSearchRequestBuilderTest {
             factory),
         builder.build());
   }
+
+  @Test
+  void buildCollapseQueryRequest() {
+    Integer maxResultWindow = 500;
+    Integer limit = 100;
+    Integer offset = 10;
+    OpenSearchRequestBuilder builder =
+        new OpenSearchRequestBuilder("test", maxResultWindow, settings, factory);
+    builder.pushDownCollapse("name");
+    builder.pushDownLimit(limit, offset);
+
+    assertEquals(
+        new OpenSearchQueryRequest(
+            new OpenSearchRequest.IndexName("test"),
+            new SearchSourceBuilder()
+                .from(offset)
+                .size(limit)
+                .timeout(DEFAULT_QUERY_TIMEOUT)
+                .query(QueryBuilders.existsQuery("name"))
+                .sort(DOC_FIELD_NAME, ASC)
+                .collapse(new CollapseBuilder("name")),
+            factory),
+        builder.build());
+  }
+
+  @Test
+  void buildCollapseRequestBeyondMaxResultWindowShouldFail() {
+    Integer maxResultWindow = 500;
+    OpenSearchRequestBuilder builder =
+        new OpenSearchRequestBuilder("test", maxResultWindow, settings, factory);
+    builder.pushDownCollapse("name");
+    builder.pushDownLimit(800, 10);
+
+    IllegalStateException exception = assertThrows(IllegalStateException.class, builder::build);
+    assertEquals("Field collapsing is not supported by scroll request, but from [10] and "
+        + "size [800] are beyond the max result window [500]", exception.getMessage());
+  }
+
+  @Test
+  void isWithinMaxResultWindow() {
+    OpenSearchRequestBuilder builder =
+        new OpenSearchRequestBuilder("test", 500, settings, factory);
+
+    assertTrue(builder.isWithinMaxResultWindow(null, null));
+    assertTrue(builder.isWithinMaxResultWindow(400, 100));
+    assertFalse(builder.isWithinMaxResultWindow(400, 101));
+    assertFalse(new OpenSearchRequestBuilder("test", 100, settings, factory)
+        .isWithinMaxResultWindow(null, null));
+  }
 }
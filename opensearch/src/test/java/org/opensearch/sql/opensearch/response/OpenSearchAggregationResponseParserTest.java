@@ -26,8 +26,10 @@ import org.opensearch.sql.opensearch.response.agg.CompositeAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.FilterParser;
 import org.opensearch.sql.opensearch.response.agg.NoBucketAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.OpenSearchAggregationResponseParser;
+import org.opensearch.sql.opensearch.response.agg.RareTopNAggregationParser;
 import org.opensearch.sql.opensearch.response.agg.SingleValueParser;
 import org.opensearch.sql.opensearch.response.agg.StatsParser;
+import org.opensearch.sql.opensearch.response.agg.TermsAggregationParser;
 
 @DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
 class OpenSearchAggregationResponseParserTest {
@@ -270,6 +272,120 @@ class OpenSearchAggregationResponseParserTest {
         contains(entry("esField", 93.71390409320287, "maxField", 360D)));
   }
 
+  /**
+   * SELECT type, AVG(price) as avg FROM sales GROUP BY type ORDER BY avg DESC LIMIT 2.
+   */
+  @Test
+  void terms_bucket_one_metric_should_keep_bucket_order() {
+    String response = "{\n"
+        + "  \"sterms#terms_buckets\": {\n"
+        + "    \"doc_count_error_upper_bound\": 0,\n"
+        + "    \"sum_other_doc_count\": 3,\n"
+        + "    \"buckets\": [\n"
+        + "      {\n"
+        + "        \"key\": \"sale\",\n"
+        + "        \"doc_count\": 2,\n"
+        + "        \"avg#avg\": {\n"
+        + "          \"value\": 105\n"
+        + "        }\n"
+        + "      },\n"
+        + "      {\n"
+        + "        \"key\": \"cost\",\n"
+        + "        \"doc_count\": 4,\n"
+        + "        \"avg#avg\": {\n"
+        + "          \"value\": 20\n"
+        + "        }\n"
+        + "      }\n"
+        + "    ]\n"
+        + "  }\n"
+        + "}";
+    OpenSearchAggregationResponseParser parser =
+        new TermsAggregationParser("type", new SingleValueParser("avg"));
+    assertThat(parse(parser, response),
+        contains(entry("type", "sale", "avg", 105d),
+            entry("type", "cost", "avg", 20d)));
+  }
+
+  /**
+   * source = sales | top 1 type by region.
+   */
+  @Test
+  void rare_top_n_terms_in_composite_bucket_should_pass() {
+    String response = "{\n"
+        + "  \"composite#composite_buckets\": {\n"
+        + "    \"after_key\": {\n"
+        + "      \"region\": \"us\"\n"
+        + "    },\n"
+        + "    \"buckets\": [\n"
+        + "      {\n"
+        + "        \"key\": {\n"
+        + "          \"region\": \"eu\"\n"
+        + "        },\n"
+        + "        \"doc_count\": 5,\n"
+        + "        \"sterms#terms_buckets\": {\n"
+        + "          \"doc_count_error_upper_bound\": 0,\n"
+        + "          \"sum_other_doc_count\": 2,\n"
+        + "          \"buckets\": [\n"
+        + "            {\n"
+        + "              \"key\": \"sale\",\n"
+        + "              \"doc_count\": 3\n"
+        + "            }\n"
+        + "          ]\n"
+        + "        }\n"
+        + "      },\n"
+        + "      {\n"
+        + "        \"key\": {\n"
+        + "          \"region\": \"us\"\n"
+        + "        },\n"
+        + "        \"doc_count\": 2,\n"
+        + "        \"sterms#terms_buckets\": {\n"
+        + "          \"doc_count_error_upper_bound\": 0,\n"
+        + "          \"sum_other_doc_count\": 0,\n"
+        + "          \"buckets\": [\n"
+        + "            {\n"
+        + "              \"key\": \"cost\",\n"
+        + "              \"doc_count\": 2\n"
+        + "            }\n"
+        + "          ]\n"
+        + "        }\n"
+        + "      }\n"
+        + "    ]\n"
+        + "  }\n"
+        + "}";
+    OpenSearchAggregationResponseParser parser =
+        new RareTopNAggregationParser("terms_buckets", "type");
+    assertThat(parse(parser, response),
+        contains(entry("region", "eu", "type", "sale"),
+            entry("region", "us", "type", "cost")));
+  }
+
+  /**
+   * source = sales | rare type.
+   */
+  @Test
+  void rare_top_n_terms_without_group_should_pass() {
+    String response = "{\n"
+        + "  \"sterms#terms_buckets\": {\n"
+        + "    \"doc_count_error_upper_bound\": 0,\n"
+        + "    \"sum_other_doc_count\": 0,\n"
+        + "    \"buckets\": [\n"
+        + "      {\n"
+        + "        \"key\": \"cost\",\n"
+        + "        \"doc_count\": 1\n"
+        + "      },\n"
+        + "      {\n"
+        + "        \"key\": \"sale\",\n"
+        + "        \"doc_count\": 3\n"
+        + "      }\n"
+        + "    ]\n"
+        + "  }\n"
+        + "}";
+    OpenSearchAggregationResponseParser parser =
+        new RareTopNAggregationParser("terms_buckets", "type");
+    assertThat(parse(parser, response),
+        contains(entry("type", "cost"), entry("type", "sale")));
+  }
+
   public List<Map<String, Object>> parse(OpenSearchAggregationResponseParser parser, String json) {
     return parser.parse(fromJson(json));
   }
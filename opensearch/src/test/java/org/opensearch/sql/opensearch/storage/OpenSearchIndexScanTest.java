@@ -8,6 +8,7 @@ package org.opensearch.sql.opensearch.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -15,7 +16,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.search.sort.FieldSortBuilder.DOC_FIELD_NAME;
 import static org.opensearch.search.sort.SortOrder.ASC;
+import static org.opensearch.sql.data.model.ExprValueUtils.stringValue;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.ref;
 
 import com.google.common.collect.ImmutableMap;
 import java.util.Arrays;
@@ -32,6 +35,7 @@ import org.opensearch.common.bytes.BytesArray;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.index.query.QueryBuilders;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.aggregations.AggregationBuilders;
 import org.opensearch.search.fetch.subphase.highlight.HighlightBuilder;
 import org.opensearch.sql.ast.expression.DataType;
 import org.opensearch.sql.ast.expression.Literal;
@@ -174,6 +178,47 @@ class OpenSearchIndexScanTest {
     verify(client).cleanup(any());
   }
 
+  @Test
+  void queryAllResultsInBatchWithScroll() {
+    mockResponse(
+        new ExprValue[]{employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[]{employee(3, "Allen", "IT")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.open();
+
+      assertEquals(
+          Arrays.asList(
+              employee(1, "John", "IT"), employee(2, "Smith", "HR"), employee(3, "Allen", "IT")),
+          indexScan.nextBatch(10).getRows());
+      assertTrue(indexScan.nextBatch(10).isEmpty());
+    }
+    verify(client).cleanup(any());
+  }
+
+  @Test
+  void querySomeResultsInBatchWithScroll() {
+    mockResponse(
+        new ExprValue[]{employee(1, "John", "IT"), employee(2, "Smith", "HR")},
+        new ExprValue[]{employee(3, "Allen", "IT"), employee(4, "Bob", "HR")});
+
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "employees", 2, exprValueFactory)) {
+      indexScan.getRequestBuilder().pushDownLimit(3, 0);
+      indexScan.open();
+
+      assertEquals(
+          Arrays.asList(employee(1, "John", "IT"), employee(2, "Smith", "HR")),
+          indexScan.nextBatch(2).getRows());
+      assertEquals(
+          Arrays.asList(employee(3, "Allen", "IT")),
+          indexScan.nextBatch(2).getRows());
+      assertTrue(indexScan.nextBatch(2).isEmpty());
+    }
+    verify(client).cleanup(any());
+  }
+
   @Test
   void pushDownFilters() {
     assertThat()
@@ -192,6 +237,66 @@ class OpenSearchIndexScanTest {
                 .filter(QueryBuilders.rangeQuery("balance").gte(10000)));
   }
 
+  @Test
+  void pushDownFiltersAfterDisjunction() {
+    assertThat()
+        .pushDown(QueryBuilders.boolQuery()
+            .should(QueryBuilders.termQuery("name", "John"))
+            .should(QueryBuilders.termQuery("age", 30)))
+        .pushDown(QueryBuilders.rangeQuery("balance").gte(10000))
+        .pushDown(QueryBuilders.rangeQuery("balance").lt(20000))
+        .shouldQuery(
+            QueryBuilders.boolQuery()
+                .filter(QueryBuilders.boolQuery()
+                    .should(QueryBuilders.termQuery("name", "John"))
+                    .should(QueryBuilders.termQuery("age", 30)))
+                .filter(QueryBuilders.rangeQuery("balance").gte(10000))
+                .filter(QueryBuilders.rangeQuery("balance").lt(20000)));
+  }
+
+  @Test
+  void pushDownValues() {
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "test", 10, exprValueFactory)) {
+      indexScan.pushDownValues(ref("name", STRING),
+          Arrays.asList(stringValue("John"), stringValue("Smith")));
+      assertEquals(QueryBuilders.termsQuery("name", Arrays.asList("John", "Smith")),
+          indexScan.getRequestBuilder().getSourceBuilder().query());
+    }
+  }
+
+  @Test
+  void pushDownValuesIgnoredAfterAggregation() {
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "test", 10, exprValueFactory)) {
+      indexScan.getRequestBuilder().getSourceBuilder()
+          .aggregation(AggregationBuilders.terms("name").field("name"));
+      indexScan.pushDownValues(ref("name", STRING), Arrays.asList(stringValue("John")));
+      assertNull(indexScan.getRequestBuilder().getSourceBuilder().query());
+    }
+  }
+
+  @Test
+  void pushDownValuesIgnoredAfterLimit() {
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "test", 10, exprValueFactory)) {
+      indexScan.getRequestBuilder().pushDownLimit(5, 1);
+      indexScan.pushDownValues(ref("name", STRING), Arrays.asList(stringValue("John")));
+      assertNull(indexScan.getRequestBuilder().getSourceBuilder().query());
+    }
+  }
+
+  @Test
+  void pushDownValuesIgnoredAfterCollapse() {
+    try (OpenSearchIndexScan indexScan =
+             new OpenSearchIndexScan(client, settings, "test", 10, exprValueFactory)) {
+      indexScan.getRequestBuilder().pushDownCollapse("name");
+      indexScan.pushDownValues(ref("name", STRING), Arrays.asList(stringValue("John")));
+      assertEquals(QueryBuilders.existsQuery("name"),
+          indexScan.getRequestBuilder().getSourceBuilder().query());
+    }
+  }
+
   @Test
   void pushDownHighlight() {
     Map<String, Literal> args = new HashMap<>();
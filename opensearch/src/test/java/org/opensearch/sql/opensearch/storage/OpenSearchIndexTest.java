@@ -10,9 +10,11 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.arrayContainingInAnyOrder;
 import static org.hamcrest.Matchers.emptyArray;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
@@ -45,7 +47,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.search.collapse.CollapseBuilder;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
+import org.opensearch.sql.ast.tree.RareTopN;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.common.setting.Settings;
 import org.opensearch.sql.data.model.ExprBooleanValue;
@@ -62,9 +66,12 @@ import org.opensearch.sql.opensearch.client.OpenSearchClient;
 import org.opensearch.sql.opensearch.data.type.OpenSearchDataType;
 import org.opensearch.sql.opensearch.data.value.OpenSearchExprValueFactory;
 import org.opensearch.sql.opensearch.mapping.IndexMapping;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexRareTopN;
+import org.opensearch.sql.opensearch.planner.logical.OpenSearchLogicalIndexScan;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalPlanDSL;
 import org.opensearch.sql.planner.physical.AggregationOperator;
+import org.opensearch.sql.planner.physical.DedupeOperator;
 import org.opensearch.sql.planner.physical.FilterOperator;
 import org.opensearch.sql.planner.physical.LimitOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
@@ -305,6 +312,25 @@ class OpenSearchIndexTest {
     assertTrue(plan instanceof OpenSearchIndexScan);
   }
 
+  @Test
+  void shouldImplLogicalIndexScanRareTopN() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
+
+    String indexName = "test";
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+    PhysicalPlan plan = index.implement(
+        OpenSearchLogicalIndexRareTopN.builder()
+            .relationName(indexName)
+            .filter(dsl.equal(ref("name", STRING), literal("John")))
+            .commandType(RareTopN.CommandType.TOP)
+            .noOfResults(3)
+            .fieldList(Arrays.asList(ref("name", STRING)))
+            .groupByList(Arrays.asList(ref("age", INTEGER)))
+            .build());
+    assertTrue(plan instanceof OpenSearchIndexScan);
+  }
+
   @Test
   void shouldNotPushDownAggregationFarFromRelation() {
     when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
@@ -413,7 +439,7 @@ class OpenSearchIndexTest {
                 sort(
                     relation("test", table),
                     Pair.of(Sort.SortOption.DEFAULT_ASC,
-                        dsl.abs(named("intV", ref("intV", INTEGER))))
+                        dsl.equal(ref("intV", INTEGER), literal(1)))
                 ),
                 300, 1
             ),
@@ -448,4 +474,51 @@ class OpenSearchIndexTest {
     assertThat(fetchSource.includes(), arrayContaining("intV"));
     assertThat(fetchSource.excludes(), emptyArray());
   }
+
+  @Test
+  void shouldImplCollapsedIndexScanWithinMaxResultWindow() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 10000));
+
+    String indexName = "test";
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+    PhysicalPlan plan = index.implement(
+        OpenSearchLogicalIndexScan.builder()
+            .relationName(indexName)
+            .collapseField(ref("intV", INTEGER))
+            .build());
+
+    assertTrue(plan instanceof OpenSearchIndexScan);
+    assertEquals(new CollapseBuilder("intV"),
+        ((OpenSearchIndexScan) plan).getRequestBuilder().getSourceBuilder().collapse());
+  }
+
+  @Test
+  void shouldImplCollapsedIndexScanBeyondMaxResultWindowByDedupe() {
+    when(settings.getSettingValue(Settings.Key.QUERY_SIZE_LIMIT)).thenReturn(200);
+    when(client.getIndexMaxResultWindows("test")).thenReturn(Map.of("test", 100));
+
+    String indexName = "test";
+    OpenSearchIndex index = new OpenSearchIndex(client, settings, indexName);
+    PhysicalPlan plan = index.implement(
+        project(
+            OpenSearchLogicalIndexScan.builder()
+                .relationName(indexName)
+                .collapseField(ref("intV", INTEGER))
+                .projectList(projects(ref("name", STRING)))
+                .limit(50)
+                .offset(60)
+                .build(),
+            named("n", ref("name", STRING))));
+
+    assertTrue(plan instanceof ProjectOperator);
+    PhysicalPlan limit = ((ProjectOperator) plan).getInput();
+    assertTrue(limit instanceof LimitOperator);
+    PhysicalPlan dedupe = ((LimitOperator) limit).getInput();
+    assertTrue(dedupe instanceof DedupeOperator);
+    OpenSearchIndexScan indexScan = (OpenSearchIndexScan) ((DedupeOperator) dedupe).getInput();
+    assertNull(indexScan.getRequestBuilder().getSourceBuilder().collapse());
+    assertThat(indexScan.getRequestBuilder().getSourceBuilder().fetchSource().includes(),
+        arrayContainingInAnyOrder("name", "intV"));
+  }
 }
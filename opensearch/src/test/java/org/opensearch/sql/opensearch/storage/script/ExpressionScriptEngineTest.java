@@ -23,8 +23,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.script.AggregationScript;
 import org.opensearch.script.FilterScript;
+import org.opensearch.script.NumberSortScript;
 import org.opensearch.script.ScriptContext;
 import org.opensearch.script.ScriptEngine;
+import org.opensearch.script.StringSortScript;
 import org.opensearch.sql.expression.DSL;
 import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.opensearch.storage.script.filter.ExpressionFilterScriptFactory;
@@ -56,7 +58,8 @@ class ExpressionScriptEngineTest {
     when(serializer.deserialize("test code")).thenReturn(expression);
 
     assertThat(scriptEngine.getSupportedContexts(),
-        contains(FilterScript.CONTEXT, AggregationScript.CONTEXT));
+        contains(FilterScript.CONTEXT, AggregationScript.CONTEXT,
+            NumberSortScript.CONTEXT, StringSortScript.CONTEXT));
 
     Object actualFactory = scriptEngine.compile(
         "test", "test code", FilterScript.CONTEXT, emptyMap());
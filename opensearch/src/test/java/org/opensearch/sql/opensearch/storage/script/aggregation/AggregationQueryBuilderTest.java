@@ -9,7 +9,9 @@ package org.opensearch.sql.opensearch.storage.script.aggregation;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.opensearch.sql.common.utils.StringUtils.format;
@@ -28,6 +30,7 @@ import static org.opensearch.sql.opensearch.utils.Utils.avg;
 import static org.opensearch.sql.opensearch.utils.Utils.group;
 import static org.opensearch.sql.opensearch.utils.Utils.sort;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.AbstractMap;
 import java.util.Arrays;
@@ -44,6 +47,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.ast.tree.RareTopN;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.expression.DSL;
@@ -592,6 +596,92 @@ class AggregationQueryBuilderTest {
   }
 
   @SneakyThrows
+  @Test
+  void should_build_terms_aggregation_ordered_by_metric_with_limit() {
+    JsonNode terms = buildTermsQuery(
+        Arrays.asList(
+            named("avg(age)", new AvgAggregator(Arrays.asList(ref("age", INTEGER)), INTEGER))),
+        Arrays.asList(named("name", ref("name", STRING))),
+        sort(ref("avg(age)", DOUBLE), Sort.SortOption.DEFAULT_DESC),
+        10);
+
+    assertEquals("name", terms.at("/terms/field").asText());
+    assertEquals(10, terms.at("/terms/size").asInt());
+    assertEquals("desc", terms.at("/terms/order/0/avg(age)").asText());
+    assertEquals("asc", terms.at("/terms/order/1/_key").asText());
+    assertEquals("age", terms.at("/aggregations/avg(age)/avg/field").asText());
+  }
+
+  @Test
+  void should_build_terms_aggregation_ordered_by_doc_count_for_count_all() {
+    JsonNode terms = buildTermsQuery(
+        Arrays.asList(
+            named("count()", new CountAggregator(Arrays.asList(literal(1)), INTEGER))),
+        Arrays.asList(named("name", ref("name", STRING))),
+        sort(ref("count()", INTEGER), Sort.SortOption.DEFAULT_DESC,
+            ref("name", STRING), Sort.SortOption.DEFAULT_DESC),
+        5);
+
+    assertEquals(5, terms.at("/terms/size").asInt());
+    assertEquals("desc", terms.at("/terms/order/0/_count").asText());
+    assertEquals("desc", terms.at("/terms/order/1/_key").asText());
+    assertEquals(2, terms.at("/terms/order").size());
+  }
+
+  @Test
+  @SneakyThrows
+  void should_build_terms_aggregation_for_top_without_group() {
+    JsonNode terms = new ObjectMapper().readTree(
+        queryBuilder.buildRareTopNAggregationBuilder(RareTopN.CommandType.TOP, 3,
+                ref("name", STRING), Collections.emptyList())
+            .getLeft().get(0).toString())
+        .get("terms_buckets");
+
+    assertEquals("name", terms.at("/terms/field").asText());
+    assertEquals(3, terms.at("/terms/size").asInt());
+    assertEquals("desc", terms.at("/terms/order/0/_count").asText());
+    assertEquals("asc", terms.at("/terms/order/1/_key").asText());
+  }
+
+  @Test
+  @SneakyThrows
+  void should_build_terms_aggregation_in_composite_aggregation_for_rare_with_group() {
+    JsonNode composite = new ObjectMapper().readTree(
+        queryBuilder.buildRareTopNAggregationBuilder(RareTopN.CommandType.RARE, 10,
+                ref("name", STRING), Arrays.asList(ref("age", INTEGER)))
+            .getLeft().get(0).toString())
+        .get("composite_buckets");
+
+    assertEquals("age", composite.at("/composite/sources/0/age/terms/field").asText());
+    assertEquals("name",
+        composite.at("/aggregations/terms_buckets/terms/field").asText());
+    assertEquals(10, composite.at("/aggregations/terms_buckets/terms/size").asInt());
+    assertEquals("asc",
+        composite.at("/aggregations/terms_buckets/terms/order/0/_count").asText());
+  }
+
+  @Test
+  void should_build_type_mapping_for_rare_top_n() {
+    assertThat(
+        queryBuilder.buildRareTopNTypeMapping(
+            Arrays.asList(ref("name", STRING)), Arrays.asList(ref("age", INTEGER))).entrySet(),
+        containsInAnyOrder(
+            map("name", STRING),
+            map("age", INTEGER)
+        ));
+  }
+
+  @Test
+  void should_order_buckets_by_metric_without_filter_only() {
+    assertTrue(AggregationQueryBuilder.canOrderBucketsBy(
+        named("avg(age)", new AvgAggregator(Arrays.asList(ref("age", INTEGER)), INTEGER))));
+    assertFalse(AggregationQueryBuilder.canOrderBucketsBy(
+        named("avg(age)", new AvgAggregator(Arrays.asList(ref("age", INTEGER)), INTEGER)
+            .condition(dsl.greater(ref("age", INTEGER), literal(10))))));
+    assertFalse(AggregationQueryBuilder.canOrderBucketsBy(
+        named("var_pop(age)", dsl.varPop(ref("age", INTEGER)))));
+  }
+
   private String buildQuery(List<NamedAggregator> namedAggregatorList,
                             List<NamedExpression> groupByList) {
     return buildQuery(namedAggregatorList, groupByList, null);
@@ -613,6 +703,23 @@ class AggregationQueryBuilderTest {
         .toPrettyString();
   }
 
+  @SneakyThrows
+  private JsonNode buildTermsQuery(
+      List<NamedAggregator> namedAggregatorList,
+      List<NamedExpression> groupByList,
+      List<Pair<Sort.SortOption, Expression>> sortList,
+      Integer limit) {
+    ObjectMapper objectMapper = new ObjectMapper();
+    return objectMapper
+        .readTree(
+            queryBuilder
+                .buildAggregationBuilder(namedAggregatorList, groupByList, sortList, limit)
+                .getLeft()
+                .get(0)
+                .toString())
+        .get("terms_buckets");
+  }
+
   private Set<Map.Entry<String, ExprType>> buildTypeMapping(
       List<NamedAggregator> namedAggregatorList,
       List<NamedExpression> groupByList) {
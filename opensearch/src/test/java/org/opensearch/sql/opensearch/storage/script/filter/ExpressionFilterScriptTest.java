@@ -15,8 +15,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
 import static org.opensearch.sql.data.type.ExprCoreType.FLOAT;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.SHORT;
 import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
 import static org.opensearch.sql.expression.DSL.literal;
@@ -24,11 +27,13 @@ import static org.opensearch.sql.expression.DSL.ref;
 import static org.opensearch.sql.opensearch.data.type.OpenSearchDataType.OPENSEARCH_TEXT_KEYWORD;
 
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.SortedNumericDocValues;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayNameGeneration;
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -37,6 +42,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.index.fielddata.SortedNumericDoubleValues;
 import org.opensearch.search.lookup.LeafDocLookup;
 import org.opensearch.search.lookup.LeafSearchLookup;
 import org.opensearch.search.lookup.SearchLookup;
@@ -86,6 +92,30 @@ class ExpressionFilterScriptTest {
         .shouldMatch();
   }
 
+  @Test
+  void can_execute_expression_with_numeric_doc_values() throws IOException {
+    assertThat()
+        .docValues("age", longs(30L))
+        .filterBy(dsl.greater(ref("age", LONG), literal(20L)))
+        .shouldMatch();
+    assertThat()
+        .docValues("age", longs(30L))
+        .filterBy(dsl.greater(ref("age", INTEGER), literal(20)))
+        .shouldMatch();
+    assertThat()
+        .docValues("age", longs(30L))
+        .filterBy(dsl.equal(ref("age", SHORT), literal((short) 30)))
+        .shouldMatch();
+    assertThat()
+        .docValues("balance", doubles(100.5))
+        .filterBy(dsl.less(ref("balance", DOUBLE), literal(150.0)))
+        .shouldMatch();
+    assertThat()
+        .docValues("balance", doubles(100.5))
+        .filterBy(dsl.less(ref("balance", FLOAT), literal(150.0F)))
+        .shouldMatch();
+  }
+
   @Test
   void can_execute_expression_with_text_keyword_field() {
     assertThat()
@@ -151,6 +181,26 @@ class ExpressionFilterScriptTest {
         .filterBy(literal(10));
   }
 
+  private ScriptDocValues<?> longs(long value) throws IOException {
+    SortedNumericDocValues values = mock(SortedNumericDocValues.class);
+    when(values.advanceExact(0)).thenReturn(true);
+    when(values.docValueCount()).thenReturn(1);
+    when(values.nextValue()).thenReturn(value);
+    ScriptDocValues.Longs docValues = new ScriptDocValues.Longs(values);
+    docValues.setNextDocId(0);
+    return docValues;
+  }
+
+  private ScriptDocValues<?> doubles(double value) throws IOException {
+    SortedNumericDoubleValues values = mock(SortedNumericDoubleValues.class);
+    when(values.advanceExact(0)).thenReturn(true);
+    when(values.docValueCount()).thenReturn(1);
+    when(values.nextValue()).thenReturn(value);
+    ScriptDocValues.Doubles docValues = new ScriptDocValues.Doubles(values);
+    docValues.setNextDocId(0);
+    return docValues;
+  }
+
   private ExprScriptAssertion assertThat() {
     return new ExprScriptAssertion(lookup, leafLookup, context);
   }
@@ -179,8 +229,11 @@ class ExpressionFilterScriptTest {
     }
 
     ExprScriptAssertion docValues(String name, Object value) {
-      LeafDocLookup leafDocLookup = mockLeafDocLookup(
-          ImmutableMap.of(name, new FakeScriptDocValues<>(value)));
+      return docValues(name, new FakeScriptDocValues<>(value));
+    }
+
+    ExprScriptAssertion docValues(String name, ScriptDocValues<?> value) {
+      LeafDocLookup leafDocLookup = mockLeafDocLookup(ImmutableMap.of(name, value));
 
       when(lookup.getLeafSearchLookup(any())).thenReturn(leafLookup);
       when(leafLookup.doc()).thenReturn(leafDocLookup);
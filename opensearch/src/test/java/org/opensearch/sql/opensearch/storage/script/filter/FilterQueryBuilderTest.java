@@ -44,6 +44,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.common.utils.StringUtils;
 import org.opensearch.sql.data.model.ExprDateValue;
 import org.opensearch.sql.data.model.ExprDatetimeValue;
+import org.opensearch.sql.data.model.ExprNullValue;
 import org.opensearch.sql.data.model.ExprTimeValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
@@ -104,6 +105,87 @@ class FilterQueryBuilderTest {
                 ref("name", STRING), literal("John"))));
   }
 
+  @Test
+  void should_build_terms_query_for_in_expression() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"terms\" : {\n"
+            + "    \"age\" : [ 30, 40 ],\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(
+            dsl.in(
+                ref("age", INTEGER), literal(30), literal(40))));
+  }
+
+  @Test
+  void should_use_keyword_for_multi_field_in_in_expression() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"terms\" : {\n"
+            + "    \"name.keyword\" : [ \"John\", \"Smith\" ],\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(
+            dsl.in(
+                ref("name", OPENSEARCH_TEXT_KEYWORD), literal("John"), literal("Smith"))));
+  }
+
+  @Test
+  void should_build_script_query_for_in_expression_on_function() {
+    mockToStringSerializer();
+    assertJsonEquals(
+        "{\n"
+            + "  \"script\" : {\n"
+            + "    \"script\" : {\n"
+            + "      \"source\" : \"in(abs(age), 30, 40)\",\n"
+            + "      \"lang\" : \"opensearch_query_expression\"\n"
+            + "    },\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(
+            dsl.in(
+                dsl.abs(ref("age", INTEGER)), literal(30), literal(40))));
+  }
+
+  @Test
+  void should_build_script_query_for_in_expression_with_field_value() {
+    mockToStringSerializer();
+    assertJsonEquals(
+        "{\n"
+            + "  \"script\" : {\n"
+            + "    \"script\" : {\n"
+            + "      \"source\" : \"in(age1, 30, age2)\",\n"
+            + "      \"lang\" : \"opensearch_query_expression\"\n"
+            + "    },\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(
+            dsl.in(
+                ref("age1", INTEGER), literal(30), ref("age2", INTEGER))));
+  }
+
+  @Test
+  void should_build_script_query_for_in_expression_with_null_value() {
+    mockToStringSerializer();
+    Expression in = dsl.in(ref("age", INTEGER), literal(30), literal(ExprNullValue.of()));
+    assertJsonEquals(
+        "{\n"
+            + "  \"script\" : {\n"
+            + "    \"script\" : {\n"
+            + "      \"source\" : \"" + in + "\",\n"
+            + "      \"lang\" : \"opensearch_query_expression\"\n"
+            + "    },\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(in));
+  }
+
   @Test
   void should_build_range_query_for_comparison_expression() {
     Expression[] params = {ref("age", INTEGER), literal(30)};
@@ -263,6 +345,104 @@ class FilterQueryBuilderTest {
                     ref("age", INTEGER), literal(30)))));
   }
 
+  @Test
+  void should_merge_range_queries_on_same_field_in_and_expression() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"bool\" : {\n"
+            + "    \"filter\" : [\n"
+            + "      {\n"
+            + "        \"range\" : {\n"
+            + "          \"age\" : {\n"
+            + "            \"from\" : 3,\n"
+            + "            \"to\" : null,\n"
+            + "            \"include_lower\" : true,\n"
+            + "            \"include_upper\" : true,\n"
+            + "            \"boost\" : 1.0\n"
+            + "          }\n"
+            + "        }\n"
+            + "      },\n"
+            + "      {\n"
+            + "        \"range\" : {\n"
+            + "          \"age\" : {\n"
+            + "            \"from\" : null,\n"
+            + "            \"to\" : 10,\n"
+            + "            \"include_lower\" : true,\n"
+            + "            \"include_upper\" : false,\n"
+            + "            \"boost\" : 1.0\n"
+            + "          }\n"
+            + "        }\n"
+            + "      }\n"
+            + "    ],\n"
+            + "    \"adjust_pure_negative\" : true,\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(
+            dsl.and(
+                dsl.and(
+                    dsl.greater(ref("age", INTEGER), literal(1)),
+                    dsl.less(ref("age", INTEGER), literal(10))),
+                dsl.gte(ref("age", INTEGER), literal(3)))));
+  }
+
+  @Test
+  void should_not_build_match_none_query_for_disjoint_ranges_of_multi_valued_field() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"bool\" : {\n"
+            + "    \"filter\" : [\n"
+            + "      {\n"
+            + "        \"range\" : {\n"
+            + "          \"age\" : {\n"
+            + "            \"from\" : 10,\n"
+            + "            \"to\" : null,\n"
+            + "            \"include_lower\" : false,\n"
+            + "            \"include_upper\" : true,\n"
+            + "            \"boost\" : 1.0\n"
+            + "          }\n"
+            + "        }\n"
+            + "      },\n"
+            + "      {\n"
+            + "        \"range\" : {\n"
+            + "          \"age\" : {\n"
+            + "            \"from\" : null,\n"
+            + "            \"to\" : 1,\n"
+            + "            \"include_lower\" : true,\n"
+            + "            \"include_upper\" : false,\n"
+            + "            \"boost\" : 1.0\n"
+            + "          }\n"
+            + "        }\n"
+            + "      }\n"
+            + "    ],\n"
+            + "    \"adjust_pure_negative\" : true,\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(
+            dsl.and(
+                dsl.greater(ref("age", INTEGER), literal(10)),
+                dsl.less(ref("age", INTEGER), literal(1)))));
+  }
+
+  @Test
+  void should_build_match_all_or_none_query_for_boolean_literal() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"match_all\" : {\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(literal(true)));
+    assertJsonEquals(
+        "{\n"
+            + "  \"match_none\" : {\n"
+            + "    \"boost\" : 1.0\n"
+            + "  }\n"
+            + "}",
+        buildQuery(dsl.and(literal(false), dsl.equal(ref("age", INTEGER), literal(30)))));
+  }
+
   @Test
   void should_use_keyword_for_multi_field_in_equality_expression() {
     assertJsonEquals(
@@ -1194,6 +1374,23 @@ class FilterQueryBuilderTest {
             .castTimestamp(literal("2021-11-08 17:00:00")))));
   }
 
+  @Test
+  void date_function_in_comparison_should_build_range_query() {
+    assertJsonEquals(
+        "{\n"
+            + "  \"range\" : {\n"
+            + "    \"timestamp_value\" : {\n"
+            + "      \"from\" : 1640995200000,\n"
+            + "      \"to\" : 1672531200000,"
+            + "      \"include_lower\" : true,"
+            + "      \"include_upper\" : false,"
+            + "      \"boost\" : 1.0\n"
+            + "    }\n"
+            + "  }\n"
+            + "}",
+        buildQuery(dsl.equal(dsl.year(ref("timestamp_value", TIMESTAMP)), literal(2022))));
+  }
+
   @Test
   void non_literal_in_cast_should_build_script() {
     mockToStringSerializer();
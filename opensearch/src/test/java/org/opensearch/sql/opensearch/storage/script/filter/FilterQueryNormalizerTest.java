@@ -0,0 +1,221 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.opensearch.index.query.QueryBuilders.boolQuery;
+import static org.opensearch.index.query.QueryBuilders.matchAllQuery;
+import static org.opensearch.index.query.QueryBuilders.matchNoneQuery;
+import static org.opensearch.index.query.QueryBuilders.rangeQuery;
+import static org.opensearch.index.query.QueryBuilders.termQuery;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.index.query.QueryBuilder;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class FilterQueryNormalizerTest {
+
+  private final FilterQueryNormalizer normalizer = new FilterQueryNormalizer();
+
+  private final QueryBuilder name = termQuery("name", "John");
+
+  private final QueryBuilder age = termQuery("age", 30);
+
+  @Test
+  void non_bool_or_non_plain_bool_query_should_not_be_changed() {
+    assertSame(name, normalizer.normalize(name));
+
+    QueryBuilder query = boolQuery().should(name).should(name).minimumShouldMatch(2);
+    assertSame(query, normalizer.normalize(query));
+
+    query = boolQuery().mustNot(boolQuery().filter(name)).adjustPureNegative(false);
+    assertSame(query, normalizer.normalize(query));
+  }
+
+  @Test
+  void nested_filter_clauses_should_be_flattened() {
+    assertEquals(
+        boolQuery().filter(name).filter(age).mustNot(termQuery("city", "Seattle")),
+        normalizer.normalize(
+            boolQuery()
+                .filter(boolQuery().filter(name))
+                .filter(boolQuery().filter(age).mustNot(termQuery("city", "Seattle")))));
+  }
+
+  @Test
+  void nested_should_clauses_should_be_flattened() {
+    assertEquals(
+        boolQuery().should(name).should(age).should(name),
+        normalizer.normalize(
+            boolQuery()
+                .should(boolQuery().should(name).should(age))
+                .should(name)));
+  }
+
+  @Test
+  void nested_bool_of_different_kind_should_not_be_flattened() {
+    QueryBuilder should = boolQuery().should(name).should(age);
+    QueryBuilder filter = boolQuery().filter(name).filter(age);
+    QueryBuilder must = boolQuery().must(name);
+    assertEquals(
+        boolQuery().filter(should).filter(must),
+        normalizer.normalize(boolQuery().filter(should).filter(must)));
+    assertEquals(
+        boolQuery().should(filter).should(must).should(boolQuery().mustNot(name)),
+        normalizer.normalize(
+            boolQuery().should(filter).should(must).should(boolQuery().mustNot(name))));
+    assertEquals(
+        boolQuery().must(filter).mustNot(filter),
+        normalizer.normalize(boolQuery().must(filter).mustNot(filter)));
+  }
+
+  @Test
+  void duplicate_filter_and_must_not_clauses_should_be_removed() {
+    assertEquals(
+        boolQuery().filter(name).filter(age).mustNot(termQuery("city", "Seattle")),
+        normalizer.normalize(
+            boolQuery()
+                .filter(name)
+                .filter(boolQuery().filter(age).filter(name))
+                .mustNot(termQuery("city", "Seattle"))
+                .mustNot(termQuery("city", "Seattle"))));
+  }
+
+  @Test
+  void range_queries_on_same_field_should_be_merged_if_within_another() {
+    assertEquals(
+        boolQuery().filter(rangeQuery("age").gte(3)).filter(name),
+        normalizer.normalize(
+            boolQuery()
+                .filter(rangeQuery("age").gt(1))
+                .filter(name)
+                .filter(rangeQuery("age").gte(3))));
+    assertEquals(
+        boolQuery().filter(rangeQuery("age").gt(3L).lt(10)),
+        normalizer.normalize(
+            boolQuery()
+                .filter(rangeQuery("age").gte(3).lte(10))
+                .filter(rangeQuery("age").gt(3L).lt(10))));
+    assertEquals(
+        boolQuery().filter(rangeQuery("age").gt(3).lte(10L)),
+        normalizer.normalize(
+            boolQuery()
+                .filter(rangeQuery("age").gt(3).lte(10L))
+                .filter(rangeQuery("age").gte(3L).lte(10))));
+    assertEquals(
+        boolQuery().filter(rangeQuery("age").lte(5)),
+        normalizer.normalize(
+            boolQuery()
+                .filter(rangeQuery("age").lt(10))
+                .filter(rangeQuery("age").lte(5))));
+    assertEquals(
+        boolQuery().filter(rangeQuery("balance").gte((short) 2).lte((byte) 5)),
+        normalizer.normalize(
+            boolQuery()
+                .filter(rangeQuery("balance").gte((short) 2).lte((byte) 5))
+                .filter(rangeQuery("balance").gte((byte) 1).lte((short) 6))));
+  }
+
+  @Test
+  void range_queries_only_overlapped_should_not_be_merged_for_multi_valued_field() {
+    // Document of age [0, 20] matches both ranges but not the intersection 1 < age < 10
+    assertEquals(
+        boolQuery().filter(rangeQuery("age").gt(1)).filter(name).filter(rangeQuery("age").lt(10)),
+        normalizer.normalize(
+            boolQuery()
+                .filter(rangeQuery("age").gt(1))
+                .filter(name)
+                .filter(rangeQuery("age").lt(10))));
+    assertEquals(
+        boolQuery().filter(rangeQuery("age").gte(3)).filter(rangeQuery("age").lt(10)),
+        normalizer.normalize(
+            boolQuery()
+                .filter(rangeQuery("age").gt(1))
+                .filter(rangeQuery("age").lt(10))
+                .filter(rangeQuery("age").gte(3))));
+    assertEquals(
+        boolQuery()
+            .filter(rangeQuery("balance").gt(1.5D).lt(10))
+            .filter(rangeQuery("balance").gt(1).lt(9.5F)),
+        normalizer.normalize(
+            boolQuery()
+                .filter(rangeQuery("balance").gt(1.5D).lt(10))
+                .filter(rangeQuery("balance").gt(1).lt(9.5F))));
+  }
+
+  @Test
+  void range_queries_not_on_numbers_should_not_be_merged() {
+    QueryBuilder[] ranges = {
+        rangeQuery("age").gt(1),
+        rangeQuery("age").lt(10).format("epoch_millis"),
+        rangeQuery("age").lt(10).timeZone("+01:00"),
+        rangeQuery("age").lt(10).relation("within"),
+        rangeQuery("age").gt("a"),
+        rangeQuery("age").lt("z"),
+        rangeQuery("balance").lt(10)
+    };
+    assertEquals(
+        boolQuery().filter(ranges[0]).filter(ranges[1]).filter(ranges[2]).filter(ranges[3])
+            .filter(ranges[4]).filter(ranges[5]).filter(ranges[6]),
+        normalizer.normalize(
+            boolQuery().filter(ranges[0]).filter(ranges[1]).filter(ranges[2])
+                .filter(ranges[3]).filter(ranges[4]).filter(ranges[5]).filter(ranges[6])));
+  }
+
+  @Test
+  void range_query_without_any_value_should_be_contradiction() {
+    assertEquals(matchNoneQuery(), normalizer.normalize(
+        boolQuery().filter(rangeQuery("age").gt(10).lt(1))));
+    assertEquals(matchNoneQuery(), normalizer.normalize(
+        boolQuery().filter(name).filter(rangeQuery("age").gt(10).lte(10))));
+    assertEquals(matchNoneQuery(), normalizer.normalize(
+        boolQuery().filter(rangeQuery("age").gt(1)).filter(rangeQuery("age").gte(10).lt(10))));
+    assertEquals(
+        boolQuery().filter(rangeQuery("age").gte(10).lte(10)),
+        normalizer.normalize(boolQuery().filter(rangeQuery("age").gte(10).lte(10))));
+  }
+
+  @Test
+  void disjoint_range_queries_should_not_be_contradiction_for_multi_valued_field() {
+    assertEquals(
+        boolQuery().filter(rangeQuery("age").gt(10)).filter(rangeQuery("age").lt(1)),
+        normalizer.normalize(
+            boolQuery().filter(rangeQuery("age").gt(10)).filter(rangeQuery("age").lt(1))));
+  }
+
+  @Test
+  void match_all_and_match_none_clauses_should_be_simplified() {
+    assertEquals(matchNoneQuery(),
+        normalizer.normalize(boolQuery().filter(name).filter(matchNoneQuery())));
+    assertEquals(matchNoneQuery(),
+        normalizer.normalize(boolQuery().filter(name).mustNot(matchAllQuery())));
+    assertEquals(boolQuery().filter(name),
+        normalizer.normalize(
+            boolQuery().filter(name).filter(matchAllQuery()).mustNot(matchNoneQuery())));
+    assertEquals(matchAllQuery(),
+        normalizer.normalize(boolQuery().should(name).should(matchAllQuery())));
+    assertEquals(boolQuery().should(name),
+        normalizer.normalize(boolQuery().should(name).should(matchNoneQuery())));
+    assertEquals(matchNoneQuery(),
+        normalizer.normalize(boolQuery().should(matchNoneQuery()).should(matchNoneQuery())));
+  }
+
+  @Test
+  void should_clauses_along_with_other_clauses_should_not_be_simplified() {
+    assertEquals(
+        boolQuery().filter(matchAllQuery()).should(matchNoneQuery()),
+        normalizer.normalize(boolQuery().filter(matchAllQuery()).should(matchNoneQuery())));
+    assertEquals(
+        boolQuery().must(name).should(matchNoneQuery()),
+        normalizer.normalize(boolQuery().must(name).should(matchNoneQuery())));
+    assertEquals(
+        boolQuery().mustNot(name).should(matchNoneQuery()),
+        normalizer.normalize(boolQuery().mustNot(name).should(matchNoneQuery())));
+  }
+}
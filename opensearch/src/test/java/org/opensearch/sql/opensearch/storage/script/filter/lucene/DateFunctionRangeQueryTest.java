@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.opensearch.storage.script.filter.lucene;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.opensearch.sql.data.type.ExprCoreType.DATE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+import static org.opensearch.sql.expression.DSL.literal;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.opensearch.storage.script.filter.lucene.RangeQuery.Comparison;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class DateFunctionRangeQueryTest {
+
+  private static final long YEAR_2022 = 1640995200000L;
+  private static final long YEAR_2023 = 1672531200000L;
+
+  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+
+  private final Expression timestamp = ref("timestamp_value", TIMESTAMP);
+
+  @Test
+  void should_build_range_query_for_year_function() {
+    Expression year = dsl.year(timestamp);
+    assertEquals(
+        QueryBuilders.rangeQuery("timestamp_value").gte(YEAR_2022).lt(YEAR_2023),
+        new DateFunctionRangeQuery(Comparison.BETWEEN).build(dsl.equal(year, literal(2022))));
+    assertEquals(
+        QueryBuilders.rangeQuery("timestamp_value").lt(YEAR_2022),
+        new DateFunctionRangeQuery(Comparison.LT).build(dsl.less(year, literal(2022))));
+    assertEquals(
+        QueryBuilders.rangeQuery("timestamp_value").lt(YEAR_2023),
+        new DateFunctionRangeQuery(Comparison.LTE).build(dsl.lte(year, literal(2022))));
+    assertEquals(
+        QueryBuilders.rangeQuery("timestamp_value").gte(YEAR_2023),
+        new DateFunctionRangeQuery(Comparison.GT).build(dsl.greater(year, literal(2022))));
+    assertEquals(
+        QueryBuilders.rangeQuery("timestamp_value").gte(YEAR_2022),
+        new DateFunctionRangeQuery(Comparison.GTE).build(dsl.gte(year, literal(2022))));
+  }
+
+  @Test
+  void should_build_range_query_for_date_function() {
+    assertEquals(
+        QueryBuilders.rangeQuery("timestamp_value").gte(1664582400000L).lt(1664668800000L),
+        new DateFunctionRangeQuery(Comparison.BETWEEN).build(
+            dsl.equal(dsl.date(timestamp), dsl.castDate(literal("2022-10-01")))));
+  }
+
+  @Test
+  void should_build_range_query_for_date_function_compared_with_string() {
+    assertEquals(
+        QueryBuilders.rangeQuery("timestamp_value").gte(1664582400000L).lt(1664668800000L),
+        new DateFunctionRangeQuery(Comparison.BETWEEN).build(
+            dsl.equal(dsl.date(timestamp), literal("2022-10-01"))));
+  }
+
+  @Test
+  void should_build_range_query_for_date_format_function() {
+    assertEquals(
+        QueryBuilders.rangeQuery("timestamp_value").gte(1661990400000L),
+        new DateFunctionRangeQuery(Comparison.GTE).build(
+            dsl.gte(dsl.date_format(timestamp, literal("%Y-%m")), literal("2022-09"))));
+    assertEquals(
+        QueryBuilders.rangeQuery("timestamp_value").gte(1664618400000L).lt(1664622000000L),
+        new DateFunctionRangeQuery(Comparison.BETWEEN).build(
+            dsl.equal(dsl.date_format(timestamp, literal("%Y-%m-%d %H")),
+                literal("2022-10-01 10"))));
+  }
+
+  @Test
+  void should_not_support_literal_not_formatted_by_date_function() {
+    DateFunctionRangeQuery query = new DateFunctionRangeQuery(Comparison.BETWEEN);
+    assertFalse(query.canSupport(
+        dsl.equal(dsl.date_format(timestamp, literal("%Y-%m")), literal("2022-9"))));
+    assertFalse(query.canSupport(
+        dsl.equal(dsl.date_format(timestamp, literal("%Y-%m")), literal("2022-13"))));
+    assertFalse(query.canSupport(
+        dsl.equal(dsl.date(timestamp), literal("2022-10-1"))));
+    assertFalse(query.canSupport(
+        dsl.equal(dsl.year(timestamp), literal(1000000000))));
+  }
+
+  @Test
+  void should_not_support_unsupported_date_function_or_format() {
+    DateFunctionRangeQuery query = new DateFunctionRangeQuery(Comparison.BETWEEN);
+    assertFalse(query.canSupport(
+        dsl.equal(dsl.date_format(timestamp, literal("%b %Y")), literal("Oct 2022"))));
+    assertFalse(query.canSupport(
+        dsl.equal(dsl.date_format(timestamp, ref("format", STRING)),
+            literal("2022"))));
+    assertFalse(query.canSupport(
+        dsl.equal(dsl.abs(ref("integer_value", INTEGER)), literal(2022))));
+    assertFalse(query.canSupport(
+        dsl.equal(dsl.castString(dsl.abs(ref("integer_value", INTEGER))), literal("2022"))));
+    assertFalse(query.canSupport(dsl.equal(dsl.pi(), literal(3.14D))));
+  }
+
+  @Test
+  void should_not_support_non_timestamp_field_or_non_literal() {
+    DateFunctionRangeQuery query = new DateFunctionRangeQuery(Comparison.BETWEEN);
+    assertFalse(query.canSupport(
+        dsl.equal(dsl.year(ref("date_value", DATE)), literal(2022))));
+    assertFalse(query.canSupport(
+        dsl.equal(dsl.date(ref("date_value", DATE)), dsl.castDate(literal("2022-10-01")))));
+    assertFalse(query.canSupport(
+        dsl.equal(dsl.date_format(ref("date_value", DATE), literal("%Y")), literal("2022"))));
+    assertFalse(query.canSupport(
+        dsl.equal(dsl.year(timestamp), ref("integer_value", INTEGER))));
+    assertFalse(query.canSupport(
+        dsl.equal(ref("integer_value", INTEGER), literal(2022))));
+    assertFalse(query.canSupport(
+        dsl.equal(dsl.year(timestamp), literal(2022L))));
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+
+package org.opensearch.sql.opensearch.storage.script.sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.expression.DSL.ref;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.apache.lucene.index.LeafReaderContext;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.index.fielddata.ScriptDocValues;
+import org.opensearch.script.NumberSortScript;
+import org.opensearch.script.StringSortScript;
+import org.opensearch.search.lookup.LeafDocLookup;
+import org.opensearch.search.lookup.LeafSearchLookup;
+import org.opensearch.search.lookup.SearchLookup;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class ExpressionSortScriptTest {
+
+  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+
+  @Mock
+  private SearchLookup lookup;
+
+  @Mock
+  private LeafSearchLookup leafLookup;
+
+  @Mock
+  private LeafReaderContext context;
+
+  @Test
+  void can_execute_number_sort_script() {
+    docValues("age", -30L);
+    assertEquals(30.0, numberSortScript(dsl.abs(ref("age", INTEGER)), true).execute());
+  }
+
+  @Test
+  void number_sort_script_should_replace_missing_value_by_infinity() {
+    docValues("age", Collections.emptyList());
+    Expression expr = dsl.abs(ref("age", INTEGER));
+    assertEquals(Double.NEGATIVE_INFINITY, numberSortScript(expr, true).execute());
+    assertEquals(Double.POSITIVE_INFINITY, numberSortScript(expr, false).execute());
+  }
+
+  @Test
+  void can_execute_string_sort_script() {
+    docValues("name", "John");
+    assertEquals(ExpressionStringSortScript.VALUE_PREFIX + "john",
+        stringSortScript(dsl.lower(ref("name", STRING)), true).execute());
+  }
+
+  @Test
+  void string_sort_script_should_sort_missing_value_before_or_after_all_values() {
+    docValues("name", Collections.emptyList());
+    Expression expr = dsl.lower(ref("name", STRING));
+    String smallest = stringSortScript(expr, true).execute();
+    String largest = stringSortScript(expr, false).execute();
+
+    assertTrue(smallest.compareTo(ExpressionStringSortScript.VALUE_PREFIX) < 0);
+    assertTrue(largest.compareTo(ExpressionStringSortScript.VALUE_PREFIX + "\uffff") > 0);
+  }
+
+  @Test
+  void string_sort_script_should_keep_long_order_beyond_double_precision() {
+    Expression expr = dsl.add(ref("id", LONG), DSL.literal(0L));
+    long[] values = {-(1L << 53) - 1, (1L << 53), (1L << 53) + 1, Long.MAX_VALUE};
+    String[] keys = new String[values.length];
+    for (int i = 0; i < values.length; i++) {
+      docValues("id", values[i]);
+      keys[i] = stringSortScript(expr, true).execute();
+    }
+
+    for (int i = 1; i < keys.length; i++) {
+      assertTrue(keys[i - 1].compareTo(keys[i]) < 0);
+    }
+  }
+
+  @Test
+  void string_sort_script_should_not_tie_missing_value_with_infinity() {
+    docValues("balance", Double.NEGATIVE_INFINITY);
+    Expression expr = dsl.add(ref("balance", DOUBLE), DSL.literal(0.0));
+    String negativeInfinity = stringSortScript(expr, true).execute();
+    docValues("balance", Double.POSITIVE_INFINITY);
+    String positiveInfinity = stringSortScript(expr, true).execute();
+    docValues("balance", -1.5);
+    String negative = stringSortScript(expr, true).execute();
+    docValues("balance", Collections.emptyList());
+
+    assertTrue(stringSortScript(expr, true).execute().compareTo(negativeInfinity) < 0);
+    assertTrue(negativeInfinity.compareTo(negative) < 0);
+    assertTrue(negative.compareTo(positiveInfinity) < 0);
+    assertTrue(stringSortScript(expr, false).execute().compareTo(positiveInfinity) > 0);
+  }
+
+  @Test
+  void can_initialize_sort_script_by_factory() {
+    Expression expr = dsl.abs(ref("age", INTEGER));
+    Map<String, Object> params = ImmutableMap.of(SortQueryBuilder.NULL_AS_SMALLEST, true);
+    when(lookup.getLeafSearchLookup(context)).thenReturn(leafLookup);
+
+    NumberSortScript.Factory numberFactory = new ExpressionNumberSortScriptFactory(expr);
+    assertTrue(numberFactory.isResultDeterministic());
+    assertEquals(new ExpressionNumberSortScript(expr, lookup, context, params),
+        numberFactory.newFactory(params, lookup).newInstance(context));
+
+    StringSortScript.Factory stringFactory = new ExpressionStringSortScriptFactory(expr);
+    assertTrue(stringFactory.isResultDeterministic());
+    assertEquals(new ExpressionStringSortScript(expr, lookup, context, params),
+        stringFactory.newFactory(params, lookup).newInstance(context));
+  }
+
+  private NumberSortScript numberSortScript(Expression expr, boolean nullAsSmallest) {
+    return new ExpressionNumberSortScript(expr, lookup, context,
+        ImmutableMap.of(SortQueryBuilder.NULL_AS_SMALLEST, nullAsSmallest));
+  }
+
+  private StringSortScript stringSortScript(Expression expr, boolean nullAsSmallest) {
+    return new ExpressionStringSortScript(expr, lookup, context,
+        ImmutableMap.of(SortQueryBuilder.NULL_AS_SMALLEST, nullAsSmallest));
+  }
+
+  private void docValues(String name, Object value) {
+    LeafDocLookup leafDocLookup = mock(LeafDocLookup.class);
+    Map<String, ScriptDocValues<?>> docValueByNames =
+        ImmutableMap.of(name, new FakeScriptDocValues<>(value));
+    when(leafDocLookup.get(anyString()))
+        .thenAnswer(invocation -> docValueByNames.get(invocation.<String>getArgument(0)));
+    when(lookup.getLeafSearchLookup(any())).thenReturn(leafLookup);
+    when(leafLookup.doc()).thenReturn(leafDocLookup);
+  }
+
+  private static class FakeScriptDocValues<T> extends ScriptDocValues<T> {
+    private final List<T> values;
+
+    @SuppressWarnings("unchecked")
+    public FakeScriptDocValues(T value) {
+      this.values = (value instanceof List) ? (List<T>) value : Collections.singletonList(value);
+    }
+
+    @Override
+    public void setNextDocId(int docId) {
+      throw new UnsupportedOperationException("Fake script doc values doesn't implement this yet");
+    }
+
+    @Override
+    public T get(int index) {
+      return values.get(index);
+    }
+
+    @Override
+    public int size() {
+      return values.size();
+    }
+  }
+}
@@ -7,21 +7,45 @@
 package org.opensearch.sql.opensearch.storage.script.sort;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
 import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.LONG;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
 
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.search.sort.ScriptSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
+import org.opensearch.search.sort.SortOrder;
 import org.opensearch.sql.ast.tree.Sort;
 import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.opensearch.storage.serialization.ExpressionSerializer;
 
+@ExtendWith(MockitoExtension.class)
 class SortQueryBuilderTest {
 
   private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
 
-  private SortQueryBuilder sortQueryBuilder = new SortQueryBuilder();
+  @Mock
+  private ExpressionSerializer serializer;
+
+  private SortQueryBuilder sortQueryBuilder;
+
+  @BeforeEach
+  void set_up() {
+    sortQueryBuilder = new SortQueryBuilder(serializer);
+  }
 
   @Test
   void build_sortbuilder_from_reference() {
@@ -35,4 +59,50 @@ class SortQueryBuilderTest {
             "intV", INTEGER), DSL.literal(1)), Sort.SortOption.DEFAULT_ASC));
     assertThat(exception.getMessage(), Matchers.containsString("unsupported expression"));
   }
+
+  @Test
+  void build_number_script_sortbuilder_from_function() {
+    Expression expr = dsl.abs(DSL.ref("intV", INTEGER));
+    when(serializer.serialize(expr)).thenReturn("abs(intV)");
+
+    SortBuilder<?> sortBuilder = sortQueryBuilder.build(expr, Sort.SortOption.DEFAULT_DESC);
+    assertTrue(sortBuilder instanceof ScriptSortBuilder);
+    ScriptSortBuilder scriptSort = (ScriptSortBuilder) sortBuilder;
+    assertEquals(ScriptSortBuilder.ScriptSortType.NUMBER, scriptSort.type());
+    assertEquals(SortOrder.DESC, scriptSort.order());
+    assertEquals("abs(intV)", scriptSort.script().getIdOrCode());
+    // NULL last in descending order
+    assertTrue(SortQueryBuilder.isNullAsSmallest(scriptSort.script().getParams()));
+  }
+
+  @Test
+  void build_string_script_sortbuilder_from_function() {
+    Expression expr = dsl.lower(DSL.ref("name", STRING));
+    when(serializer.serialize(expr)).thenReturn("lower(name)");
+
+    ScriptSortBuilder scriptSort = (ScriptSortBuilder) sortQueryBuilder.build(expr,
+        new Sort.SortOption(Sort.SortOrder.ASC, Sort.NullOrder.NULL_LAST));
+    assertEquals(ScriptSortBuilder.ScriptSortType.STRING, scriptSort.type());
+    assertEquals(SortOrder.ASC, scriptSort.order());
+    assertFalse(SortQueryBuilder.isNullAsSmallest(scriptSort.script().getParams()));
+  }
+
+  @Test
+  void build_string_script_sortbuilder_from_long_function() {
+    Expression expr = dsl.abs(DSL.ref("longV", LONG));
+    when(serializer.serialize(expr)).thenReturn("abs(longV)");
+
+    ScriptSortBuilder scriptSort = (ScriptSortBuilder) sortQueryBuilder.build(expr,
+        Sort.SortOption.DEFAULT_ASC);
+    assertEquals(ScriptSortBuilder.ScriptSortType.STRING, scriptSort.type());
+  }
+
+  @Test
+  void script_sort_only_support_number_and_string_function() {
+    assertTrue(SortQueryBuilder.isScriptSortSupported(dsl.abs(DSL.ref("intV", INTEGER))));
+    assertTrue(SortQueryBuilder.isScriptSortSupported(dsl.lower(DSL.ref("name", STRING))));
+    assertFalse(SortQueryBuilder.isScriptSortSupported(DSL.ref("intV", INTEGER)));
+    assertFalse(SortQueryBuilder.isScriptSortSupported(
+        dsl.equal(DSL.ref("intV", INTEGER), DSL.literal(1))));
+  }
 }
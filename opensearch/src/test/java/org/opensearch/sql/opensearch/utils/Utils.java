@@ -144,6 +144,18 @@ public class Utils {
         .aggregatorList(aggregators).groupByList(groupByList).sortList(sortList).build();
   }
 
+  /**
+   * Build ElasticsearchLogicalIndexAgg.
+   */
+  public static LogicalPlan indexScanAgg(String tableName, List<NamedAggregator> aggregators,
+                                         List<NamedExpression> groupByList,
+                                         List<Pair<Sort.SortOption, Expression>> sortList,
+                                         Integer limit) {
+    return OpenSearchLogicalIndexAgg.builder().relationName(tableName)
+        .aggregatorList(aggregators).groupByList(groupByList).sortList(sortList).limit(limit)
+        .build();
+  }
+
   /**
    * Build ElasticsearchLogicalIndexAgg.
    */
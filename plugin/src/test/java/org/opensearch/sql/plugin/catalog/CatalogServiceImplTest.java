@@ -128,6 +128,27 @@ public class CatalogServiceImplTest {
         + " Allowed characters: a-zA-Z0-9_-*@ ", exception.getMessage());
   }
 
+  @SneakyThrows
+  @Test
+  public void testLoadConnectorsWithProperties() {
+    Settings settings = getCatalogSettings("catalog_with_properties.json");
+    CatalogServiceImpl.getInstance().loadConnectors(settings);
+    Set<Catalog> expected = new HashSet<>() {{
+        add(new Catalog("prometheus", ConnectorType.PROMETHEUS, storageEngine));
+      }};
+    Assert.assertEquals(expected, CatalogServiceImpl.getInstance().getCatalogs());
+  }
+
+  @SneakyThrows
+  @Test
+  public void testLoadConnectorsWithInvalidProperties() {
+    Settings settings = getCatalogSettings("catalog_with_invalid_properties.json");
+    IllegalArgumentException exception = Assert.assertThrows(IllegalArgumentException.class,
+        () -> CatalogServiceImpl.getInstance().loadConnectors(settings));
+    Assert.assertEquals("Catalog property prometheus.http.read_timeout_seconds must be a "
+        + "positive integer, but got -1", exception.getMessage());
+  }
+
   private Settings getCatalogSettings(String filename) throws URISyntaxException, IOException {
     MockSecureSettings mockSecureSettings = new MockSecureSettings();
     ClassLoader classLoader = getClass().getClassLoader();
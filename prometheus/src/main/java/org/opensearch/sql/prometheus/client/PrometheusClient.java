@@ -7,11 +7,24 @@ package org.opensearch.sql.prometheus.client;
 
 import java.io.IOException;
 import java.util.List;
-import org.json.JSONObject;
+import java.util.concurrent.CompletableFuture;
+import org.opensearch.sql.prometheus.response.PrometheusResponse;
 
 public interface PrometheusClient {
 
-  JSONObject queryRange(String query, Long start, Long end, String step) throws IOException;
+  /**
+   * Query range and return the response which is parsed lazily from the response body.
+   * The response must be closed by the caller to release the connection.
+   */
+  PrometheusResponse queryRange(String query, Long start, Long end, String step)
+      throws IOException;
+
+  /**
+   * Query range asynchronously. The future completes with the response once its header is
+   * read, or exceptionally with the IOException or RuntimeException of the query.
+   */
+  CompletableFuture<PrometheusResponse> queryRangeAsync(String query, Long start, Long end,
+                                                        String step);
 
   List<String> getLabels(String metricName) throws IOException;
 }
\ No newline at end of file
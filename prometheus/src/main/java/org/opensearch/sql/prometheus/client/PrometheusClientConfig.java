@@ -0,0 +1,162 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.opensearch.sql.prometheus.client.cache.CachingPrometheusClient;
+import org.opensearch.sql.prometheus.client.cache.PrometheusLabelsCache;
+import org.opensearch.sql.prometheus.client.cache.PrometheusResultCache;
+
+/**
+ * Configuration of the client of a Prometheus catalog read from the properties of catalog
+ * metadata. The HTTP client and caches created are shared by all the queries of the catalog.
+ */
+@Getter
+public class PrometheusClientConfig {
+
+  public static final String MAX_REQUESTS = "prometheus.http.max_requests";
+
+  public static final String MAX_REQUESTS_PER_HOST = "prometheus.http.max_requests_per_host";
+
+  public static final String MAX_IDLE_CONNECTIONS = "prometheus.http.max_idle_connections";
+
+  public static final String KEEP_ALIVE_SECONDS = "prometheus.http.keep_alive_seconds";
+
+  public static final String CONNECT_TIMEOUT_SECONDS = "prometheus.http.connect_timeout_seconds";
+
+  public static final String READ_TIMEOUT_SECONDS = "prometheus.http.read_timeout_seconds";
+
+  public static final String GZIP = "prometheus.http.gzip";
+
+  public static final String RESULT_CACHE_MAX_SAMPLES = "prometheus.result_cache.max_samples";
+
+  public static final String LABELS_CACHE_TTL_SECONDS = "prometheus.labels_cache.ttl_seconds";
+
+  /**
+   * Maximum concurrent requests of the catalog.
+   */
+  private final int maxRequests;
+
+  /**
+   * Maximum concurrent requests to the Prometheus server, which allows the time shards of a
+   * few queries to be sent concurrently.
+   */
+  private final int maxRequestsPerHost;
+
+  private final int maxIdleConnections;
+
+  private final long keepAliveSeconds;
+
+  private final long connectTimeoutSeconds;
+
+  private final long readTimeoutSeconds;
+
+  /**
+   * Whether response is requested in gzip encoding.
+   */
+  private final boolean gzip;
+
+  private final long resultCacheMaxSamples;
+
+  private final long labelsCacheTtlSeconds;
+
+  /**
+   * Read configuration from catalog properties, with default value for absent property.
+   *
+   * @param properties catalog properties
+   */
+  public PrometheusClientConfig(Map<String, String> properties) {
+    Map<String, String> props = Optional.ofNullable(properties).orElse(Map.of());
+    this.maxRequests = (int) positive(props, MAX_REQUESTS, 64);
+    this.maxRequestsPerHost = (int) positive(props, MAX_REQUESTS_PER_HOST, 16);
+    this.maxIdleConnections = (int) positive(props, MAX_IDLE_CONNECTIONS, 16);
+    this.keepAliveSeconds = positive(props, KEEP_ALIVE_SECONDS, 300);
+    this.connectTimeoutSeconds = positive(props, CONNECT_TIMEOUT_SECONDS, 10);
+    this.readTimeoutSeconds = positive(props, READ_TIMEOUT_SECONDS, 60);
+    this.gzip = bool(props, GZIP, true);
+    this.resultCacheMaxSamples = positive(props, RESULT_CACHE_MAX_SAMPLES,
+        PrometheusResultCache.DEFAULT_MAX_SAMPLES);
+    this.labelsCacheTtlSeconds = positive(props, LABELS_CACHE_TTL_SECONDS,
+        PrometheusLabelsCache.DEFAULT_TTL_SECONDS);
+  }
+
+  /**
+   * Create the client of Prometheus server with caches.
+   *
+   * @param uri uri of Prometheus server
+   * @return Prometheus client
+   */
+  public PrometheusClient createClient(URI uri) {
+    return new CachingPrometheusClient(
+        new PrometheusClientImpl(httpClient(), uri),
+        new PrometheusResultCache(resultCacheMaxSamples),
+        new PrometheusLabelsCache(labelsCacheTtlSeconds));
+  }
+
+  /**
+   * Create the HTTP client with its own connection pool and dispatcher.
+   *
+   * @return HTTP client
+   */
+  public OkHttpClient httpClient() {
+    Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(maxRequests);
+    dispatcher.setMaxRequestsPerHost(maxRequestsPerHost);
+    OkHttpClient.Builder builder = new OkHttpClient.Builder()
+        .dispatcher(dispatcher)
+        .connectionPool(
+            new ConnectionPool(maxIdleConnections, keepAliveSeconds, TimeUnit.SECONDS))
+        .connectTimeout(connectTimeoutSeconds, TimeUnit.SECONDS)
+        .readTimeout(readTimeoutSeconds, TimeUnit.SECONDS);
+    if (!gzip) {
+      // OkHttp requests gzip and decompresses response transparently unless told otherwise
+      builder.addInterceptor(chain -> chain.proceed(chain.request().newBuilder()
+          .header("Accept-Encoding", "identity")
+          .build()));
+    }
+    return builder.build();
+  }
+
+  private static long positive(Map<String, String> properties, String name, long defaultValue) {
+    String value = properties.get(name);
+    if (value == null) {
+      return defaultValue;
+    }
+    try {
+      long number = Long.parseLong(value.trim());
+      if (number > 0 && number <= Integer.MAX_VALUE) {
+        return number;
+      }
+    } catch (NumberFormatException e) {
+      // reported below along with out of range value
+    }
+    throw new IllegalArgumentException(
+        String.format("Catalog property %s must be a positive integer, but got %s", name, value));
+  }
+
+  private static boolean bool(Map<String, String> properties, String name, boolean defaultValue) {
+    String value = properties.get(name);
+    if (value == null) {
+      return defaultValue;
+    }
+    switch (value.trim()) {
+      case "true":
+        return true;
+      case "false":
+        return false;
+      default:
+        throw new IllegalArgumentException(
+            String.format("Catalog property %s must be true or false, but got %s", name, value));
+    }
+  }
+}
@@ -10,6 +10,9 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import okhttp3.Call;
+import okhttp3.Callback;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
@@ -18,6 +21,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.json.JSONArray;
 import org.json.JSONObject;
+import org.opensearch.sql.prometheus.response.PrometheusResponse;
 
 public class PrometheusClientImpl implements PrometheusClient {
 
@@ -34,7 +38,40 @@ public class PrometheusClientImpl implements PrometheusClient {
 
 
   @Override
-  public JSONObject queryRange(String query, Long start, Long end, String step) throws IOException {
+  public PrometheusResponse queryRange(String query, Long start, Long end, String step)
+      throws IOException {
+    Response response = this.okHttpClient
+        .newCall(queryRangeRequest(query, start, end, step)).execute();
+    checkSuccessful(response);
+    return new PrometheusResponse(Objects.requireNonNull(response.body()).byteStream());
+  }
+
+  @Override
+  public CompletableFuture<PrometheusResponse> queryRangeAsync(String query, Long start,
+                                                               Long end, String step) {
+    CompletableFuture<PrometheusResponse> future = new CompletableFuture<>();
+    this.okHttpClient.newCall(queryRangeRequest(query, start, end, step)).enqueue(
+        new Callback() {
+          @Override
+          public void onFailure(Call call, IOException e) {
+            future.completeExceptionally(e);
+          }
+
+          @Override
+          public void onResponse(Call call, Response response) {
+            try {
+              checkSuccessful(response);
+              future.complete(
+                  new PrometheusResponse(Objects.requireNonNull(response.body()).byteStream()));
+            } catch (IOException | RuntimeException e) {
+              future.completeExceptionally(e);
+            }
+          }
+        });
+    return future;
+  }
+
+  private Request queryRangeRequest(String query, Long start, Long end, String step) {
     HttpUrl httpUrl = new HttpUrl.Builder()
         .scheme(uri.getScheme())
         .host(uri.getHost())
@@ -48,12 +85,9 @@ public class PrometheusClientImpl implements PrometheusClient {
         .addQueryParameter("step", step)
         .build();
     logger.debug("queryUrl: " + httpUrl);
-    Request request = new Request.Builder()
+    return new Request.Builder()
         .url(httpUrl)
         .build();
-    Response response = this.okHttpClient.newCall(request).execute();
-    JSONObject jsonObject = readResponse(response);
-    return jsonObject.getJSONObject("data");
   }
 
   @Override
@@ -78,14 +112,18 @@ public class PrometheusClientImpl implements PrometheusClient {
 
 
   private JSONObject readResponse(Response response) throws IOException {
-    if (response.isSuccessful()) {
-      JSONObject jsonObject = new JSONObject(Objects.requireNonNull(response.body()).string());
-      if ("success".equals(jsonObject.getString("status"))) {
-        return jsonObject;
-      } else {
-        throw new RuntimeException(jsonObject.getString("error"));
-      }
+    checkSuccessful(response);
+    JSONObject jsonObject = new JSONObject(Objects.requireNonNull(response.body()).string());
+    if ("success".equals(jsonObject.getString("status"))) {
+      return jsonObject;
     } else {
+      throw new RuntimeException(jsonObject.getString("error"));
+    }
+  }
+
+  private void checkSuccessful(Response response) {
+    if (!response.isSuccessful()) {
+      response.close();
       throw new RuntimeException(
           String.format("Request to Prometheus is Unsuccessful with : %s", response.message()));
     }
@@ -0,0 +1,32 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client.cache;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Cached result of a range query in contiguous sample blocks in time order.
+ */
+@Getter
+@RequiredArgsConstructor
+class CachedRange {
+
+  private final List<SampleBlock> blocks;
+
+  long start() {
+    return blocks.get(0).getStart();
+  }
+
+  long end() {
+    return blocks.get(blocks.size() - 1).getEnd();
+  }
+
+  int samples() {
+    return blocks.stream().mapToInt(SampleBlock::samples).sum();
+  }
+}
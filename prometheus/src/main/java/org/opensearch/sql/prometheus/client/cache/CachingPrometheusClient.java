@@ -0,0 +1,176 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client.cache;
+
+import com.google.common.collect.Iterators;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import org.opensearch.sql.prometheus.client.PrometheusClient;
+import org.opensearch.sql.prometheus.response.PrometheusResponse;
+import org.opensearch.sql.prometheus.response.PrometheusSeries;
+import org.opensearch.sql.prometheus.storage.querybuilder.StepParameterResolver;
+
+/**
+ * Prometheus client which caches the results of range queries, so that repeated query of
+ * sliding time range only fetches the new tail of the range from Prometheus. Only query of
+ * start time aligned to the step in whole seconds is cached, since samples are evaluated at
+ * the same timestamps by such queries. Samples of the latest time are not cached as they may
+ * not be complete yet. Sharded queries sent asynchronously are not cached. Labels of metrics
+ * are cached for a fixed time as well.
+ */
+public class CachingPrometheusClient implements PrometheusClient {
+
+  /**
+   * Samples within this period till now are not cached.
+   */
+  public static final long MAX_FRESHNESS_SECONDS = 60L;
+
+  private final PrometheusClient delegate;
+
+  private final PrometheusResultCache cache;
+
+  private final PrometheusLabelsCache labelsCache;
+
+  private final Clock clock;
+
+  public CachingPrometheusClient(PrometheusClient delegate, PrometheusResultCache cache,
+                                 PrometheusLabelsCache labelsCache) {
+    this(delegate, cache, labelsCache, Clock.systemUTC());
+  }
+
+  CachingPrometheusClient(PrometheusClient delegate, PrometheusResultCache cache,
+                          PrometheusLabelsCache labelsCache, Clock clock) {
+    this.delegate = delegate;
+    this.cache = cache;
+    this.labelsCache = labelsCache;
+    this.clock = clock;
+  }
+
+  @Override
+  public PrometheusResponse queryRange(String query, Long start, Long end, String step)
+      throws IOException {
+    Optional<Long> stepSeconds = StepParameterResolver.toSeconds(step);
+    if (stepSeconds.isEmpty() || start % stepSeconds.get() != 0 || end < start) {
+      return delegate.queryRange(query, start, end, step);
+    }
+
+    long stepSecs = stepSeconds.get();
+    long lastStep = start + (end - start) / stepSecs * stepSecs;
+    long cacheableEnd = Math.min(lastStep, Math.floorDiv(
+        clock.instant().getEpochSecond() - MAX_FRESHNESS_SECONDS, stepSecs) * stepSecs);
+    List<SampleBlock> cached = cache.get(query, stepSecs)
+        .filter(range -> range.start() <= start && start <= range.end())
+        .map(range -> range.getBlocks().stream()
+            .filter(block -> block.getEnd() >= start)
+            .collect(Collectors.toList()))
+        .orElse(Collections.emptyList());
+    long fetchStart = cached.isEmpty() ? start : cached.get(cached.size() - 1).getEnd() + stepSecs;
+
+    Iterator<PrometheusSeries> cachedSeries = cached.stream()
+        .flatMap(block -> block.getSeries().stream())
+        .map(series -> series.slice(start * 1000, lastStep * 1000))
+        .filter(series -> series.size() > 0)
+        .iterator();
+    if (fetchStart > lastStep) {
+      cache.recordHit();
+      return new PrometheusResponse(cachedSeries, () -> { });
+    }
+
+    if (cached.isEmpty()) {
+      cache.recordMiss();
+    } else {
+      cache.recordPartialHit();
+    }
+    PrometheusResponse fetched = delegate.queryRange(query, fetchStart, end, step);
+    Iterator<PrometheusSeries> fetchedSeries = fetched.seriesIterator();
+    if (cacheableEnd >= fetchStart) {
+      fetchedSeries = new RecordingIterator(fetchedSeries, query, stepSecs, cached,
+          new SampleBlock(fetchStart, cacheableEnd, new ArrayList<>()));
+    }
+    return new PrometheusResponse(Iterators.concat(cachedSeries, fetchedSeries), fetched);
+  }
+
+  @Override
+  public CompletableFuture<PrometheusResponse> queryRangeAsync(String query, Long start,
+                                                               Long end, String step) {
+    return delegate.queryRangeAsync(query, start, end, step);
+  }
+
+  @Override
+  public List<String> getLabels(String metricName) throws IOException {
+    Optional<List<String>> cached = labelsCache.get(metricName);
+    if (cached.isPresent()) {
+      return cached.get();
+    }
+    List<String> labels = delegate.getLabels(metricName);
+    labelsCache.put(metricName, labels);
+    return labels;
+  }
+
+  /**
+   * Iterator of series fetched which records the samples of cacheable time range, and caches
+   * them with the blocks cached before once all the series are read.
+   */
+  private class RecordingIterator implements Iterator<PrometheusSeries> {
+
+    private final Iterator<PrometheusSeries> delegate;
+
+    private final String query;
+
+    private final long step;
+
+    private final List<SampleBlock> cached;
+
+    private final SampleBlock block;
+
+    private long samples;
+
+    private boolean recording = true;
+
+    RecordingIterator(Iterator<PrometheusSeries> delegate, String query, long step,
+                      List<SampleBlock> cached, SampleBlock block) {
+      this.delegate = delegate;
+      this.query = query;
+      this.step = step;
+      this.cached = cached;
+      this.block = block;
+      this.samples = cached.stream().mapToInt(SampleBlock::samples).sum();
+    }
+
+    @Override
+    public boolean hasNext() {
+      boolean hasNext = delegate.hasNext();
+      if (!hasNext && recording) {
+        recording = false;
+        List<SampleBlock> blocks = new ArrayList<>(cached);
+        blocks.add(block);
+        cache.put(query, step, new CachedRange(blocks));
+      }
+      return hasNext;
+    }
+
+    @Override
+    public PrometheusSeries next() {
+      PrometheusSeries series = delegate.next();
+      if (recording) {
+        PrometheusSeries cacheable =
+            series.slice(block.getStart() * 1000, block.getEnd() * 1000);
+        block.getSeries().add(cacheable);
+        samples += cacheable.size();
+        // stop recording result too large to cache
+        recording = samples <= cache.maxSamples();
+      }
+      return series;
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client.cache;
+
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache of label names of metrics of a catalog, so that planning queries of the same metric
+ * doesn't call the labels API of Prometheus each time. Labels are cached for a fixed time,
+ * after which new labels of the metric are visible.
+ */
+public class PrometheusLabelsCache {
+
+  /**
+   * Default seconds labels of a metric are cached.
+   */
+  public static final long DEFAULT_TTL_SECONDS = 60L;
+
+  /**
+   * Maximum metrics whose labels are cached.
+   */
+  public static final long MAX_METRICS = 10_000L;
+
+  private final Cache<String, List<String>> cache;
+
+  public PrometheusLabelsCache(long ttlSeconds) {
+    this(ttlSeconds, Ticker.systemTicker());
+  }
+
+  PrometheusLabelsCache(long ttlSeconds, Ticker ticker) {
+    this.cache = CacheBuilder.newBuilder()
+        .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+        .maximumSize(MAX_METRICS)
+        .ticker(ticker)
+        .build();
+  }
+
+  Optional<List<String>> get(String metricName) {
+    return Optional.ofNullable(cache.getIfPresent(metricName));
+  }
+
+  void put(String metricName, List<String> labels) {
+    cache.put(metricName, List.copyOf(labels));
+  }
+}
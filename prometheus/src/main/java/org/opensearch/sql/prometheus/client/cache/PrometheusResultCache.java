@@ -0,0 +1,120 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Result cache of range queries of a catalog, keyed by PromQL and step. The cache is bounded
+ * by the number of samples cached, and the least recently used results are evicted first.
+ */
+public class PrometheusResultCache {
+
+  /**
+   * Default maximum samples cached per catalog.
+   */
+  public static final long DEFAULT_MAX_SAMPLES = 1_000_000L;
+
+  private final Cache<Key, CachedRange> cache;
+
+  private final long maxSamples;
+
+  private final AtomicLong hitCount = new AtomicLong();
+
+  private final AtomicLong partialHitCount = new AtomicLong();
+
+  private final AtomicLong missCount = new AtomicLong();
+
+  /**
+   * Create cache of maximum samples.
+   *
+   * @param maxSamples maximum samples cached
+   */
+  public PrometheusResultCache(long maxSamples) {
+    this.maxSamples = maxSamples;
+    // Maximum weight is split among segments of the cache, so single segment is used to allow
+    // any result up to the max samples to be cached as CachingPrometheusClient assumes.
+    this.cache = CacheBuilder.newBuilder()
+        .concurrencyLevel(1)
+        .maximumWeight(maxSamples)
+        .weigher((Key key, CachedRange range) -> range.samples())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Number of range queries answered by the cache entirely.
+   */
+  public long hitCount() {
+    return hitCount.get();
+  }
+
+  /**
+   * Number of range queries answered by the cache and the new tail fetched from Prometheus.
+   */
+  public long partialHitCount() {
+    return partialHitCount.get();
+  }
+
+  /**
+   * Number of range queries fetched from Prometheus entirely.
+   */
+  public long missCount() {
+    return missCount.get();
+  }
+
+  /**
+   * Ratio of range queries answered by the cache entirely or partially.
+   */
+  public double hitRate() {
+    long hits = hitCount() + partialHitCount();
+    long requests = hits + missCount();
+    return requests == 0 ? 1.0 : (double) hits / requests;
+  }
+
+  /**
+   * Number of cached results evicted due to size limit.
+   */
+  public long evictionCount() {
+    return cache.stats().evictionCount();
+  }
+
+  long maxSamples() {
+    return maxSamples;
+  }
+
+  Optional<CachedRange> get(String query, long step) {
+    return Optional.ofNullable(cache.getIfPresent(new Key(query, step)));
+  }
+
+  void put(String query, long step, CachedRange range) {
+    cache.put(new Key(query, step), range);
+  }
+
+  void recordHit() {
+    hitCount.incrementAndGet();
+  }
+
+  void recordPartialHit() {
+    partialHitCount.incrementAndGet();
+  }
+
+  void recordMiss() {
+    missCount.incrementAndGet();
+  }
+
+  @EqualsAndHashCode
+  @RequiredArgsConstructor
+  private static class Key {
+    private final String query;
+    private final long step;
+  }
+}
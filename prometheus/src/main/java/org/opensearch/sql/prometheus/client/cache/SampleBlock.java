@@ -0,0 +1,35 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client.cache;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.opensearch.sql.prometheus.response.PrometheusSeries;
+
+/**
+ * Series of a range query in the time range of consecutive steps.
+ */
+@Getter
+@RequiredArgsConstructor
+class SampleBlock {
+
+  /**
+   * First step in epoch seconds.
+   */
+  private final long start;
+
+  /**
+   * Last step in epoch seconds.
+   */
+  private final long end;
+
+  private final List<PrometheusSeries> series;
+
+  int samples() {
+    return series.stream().mapToInt(PrometheusSeries::size).sum();
+  }
+}
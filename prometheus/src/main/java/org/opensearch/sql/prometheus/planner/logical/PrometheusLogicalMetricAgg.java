@@ -0,0 +1,68 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.planner.logical;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+
+/**
+ * Prometheus Logical Metric Aggregation Operation, which is evaluated by PromQL aggregation
+ * operators over the time buckets of step.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = false)
+public class PrometheusLogicalMetricAgg extends LogicalPlan {
+
+  /**
+   * Metric Name.
+   */
+  private final String metricName;
+
+  /**
+   * Filter conditions pushed down as label matchers and time range of the query.
+   */
+  private final List<Expression> filterList;
+
+  /**
+   * Aggregation List.
+   */
+  private final List<NamedAggregator> aggregatorList;
+
+  /**
+   * Group By List, which includes labels and optionally span of timestamp.
+   */
+  private final List<NamedExpression> groupByList;
+
+  /**
+   * PrometheusLogicalMetricAgg Constructor.
+   */
+  @Builder
+  public PrometheusLogicalMetricAgg(String metricName,
+                                    List<Expression> filterList,
+                                    List<NamedAggregator> aggregatorList,
+                                    List<NamedExpression> groupByList) {
+    super(ImmutableList.of());
+    this.metricName = metricName;
+    this.filterList = filterList;
+    this.aggregatorList = aggregatorList;
+    this.groupByList = groupByList;
+  }
+
+  @Override
+  public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitNode(this, context);
+  }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.planner.logical;
+
+import com.google.common.collect.ImmutableList;
+import java.util.List;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+
+/**
+ * Prometheus Logical Metric Scan Operation.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = false)
+public class PrometheusLogicalMetricScan extends LogicalPlan {
+
+  /**
+   * Metric Name.
+   */
+  private final String metricName;
+
+  /**
+   * Filter conditions pushed down as label matchers and time range of the query.
+   */
+  private final List<Expression> filterList;
+
+  /**
+   * PrometheusLogicalMetricScan Constructor.
+   */
+  @Builder
+  public PrometheusLogicalMetricScan(String metricName,
+                                     List<Expression> filterList) {
+    super(ImmutableList.of());
+    this.metricName = metricName;
+    this.filterList = filterList;
+  }
+
+  @Override
+  public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
+    return visitor.visitNode(this, context);
+  }
+}
@@ -0,0 +1,31 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.planner.logical;
+
+import java.util.Arrays;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.planner.optimizer.LogicalPlanOptimizer;
+import org.opensearch.sql.prometheus.planner.logical.rule.MergeAggAndMetricScan;
+import org.opensearch.sql.prometheus.planner.logical.rule.MergeFilterAndRelation;
+import org.opensearch.sql.prometheus.planner.logical.rule.ReplaceRelationWithMetricScan;
+
+/**
+ * Prometheus storage specified logical plan optimizer.
+ */
+@UtilityClass
+public class PrometheusLogicalPlanOptimizerFactory {
+
+  /**
+   * Create Prometheus storage specified logical plan optimizer.
+   */
+  public static LogicalPlanOptimizer create() {
+    return new LogicalPlanOptimizer(Arrays.asList(
+        new MergeFilterAndRelation(),
+        new ReplaceRelationWithMetricScan(),
+        new MergeAggAndMetricScan()
+    ));
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.planner.logical.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.List;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.span.SpanExpression;
+import org.opensearch.sql.planner.logical.LogicalAggregation;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.optimizer.Rule;
+import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricAgg;
+import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricScan;
+import org.opensearch.sql.prometheus.storage.querybuilder.AggregationQueryBuilder;
+import org.opensearch.sql.prometheus.storage.querybuilder.StepParameterResolver;
+import org.opensearch.sql.prometheus.storage.querybuilder.TimeRangeParametersResolver;
+
+/**
+ * Merge Aggregation -- MetricScan to MetricAgg if the aggregation can be done by PromQL.
+ * Filters on timestamp kept above MetricScan are dropped, so it's merged only if the time range
+ * is aligned to the span, or to whole seconds without span. Because PromQL aggregates samples
+ * in whole time buckets of the step, the filters are applied exactly by the buckets then.
+ * Otherwise, the filters and aggregation are kept in the engine.
+ * Note that PromQL aggregates the raw samples in each bucket, whereas the aggregation in the
+ * engine is over the rows of MetricScan which are the samples resampled at each step.
+ * Aggregation - Filter(c2) - MetricScan(c1, c2) --> MetricAgg(c1, c2)
+ */
+public class MergeAggAndMetricScan implements Rule<LogicalAggregation> {
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalAggregation> pattern = typeOf(LogicalAggregation.class)
+      .matching(aggregation -> AggregationQueryBuilder.isSupported(
+          aggregation.getAggregatorList(), aggregation.getGroupByList())
+          && findMetricScan(aggregation.getChild().get(0))
+              .filter(metricScan -> TimeRangeParametersResolver.isAligned(
+                  metricScan.getFilterList(), bucketSeconds(aggregation.getGroupByList())))
+              .isPresent());
+
+  @Override
+  public LogicalPlan apply(LogicalAggregation aggregation,
+                           Captures captures) {
+    PrometheusLogicalMetricScan metricScan = findMetricScan(aggregation.getChild().get(0)).get();
+    return PrometheusLogicalMetricAgg
+        .builder()
+        .metricName(metricScan.getMetricName())
+        .filterList(metricScan.getFilterList())
+        .aggregatorList(aggregation.getAggregatorList())
+        .groupByList(aggregation.getGroupByList())
+        .build();
+  }
+
+  /**
+   * Size of time bucket which is the step of span if any, otherwise the whole time range
+   * in seconds.
+   */
+  private static long bucketSeconds(List<NamedExpression> groupByList) {
+    return groupByList.stream()
+        .map(NamedExpression::getDelegated)
+        .filter(SpanExpression.class::isInstance)
+        .map(span -> StepParameterResolver.resolve((SpanExpression) span).get())
+        .findFirst()
+        .orElse(1L);
+  }
+
+  /**
+   * Find MetricScan under Filters of the conditions pushed down to it.
+   */
+  private static Optional<PrometheusLogicalMetricScan> findMetricScan(LogicalPlan plan) {
+    LogicalPlan child = plan;
+    while (child instanceof LogicalFilter) {
+      child = child.getChild().get(0);
+    }
+    if (!(child instanceof PrometheusLogicalMetricScan)) {
+      return Optional.empty();
+    }
+
+    PrometheusLogicalMetricScan metricScan = (PrometheusLogicalMetricScan) child;
+    for (LogicalPlan filter = plan; filter != metricScan; filter = filter.getChild().get(0)) {
+      if (!metricScan.getFilterList().contains(((LogicalFilter) filter).getCondition())) {
+        return Optional.empty();
+      }
+    }
+    return Optional.of(metricScan);
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.planner.logical.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+import static org.opensearch.sql.planner.optimizer.pattern.Patterns.source;
+
+import com.facebook.presto.matching.Capture;
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.planner.logical.LogicalFilter;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.optimizer.Rule;
+import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricScan;
+import org.opensearch.sql.prometheus.storage.querybuilder.SeriesSelectionQueryBuilder;
+import org.opensearch.sql.prometheus.storage.querybuilder.TimeRangeParametersResolver;
+
+/**
+ * Merge Filter -- Relation to MetricScan. Conjunctions on labels are pushed down as label
+ * matchers of the series selector and removed from the Filter, because label is not returned
+ * as a column by Prometheus. Conjunctions on timestamp are pushed down as the time range of
+ * the query and kept in the Filter, because Prometheus only accepts seconds and evaluates
+ * the query at steps from the start time.
+ * Filter(c1 AND c2 AND c3) - Relation --> Filter(c3) - Filter(c2) - MetricScan(c1, c2)
+ * where c1 is on label, c2 is on timestamp and c3 is others.
+ */
+public class MergeFilterAndRelation implements Rule<LogicalFilter> {
+
+  private final Capture<LogicalRelation> relationCapture;
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalFilter> pattern;
+
+  /**
+   * Constructor of MergeFilterAndRelation.
+   */
+  public MergeFilterAndRelation() {
+    this.relationCapture = Capture.newCapture();
+    this.pattern = typeOf(LogicalFilter.class)
+        .with(source().matching(typeOf(LogicalRelation.class).capturedAs(relationCapture)));
+  }
+
+  @Override
+  public LogicalPlan apply(LogicalFilter filter,
+                           Captures captures) {
+    LogicalRelation relation = captures.get(relationCapture);
+    List<Expression> conditions = new ArrayList<>();
+    flattenConjunction(filter.getCondition(), conditions);
+
+    LogicalPlan plan = PrometheusLogicalMetricScan
+        .builder()
+        .metricName(relation.getRelationName())
+        .filterList(conditions.stream()
+            .filter(condition -> SeriesSelectionQueryBuilder.isLabelMatcher(condition)
+                || TimeRangeParametersResolver.isTimeRangeCondition(condition))
+            .collect(Collectors.toList()))
+        .build();
+    for (Expression condition : conditions) {
+      if (!SeriesSelectionQueryBuilder.isLabelMatcher(condition)) {
+        plan = new LogicalFilter(plan, condition);
+      }
+    }
+    return plan;
+  }
+
+  private static void flattenConjunction(Expression condition, List<Expression> conditions) {
+    if (condition instanceof FunctionExpression
+        && ((FunctionExpression) condition).getFunctionName()
+            .equals(BuiltinFunctionName.AND.getName())) {
+      ((FunctionExpression) condition).getArguments()
+          .forEach(arg -> flattenConjunction(arg, conditions));
+    } else {
+      conditions.add(condition);
+    }
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.planner.logical.rule;
+
+import static com.facebook.presto.matching.Pattern.typeOf;
+
+import com.facebook.presto.matching.Captures;
+import com.facebook.presto.matching.Pattern;
+import com.google.common.collect.ImmutableList;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalRelation;
+import org.opensearch.sql.planner.optimizer.Rule;
+import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricScan;
+
+/**
+ * Replace Relation without any condition pushed down with MetricScan
+ * which queries the metric in default time range.
+ */
+public class ReplaceRelationWithMetricScan implements Rule<LogicalRelation> {
+
+  @Accessors(fluent = true)
+  @Getter
+  private final Pattern<LogicalRelation> pattern = typeOf(LogicalRelation.class);
+
+  @Override
+  public LogicalPlan apply(LogicalRelation relation,
+                           Captures captures) {
+    return PrometheusLogicalMetricScan
+        .builder()
+        .metricName(relation.getRelationName())
+        .filterList(ImmutableList.of())
+        .build();
+  }
+}
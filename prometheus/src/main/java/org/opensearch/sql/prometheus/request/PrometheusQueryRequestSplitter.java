@@ -0,0 +1,53 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.request;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.prometheus.storage.querybuilder.StepParameterResolver;
+
+/**
+ * Splits range query of long time range into time shards of consecutive points, so that each
+ * shard stays under the points limit per series of Prometheus and shards can be queried
+ * concurrently. Shards are aligned to the step from the start time, therefore the points
+ * evaluated are the same as the original query.
+ */
+@UtilityClass
+public class PrometheusQueryRequestSplitter {
+
+  /**
+   * Maximum points per series of each shard, below the limit of 11000 points of Prometheus.
+   */
+  public static final long MAX_POINTS_PER_SHARD = 10000L;
+
+  /**
+   * Split request into shards in time order.
+   *
+   * @param request           range query request
+   * @param maxPointsPerShard maximum points per series of each shard
+   * @return shards, or the request itself if it is not split
+   */
+  public static List<PrometheusQueryRequest> split(PrometheusQueryRequest request,
+                                                   long maxPointsPerShard) {
+    Optional<Long> step = StepParameterResolver.toSeconds(request.getStep());
+    if (step.isEmpty()
+        || request.getEndTime() - request.getStartTime() < maxPointsPerShard * step.get()) {
+      return Collections.singletonList(request);
+    }
+
+    long shardSeconds = maxPointsPerShard * step.get();
+    List<PrometheusQueryRequest> shards = new ArrayList<>();
+    for (long start = request.getStartTime(); start <= request.getEndTime();
+         start += shardSeconds) {
+      shards.add(new PrometheusQueryRequest(new StringBuilder(request.getPromQl()), start,
+          Math.min(start + shardSeconds - step.get(), request.getEndTime()), request.getStep()));
+    }
+    return shards;
+  }
+}
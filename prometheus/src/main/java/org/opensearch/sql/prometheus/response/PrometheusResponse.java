@@ -5,57 +5,183 @@
 
 package org.opensearch.sql.prometheus.response;
 
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.METRIC;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.TIMESTAMP;
-import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
 import java.time.Instant;
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.List;
-import lombok.NonNull;
-import org.json.JSONArray;
-import org.json.JSONObject;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
 import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.model.ExprValue;
 
-public class PrometheusResponse implements Iterable<ExprValue> {
+/**
+ * Prometheus query_range response whose series are read lazily, either parsed from the
+ * response body stream or from the result cache. Only the current series is held in memory,
+ * and the label values of a series are converted once and shared by all the rows of its
+ * samples.
+ */
+public class PrometheusResponse implements Closeable {
+
+  private final Iterator<PrometheusSeries> series;
+
+  private final Closeable resource;
+
+  /**
+   * Label values interned across series, since most of them are repeated, e.g. job.
+   */
+  private final Map<String, ExprValue> labelValues = new HashMap<>();
+
+  /**
+   * Create the response parsed from response body. Error in the response is thrown before any
+   * row is returned.
+   *
+   * @param body response body of query_range API
+   */
+  public PrometheusResponse(InputStream body) throws IOException {
+    this(new PrometheusSeriesParser(body));
+  }
 
-  private final JSONObject responseObject;
+  private PrometheusResponse(PrometheusSeriesParser parser) {
+    this(parser, parser);
+  }
 
-  public PrometheusResponse(JSONObject responseObject) {
-    this.responseObject = responseObject;
+  /**
+   * Create the response of series.
+   *
+   * @param series   series in the response
+   * @param resource resource released on close
+   */
+  public PrometheusResponse(Iterator<PrometheusSeries> series, Closeable resource) {
+    this.series = series;
+    this.resource = resource;
+  }
+
+  /**
+   * Series in the response, which can be iterated only once.
+   *
+   * @return iterator of series
+   */
+  public Iterator<PrometheusSeries> seriesIterator() {
+    return series;
+  }
+
+  /**
+   * Rows of samples in the response.
+   *
+   * @param fieldNames field names of rows
+   * @return iterator of rows
+   */
+  public Iterator<ExprValue> iterator(PrometheusResponseFieldNames fieldNames) {
+    return new RowIterator(fieldNames);
   }
 
-  @NonNull
   @Override
-  public Iterator<ExprValue> iterator() {
-    List<ExprValue> result = new ArrayList<>();
-    if ("matrix".equals(responseObject.getString("resultType"))) {
-      JSONArray itemArray = responseObject.getJSONArray("result");
-      for (int i = 0; i < itemArray.length(); i++) {
-        JSONObject item = itemArray.getJSONObject(i);
-        JSONObject metric = item.getJSONObject("metric");
-        JSONArray values = item.getJSONArray("values");
-        for (int j = 0; j < values.length(); j++) {
-          LinkedHashMap<String, ExprValue> linkedHashMap = new LinkedHashMap<>();
-          JSONArray val = values.getJSONArray(j);
-          linkedHashMap.put(TIMESTAMP,
-              new ExprTimestampValue(Instant.ofEpochMilli((long) (val.getDouble(0) * 1000))));
-          linkedHashMap.put(VALUE, new ExprDoubleValue(val.getDouble(1)));
-          linkedHashMap.put(METRIC, new ExprStringValue(metric.toString()));
-          result.add(new ExprTupleValue(linkedHashMap));
+  public void close() throws IOException {
+    resource.close();
+  }
+
+  private ExprValue labelValue(String value) {
+    return labelValues.computeIfAbsent(value, ExprStringValue::new);
+  }
+
+  /**
+   * Iterator of rows of the samples in current series.
+   */
+  private class RowIterator implements Iterator<ExprValue> {
+
+    private final PrometheusResponseFieldNames fieldNames;
+
+    private PrometheusSeries current;
+
+    /**
+     * Fields of current series shared by the rows of its samples.
+     */
+    private Map<String, ExprValue> seriesFields;
+
+    private int index;
+
+    RowIterator(PrometheusResponseFieldNames fieldNames) {
+      this.fieldNames = fieldNames;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (current == null || index == current.size()) {
+        if (!series.hasNext()) {
+          return false;
         }
+        current = series.next();
+        seriesFields = seriesFields(current);
+        index = 0;
+      }
+      return true;
+    }
+
+    @Override
+    public ExprValue next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      LinkedHashMap<String, ExprValue> row = new LinkedHashMap<>(seriesFields.size() + 4);
+      if (fieldNames.getTimestampFieldName() != null) {
+        row.put(fieldNames.getTimestampFieldName(), new ExprTimestampValue(Instant.ofEpochMilli(
+            current.getTimestamps()[index] - fieldNames.getTimestampOffsetSeconds() * 1000)));
+      }
+      row.put(fieldNames.getValueFieldName(), value(current.getValues()[index]));
+      seriesFields.forEach(row::putIfAbsent);
+      index++;
+      return new ExprTupleValue(row);
+    }
+
+    private ExprValue value(double value) {
+      if (INTEGER.equals(fieldNames.getValueType())) {
+        return new ExprIntegerValue((int) value);
       }
-    } else {
-      throw new RuntimeException(String.format("Unexpected Result Type: %s during Prometheus "
-              + "Response Parsing. 'matrix' resultType is expected",
-          responseObject.getString("resultType")));
+      return new ExprDoubleValue(value);
+    }
+
+    /**
+     * Convert labels of series once into the fields of metric JSON and labels.
+     */
+    private Map<String, ExprValue> seriesFields(PrometheusSeries series) {
+      Map<String, ExprValue> labels = new LinkedHashMap<>();
+      series.getLabels().forEach((label, value) -> labels.put(label, labelValue(value)));
+
+      Map<String, ExprValue> fields = new LinkedHashMap<>();
+      if (fieldNames.getMetricFieldName() != null) {
+        fields.put(fieldNames.getMetricFieldName(),
+            new ExprStringValue(metricJson(series.getLabels())));
+      }
+      if (fieldNames.getLabelFieldNames() == null) {
+        labels.forEach(fields::putIfAbsent);
+      } else {
+        fieldNames.getLabelFieldNames().forEach((fieldName, label) ->
+            fields.put(fieldName, labels.getOrDefault(label, LITERAL_NULL)));
+      }
+      return fields;
+    }
+
+    private String metricJson(Map<String, String> labels) {
+      return labels.entrySet().stream()
+          .map(label -> String.format("\"%s\":\"%s\"",
+              quote(label.getKey()), quote(label.getValue())))
+          .collect(Collectors.joining(",", "{", "}"));
+    }
+
+    private String quote(String text) {
+      return new String(JsonStringEncoder.getInstance().quoteAsString(text));
     }
-    return result.iterator();
   }
 }
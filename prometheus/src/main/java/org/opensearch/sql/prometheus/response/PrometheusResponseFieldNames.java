@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.response;
+
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.METRIC;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.TIMESTAMP;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
+
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.opensearch.sql.data.type.ExprType;
+
+/**
+ * Field names of rows parsed from Prometheus response. By default, each sample is returned as
+ * metric, timestamp and value. Rows of aggregation pushed down are returned as the output
+ * fields of the aggregation instead.
+ */
+@Getter
+@Setter
+public class PrometheusResponseFieldNames {
+
+  private String valueFieldName = VALUE;
+
+  private ExprType valueType = DOUBLE;
+
+  /**
+   * Timestamp field name, or null if timestamp is not returned.
+   */
+  private String timestampFieldName = TIMESTAMP;
+
+  /**
+   * Seconds subtracted from sample timestamp, e.g. to return start of time bucket.
+   */
+  private long timestampOffsetSeconds = 0L;
+
+  /**
+   * Metric field name, or null if metric labels are not returned as a whole.
+   */
+  private String metricFieldName = METRIC;
+
+  /**
+   * Field name to label name of labels returned as separate fields, or null if all labels of
+   * each series are returned as fields of the label names.
+   */
+  private Map<String, String> labelFieldNames = null;
+}
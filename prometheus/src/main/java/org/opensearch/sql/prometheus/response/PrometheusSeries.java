@@ -0,0 +1,64 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.response;
+
+import java.util.Arrays;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Samples of a time series in a range query response, in timestamp order.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class PrometheusSeries {
+
+  /**
+   * Labels in the order of response.
+   */
+  private final Map<String, String> labels;
+
+  /**
+   * Sample timestamps in epoch milliseconds.
+   */
+  private final long[] timestamps;
+
+  /**
+   * Sample values.
+   */
+  private final double[] values;
+
+  public int size() {
+    return timestamps.length;
+  }
+
+  /**
+   * Samples of the series within the time range.
+   *
+   * @param fromMillis start of the range in epoch milliseconds, inclusive
+   * @param toMillis   end of the range in epoch milliseconds, inclusive
+   * @return series of the samples in range
+   */
+  public PrometheusSeries slice(long fromMillis, long toMillis) {
+    int from = lowerBound(fromMillis);
+    int to = lowerBound(toMillis + 1);
+    return new PrometheusSeries(labels,
+        Arrays.copyOfRange(timestamps, from, to), Arrays.copyOfRange(values, from, to));
+  }
+
+  /**
+   * Index of first sample at or after the timestamp.
+   */
+  private int lowerBound(long timestamp) {
+    int index = Arrays.binarySearch(timestamps, timestamp);
+    return index >= 0 ? index : -index - 1;
+  }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.response;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Parser of series in query_range response body, which reads one series at a time from the
+ * stream. The parser expects the field order that Prometheus writes, i.e. status before data,
+ * resultType before result and metric before values.
+ */
+class PrometheusSeriesParser implements Iterator<PrometheusSeries>, Closeable {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  private final JsonParser parser;
+
+  private PrometheusSeries next;
+
+  private boolean finished = false;
+
+  /**
+   * Create the parser and read the response up to the result, so that error in the response is
+   * thrown before any series is returned.
+   *
+   * @param body response body of query_range API
+   */
+  PrometheusSeriesParser(InputStream body) throws IOException {
+    this.parser = JSON_FACTORY.createParser(body);
+    try {
+      readUntilResult();
+    } catch (IOException | RuntimeException e) {
+      close();
+      throw e;
+    }
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (next == null && !finished) {
+      try {
+        next = readNextSeries();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      finished = (next == null);
+    }
+    return next != null;
+  }
+
+  @Override
+  public PrometheusSeries next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    PrometheusSeries series = next;
+    next = null;
+    return series;
+  }
+
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+
+  private void readUntilResult() throws IOException {
+    String status = null;
+    String error = null;
+    parser.nextToken();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      parser.nextToken();
+      if ("status".equals(fieldName)) {
+        status = parser.getText();
+      } else if ("error".equals(fieldName)) {
+        error = parser.getText();
+      } else if ("data".equals(fieldName) && "success".equals(status)) {
+        readDataUntilResult();
+        return;
+      } else {
+        parser.skipChildren();
+      }
+    }
+    throw new RuntimeException(error);
+  }
+
+  private void readDataUntilResult() throws IOException {
+    String resultType = null;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      parser.nextToken();
+      if ("resultType".equals(fieldName)) {
+        resultType = parser.getText();
+      } else if ("result".equals(fieldName) && "matrix".equals(resultType)) {
+        return;
+      } else {
+        parser.skipChildren();
+      }
+    }
+    throw new RuntimeException(String.format("Unexpected Result Type: %s during Prometheus "
+        + "Response Parsing. 'matrix' resultType is expected", resultType));
+  }
+
+  /**
+   * Read next series in result array, or null at the end of result.
+   */
+  private PrometheusSeries readNextSeries() throws IOException {
+    if (parser.nextToken() == JsonToken.END_ARRAY) {
+      return null;
+    }
+
+    Map<String, String> labels = Collections.emptyMap();
+    long[] timestamps = new long[0];
+    double[] values = new double[0];
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String fieldName = parser.getCurrentName();
+      parser.nextToken();
+      if ("metric".equals(fieldName)) {
+        labels = readLabels();
+      } else if ("values".equals(fieldName)) {
+        int size = 0;
+        while (parser.nextToken() == JsonToken.START_ARRAY) {
+          if (size == timestamps.length) {
+            timestamps = Arrays.copyOf(timestamps, Math.max(16, size * 2));
+            values = Arrays.copyOf(values, timestamps.length);
+          }
+          parser.nextToken();
+          timestamps[size] = parser.getDecimalValue().scaleByPowerOfTen(3).longValue();
+          parser.nextToken();
+          values[size] = parseValue(parser.getText());
+          parser.nextToken();
+          size++;
+        }
+        timestamps = Arrays.copyOf(timestamps, size);
+        values = Arrays.copyOf(values, size);
+      } else {
+        parser.skipChildren();
+      }
+    }
+    return new PrometheusSeries(labels, timestamps, values);
+  }
+
+  private Map<String, String> readLabels() throws IOException {
+    Map<String, String> labels = new LinkedHashMap<>();
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      String label = parser.getCurrentName();
+      parser.nextToken();
+      labels.put(label, parser.getText());
+    }
+    return labels;
+  }
+
+  private static double parseValue(String value) {
+    if ("+Inf".equals(value)) {
+      return Double.POSITIVE_INFINITY;
+    } else if ("-Inf".equals(value)) {
+      return Double.NEGATIVE_INFINITY;
+    } else {
+      return Double.parseDouble(value);
+    }
+  }
+}
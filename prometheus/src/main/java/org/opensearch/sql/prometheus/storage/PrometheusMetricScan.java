@@ -5,30 +5,45 @@
 
 package org.opensearch.sql.prometheus.storage;
 
+import com.google.common.base.Throwables;
 import java.io.IOException;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.json.JSONObject;
 import org.opensearch.sql.data.model.ExprValue;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
 import org.opensearch.sql.prometheus.request.PrometheusQueryRequest;
+import org.opensearch.sql.prometheus.request.PrometheusQueryRequestSplitter;
 import org.opensearch.sql.prometheus.response.PrometheusResponse;
+import org.opensearch.sql.prometheus.response.PrometheusResponseFieldNames;
 import org.opensearch.sql.storage.TableScanOperator;
 
 /**
- * Prometheus metric scan operator.
+ * Prometheus metric scan operator. Query of long time range is split into time shards which
+ * are queried concurrently, and the rows are returned shard by shard in time order.
  */
 @EqualsAndHashCode(onlyExplicitlyIncluded = true, callSuper = false)
 @ToString(onlyExplicitlyIncluded = true)
 public class PrometheusMetricScan extends TableScanOperator {
 
+  /**
+   * Maximum shards queried concurrently by a scan. Requests of all the scans of a catalog are
+   * further bounded by the dispatcher of its client.
+   */
+  public static final int MAX_CONCURRENT_SHARDS = 4;
+
   private final PrometheusClient prometheusClient;
 
   @EqualsAndHashCode.Include
@@ -37,43 +52,141 @@ public class PrometheusMetricScan extends TableScanOperator {
   @ToString.Include
   private PrometheusQueryRequest request;
 
+  /**
+   * Field names of rows returned.
+   */
+  @Getter
+  @Setter
+  private PrometheusResponseFieldNames fieldNames;
+
+  /**
+   * Row returned if the response has no row at all, e.g. aggregation without group by over no
+   * series, or null if nothing is returned then.
+   */
+  @Getter
+  @Setter
+  private ExprValue emptyResultRow;
+
+  /**
+   * Shards not queried yet.
+   */
+  private Iterator<PrometheusQueryRequest> remainingShards = Collections.emptyIterator();
+
+  /**
+   * Shards being queried in time order.
+   */
+  private final Deque<CompletableFuture<PrometheusResponse>> pendingShards = new ArrayDeque<>();
+
+  private PrometheusResponse response;
+
   private Iterator<ExprValue> iterator;
 
+  private boolean anyRowReturned = false;
+
   private static final Logger LOG = LogManager.getLogger();
 
   public PrometheusMetricScan(PrometheusClient prometheusClient) {
     this.prometheusClient = prometheusClient;
     this.request = new PrometheusQueryRequest();
+    this.fieldNames = new PrometheusResponseFieldNames();
   }
 
   @Override
   public void open() {
     super.open();
-    this.iterator = AccessController.doPrivileged((PrivilegedAction<Iterator<ExprValue>>) () -> {
-      try {
-        JSONObject responseObject = prometheusClient.queryRange(
-            request.getPromQl().toString(),
-            request.getStartTime(), request.getEndTime(), request.getStep());
-        return new PrometheusResponse(responseObject).iterator();
-      } catch (IOException e) {
-        LOG.error(e.getMessage());
-        throw new RuntimeException("Error fetching data from prometheus server. " + e.getMessage());
+    List<PrometheusQueryRequest> shards = PrometheusQueryRequestSplitter.split(
+        request, PrometheusQueryRequestSplitter.MAX_POINTS_PER_SHARD);
+    if (shards.size() == 1) {
+      this.response = AccessController.doPrivileged((PrivilegedAction<PrometheusResponse>) () -> {
+        try {
+          return prometheusClient.queryRange(
+              request.getPromQl().toString(),
+              request.getStartTime(), request.getEndTime(), request.getStep());
+        } catch (IOException e) {
+          throw fetchError(e);
+        }
+      });
+      this.iterator = response.iterator(fieldNames);
+    } else {
+      this.remainingShards = shards.iterator();
+      for (int i = 0; i < MAX_CONCURRENT_SHARDS && remainingShards.hasNext(); i++) {
+        queryNextShard();
       }
-    });
+      nextShard();
+    }
   }
 
   @Override
   public boolean hasNext() {
-    return iterator.hasNext();
+    while (!iterator.hasNext()) {
+      if (pendingShards.isEmpty()) {
+        if (emptyResultRow != null && !anyRowReturned) {
+          iterator = Collections.singleton(emptyResultRow).iterator();
+          return true;
+        }
+        return false;
+      }
+      closeResponse(response);
+      nextShard();
+    }
+    return true;
   }
 
   @Override
   public ExprValue next() {
+    anyRowReturned = true;
     return iterator.next();
   }
 
+  @Override
+  public void close() {
+    super.close();
+    if (response != null) {
+      closeResponse(response);
+    }
+    pendingShards.forEach(future -> future.thenAccept(this::closeResponse));
+    pendingShards.clear();
+  }
+
   @Override
   public String explain() {
     return getRequest().toString();
   }
+
+  private void queryNextShard() {
+    PrometheusQueryRequest shard = remainingShards.next();
+    pendingShards.add(AccessController.doPrivileged(
+        (PrivilegedAction<CompletableFuture<PrometheusResponse>>) () ->
+            prometheusClient.queryRangeAsync(shard.getPromQl().toString(),
+                shard.getStartTime(), shard.getEndTime(), shard.getStep())));
+  }
+
+  /**
+   * Wait for the response of next shard, and query another shard in place of it.
+   */
+  private void nextShard() {
+    try {
+      response = pendingShards.poll().join();
+    } catch (CompletionException e) {
+      Throwables.throwIfUnchecked(e.getCause());
+      throw fetchError(e.getCause());
+    }
+    if (remainingShards.hasNext()) {
+      queryNextShard();
+    }
+    iterator = response.iterator(fieldNames);
+  }
+
+  private RuntimeException fetchError(Throwable e) {
+    LOG.error(e.getMessage());
+    return new RuntimeException("Error fetching data from prometheus server. " + e.getMessage());
+  }
+
+  private void closeResponse(PrometheusResponse response) {
+    try {
+      response.close();
+    } catch (IOException e) {
+      LOG.error("Failed to close Prometheus response", e);
+    }
+  }
 }
@@ -15,6 +15,7 @@ import org.opensearch.sql.data.type.ExprType;
 import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
+import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalPlanOptimizerFactory;
 import org.opensearch.sql.prometheus.request.PrometheusDescribeMetricRequest;
 import org.opensearch.sql.prometheus.request.PrometheusQueryRequest;
 import org.opensearch.sql.prometheus.storage.implementor.PrometheusDefaultImplementor;
@@ -76,8 +77,15 @@ public class PrometheusMetricTable implements Table {
     return plan.accept(new PrometheusDefaultImplementor(), metricScan);
   }
 
+  /**
+   * Filter conditions are pushed down only for metric. For query range table function,
+   * the PromQL is already given by user.
+   */
   @Override
   public LogicalPlan optimize(LogicalPlan plan) {
+    if (metricName.isPresent()) {
+      return PrometheusLogicalPlanOptimizerFactory.create().optimize(plan);
+    }
     return plan;
   }
 
@@ -29,7 +29,7 @@ public class PrometheusStorageEngine implements StorageEngine {
 
   @Override
   public Table getTable(String name) {
-    return null;
+    return new PrometheusMetricTable(prometheusClient, name);
   }
 
   @Override
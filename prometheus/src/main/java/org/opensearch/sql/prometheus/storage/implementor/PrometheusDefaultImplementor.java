@@ -11,18 +11,35 @@ import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConsta
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.TIMESTAMP;
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
 
+import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.type.ExprCoreType;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.span.SpanExpression;
 import org.opensearch.sql.planner.DefaultImplementor;
+import org.opensearch.sql.planner.logical.LogicalPlan;
 import org.opensearch.sql.planner.logical.LogicalProject;
 import org.opensearch.sql.planner.logical.LogicalRelation;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.ProjectOperator;
+import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricAgg;
+import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricScan;
+import org.opensearch.sql.prometheus.request.PrometheusQueryRequest;
+import org.opensearch.sql.prometheus.response.PrometheusResponseFieldNames;
 import org.opensearch.sql.prometheus.storage.PrometheusMetricScan;
+import org.opensearch.sql.prometheus.storage.querybuilder.AggregationQueryBuilder;
+import org.opensearch.sql.prometheus.storage.querybuilder.SeriesSelectionQueryBuilder;
+import org.opensearch.sql.prometheus.storage.querybuilder.StepParameterResolver;
+import org.opensearch.sql.prometheus.storage.querybuilder.TimeRangeParametersResolver;
 
 /**
  * Default Implementor of Logical plan for prometheus.
@@ -31,6 +48,97 @@ import org.opensearch.sql.prometheus.storage.PrometheusMetricScan;
 public class PrometheusDefaultImplementor
     extends DefaultImplementor<PrometheusMetricScan> {
 
+  @Override
+  public PhysicalPlan visitNode(LogicalPlan plan, PrometheusMetricScan context) {
+    if (plan instanceof PrometheusLogicalMetricScan) {
+      return visitMetricScan((PrometheusLogicalMetricScan) plan, context);
+    } else if (plan instanceof PrometheusLogicalMetricAgg) {
+      return visitMetricAgg((PrometheusLogicalMetricAgg) plan, context);
+    } else {
+      throw new IllegalStateException(String.format("unexpected plan node type %s",
+          plan.getClass()));
+    }
+  }
+
+  /**
+   * Implement PrometheusLogicalMetricScan.
+   */
+  public PhysicalPlan visitMetricScan(PrometheusLogicalMetricScan node,
+                                      PrometheusMetricScan context) {
+    PrometheusQueryRequest request = context.getRequest();
+    request.getPromQl().append(
+        SeriesSelectionQueryBuilder.build(node.getMetricName(), node.getFilterList()));
+    Pair<Long, Long> timeRange = TimeRangeParametersResolver.resolve(node.getFilterList());
+    long step = StepParameterResolver.resolveSeconds(timeRange.getLeft(), timeRange.getRight());
+    // Align start time to step, so that the samples evaluated are the same for sliding time
+    // range and can be cached. Samples before the time range are removed by the time filter.
+    request.setStartTime(Math.floorDiv(timeRange.getLeft(), step) * step);
+    request.setEndTime(timeRange.getRight());
+    request.setStep(step + "s");
+    return context;
+  }
+
+  /**
+   * Implement PrometheusLogicalMetricAgg. With span of timestamp, each step is a time bucket
+   * of the span and the samples in it are aggregated over the range of the step. Otherwise,
+   * all samples in the time range are aggregated at the end time in single step.
+   */
+  public PhysicalPlan visitMetricAgg(PrometheusLogicalMetricAgg node,
+                                     PrometheusMetricScan context) {
+    Pair<Long, Long> timeRange = TimeRangeParametersResolver.resolve(node.getFilterList());
+    PrometheusResponseFieldNames fieldNames = context.getFieldNames();
+    List<String> labels = new ArrayList<>();
+    Map<String, String> labelFieldNames = new LinkedHashMap<>();
+    Optional<NamedExpression> span = Optional.empty();
+    for (NamedExpression groupBy : node.getGroupByList()) {
+      if (groupBy.getDelegated() instanceof SpanExpression) {
+        span = Optional.of(groupBy);
+      } else {
+        String label = ((ReferenceExpression) groupBy.getDelegated()).getAttr();
+        labels.add(label);
+        labelFieldNames.put(groupBy.getNameOrAlias(), label);
+      }
+    }
+
+    PrometheusQueryRequest request = context.getRequest();
+    long rangeSeconds;
+    if (span.isPresent()) {
+      // Sample at end of each bucket covers the bucket (end - step, end], so the end time of
+      // time range aligned to step is the end of last bucket rather than start of next one.
+      long step = StepParameterResolver.resolve((SpanExpression) span.get().getDelegated()).get();
+      long startTime = (Math.floorDiv(timeRange.getLeft(), step) + 1) * step;
+      request.setStartTime(startTime);
+      request.setEndTime(Math.max(-Math.floorDiv(-timeRange.getRight(), step) * step, startTime));
+      request.setStep(step + "s");
+      rangeSeconds = step;
+      fieldNames.setTimestampFieldName(span.get().getNameOrAlias());
+      fieldNames.setTimestampOffsetSeconds(step);
+    } else {
+      request.setStartTime(timeRange.getRight());
+      request.setEndTime(timeRange.getRight());
+      request.setStep(StepParameterResolver.resolve(timeRange.getRight(), timeRange.getRight()));
+      rangeSeconds = Math.max(timeRange.getRight() - timeRange.getLeft(), 1L);
+      fieldNames.setTimestampFieldName(null);
+    }
+
+    NamedAggregator aggregator = node.getAggregatorList().get(0);
+    request.getPromQl().append(AggregationQueryBuilder.build(
+        SeriesSelectionQueryBuilder.build(node.getMetricName(), node.getFilterList()),
+        aggregator, labels, rangeSeconds));
+    fieldNames.setValueFieldName(aggregator.getName());
+    fieldNames.setValueType(aggregator.type());
+    fieldNames.setMetricFieldName(null);
+    fieldNames.setLabelFieldNames(labelFieldNames);
+
+    // Aggregation without group by returns single row even if there is no series, the same as
+    // aggregation over no rows in the engine, e.g. 0 for count.
+    if (node.getGroupByList().isEmpty()) {
+      context.setEmptyResultRow(ExprTupleValue.fromExprValueMap(
+          ImmutableMap.of(aggregator.getName(), aggregator.create().result())));
+    }
+    return context;
+  }
+
   @Override
   public PhysicalPlan visitRelation(LogicalRelation node,
                                     PrometheusMetricScan context) {
@@ -39,8 +147,12 @@ public class PrometheusDefaultImplementor
 
   // Since getFieldTypes include labels
   // we are explicitly specifying the output column names;
+  // Except for aggregation pushed down which returns the output fields of aggregation.
   @Override
   public PhysicalPlan visitProject(LogicalProject node, PrometheusMetricScan context) {
+    if (isMetricAgg(node)) {
+      return super.visitProject(node, context);
+    }
     List<NamedExpression> finalProjectList = new ArrayList<>();
     finalProjectList.add(
         new NamedExpression(METRIC, new ReferenceExpression(METRIC, ExprCoreType.STRING)));
@@ -53,4 +165,11 @@ public class PrometheusDefaultImplementor
         node.getNamedParseExpressions());
   }
 
-}
\ No newline at end of file
+  private static boolean isMetricAgg(LogicalPlan plan) {
+    LogicalPlan leaf = plan;
+    while (!leaf.getChild().isEmpty()) {
+      leaf = leaf.getChild().get(0);
+    }
+    return leaf instanceof PrometheusLogicalMetricAgg;
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.storage.querybuilder;
+
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.expression.span.SpanExpression;
+
+/**
+ * Builds PromQL which aggregates samples in each time bucket of the range by the
+ * aggregation over time functions, and then across series by the aggregation operators
+ * grouping by labels, for example:
+ * sum by (job) (sum_over_time(http_requests_total{code="200"}[60s])).
+ */
+@UtilityClass
+public class AggregationQueryBuilder {
+
+  /**
+   * Aggregation operator across series and aggregation over time function of the aggregator.
+   */
+  private static final Map<FunctionName, Pair<String, String>> AGGREGATION_FUNCTIONS =
+      ImmutableMap.of(
+          BuiltinFunctionName.SUM.getName(), Pair.of("sum", "sum_over_time"),
+          BuiltinFunctionName.MIN.getName(), Pair.of("min", "min_over_time"),
+          BuiltinFunctionName.MAX.getName(), Pair.of("max", "max_over_time"),
+          BuiltinFunctionName.COUNT.getName(), Pair.of("sum", "count_over_time"),
+          BuiltinFunctionName.AVG.getName(), Pair.of("sum", "sum_over_time"));
+
+  /**
+   * Check if the aggregation can be done by PromQL. Only single aggregator of sum, avg, min,
+   * max on value or count without condition or distinct is supported, because PromQL returns
+   * single value per series. Group by should be labels and optionally a single span of
+   * timestamp in whole seconds.
+   *
+   * @param aggregatorList aggregators
+   * @param groupByList    group by expressions
+   * @return true if supported
+   */
+  public static boolean isSupported(List<NamedAggregator> aggregatorList,
+                                    List<NamedExpression> groupByList) {
+    return aggregatorList.size() == 1
+        && isSupported(aggregatorList.get(0))
+        && groupByList.stream()
+            .filter(groupBy -> groupBy.getDelegated() instanceof SpanExpression).count() <= 1
+        && groupByList.stream()
+            .map(NamedExpression::getDelegated)
+            .allMatch(groupBy -> SeriesSelectionQueryBuilder.isLabel(groupBy)
+                || (groupBy instanceof SpanExpression
+                    && StepParameterResolver.resolve((SpanExpression) groupBy).isPresent()));
+  }
+
+  /**
+   * Build aggregation query. Average is calculated by the sum and count of samples instead of
+   * average of series to be same as aggregation over samples.
+   *
+   * @param seriesSelector series selector
+   * @param aggregator     aggregator
+   * @param labels         labels to group by
+   * @param rangeSeconds   range of time bucket in seconds
+   * @return PromQL
+   */
+  public static String build(String seriesSelector, NamedAggregator aggregator,
+                             List<String> labels, long rangeSeconds) {
+    String grouping = labels.isEmpty() ? "" : String.format(" by (%s)", String.join(", ", labels));
+    String rangeVector = String.format("%s[%ds]", seriesSelector, rangeSeconds);
+    Pair<String, String> functions = AGGREGATION_FUNCTIONS.get(aggregator.getFunctionName());
+    String query = String.format("%s%s (%s(%s))",
+        functions.getLeft(), grouping, functions.getRight(), rangeVector);
+    if (aggregator.getFunctionName().equals(BuiltinFunctionName.AVG.getName())) {
+      return String.format("%s / sum%s (count_over_time(%s))", query, grouping, rangeVector);
+    }
+    return query;
+  }
+
+  private static boolean isSupported(NamedAggregator aggregator) {
+    if (!AGGREGATION_FUNCTIONS.containsKey(aggregator.getFunctionName())
+        || aggregator.condition() != null
+        || aggregator.distinct()) {
+      return false;
+    }
+    Expression argument = aggregator.getArguments().get(0);
+    return isValue(argument)
+        || (aggregator.getFunctionName().equals(BuiltinFunctionName.COUNT.getName())
+            && argument instanceof LiteralExpression);
+  }
+
+  private static boolean isValue(Expression expression) {
+    return expression instanceof ReferenceExpression
+        && ((ReferenceExpression) expression).getAttr().equals(VALUE);
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.storage.querybuilder;
+
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.METRIC;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.TIMESTAMP;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+import org.opensearch.sql.utils.OperatorUtils;
+
+/**
+ * Builds the PromQL series selector of a metric with label matchers translated from
+ * filter conditions, for example: http_requests_total{job="api",code=~"5.*"}.
+ */
+@UtilityClass
+public class SeriesSelectionQueryBuilder {
+
+  private static final Map<FunctionName, String> LABEL_MATCH_OPERATORS = ImmutableMap.of(
+      BuiltinFunctionName.EQUAL.getName(), "=",
+      BuiltinFunctionName.NOTEQUAL.getName(), "!=",
+      BuiltinFunctionName.LIKE.getName(), "=~",
+      BuiltinFunctionName.NOT_LIKE.getName(), "!~");
+
+  /**
+   * Build series selector.
+   *
+   * @param metricName metric name
+   * @param filterList filter conditions, of which only label matchers are used
+   * @return PromQL series selector
+   */
+  public static String build(String metricName, List<Expression> filterList) {
+    List<String> labelMatchers = filterList.stream()
+        .filter(SeriesSelectionQueryBuilder::isLabelMatcher)
+        .map(condition -> buildLabelMatcher((FunctionExpression) condition))
+        .collect(Collectors.toList());
+    if (labelMatchers.isEmpty()) {
+      return metricName;
+    }
+    return String.format("%s{%s}", metricName, String.join(",", labelMatchers));
+  }
+
+  /**
+   * Check if the condition can be translated to a label matcher, which is one of
+   * label = 'value', label != 'value', label LIKE 'pattern' and label NOT LIKE 'pattern'.
+   * Because Prometheus treats empty label value as label not present, equality with
+   * empty string is not translated.
+   *
+   * @param condition filter condition
+   * @return true if it can be translated to label matcher
+   */
+  public static boolean isLabelMatcher(Expression condition) {
+    if (!(condition instanceof FunctionExpression)) {
+      return false;
+    }
+    FunctionExpression function = (FunctionExpression) condition;
+    FunctionName functionName = function.getFunctionName();
+    if (!LABEL_MATCH_OPERATORS.containsKey(functionName)) {
+      return false;
+    }
+    Expression left = function.getArguments().get(0);
+    Expression right = function.getArguments().get(1);
+    if (isLabel(left) && isStringLiteral(right)) {
+      return isNotEqualToEmpty(functionName, right);
+    }
+    // Only equality operators are symmetric
+    return isSymmetric(functionName) && isLabel(right) && isStringLiteral(left)
+        && isNotEqualToEmpty(functionName, left);
+  }
+
+  /**
+   * Label matcher in PromQL. Note that label not present is same as empty value in Prometheus,
+   * so an extra matcher is required to exclude them except for equality, because comparison
+   * with label not present (null) is never true in SQL.
+   */
+  private static String buildLabelMatcher(FunctionExpression condition) {
+    FunctionName functionName = condition.getFunctionName();
+    Expression left = condition.getArguments().get(0);
+    Expression right = condition.getArguments().get(1);
+    String label = isLabel(left) ? ((ReferenceExpression) left).getAttr()
+        : ((ReferenceExpression) right).getAttr();
+    String value = isLabel(left) ? right.valueOf(null).stringValue()
+        : left.valueOf(null).stringValue();
+
+    String operator = LABEL_MATCH_OPERATORS.get(functionName);
+    if (functionName.equals(BuiltinFunctionName.EQUAL.getName())) {
+      return String.format("%s%s\"%s\"", label, operator, escape(value));
+    }
+    if (!functionName.equals(BuiltinFunctionName.NOTEQUAL.getName())) {
+      value = OperatorUtils.patternToRegex(value);
+    }
+    return String.format("%s%s\"%s\",%s!=\"\"", label, operator, escape(value), label);
+  }
+
+  /**
+   * Check if the expression is a label of the metric.
+   *
+   * @param expression expression
+   * @return true if it's label
+   */
+  public static boolean isLabel(Expression expression) {
+    if (!(expression instanceof ReferenceExpression)
+        || expression.type() != ExprCoreType.STRING) {
+      return false;
+    }
+    String name = ((ReferenceExpression) expression).getAttr();
+    return !name.equals(METRIC) && !name.equals(TIMESTAMP) && !name.equals(VALUE);
+  }
+
+  private static boolean isStringLiteral(Expression expression) {
+    return expression instanceof LiteralExpression && expression.type() == ExprCoreType.STRING;
+  }
+
+  private static boolean isSymmetric(FunctionName functionName) {
+    return functionName.equals(BuiltinFunctionName.EQUAL.getName())
+        || functionName.equals(BuiltinFunctionName.NOTEQUAL.getName());
+  }
+
+  private static boolean isNotEqualToEmpty(FunctionName functionName, Expression literal) {
+    return !functionName.equals(BuiltinFunctionName.EQUAL.getName())
+        || !literal.valueOf(null).stringValue().isEmpty();
+  }
+
+  private static String escape(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"");
+  }
+}
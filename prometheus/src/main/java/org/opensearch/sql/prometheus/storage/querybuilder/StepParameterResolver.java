@@ -0,0 +1,105 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.storage.querybuilder;
+
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.TIMESTAMP;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.experimental.UtilityClass;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.span.SpanExpression;
+
+/**
+ * Resolves step parameter of the range query.
+ */
+@UtilityClass
+public class StepParameterResolver {
+
+  /**
+   * Number of points per series returned by default, which is far below the limit
+   * of 11000 points per series of Prometheus.
+   */
+  public static final long DEFAULT_POINTS_PER_SERIES = 250L;
+
+  /**
+   * Seconds of span units supported by step which is in whole seconds.
+   */
+  private static final Map<String, Long> SPAN_UNIT_SECONDS = ImmutableMap.of(
+      "s", 1L,
+      "m", 60L,
+      "h", 3600L,
+      "d", 86400L,
+      "w", 604800L);
+
+  /**
+   * Step in whole seconds, either a number of seconds or a duration of single unit, e.g. 1m.
+   */
+  private static final Pattern WHOLE_SECONDS_STEP = Pattern.compile("(\\d+)([smhdw])?");
+
+  /**
+   * Resolve step from the time range so that each series has a bounded number of points.
+   *
+   * @param startTime start time in epoch seconds
+   * @param endTime   end time in epoch seconds
+   * @return step in seconds
+   */
+  public static String resolve(long startTime, long endTime) {
+    return resolveSeconds(startTime, endTime) + "s";
+  }
+
+  /**
+   * Resolve step in seconds from the time range so that each series has a bounded number of
+   * points.
+   *
+   * @param startTime start time in epoch seconds
+   * @param endTime   end time in epoch seconds
+   * @return step in seconds
+   */
+  public static long resolveSeconds(long startTime, long endTime) {
+    return Math.max((endTime - startTime) / DEFAULT_POINTS_PER_SERIES, 1L);
+  }
+
+  /**
+   * Resolve step from span of timestamp, so that each step is a time bucket of the span.
+   *
+   * @param span span expression
+   * @return step in seconds, or empty if span is not on timestamp or not in whole seconds
+   */
+  public static Optional<Long> resolve(SpanExpression span) {
+    if (!(span.getField() instanceof ReferenceExpression)
+        || !((ReferenceExpression) span.getField()).getAttr().equals(TIMESTAMP)
+        || !SPAN_UNIT_SECONDS.containsKey(span.getUnit().getName())) {
+      return Optional.empty();
+    }
+    ExprValue interval = span.getValue().valueOf(null);
+    double seconds = interval.doubleValue() * SPAN_UNIT_SECONDS.get(span.getUnit().getName());
+    if (seconds < 1 || seconds != Math.floor(seconds)) {
+      return Optional.empty();
+    }
+    return Optional.of((long) seconds);
+  }
+
+  /**
+   * Parse step of the range query in whole seconds.
+   *
+   * @param step step parameter
+   * @return step in seconds, or empty if step is not a positive whole number of seconds
+   */
+  public static Optional<Long> toSeconds(String step) {
+    Matcher matcher = WHOLE_SECONDS_STEP.matcher(step);
+    if (!matcher.matches()) {
+      return Optional.empty();
+    }
+    long seconds = Long.parseLong(matcher.group(1))
+        * SPAN_UNIT_SECONDS.getOrDefault(matcher.group(2), 1L);
+    return seconds > 0 ? Optional.of(seconds) : Optional.empty();
+  }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.storage.querybuilder;
+
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.TIMESTAMP;
+
+import com.google.common.collect.ImmutableSet;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import lombok.experimental.UtilityClass;
+import org.apache.commons.lang3.tuple.Pair;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.FunctionExpression;
+import org.opensearch.sql.expression.LiteralExpression;
+import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.function.BuiltinFunctionName;
+import org.opensearch.sql.expression.function.FunctionName;
+
+/**
+ * Resolves start and end time in epoch seconds of the range query from comparisons between
+ * timestamp and constant expressions in filter conditions. If not specified, the time range
+ * is the last hour till now.
+ */
+@UtilityClass
+public class TimeRangeParametersResolver {
+
+  public static final long DEFAULT_TIME_RANGE_SECONDS = 3600L;
+
+  /**
+   * Operators that give the lower bound if timestamp is on the left side.
+   */
+  private static final Set<FunctionName> LOWER_BOUND_OPERATORS = ImmutableSet.of(
+      BuiltinFunctionName.GREATER.getName(),
+      BuiltinFunctionName.GTE.getName(),
+      BuiltinFunctionName.EQUAL.getName());
+
+  /**
+   * Operators that give the upper bound if timestamp is on the left side.
+   */
+  private static final Set<FunctionName> UPPER_BOUND_OPERATORS = ImmutableSet.of(
+      BuiltinFunctionName.LESS.getName(),
+      BuiltinFunctionName.LTE.getName(),
+      BuiltinFunctionName.EQUAL.getName());
+
+  /**
+   * Resolve time range of the query.
+   *
+   * @param filterList filter conditions, of which only time range conditions are used
+   * @return start and end time in epoch seconds
+   */
+  public static Pair<Long, Long> resolve(List<Expression> filterList) {
+    Long startTime = null;
+    Long endTime = null;
+    for (Expression condition : filterList) {
+      if (!isTimeRangeCondition(condition)) {
+        continue;
+      }
+      FunctionExpression function = (FunctionExpression) condition;
+      boolean isTimestampOnLeft = isTimestamp(function.getArguments().get(0));
+      ExprValue value = constantOf(function);
+      if (value.isNull()) {
+        continue;
+      }
+
+      Instant instant = value.timestampValue();
+      FunctionName functionName = function.getFunctionName();
+      if ((isTimestampOnLeft ? LOWER_BOUND_OPERATORS : UPPER_BOUND_OPERATORS)
+          .contains(functionName)) {
+        long lowerBound = instant.getEpochSecond();
+        startTime = (startTime == null) ? lowerBound : Math.max(startTime, lowerBound);
+      }
+      if ((isTimestampOnLeft ? UPPER_BOUND_OPERATORS : LOWER_BOUND_OPERATORS)
+          .contains(functionName)) {
+        long upperBound = instant.getEpochSecond() + (instant.getNano() > 0 ? 1 : 0);
+        endTime = (endTime == null) ? upperBound : Math.min(endTime, upperBound);
+      }
+    }
+
+    if (endTime == null) {
+      long now = Instant.now().getEpochSecond();
+      endTime = (startTime == null) ? now : Math.max(now, startTime);
+    }
+    if (startTime == null) {
+      startTime = endTime - DEFAULT_TIME_RANGE_SECONDS;
+    }
+    // Contradictory conditions which filter out all rows anyway
+    return Pair.of(Math.min(startTime, endTime), endTime);
+  }
+
+  /**
+   * Check if the time range conditions are all lower or upper bounds at multiples of the given
+   * seconds, so that the time range consists of whole buckets of that size.
+   *
+   * @param filterList    filter conditions, of which only time range conditions are checked
+   * @param bucketSeconds size of bucket in seconds
+   * @return true if every bound is aligned to bucket
+   */
+  public static boolean isAligned(List<Expression> filterList, long bucketSeconds) {
+    for (Expression condition : filterList) {
+      if (!isTimeRangeCondition(condition)) {
+        continue;
+      }
+      FunctionExpression function = (FunctionExpression) condition;
+      if (function.getFunctionName().equals(BuiltinFunctionName.EQUAL.getName())) {
+        return false;
+      }
+      ExprValue value = constantOf(function);
+      if (value.isNull()) {
+        return false;
+      }
+      Instant instant = value.timestampValue();
+      if (instant.getNano() > 0 || Math.floorMod(instant.getEpochSecond(), bucketSeconds) != 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Check if the condition is a comparison between timestamp and constant expression.
+   *
+   * @param condition filter condition
+   * @return true if it can be resolved to time range
+   */
+  public static boolean isTimeRangeCondition(Expression condition) {
+    if (!(condition instanceof FunctionExpression)) {
+      return false;
+    }
+    FunctionExpression function = (FunctionExpression) condition;
+    FunctionName functionName = function.getFunctionName();
+    if (!LOWER_BOUND_OPERATORS.contains(functionName)
+        && !UPPER_BOUND_OPERATORS.contains(functionName)) {
+      return false;
+    }
+    Expression left = function.getArguments().get(0);
+    Expression right = function.getArguments().get(1);
+    return (isTimestamp(left) && isConstant(right))
+        || (isTimestamp(right) && isConstant(left));
+  }
+
+  private static ExprValue constantOf(FunctionExpression function) {
+    boolean isTimestampOnLeft = isTimestamp(function.getArguments().get(0));
+    return function.getArguments().get(isTimestampOnLeft ? 1 : 0).valueOf(null);
+  }
+
+  private static boolean isTimestamp(Expression expression) {
+    return expression instanceof ReferenceExpression
+        && ((ReferenceExpression) expression).getAttr().equals(TIMESTAMP)
+        && expression.type() == ExprCoreType.TIMESTAMP;
+  }
+
+  private static boolean isConstant(Expression expression) {
+    if (expression instanceof LiteralExpression) {
+      return true;
+    }
+    return expression instanceof FunctionExpression
+        && ((FunctionExpression) expression).getArguments().stream()
+            .allMatch(TimeRangeParametersResolver::isConstant);
+  }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.prometheus.client.PrometheusClientConfig.GZIP;
+import static org.opensearch.sql.prometheus.client.PrometheusClientConfig.KEEP_ALIVE_SECONDS;
+import static org.opensearch.sql.prometheus.client.PrometheusClientConfig.LABELS_CACHE_TTL_SECONDS;
+import static org.opensearch.sql.prometheus.client.PrometheusClientConfig.MAX_REQUESTS;
+import static org.opensearch.sql.prometheus.client.PrometheusClientConfig.MAX_REQUESTS_PER_HOST;
+import static org.opensearch.sql.prometheus.client.PrometheusClientConfig.READ_TIMEOUT_SECONDS;
+
+import java.util.Map;
+import lombok.SneakyThrows;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.prometheus.client.cache.CachingPrometheusClient;
+import org.opensearch.sql.prometheus.client.cache.PrometheusLabelsCache;
+import org.opensearch.sql.prometheus.client.cache.PrometheusResultCache;
+
+class PrometheusClientConfigTest {
+
+  @Test
+  void testDefaultConfig() {
+    PrometheusClientConfig config = new PrometheusClientConfig(null);
+    assertEquals(64, config.getMaxRequests());
+    assertEquals(16, config.getMaxRequestsPerHost());
+    assertEquals(16, config.getMaxIdleConnections());
+    assertEquals(300L, config.getKeepAliveSeconds());
+    assertEquals(10L, config.getConnectTimeoutSeconds());
+    assertEquals(60L, config.getReadTimeoutSeconds());
+    assertTrue(config.isGzip());
+    assertEquals(PrometheusResultCache.DEFAULT_MAX_SAMPLES, config.getResultCacheMaxSamples());
+    assertEquals(PrometheusLabelsCache.DEFAULT_TTL_SECONDS, config.getLabelsCacheTtlSeconds());
+  }
+
+  @Test
+  void testHttpClientConfiguredByProperties() {
+    PrometheusClientConfig config = new PrometheusClientConfig(Map.of(
+        MAX_REQUESTS, "32",
+        MAX_REQUESTS_PER_HOST, " 8 ",
+        KEEP_ALIVE_SECONDS, "30",
+        READ_TIMEOUT_SECONDS, "120",
+        LABELS_CACHE_TTL_SECONDS, "600"));
+    assertEquals(600L, config.getLabelsCacheTtlSeconds());
+
+    OkHttpClient httpClient = config.httpClient();
+    assertEquals(32, httpClient.dispatcher().getMaxRequests());
+    assertEquals(8, httpClient.dispatcher().getMaxRequestsPerHost());
+    assertEquals(10_000, httpClient.connectTimeoutMillis());
+    assertEquals(120_000, httpClient.readTimeoutMillis());
+  }
+
+  @Test
+  void testInvalidProperty() {
+    for (String value : new String[] {"abc", "0", "-1", "4294967296"}) {
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+          () -> new PrometheusClientConfig(Map.of(MAX_REQUESTS, value)));
+      assertEquals(String.format("Catalog property %s must be a positive integer, but got %s",
+          MAX_REQUESTS, value), exception.getMessage());
+    }
+  }
+
+  @Test
+  void testInvalidBooleanProperty() {
+    assertTrue(new PrometheusClientConfig(Map.of(GZIP, " true ")).isGzip());
+    for (String value : new String[] {"yes", "False", "0", ""}) {
+      IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+          () -> new PrometheusClientConfig(Map.of(GZIP, value)));
+      assertEquals(String.format("Catalog property %s must be true or false, but got %s",
+          GZIP, value), exception.getMessage());
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void testGzipEncoding() {
+    assertEquals("gzip", acceptEncoding(new PrometheusClientConfig(Map.of())));
+    PrometheusClientConfig config = new PrometheusClientConfig(Map.of(GZIP, "false"));
+    assertFalse(config.isGzip());
+    assertEquals("identity", acceptEncoding(config));
+  }
+
+  @Test
+  @SneakyThrows
+  void testCreateClient() {
+    try (MockWebServer server = new MockWebServer()) {
+      assertTrue(new PrometheusClientConfig(Map.of()).createClient(server.url("/").uri())
+          instanceof CachingPrometheusClient);
+    }
+  }
+
+  @SneakyThrows
+  private String acceptEncoding(PrometheusClientConfig config) {
+    try (MockWebServer server = new MockWebServer()) {
+      server.enqueue(new MockResponse().setBody("ok"));
+      Request request = new Request.Builder().url(server.url("/")).build();
+      try (Response response = config.httpClient().newCall(request).execute()) {
+        assertEquals("ok", response.body().string());
+      }
+      return server.takeRequest().getHeader("Accept-Encoding");
+    }
+  }
+}
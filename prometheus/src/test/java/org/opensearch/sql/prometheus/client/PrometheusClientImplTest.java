@@ -6,6 +6,7 @@
 package org.opensearch.sql.prometheus.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -18,7 +19,9 @@ import static org.opensearch.sql.prometheus.utils.TestUtils.getJson;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import lombok.SneakyThrows;
 import okhttp3.HttpUrl;
@@ -27,12 +30,14 @@ import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
 import org.apache.http.HttpStatus;
-import org.json.JSONObject;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprValue;
+import org.opensearch.sql.prometheus.response.PrometheusResponse;
+import org.opensearch.sql.prometheus.response.PrometheusResponseFieldNames;
 
 @ExtendWith(MockitoExtension.class)
 public class PrometheusClientImplTest {
@@ -57,8 +62,13 @@ public class PrometheusClientImplTest {
         .addHeader("Content-Type", "application/json; charset=utf-8")
         .setBody(getJson("query_range_response.json"));
     mockWebServer.enqueue(mockResponse);
-    JSONObject jsonObject = prometheusClient.queryRange(QUERY, STARTTIME, ENDTIME, STEP);
-    assertTrue(new JSONObject(getJson("query_range_result.json")).similar(jsonObject));
+    try (PrometheusResponse response =
+             prometheusClient.queryRange(QUERY, STARTTIME, ENDTIME, STEP)) {
+      Iterator<ExprValue> iterator = response.iterator(new PrometheusResponseFieldNames());
+      assertEquals(1.0, iterator.next().tupleValue().get("@value").doubleValue());
+      assertEquals(0.0, iterator.next().tupleValue().get("@value").doubleValue());
+      assertFalse(iterator.hasNext());
+    }
     RecordedRequest recordedRequest = mockWebServer.takeRequest();
     verifyQueryRangeCall(recordedRequest);
   }
@@ -94,6 +104,47 @@ public class PrometheusClientImplTest {
     verifyQueryRangeCall(recordedRequest);
   }
 
+  @Test
+  @SneakyThrows
+  void testQueryRangeAsync() {
+    MockResponse mockResponse = new MockResponse()
+        .addHeader("Content-Type", "application/json; charset=utf-8")
+        .setBody(getJson("query_range_response.json"));
+    mockWebServer.enqueue(mockResponse);
+    try (PrometheusResponse response =
+             prometheusClient.queryRangeAsync(QUERY, STARTTIME, ENDTIME, STEP).get()) {
+      Iterator<ExprValue> iterator = response.iterator(new PrometheusResponseFieldNames());
+      assertEquals(1.0, iterator.next().tupleValue().get("@value").doubleValue());
+      assertEquals(0.0, iterator.next().tupleValue().get("@value").doubleValue());
+      assertFalse(iterator.hasNext());
+    }
+    RecordedRequest recordedRequest = mockWebServer.takeRequest();
+    verifyQueryRangeCall(recordedRequest);
+  }
+
+  @Test
+  @SneakyThrows
+  void testQueryRangeAsyncWithError() {
+    mockWebServer.enqueue(new MockResponse()
+        .addHeader("Content-Type", "application/json; charset=utf-8")
+        .setBody(getJson("error_response.json")));
+    ExecutionException exception = assertThrows(ExecutionException.class,
+        () -> prometheusClient.queryRangeAsync(QUERY, STARTTIME, ENDTIME, STEP).get());
+    assertEquals("Error", exception.getCause().getMessage());
+
+    mockWebServer.enqueue(new MockResponse()
+        .setResponseCode(HttpStatus.SC_BAD_REQUEST));
+    exception = assertThrows(ExecutionException.class,
+        () -> prometheusClient.queryRangeAsync(QUERY, STARTTIME, ENDTIME, STEP).get());
+    assertTrue(exception.getCause().getMessage()
+        .contains("Request to Prometheus is Unsuccessful with :"));
+
+    mockWebServer.shutdown();
+    exception = assertThrows(ExecutionException.class,
+        () -> prometheusClient.queryRangeAsync(QUERY, STARTTIME, ENDTIME, STEP).get());
+    assertTrue(exception.getCause() instanceof IOException);
+  }
+
   @Test
   @SneakyThrows
   void testGetLabel() {
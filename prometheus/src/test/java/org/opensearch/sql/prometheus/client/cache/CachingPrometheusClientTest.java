@@ -0,0 +1,227 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.LongStream;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.prometheus.client.PrometheusClient;
+import org.opensearch.sql.prometheus.response.PrometheusResponse;
+import org.opensearch.sql.prometheus.response.PrometheusSeries;
+
+@ExtendWith(MockitoExtension.class)
+class CachingPrometheusClientTest {
+
+  private static final String QUERY = "http_requests_total";
+
+  private static final String STEP = "60s";
+
+  @Mock
+  private PrometheusClient delegate;
+
+  private PrometheusResultCache cache;
+
+  private PrometheusLabelsCache labelsCache;
+
+  @BeforeEach
+  void setUp() {
+    cache = new PrometheusResultCache(PrometheusResultCache.DEFAULT_MAX_SAMPLES);
+    labelsCache = new PrometheusLabelsCache(PrometheusLabelsCache.DEFAULT_TTL_SECONDS);
+  }
+
+  @Test
+  @SneakyThrows
+  void testMissPartialHitAndHit() {
+    when(delegate.queryRange(QUERY, 96000L, 99960L, STEP)).thenReturn(response(
+        series("api", 96000L, 99960L), series("old", 96000L, 96000L)));
+    assertEquals(steps(96000L, 99960L, 96000L), read(client(100000L), 96000L, 99960L));
+    assertEquals(1, cache.missCount());
+
+    // the tail newer than cached samples is fetched
+    CachingPrometheusClient client = client(100060L);
+    when(delegate.queryRange(QUERY, 99960L, 100020L, STEP)).thenReturn(response(
+        series("api", 99960L, 100020L)));
+    assertEquals(steps(96060L, 100020L), read(client, 96060L, 100020L));
+    assertEquals(1, cache.partialHitCount());
+
+    assertEquals(steps(96120L, 99960L), read(client, 96120L, 99960L));
+    assertEquals(steps(99960L, 99960L), read(client, 99960L, 99990L));
+    assertEquals(2, cache.hitCount());
+    assertEquals(0.75, cache.hitRate());
+  }
+
+  @Test
+  @SneakyThrows
+  void testQueryOutOfCachedRangeIsMiss() {
+    CachingPrometheusClient client = client(100000L);
+    when(delegate.queryRange(QUERY, 96000L, 96600L, STEP)).thenReturn(
+        response(series("api", 96000L, 96600L)));
+    read(client, 96000L, 96600L);
+
+    when(delegate.queryRange(QUERY, 95940L, 96600L, STEP)).thenReturn(
+        response(series("api", 95940L, 96600L)));
+    assertEquals(steps(95940L, 96600L), read(client, 95940L, 96600L));
+    when(delegate.queryRange(QUERY, 96660L, 96720L, STEP)).thenReturn(
+        response(series("api", 96660L, 96720L)));
+    assertEquals(steps(96660L, 96720L), read(client, 96660L, 96720L));
+    assertEquals(3, cache.missCount());
+  }
+
+  @Test
+  @SneakyThrows
+  void testQueryNotAlignedToStepIsNotCached() {
+    CachingPrometheusClient client = client(100000L);
+    PrometheusResponse unaligned = response();
+    when(delegate.queryRange(QUERY, 96001L, 96600L, STEP)).thenReturn(unaligned);
+    assertSame(unaligned, client.queryRange(QUERY, 96001L, 96600L, STEP));
+    PrometheusResponse fractional = response();
+    when(delegate.queryRange(QUERY, 96000L, 96600L, "0.5")).thenReturn(fractional);
+    assertSame(fractional, client.queryRange(QUERY, 96000L, 96600L, "0.5"));
+    PrometheusResponse empty = response();
+    when(delegate.queryRange(QUERY, 96600L, 96000L, STEP)).thenReturn(empty);
+    assertSame(empty, client.queryRange(QUERY, 96600L, 96000L, STEP));
+    assertEquals(0, cache.missCount());
+  }
+
+  @Test
+  @SneakyThrows
+  void testFreshSamplesAreNotCached() {
+    CachingPrometheusClient client = client(100000L);
+    when(delegate.queryRange(QUERY, 99960L, 99960L, STEP)).thenReturn(
+        response(series("api", 99960L, 99960L)),
+        response(series("api", 99960L, 99960L)));
+    assertEquals(steps(99960L, 99960L), read(client, 99960L, 99960L));
+    assertEquals(steps(99960L, 99960L), read(client, 99960L, 99960L));
+    assertEquals(2, cache.missCount());
+  }
+
+  @Test
+  @SneakyThrows
+  void testResultLargerThanCacheIsNotCached() {
+    cache = new PrometheusResultCache(2L);
+    CachingPrometheusClient client = client(100000L);
+    when(delegate.queryRange(QUERY, 96000L, 96120L, STEP)).thenReturn(
+        response(series("api", 96000L, 96120L)),
+        response(series("api", 96000L, 96120L)));
+    assertEquals(steps(96000L, 96120L), read(client, 96000L, 96120L));
+    assertEquals(steps(96000L, 96120L), read(client, 96000L, 96120L));
+    assertEquals(2, cache.missCount());
+  }
+
+  @Test
+  @SneakyThrows
+  void testResultNotFullyReadIsNotCached() {
+    CachingPrometheusClient client = client(100000L);
+    Closeable body = mock(Closeable.class);
+    when(delegate.queryRange(QUERY, 96000L, 96120L, STEP)).thenReturn(
+        new PrometheusResponse(List.of(series("api", 96000L, 96120L),
+            series("web", 96000L, 96120L)).iterator(), body),
+        response(series("api", 96000L, 96120L)));
+    try (PrometheusResponse response = client.queryRange(QUERY, 96000L, 96120L, STEP)) {
+      response.seriesIterator().next();
+    }
+    verify(body).close();
+
+    assertEquals(steps(96000L, 96120L), read(client, 96000L, 96120L));
+    assertEquals(2, cache.missCount());
+  }
+
+  @Test
+  @SneakyThrows
+  void testCacheWithSystemClock() {
+    CachingPrometheusClient client = new CachingPrometheusClient(delegate, cache,
+        new PrometheusLabelsCache(PrometheusLabelsCache.DEFAULT_TTL_SECONDS));
+    when(delegate.queryRange(QUERY, 96000L, 96120L, STEP)).thenReturn(
+        response(series("api", 96000L, 96120L)));
+    read(client, 96000L, 96120L);
+    read(client, 96000L, 96120L);
+    verify(delegate).queryRange(anyString(), anyLong(), anyLong(), anyString());
+    assertEquals(1, cache.hitCount());
+  }
+
+  @Test
+  @SneakyThrows
+  void testQueryRangeAsyncIsDelegated() {
+    CachingPrometheusClient client = client(100000L);
+    CompletableFuture<PrometheusResponse> future = new CompletableFuture<>();
+    when(delegate.queryRangeAsync(QUERY, 96000L, 96120L, STEP)).thenReturn(future);
+    assertSame(future, client.queryRangeAsync(QUERY, 96000L, 96120L, STEP));
+    verify(delegate, never()).queryRange(any(), any(), any(), any());
+  }
+
+  @Test
+  @SneakyThrows
+  void testLabelsAreCached() {
+    CachingPrometheusClient client = client(100000L);
+    when(delegate.getLabels(QUERY)).thenReturn(List.of("job"));
+    assertEquals(List.of("job"), client.getLabels(QUERY));
+    assertEquals(List.of("job"), client.getLabels(QUERY));
+    verify(delegate, times(1)).getLabels(QUERY);
+  }
+
+  private CachingPrometheusClient client(long now) {
+    return new CachingPrometheusClient(delegate, cache, labelsCache,
+        Clock.fixed(Instant.ofEpochSecond(now), ZoneOffset.UTC));
+  }
+
+  /**
+   * Read the timestamps in epoch seconds of all samples of the query.
+   */
+  @SneakyThrows
+  private List<Long> read(PrometheusClient client, long start, long end) {
+    List<Long> timestamps = new ArrayList<>();
+    try (PrometheusResponse response = client.queryRange(QUERY, start, end, STEP)) {
+      Iterator<PrometheusSeries> series = response.seriesIterator();
+      while (series.hasNext()) {
+        Arrays.stream(series.next().getTimestamps()).forEach(t -> timestamps.add(t / 1000));
+      }
+    }
+    return timestamps;
+  }
+
+  private List<Long> steps(long start, long end, long... extra) {
+    List<Long> steps = new ArrayList<>();
+    LongStream.iterate(start, t -> t <= end, t -> t + 60).forEach(steps::add);
+    Arrays.stream(extra).forEach(steps::add);
+    return steps;
+  }
+
+  private PrometheusSeries series(String job, long start, long end) {
+    long[] timestamps = LongStream.iterate(start, t -> t <= end, t -> t + 60)
+        .map(t -> t * 1000).toArray();
+    return new PrometheusSeries(Map.of("job", job), timestamps,
+        new double[timestamps.length]);
+  }
+
+  private PrometheusResponse response(PrometheusSeries... series) {
+    return new PrometheusResponse(List.of(series).iterator(), () -> { });
+  }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.base.Ticker;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class PrometheusLabelsCacheTest {
+
+  @Test
+  void testLabelsExpireAfterTtl() {
+    AtomicLong nanos = new AtomicLong();
+    Ticker ticker = new Ticker() {
+      @Override
+      public long read() {
+        return nanos.get();
+      }
+    };
+    PrometheusLabelsCache cache = new PrometheusLabelsCache(60L, ticker);
+    assertFalse(cache.get("up").isPresent());
+
+    cache.put("up", List.of("job", "instance"));
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(59));
+    assertEquals(List.of("job", "instance"), cache.get("up").get());
+    nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+    assertFalse(cache.get("up").isPresent());
+  }
+
+  @Test
+  void testCachedLabelsAreImmutable() {
+    PrometheusLabelsCache cache = new PrometheusLabelsCache(60L);
+    List<String> labels = new ArrayList<>(List.of("job"));
+    cache.put("up", labels);
+    labels.add("instance");
+    List<String> cached = cache.get("up").get();
+    assertEquals(List.of("job"), cached);
+    assertThrows(UnsupportedOperationException.class, () -> cached.add("instance"));
+  }
+}
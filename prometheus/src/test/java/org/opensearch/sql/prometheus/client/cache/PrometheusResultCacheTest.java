@@ -0,0 +1,69 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.client.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.prometheus.response.PrometheusSeries;
+
+class PrometheusResultCacheTest {
+
+  @Test
+  void testHitRate() {
+    PrometheusResultCache cache = new PrometheusResultCache(10L);
+    assertEquals(1.0, cache.hitRate());
+
+    cache.recordMiss();
+    cache.recordHit();
+    cache.recordPartialHit();
+    cache.recordMiss();
+    assertEquals(1, cache.hitCount());
+    assertEquals(1, cache.partialHitCount());
+    assertEquals(2, cache.missCount());
+    assertEquals(0.5, cache.hitRate());
+  }
+
+  @Test
+  void testResultsAreKeyedByQueryAndStep() {
+    PrometheusResultCache cache = new PrometheusResultCache(10L);
+    CachedRange range = range(0L, 120L, 3);
+    cache.put("up", 60L, range);
+    assertEquals(range, cache.get("up", 60L).get());
+    assertFalse(cache.get("up", 30L).isPresent());
+    assertFalse(cache.get("down", 60L).isPresent());
+    assertEquals(0L, range.start());
+    assertEquals(120L, range.end());
+  }
+
+  @Test
+  void testResultsEvictedBeyondMaxSamples() {
+    PrometheusResultCache cache = new PrometheusResultCache(10L);
+    cache.put("up", 60L, range(0L, 360L, 7));
+    cache.put("down", 60L, range(0L, 360L, 7));
+    assertTrue(cache.evictionCount() > 0);
+    assertFalse(cache.get("up", 60L).isPresent());
+  }
+
+  @Test
+  void testResultOfMaxSamplesIsCached() {
+    PrometheusResultCache cache = new PrometheusResultCache(10L);
+    CachedRange range = range(0L, 540L, 10);
+    cache.put("up", 60L, range);
+    assertEquals(range, cache.get("up", 60L).get());
+    assertEquals(0, cache.evictionCount());
+  }
+
+  private CachedRange range(long start, long end, int samples) {
+    PrometheusSeries series =
+        new PrometheusSeries(Map.of("job", "api"), new long[samples], new double[samples]);
+    return new CachedRange(List.of(new SampleBlock(start, end, List.of(series))));
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.planner.logical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.aggregation;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.storage.Table;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+@ExtendWith(MockitoExtension.class)
+class PrometheusLogicOptimizerTest {
+
+  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+
+  @Mock
+  private Table table;
+
+  @Test
+  void relation_should_be_replaced_with_metric_scan() {
+    assertEquals(
+        project(metricScan("http_requests_total"), DSL.named("@value", DSL.ref("@value", DOUBLE))),
+        optimize(
+            project(relation("http_requests_total", table),
+                DSL.named("@value", DSL.ref("@value", DOUBLE))))
+    );
+  }
+
+  @Test
+  void label_and_time_range_conditions_should_be_merged_into_metric_scan() {
+    Expression labelCondition = dsl.equal(DSL.ref("job", STRING), DSL.literal("api"));
+    Expression timeCondition = dsl.greater(DSL.ref("@timestamp", TIMESTAMP),
+        DSL.literal(new ExprTimestampValue("2022-10-01 00:00:00")));
+    Expression valueCondition = dsl.greater(DSL.ref("@value", DOUBLE), DSL.literal(1.0));
+
+    assertEquals(
+        filter(
+            filter(
+                metricScan("http_requests_total", labelCondition, timeCondition),
+                timeCondition),
+            valueCondition),
+        optimize(
+            filter(
+                relation("http_requests_total", table),
+                dsl.and(dsl.and(labelCondition, timeCondition), valueCondition)))
+    );
+  }
+
+  @Test
+  void label_condition_should_be_removed_from_filter() {
+    Expression labelCondition = dsl.like(DSL.ref("job", STRING), DSL.literal("api%"));
+
+    assertEquals(
+        metricScan("http_requests_total", labelCondition),
+        optimize(filter(relation("http_requests_total", table), labelCondition))
+    );
+  }
+
+  @Test
+  void condition_not_supported_should_be_kept_in_filter() {
+    Expression condition = dsl.or(
+        dsl.equal(DSL.ref("job", STRING), DSL.literal("api")),
+        dsl.equal(DSL.ref("job", STRING), DSL.literal("web")));
+
+    assertEquals(
+        filter(metricScan("http_requests_total"), condition),
+        optimize(filter(relation("http_requests_total", table), condition))
+    );
+  }
+
+  @Test
+  void aggregation_should_be_merged_with_metric_scan() {
+    Expression labelCondition = dsl.equal(DSL.ref("job", STRING), DSL.literal("api"));
+    Expression timeCondition = dsl.greater(DSL.ref("@timestamp", TIMESTAMP),
+        DSL.literal(new ExprTimestampValue("2022-10-01 00:00:00")));
+    NamedAggregator sum = DSL.named("sum(@value)", dsl.sum(DSL.ref("@value", DOUBLE)));
+    NamedExpression span = DSL.named("span",
+        DSL.span(DSL.ref("@timestamp", TIMESTAMP), DSL.literal(1), "m"));
+    NamedExpression job = DSL.named("job", DSL.ref("job", STRING));
+
+    assertEquals(
+        PrometheusLogicalMetricAgg.builder()
+            .metricName("http_requests_total")
+            .filterList(ImmutableList.of(labelCondition, timeCondition))
+            .aggregatorList(ImmutableList.of(sum))
+            .groupByList(ImmutableList.of(span, job))
+            .build(),
+        optimize(
+            aggregation(
+                filter(
+                    relation("http_requests_total", table),
+                    dsl.and(labelCondition, timeCondition)),
+                ImmutableList.of(sum),
+                ImmutableList.of(span, job)))
+    );
+  }
+
+  @Test
+  void aggregation_should_not_be_merged_if_time_range_not_aligned_to_span() {
+    Expression timeCondition = dsl.greater(DSL.ref("@timestamp", TIMESTAMP),
+        DSL.literal(new ExprTimestampValue("2022-10-01 00:00:30")));
+    NamedAggregator sum = DSL.named("sum(@value)", dsl.sum(DSL.ref("@value", DOUBLE)));
+    NamedExpression span = DSL.named("span",
+        DSL.span(DSL.ref("@timestamp", TIMESTAMP), DSL.literal(1), "m"));
+
+    assertEquals(
+        aggregation(
+            filter(metricScan("http_requests_total", timeCondition), timeCondition),
+            ImmutableList.of(sum),
+            ImmutableList.of(span)),
+        optimize(
+            aggregation(
+                filter(relation("http_requests_total", table), timeCondition),
+                ImmutableList.of(sum),
+                ImmutableList.of(span)))
+    );
+  }
+
+  @Test
+  void aggregation_should_not_be_merged_if_filter_remains() {
+    Expression valueCondition = dsl.greater(DSL.ref("@value", DOUBLE), DSL.literal(1.0));
+    NamedAggregator sum = DSL.named("sum(@value)", dsl.sum(DSL.ref("@value", DOUBLE)));
+
+    assertEquals(
+        aggregation(
+            filter(metricScan("http_requests_total"), valueCondition),
+            ImmutableList.of(sum),
+            ImmutableList.of()),
+        optimize(
+            aggregation(
+                filter(relation("http_requests_total", table), valueCondition),
+                ImmutableList.of(sum),
+                ImmutableList.of()))
+    );
+  }
+
+  @Test
+  void aggregation_not_supported_should_not_be_merged() {
+    NamedAggregator sum = DSL.named("sum(@value)", dsl.sum(DSL.ref("@value", DOUBLE)));
+    NamedAggregator max = DSL.named("max(@value)", dsl.max(DSL.ref("@value", DOUBLE)));
+
+    assertEquals(
+        aggregation(
+            metricScan("http_requests_total"),
+            ImmutableList.of(sum, max),
+            ImmutableList.of()),
+        optimize(
+            aggregation(
+                relation("http_requests_total", table),
+                ImmutableList.of(sum, max),
+                ImmutableList.of()))
+    );
+    assertEquals(
+        aggregation(
+            project(metricScan("http_requests_total"),
+                DSL.named("@value", DSL.ref("@value", DOUBLE))),
+            ImmutableList.of(sum),
+            ImmutableList.of()),
+        optimize(
+            aggregation(
+                project(relation("http_requests_total", table),
+                    DSL.named("@value", DSL.ref("@value", DOUBLE))),
+                ImmutableList.of(sum),
+                ImmutableList.of()))
+    );
+  }
+
+  private LogicalPlan metricScan(String metricName, Expression... filters) {
+    return PrometheusLogicalMetricScan.builder()
+        .metricName(metricName)
+        .filterList(ImmutableList.copyOf(filters))
+        .build();
+  }
+
+  private LogicalPlan optimize(LogicalPlan plan) {
+    return PrometheusLogicalPlanOptimizerFactory.create().optimize(plan);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PrometheusQueryRequestSplitterTest {
+
+  @Test
+  void request_within_points_limit_should_not_be_split() {
+    PrometheusQueryRequest request = request(0L, 990L, "10s");
+    assertEquals(Collections.singletonList(request),
+        PrometheusQueryRequestSplitter.split(request, 100L));
+  }
+
+  @Test
+  void request_with_step_not_in_whole_seconds_should_not_be_split() {
+    PrometheusQueryRequest request = request(0L, 10000L, "0.5");
+    assertEquals(Collections.singletonList(request),
+        PrometheusQueryRequestSplitter.split(request, 100L));
+  }
+
+  @Test
+  void request_should_be_split_into_shards_aligned_to_step() {
+    assertShards(
+        Arrays.asList(
+            request(5L, 995L, "10s"),
+            request(1005L, 1995L, "10s"),
+            request(2005L, 2500L, "10s")),
+        PrometheusQueryRequestSplitter.split(request(5L, 2500L, "10s"), 100L));
+    assertShards(
+        Arrays.asList(
+            request(0L, 990L, "10s"),
+            request(1000L, 1000L, "10s")),
+        PrometheusQueryRequestSplitter.split(request(0L, 1000L, "10s"), 100L));
+  }
+
+  // PromQL is compared by string, since each shard has its own copy
+  private void assertShards(List<PrometheusQueryRequest> expected,
+                            List<PrometheusQueryRequest> actual) {
+    assertEquals(
+        expected.stream().map(PrometheusQueryRequest::toString).collect(Collectors.toList()),
+        actual.stream().map(PrometheusQueryRequest::toString).collect(Collectors.toList()));
+  }
+
+  private PrometheusQueryRequest request(long start, long end, String step) {
+    return new PrometheusQueryRequest(new StringBuilder("up"), start, end, step);
+  }
+}
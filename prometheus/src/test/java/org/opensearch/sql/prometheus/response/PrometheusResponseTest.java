@@ -0,0 +1,134 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.response;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.prometheus.utils.TestUtils.getJson;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprStringValue;
+import org.opensearch.sql.data.model.ExprValue;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PrometheusResponseTest {
+
+  @Test
+  @SneakyThrows
+  void rows_should_be_parsed_lazily_with_labels_of_series() {
+    String body = "{\"status\":\"success\",\"data\":{\"resultType\":\"matrix\",\"result\":["
+        + "{\"metric\":{\"job\":\"api\",\"path\":\"/a\\\"b\"},\"histograms\":[],"
+        + "\"values\":[[1664582400,\"+Inf\"],[1664582414.5,\"-Inf\"]]},"
+        + "{\"metric\":{\"job\":\"api\"},\"values\":[[1664582400,\"NaN\"]]}]},"
+        + "\"warnings\":[\"truncated\"]}";
+    try (PrometheusResponse response = response(body)) {
+      Iterator<ExprValue> iterator = response.iterator(new PrometheusResponseFieldNames());
+      Map<String, ExprValue> first = iterator.next().tupleValue();
+      assertEquals(1664582400000L, first.get("@timestamp").timestampValue().toEpochMilli());
+      assertEquals(Double.POSITIVE_INFINITY, first.get("@value").doubleValue());
+      assertEquals(new ExprStringValue("{\"job\":\"api\",\"path\":\"/a\\\"b\"}"),
+          first.get("metric"));
+      assertEquals(new ExprStringValue("/a\"b"), first.get("path"));
+
+      assertTrue(iterator.hasNext());
+      assertTrue(iterator.hasNext());
+      Map<String, ExprValue> second = iterator.next().tupleValue();
+      assertEquals(1664582414500L, second.get("@timestamp").timestampValue().toEpochMilli());
+      assertEquals(Double.NEGATIVE_INFINITY, second.get("@value").doubleValue());
+      assertSame(first.get("metric"), second.get("metric"));
+
+      Map<String, ExprValue> third = iterator.next().tupleValue();
+      assertTrue(Double.isNaN(third.get("@value").doubleValue()));
+      assertSame(first.get("job"), third.get("job"));
+      assertFalse(third.containsKey("path"));
+
+      assertFalse(iterator.hasNext());
+      assertFalse(iterator.hasNext());
+      assertThrows(NoSuchElementException.class, iterator::next);
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void series_should_be_read_with_all_samples() {
+    StringBuilder values = new StringBuilder("[1664582400,\"0\"]");
+    for (int i = 1; i < 20; i++) {
+      values.append(String.format(",[%d,\"%d\"]", 1664582400 + i * 60, i));
+    }
+    String body = "{\"status\":\"success\",\"data\":{\"resultType\":\"matrix\",\"result\":["
+        + "{\"metric\":{\"job\":\"empty\"},\"values\":[]},"
+        + "{\"metric\":{\"job\":\"api\"},\"values\":[" + values + "]}]}}";
+    try (PrometheusResponse response = response(body)) {
+      Iterator<PrometheusSeries> series = response.seriesIterator();
+      assertEquals(0, series.next().size());
+      PrometheusSeries api = series.next();
+      assertEquals(Map.of("job", "api"), api.getLabels());
+      assertEquals(20, api.size());
+      assertEquals(1664583540000L, api.getTimestamps()[19]);
+      assertEquals(19.0, api.getValues()[19]);
+      assertFalse(series.hasNext());
+    }
+
+    try (PrometheusResponse response = response(body)) {
+      Iterator<ExprValue> rows = response.iterator(new PrometheusResponseFieldNames());
+      int count = 0;
+      while (rows.hasNext()) {
+        assertEquals(new ExprStringValue("api"), rows.next().tupleValue().get("job"));
+        count++;
+      }
+      assertEquals(20, count);
+    }
+  }
+
+  @Test
+  void error_in_response_should_be_thrown() {
+    RuntimeException exception = assertThrows(RuntimeException.class,
+        () -> response("{\"status\":\"error\",\"data\":{},\"error\":\"bad query\"}"));
+    assertEquals("bad query", exception.getMessage());
+  }
+
+  @Test
+  void result_type_other_than_matrix_should_be_rejected() {
+    RuntimeException exception = assertThrows(RuntimeException.class,
+        () -> response(getJson("no_matrix_query_range_response.json")));
+    assertEquals("Unexpected Result Type: vector during Prometheus Response Parsing. "
+        + "'matrix' resultType is expected", exception.getMessage());
+  }
+
+  @Test
+  void malformed_response_should_be_rejected() {
+    assertThrows(JsonParseException.class, () -> response("{\"status\" 1}"));
+  }
+
+  @Test
+  @SneakyThrows
+  void truncated_response_should_fail_iteration() {
+    try (PrometheusResponse response = response(
+        "{\"status\":\"success\",\"data\":{\"resultType\":\"matrix\",\"result\":[{\"metric\":}")) {
+      Iterator<ExprValue> iterator = response.iterator(new PrometheusResponseFieldNames());
+      assertThrows(UncheckedIOException.class, iterator::hasNext);
+    }
+  }
+
+  private PrometheusResponse response(String body) throws IOException {
+    return new PrometheusResponse(
+        new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.response;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class PrometheusSeriesTest {
+
+  private final PrometheusSeries series = new PrometheusSeries(Map.of("job", "api"),
+      new long[] {1000L, 2000L, 3000L, 4000L}, new double[] {1.0, 2.0, 3.0, 4.0});
+
+  @Test
+  void slice_should_include_samples_at_both_ends() {
+    PrometheusSeries slice = series.slice(2000L, 3000L);
+    assertEquals(Map.of("job", "api"), slice.getLabels());
+    assertArrayEquals(new long[] {2000L, 3000L}, slice.getTimestamps());
+    assertArrayEquals(new double[] {2.0, 3.0}, slice.getValues());
+  }
+
+  @Test
+  void slice_should_include_samples_between_steps() {
+    assertArrayEquals(new long[] {2000L, 3000L}, series.slice(1500L, 3500L).getTimestamps());
+    assertArrayEquals(new long[] {1000L, 2000L, 3000L, 4000L},
+        series.slice(0L, 5000L).getTimestamps());
+    assertEquals(0, series.slice(5000L, 6000L).size());
+  }
+}
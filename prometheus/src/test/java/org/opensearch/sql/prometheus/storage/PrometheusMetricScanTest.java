@@ -6,30 +6,45 @@
 package org.opensearch.sql.prometheus.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.LITERAL_NULL;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
 import static org.opensearch.sql.prometheus.constants.TestConstants.ENDTIME;
 import static org.opensearch.sql.prometheus.constants.TestConstants.QUERY;
 import static org.opensearch.sql.prometheus.constants.TestConstants.STARTTIME;
 import static org.opensearch.sql.prometheus.constants.TestConstants.STEP;
 import static org.opensearch.sql.prometheus.utils.TestUtils.getJson;
 
+import com.google.common.collect.ImmutableMap;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.concurrent.CompletableFuture;
 import lombok.SneakyThrows;
-import org.json.JSONObject;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.data.model.ExprDoubleValue;
+import org.opensearch.sql.data.model.ExprIntegerValue;
 import org.opensearch.sql.data.model.ExprStringValue;
 import org.opensearch.sql.data.model.ExprTimestampValue;
 import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
+import org.opensearch.sql.prometheus.response.PrometheusResponse;
+import org.opensearch.sql.prometheus.response.PrometheusResponseFieldNames;
 
 @ExtendWith(MockitoExtension.class)
 public class PrometheusMetricScanTest {
@@ -47,14 +62,17 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setStep(STEP);
 
     when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("query_range_result.json")));
+        .thenReturn(response("query_range_response.json"));
     prometheusMetricScan.open();
     Assertions.assertTrue(prometheusMetricScan.hasNext());
     ExprTupleValue firstRow = new ExprTupleValue(new LinkedHashMap<>() {{
         put("@timestamp", new ExprTimestampValue(Instant.ofEpochMilli(1435781430781L)));
         put("@value", new ExprDoubleValue(1));
         put("metric", new ExprStringValue(
-            "{\"instance\":\"localhost:9090\",\"__name__\":\"up\",\"job\":\"prometheus\"}"));
+            "{\"__name__\":\"up\",\"job\":\"prometheus\",\"instance\":\"localhost:9090\"}"));
+        put("__name__", new ExprStringValue("up"));
+        put("job", new ExprStringValue("prometheus"));
+        put("instance", new ExprStringValue("localhost:9090"));
       }
     });
     assertEquals(firstRow, prometheusMetricScan.next());
@@ -63,13 +81,72 @@ public class PrometheusMetricScanTest {
         put("@timestamp", new ExprTimestampValue(Instant.ofEpochMilli(1435781430781L)));
         put("@value", new ExprDoubleValue(0));
         put("metric", new ExprStringValue(
-            "{\"instance\":\"localhost:9091\",\"__name__\":\"up\",\"job\":\"node\"}"));
+            "{\"__name__\":\"up\",\"job\":\"node\",\"instance\":\"localhost:9091\"}"));
+        put("__name__", new ExprStringValue("up"));
+        put("job", new ExprStringValue("node"));
+        put("instance", new ExprStringValue("localhost:9091"));
       }
     });
     assertEquals(secondRow, prometheusMetricScan.next());
     Assertions.assertFalse(prometheusMetricScan.hasNext());
   }
 
+  @Test
+  @SneakyThrows
+  void testAggregationQueryResponseIterator() {
+    PrometheusMetricScan prometheusMetricScan = new PrometheusMetricScan(prometheusClient);
+    prometheusMetricScan.getRequest().getPromQl().append(QUERY);
+    prometheusMetricScan.getRequest().setStartTime(STARTTIME);
+    prometheusMetricScan.getRequest().setEndTime(ENDTIME);
+    prometheusMetricScan.getRequest().setStep(STEP);
+    PrometheusResponseFieldNames fieldNames = new PrometheusResponseFieldNames();
+    fieldNames.setValueFieldName("count()");
+    fieldNames.setValueType(INTEGER);
+    fieldNames.setTimestampFieldName("span(@timestamp,30s)");
+    fieldNames.setTimestampOffsetSeconds(30L);
+    fieldNames.setMetricFieldName(null);
+    fieldNames.setLabelFieldNames(ImmutableMap.of("job", "job", "zone", "zone"));
+    prometheusMetricScan.setFieldNames(fieldNames);
+
+    when(prometheusClient.queryRange(any(), any(), any(), any()))
+        .thenReturn(response("query_range_response.json"));
+    prometheusMetricScan.open();
+    Assertions.assertTrue(prometheusMetricScan.hasNext());
+    ExprTupleValue firstRow = new ExprTupleValue(new LinkedHashMap<>() {{
+        put("span(@timestamp,30s)",
+            new ExprTimestampValue(Instant.ofEpochMilli(1435781400781L)));
+        put("count()", new ExprIntegerValue(1));
+        put("job", new ExprStringValue("prometheus"));
+        put("zone", LITERAL_NULL);
+      }
+    });
+    assertEquals(firstRow, prometheusMetricScan.next());
+  }
+
+  @Test
+  @SneakyThrows
+  void testAggregationWithoutTimestampQueryResponseIterator() {
+    PrometheusMetricScan prometheusMetricScan = new PrometheusMetricScan(prometheusClient);
+    prometheusMetricScan.getRequest().getPromQl().append(QUERY);
+    prometheusMetricScan.getRequest().setStartTime(STARTTIME);
+    prometheusMetricScan.getRequest().setEndTime(ENDTIME);
+    prometheusMetricScan.getRequest().setStep(STEP);
+    prometheusMetricScan.getFieldNames().setValueFieldName("sum(@value)");
+    prometheusMetricScan.getFieldNames().setTimestampFieldName(null);
+    prometheusMetricScan.getFieldNames().setMetricFieldName(null);
+    prometheusMetricScan.getFieldNames().setLabelFieldNames(ImmutableMap.of());
+
+    when(prometheusClient.queryRange(any(), any(), any(), any()))
+        .thenReturn(response("query_range_response.json"));
+    prometheusMetricScan.open();
+    Assertions.assertTrue(prometheusMetricScan.hasNext());
+    ExprTupleValue firstRow = new ExprTupleValue(new LinkedHashMap<>() {{
+        put("sum(@value)", new ExprDoubleValue(1));
+      }
+    });
+    assertEquals(firstRow, prometheusMetricScan.next());
+  }
+
   @Test
   @SneakyThrows
   void testEmptyQueryResponseIterator() {
@@ -80,27 +157,29 @@ public class PrometheusMetricScanTest {
     prometheusMetricScan.getRequest().setStep(STEP);
 
     when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("empty_query_range_result.json")));
+        .thenReturn(response("empty_query_range_response.json"));
     prometheusMetricScan.open();
     Assertions.assertFalse(prometheusMetricScan.hasNext());
   }
 
   @Test
   @SneakyThrows
-  void testEmptyQueryWithNoMatrixKeyInResultJson() {
+  void testEmptyAggregationQueryResponseIterator() {
     PrometheusMetricScan prometheusMetricScan = new PrometheusMetricScan(prometheusClient);
     prometheusMetricScan.getRequest().getPromQl().append(QUERY);
     prometheusMetricScan.getRequest().setStartTime(STARTTIME);
     prometheusMetricScan.getRequest().setEndTime(ENDTIME);
     prometheusMetricScan.getRequest().setStep(STEP);
+    ExprTupleValue emptyResultRow = ExprTupleValue.fromExprValueMap(
+        ImmutableMap.of("count()", new ExprIntegerValue(0)));
+    prometheusMetricScan.setEmptyResultRow(emptyResultRow);
 
     when(prometheusClient.queryRange(any(), any(), any(), any()))
-        .thenReturn(new JSONObject(getJson("no_matrix_query_range_result.json")));
-    RuntimeException runtimeException
-        = Assertions.assertThrows(RuntimeException.class, prometheusMetricScan::open);
-    assertEquals(
-        "Unexpected Result Type: vector during Prometheus Response Parsing. "
-            + "'matrix' resultType is expected", runtimeException.getMessage());
+        .thenReturn(response("empty_query_range_response.json"));
+    prometheusMetricScan.open();
+    Assertions.assertTrue(prometheusMetricScan.hasNext());
+    assertEquals(emptyResultRow, prometheusMetricScan.next());
+    Assertions.assertFalse(prometheusMetricScan.hasNext());
   }
 
   @Test
@@ -120,6 +199,93 @@ public class PrometheusMetricScanTest {
         runtimeException.getMessage());
   }
 
+  @Test
+  @SneakyThrows
+  void testCloseResponse() {
+    PrometheusMetricScan prometheusMetricScan = new PrometheusMetricScan(prometheusClient);
+    prometheusMetricScan.close();
+
+    PrometheusResponse response = mock(PrometheusResponse.class);
+    doThrow(new IOException("Error Message")).when(response).close();
+    when(prometheusClient.queryRange(any(), any(), any(), any())).thenReturn(response);
+    prometheusMetricScan.open();
+    prometheusMetricScan.close();
+    verify(response).close();
+  }
+
+  @Test
+  @SneakyThrows
+  void testShardedQueryResponseIterator() {
+    PrometheusMetricScan prometheusMetricScan = new PrometheusMetricScan(prometheusClient);
+    prometheusMetricScan.getRequest().getPromQl().append(QUERY);
+    prometheusMetricScan.getRequest().setStartTime(0L);
+    prometheusMetricScan.getRequest().setEndTime(49999L);
+    prometheusMetricScan.getRequest().setStep("1s");
+
+    when(prometheusClient.queryRangeAsync(any(), any(), any(), any())).thenAnswer(
+        invocation -> CompletableFuture.completedFuture(response("query_range_response.json")));
+    prometheusMetricScan.open();
+    int rows = 0;
+    while (prometheusMetricScan.hasNext()) {
+      prometheusMetricScan.next();
+      rows++;
+    }
+    prometheusMetricScan.close();
+
+    assertEquals(10, rows);
+    InOrder inOrder = inOrder(prometheusClient);
+    for (long start = 0L; start < 50000L; start += 10000L) {
+      inOrder.verify(prometheusClient).queryRangeAsync(QUERY, start, start + 9999L, "1s");
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void testShardedQueryWithException() {
+    PrometheusMetricScan prometheusMetricScan = new PrometheusMetricScan(prometheusClient);
+    prometheusMetricScan.getRequest().getPromQl().append(QUERY);
+    prometheusMetricScan.getRequest().setStartTime(0L);
+    prometheusMetricScan.getRequest().setEndTime(19999L);
+    prometheusMetricScan.getRequest().setStep("1s");
+
+    when(prometheusClient.queryRangeAsync(any(), any(), any(), any()))
+        .thenReturn(CompletableFuture.failedFuture(new IOException("Error Message")));
+    RuntimeException runtimeException
+        = assertThrows(RuntimeException.class, prometheusMetricScan::open);
+    assertEquals("Error fetching data from prometheus server. Error Message",
+        runtimeException.getMessage());
+
+    PrometheusMetricScan anotherMetricScan = new PrometheusMetricScan(prometheusClient);
+    anotherMetricScan.setRequest(prometheusMetricScan.getRequest());
+    IllegalStateException exception = new IllegalStateException("Unexpected Result Type");
+    when(prometheusClient.queryRangeAsync(any(), any(), any(), any()))
+        .thenReturn(CompletableFuture.failedFuture(exception));
+    assertSame(exception, assertThrows(RuntimeException.class, anotherMetricScan::open));
+  }
+
+  @Test
+  @SneakyThrows
+  void testCloseShardsPending() {
+    PrometheusMetricScan prometheusMetricScan = new PrometheusMetricScan(prometheusClient);
+    prometheusMetricScan.getRequest().getPromQl().append(QUERY);
+    prometheusMetricScan.getRequest().setStartTime(0L);
+    prometheusMetricScan.getRequest().setEndTime(19999L);
+    prometheusMetricScan.getRequest().setStep("1s");
+
+    PrometheusResponse firstShard = mock(PrometheusResponse.class);
+    when(firstShard.iterator(any())).thenReturn(Collections.emptyIterator());
+    PrometheusResponse secondShard = mock(PrometheusResponse.class);
+    CompletableFuture<PrometheusResponse> secondFuture = new CompletableFuture<>();
+    when(prometheusClient.queryRangeAsync(any(), any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(firstShard), secondFuture);
+    prometheusMetricScan.open();
+    prometheusMetricScan.close();
+    verify(firstShard).close();
+
+    secondFuture.complete(secondShard);
+    verify(secondShard).close();
+  }
+
   @Test
   @SneakyThrows
   void testExplain() {
@@ -134,4 +300,8 @@ public class PrometheusMetricScanTest {
         prometheusMetricScan.explain());
   }
 
+  private PrometheusResponse response(String filename) throws IOException {
+    return new PrometheusResponse(
+        new ByteArrayInputStream(getJson(filename).getBytes(StandardCharsets.UTF_8)));
+  }
 }
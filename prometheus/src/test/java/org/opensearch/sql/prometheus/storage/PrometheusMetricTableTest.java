@@ -7,17 +7,24 @@ package org.opensearch.sql.prometheus.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.opensearch.sql.data.model.ExprValueUtils.integerValue;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.planner.logical.LogicalPlanDSL.filter;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.project;
 import static org.opensearch.sql.planner.logical.LogicalPlanDSL.relation;
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.METRIC;
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.TIMESTAMP;
 import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -29,15 +36,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.opensearch.sql.data.type.ExprCoreType;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.data.model.ExprTupleValue;
 import org.opensearch.sql.data.type.ExprType;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
 import org.opensearch.sql.expression.NamedExpression;
 import org.opensearch.sql.expression.ReferenceExpression;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.config.ExpressionConfig;
 import org.opensearch.sql.planner.logical.LogicalPlan;
+import org.opensearch.sql.planner.logical.LogicalPlanNodeVisitor;
+import org.opensearch.sql.planner.physical.FilterOperator;
 import org.opensearch.sql.planner.physical.PhysicalPlan;
 import org.opensearch.sql.planner.physical.ProjectOperator;
 import org.opensearch.sql.prometheus.client.PrometheusClient;
 import org.opensearch.sql.prometheus.constants.TestConstants;
+import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricAgg;
+import org.opensearch.sql.prometheus.planner.logical.PrometheusLogicalMetricScan;
 import org.opensearch.sql.prometheus.request.PrometheusQueryRequest;
+import org.opensearch.sql.prometheus.response.PrometheusResponseFieldNames;
 
 @ExtendWith(MockitoExtension.class)
 class PrometheusMetricTableTest {
@@ -125,4 +143,142 @@ class PrometheusMetricTableTest {
     assertEquals(inputPlan, optimizedPlan);
   }
 
+  @Test
+  void testOptimizeMetric() {
+    DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+    PrometheusMetricTable prometheusMetricTable =
+        new PrometheusMetricTable(client, TestConstants.METRIC_NAME);
+    Expression condition = dsl.equal(DSL.ref("job", STRING), DSL.literal("api"));
+    LogicalPlan optimizedPlan = prometheusMetricTable.optimize(
+        filter(relation(TestConstants.METRIC_NAME, prometheusMetricTable), condition));
+    assertEquals(
+        PrometheusLogicalMetricScan.builder()
+            .metricName(TestConstants.METRIC_NAME)
+            .filterList(ImmutableList.of(condition))
+            .build(),
+        optimizedPlan);
+  }
+
+  @Test
+  void testImplementMetricScan() {
+    DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+    PrometheusMetricTable prometheusMetricTable =
+        new PrometheusMetricTable(client, TestConstants.METRIC_NAME);
+    Expression labelCondition = dsl.equal(DSL.ref("job", STRING), DSL.literal("api"));
+    Expression timeCondition = dsl.gte(DSL.ref(TIMESTAMP, ExprCoreType.TIMESTAMP),
+        DSL.literal(new ExprTimestampValue("2022-10-01 00:00:00")));
+    Expression timeCondition2 = dsl.less(DSL.ref(TIMESTAMP, ExprCoreType.TIMESTAMP),
+        DSL.literal(new ExprTimestampValue("2022-10-01 01:00:00")));
+    PhysicalPlan plan = prometheusMetricTable.implement(
+        filter(
+            PrometheusLogicalMetricScan.builder()
+                .metricName(TestConstants.METRIC_NAME)
+                .filterList(ImmutableList.of(labelCondition, timeCondition, timeCondition2))
+                .build(),
+            timeCondition));
+
+    assertTrue(plan instanceof FilterOperator);
+    PrometheusMetricScan prometheusMetricScan =
+        (PrometheusMetricScan) ((FilterOperator) plan).getInput();
+    PrometheusQueryRequest request = prometheusMetricScan.getRequest();
+    assertEquals("http_requests_total{job=\"api\"}", request.getPromQl().toString());
+    assertEquals(1664582388L, request.getStartTime());
+    assertEquals(1664586000L, request.getEndTime());
+    assertEquals("14s", request.getStep());
+  }
+
+  @Test
+  void testImplementMetricAggWithSpan() {
+    DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+    PrometheusMetricTable prometheusMetricTable =
+        new PrometheusMetricTable(client, TestConstants.METRIC_NAME);
+    Expression labelCondition = dsl.equal(DSL.ref("code", STRING), DSL.literal("200"));
+    NamedAggregator sum = DSL.named("sum(@value)",
+        dsl.sum(DSL.ref(VALUE, ExprCoreType.DOUBLE)));
+    PhysicalPlan plan = prometheusMetricTable.implement(
+        PrometheusLogicalMetricAgg.builder()
+            .metricName(TestConstants.METRIC_NAME)
+            .filterList(ImmutableList.of(labelCondition, timeCondition(dsl, "00:00:00", true),
+                timeCondition(dsl, "01:00:00", false)))
+            .aggregatorList(ImmutableList.of(sum))
+            .groupByList(ImmutableList.of(
+                DSL.named("span(@timestamp,1m)",
+                    DSL.span(DSL.ref(TIMESTAMP, ExprCoreType.TIMESTAMP), DSL.literal(1), "m")),
+                DSL.named("job", DSL.ref("job", STRING))))
+            .build());
+
+    PrometheusMetricScan prometheusMetricScan = (PrometheusMetricScan) plan;
+    PrometheusQueryRequest request = prometheusMetricScan.getRequest();
+    assertEquals("sum by (job) (sum_over_time(http_requests_total{code=\"200\"}[60s]))",
+        request.getPromQl().toString());
+    assertEquals(1664582460L, request.getStartTime());
+    assertEquals(1664586000L, request.getEndTime());
+    assertEquals("60s", request.getStep());
+    PrometheusResponseFieldNames fieldNames = prometheusMetricScan.getFieldNames();
+    assertEquals("sum(@value)", fieldNames.getValueFieldName());
+    assertEquals(ExprCoreType.DOUBLE, fieldNames.getValueType());
+    assertEquals("span(@timestamp,1m)", fieldNames.getTimestampFieldName());
+    assertEquals(60L, fieldNames.getTimestampOffsetSeconds());
+    assertNull(fieldNames.getMetricFieldName());
+    assertEquals(Map.of("job", "job"), fieldNames.getLabelFieldNames());
+    assertNull(prometheusMetricScan.getEmptyResultRow());
+  }
+
+  @Test
+  void testImplementMetricAggWithoutSpan() {
+    DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+    PrometheusMetricTable prometheusMetricTable =
+        new PrometheusMetricTable(client, TestConstants.METRIC_NAME);
+    NamedAggregator count = DSL.named("count()", dsl.count(DSL.literal("*")));
+    List<NamedExpression> projectList = ImmutableList.of(
+        DSL.named("count()", DSL.ref("count()", ExprCoreType.INTEGER)));
+    PhysicalPlan plan = prometheusMetricTable.implement(
+        project(
+            PrometheusLogicalMetricAgg.builder()
+                .metricName(TestConstants.METRIC_NAME)
+                .filterList(ImmutableList.of(timeCondition(dsl, "00:00:00", true),
+                    timeCondition(dsl, "01:00:00", false)))
+                .aggregatorList(ImmutableList.of(count))
+                .groupByList(ImmutableList.of())
+                .build(),
+            projectList.toArray(new NamedExpression[0])));
+
+    assertTrue(plan instanceof ProjectOperator);
+    assertEquals(projectList, ((ProjectOperator) plan).getProjectList());
+    PrometheusMetricScan prometheusMetricScan =
+        (PrometheusMetricScan) ((ProjectOperator) plan).getInput();
+    PrometheusQueryRequest request = prometheusMetricScan.getRequest();
+    assertEquals("sum (count_over_time(http_requests_total[3600s]))",
+        request.getPromQl().toString());
+    assertEquals(1664586000L, request.getStartTime());
+    assertEquals(1664586000L, request.getEndTime());
+    assertEquals("1s", request.getStep());
+    PrometheusResponseFieldNames fieldNames = prometheusMetricScan.getFieldNames();
+    assertEquals("count()", fieldNames.getValueFieldName());
+    assertEquals(ExprCoreType.INTEGER, fieldNames.getValueType());
+    assertNull(fieldNames.getTimestampFieldName());
+    assertTrue(fieldNames.getLabelFieldNames().isEmpty());
+    assertEquals(ExprTupleValue.fromExprValueMap(ImmutableMap.of("count()", integerValue(0))),
+        prometheusMetricScan.getEmptyResultRow());
+  }
+
+  private Expression timeCondition(DSL dsl, String time, boolean lowerBound) {
+    Expression timestamp = DSL.ref(TIMESTAMP, ExprCoreType.TIMESTAMP);
+    Expression literal = DSL.literal(new ExprTimestampValue("2022-10-01 " + time));
+    return lowerBound ? dsl.gte(timestamp, literal) : dsl.less(timestamp, literal);
+  }
+
+  @Test
+  void testImplementUnsupportedPlan() {
+    PrometheusMetricTable prometheusMetricTable =
+        new PrometheusMetricTable(client, TestConstants.METRIC_NAME);
+    LogicalPlan plan = new LogicalPlan(ImmutableList.of()) {
+      @Override
+      public <R, C> R accept(LogicalPlanNodeVisitor<R, C> visitor, C context) {
+        return visitor.visitNode(this, context);
+      }
+    };
+    assertThrows(IllegalStateException.class, () -> prometheusMetricTable.implement(plan));
+  }
+
 }
@@ -7,7 +7,6 @@ package org.opensearch.sql.prometheus.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
-import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.Collection;
@@ -30,7 +29,8 @@ class PrometheusStorageEngineTest {
   public void getTable() {
     PrometheusStorageEngine engine = new PrometheusStorageEngine(client);
     Table table = engine.getTable("test");
-    assertNull(table);
+    assertTrue(table instanceof PrometheusMetricTable);
+    assertEquals("test", ((PrometheusMetricTable) table).getMetricName().get());
   }
 
   @Test
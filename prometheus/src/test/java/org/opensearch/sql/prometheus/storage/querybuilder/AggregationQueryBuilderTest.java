@@ -0,0 +1,98 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.storage.querybuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.NamedExpression;
+import org.opensearch.sql.expression.aggregation.Aggregator;
+import org.opensearch.sql.expression.aggregation.NamedAggregator;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class AggregationQueryBuilderTest {
+
+  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+
+  private final Expression value = DSL.ref("@value", DOUBLE);
+
+  private final NamedExpression job = DSL.named("job", DSL.ref("job", STRING));
+
+  private final NamedExpression span = DSL.named("span",
+      DSL.span(DSL.ref("@timestamp", TIMESTAMP), DSL.literal(1), "m"));
+
+  @Test
+  void aggregation_by_labels_and_span_should_be_supported() {
+    assertTrue(isSupported(dsl.sum(value), span, job));
+    assertTrue(isSupported(dsl.avg(value), job));
+    assertTrue(isSupported(dsl.min(value), span));
+    assertTrue(isSupported(dsl.max(value)));
+    assertTrue(isSupported(dsl.count(DSL.literal("*"))));
+    assertTrue(isSupported(dsl.count(value)));
+  }
+
+  @Test
+  void aggregation_not_supported() {
+    assertFalse(AggregationQueryBuilder.isSupported(
+        ImmutableList.of(DSL.named("sum", dsl.sum(value)), DSL.named("max", dsl.max(value))),
+        Collections.emptyList()));
+    assertFalse(isSupported(dsl.stddevPop(value)));
+    assertFalse(isSupported(dsl.sum(DSL.ref("other", DOUBLE))));
+    assertFalse(isSupported(dsl.sum(DSL.literal(1.0))));
+    assertFalse(isSupported(dsl.count(DSL.ref("job", STRING))));
+    assertFalse(isSupported(dsl.count(value).condition(dsl.greater(value, DSL.literal(1.0)))));
+    assertFalse(isSupported(dsl.count(value).distinct(true)));
+    assertFalse(isSupported(dsl.sum(value), DSL.named("value", value)));
+    assertFalse(isSupported(dsl.sum(value), DSL.named("span",
+        DSL.span(DSL.ref("@timestamp", TIMESTAMP), DSL.literal(1), "ms"))));
+    assertFalse(isSupported(dsl.sum(value), span, DSL.named("span2",
+        DSL.span(DSL.ref("@timestamp", TIMESTAMP), DSL.literal(5), "m"))));
+  }
+
+  @Test
+  void aggregation_query_should_be_built() {
+    assertEquals(
+        "sum by (job) (sum_over_time(http_requests_total{code=\"200\"}[60s]))",
+        build(dsl.sum(value), ImmutableList.of("job"), 60L));
+    assertEquals(
+        "min by (job, instance) (min_over_time(http_requests_total{code=\"200\"}[60s]))",
+        build(dsl.min(value), ImmutableList.of("job", "instance"), 60L));
+    assertEquals(
+        "max (max_over_time(http_requests_total{code=\"200\"}[3600s]))",
+        build(dsl.max(value), Collections.emptyList(), 3600L));
+    assertEquals(
+        "sum (count_over_time(http_requests_total{code=\"200\"}[60s]))",
+        build(dsl.count(DSL.literal("*")), Collections.emptyList(), 60L));
+    assertEquals(
+        "sum by (job) (sum_over_time(http_requests_total{code=\"200\"}[60s]))"
+            + " / sum by (job) (count_over_time(http_requests_total{code=\"200\"}[60s]))",
+        build(dsl.avg(value), ImmutableList.of("job"), 60L));
+  }
+
+  private boolean isSupported(Aggregator aggregator, NamedExpression... groupByList) {
+    return AggregationQueryBuilder.isSupported(
+        ImmutableList.of(DSL.named("agg", aggregator)), ImmutableList.copyOf(groupByList));
+  }
+
+  private String build(Aggregator aggregator, List<String> labels, long rangeSeconds) {
+    NamedAggregator namedAggregator = DSL.named("agg", aggregator);
+    return AggregationQueryBuilder.build(
+        "http_requests_total{code=\"200\"}", namedAggregator, labels, rangeSeconds);
+  }
+}
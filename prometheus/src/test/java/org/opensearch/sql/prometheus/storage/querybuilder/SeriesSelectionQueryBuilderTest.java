@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.storage.querybuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.opensearch.sql.data.type.ExprCoreType.DOUBLE;
+import static org.opensearch.sql.data.type.ExprCoreType.INTEGER;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.METRIC;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.TIMESTAMP;
+import static org.opensearch.sql.prometheus.data.constants.PrometheusFieldConstants.VALUE;
+
+import com.google.common.collect.ImmutableList;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class SeriesSelectionQueryBuilderTest {
+
+  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+
+  private final Expression job = DSL.ref("job", STRING);
+
+  @Test
+  void metric_name_without_label_matchers() {
+    assertEquals("http_requests_total",
+        SeriesSelectionQueryBuilder.build("http_requests_total", ImmutableList.of()));
+    assertEquals("http_requests_total",
+        SeriesSelectionQueryBuilder.build("http_requests_total", ImmutableList.of(
+            dsl.greater(DSL.ref(VALUE, DOUBLE), DSL.literal(1.0)))));
+  }
+
+  @Test
+  void label_matchers_of_all_operators() {
+    assertEquals("http_requests_total{job=\"api\",code=\"200\",job!=\"web\",job!=\"\","
+            + "job=~\"^a.*p.$\",job!=\"\",job!~\"^w\\\\.b$\",job!=\"\"}",
+        SeriesSelectionQueryBuilder.build("http_requests_total", Arrays.asList(
+            dsl.equal(job, DSL.literal("api")),
+            dsl.equal(DSL.literal("200"), DSL.ref("code", STRING)),
+            dsl.notequal(job, DSL.literal("web")),
+            dsl.like(job, DSL.literal("a%p_")),
+            dsl.notLike(job, DSL.literal("w.b")))));
+  }
+
+  @Test
+  void label_value_should_be_escaped() {
+    assertEquals("up{job=\"a\\\"b\\\\c\"}",
+        SeriesSelectionQueryBuilder.build("up",
+            ImmutableList.of(dsl.equal(job, DSL.literal("a\"b\\c")))));
+  }
+
+  @Test
+  void conditions_not_label_matcher() {
+    assertNotLabelMatcher(job);
+    assertNotLabelMatcher(dsl.greater(job, DSL.literal("api")));
+    assertNotLabelMatcher(dsl.equal(job, DSL.literal("")));
+    assertNotLabelMatcher(dsl.equal(DSL.literal(""), job));
+    assertNotLabelMatcher(dsl.equal(job, DSL.ref("instance", STRING)));
+    assertNotLabelMatcher(dsl.equal(DSL.literal("api"), DSL.literal("api")));
+    assertNotLabelMatcher(dsl.like(DSL.literal("api"), job));
+    assertNotLabelMatcher(dsl.equal(DSL.ref("code", INTEGER), DSL.literal(200)));
+    assertNotLabelMatcher(dsl.equal(DSL.ref(METRIC, STRING), DSL.literal("api")));
+    assertNotLabelMatcher(dsl.equal(DSL.ref(TIMESTAMP, STRING), DSL.literal("api")));
+    assertNotLabelMatcher(dsl.equal(DSL.ref(VALUE, STRING), DSL.literal("api")));
+  }
+
+  private void assertNotLabelMatcher(Expression condition) {
+    assertFalse(SeriesSelectionQueryBuilder.isLabelMatcher(condition));
+  }
+}
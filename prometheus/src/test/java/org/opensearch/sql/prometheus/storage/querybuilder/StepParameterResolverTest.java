@@ -0,0 +1,62 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.storage.querybuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class StepParameterResolverTest {
+
+  @Test
+  void step_should_bound_points_per_series() {
+    assertEquals("14s", StepParameterResolver.resolve(0L, 3600L));
+    assertEquals("1s", StepParameterResolver.resolve(0L, 100L));
+    assertEquals("1s", StepParameterResolver.resolve(100L, 100L));
+  }
+
+  @Test
+  void step_should_be_resolved_from_span_of_timestamp() {
+    assertEquals(Optional.of(30L), resolve(DSL.ref("@timestamp", TIMESTAMP), 30, "s"));
+    assertEquals(Optional.of(300L), resolve(DSL.ref("@timestamp", TIMESTAMP), 5, "m"));
+    assertEquals(Optional.of(7200L), resolve(DSL.ref("@timestamp", TIMESTAMP), 2, "h"));
+    assertEquals(Optional.of(86400L), resolve(DSL.ref("@timestamp", TIMESTAMP), 1, "d"));
+    assertEquals(Optional.of(1209600L), resolve(DSL.ref("@timestamp", TIMESTAMP), 2, "w"));
+    assertEquals(Optional.of(90L), resolve(DSL.ref("@timestamp", TIMESTAMP), 1.5, "m"));
+  }
+
+  @Test
+  void step_should_not_be_resolved_from_unsupported_span() {
+    assertEquals(Optional.empty(), resolve(DSL.literal(1), 1, "m"));
+    assertEquals(Optional.empty(), resolve(DSL.ref("time", TIMESTAMP), 1, "m"));
+    assertEquals(Optional.empty(), resolve(DSL.ref("@timestamp", TIMESTAMP), 1, "M"));
+    assertEquals(Optional.empty(), resolve(DSL.ref("@timestamp", TIMESTAMP), 0, "s"));
+    assertEquals(Optional.empty(), resolve(DSL.ref("@timestamp", TIMESTAMP), 1.5, "s"));
+  }
+
+  private Optional<Long> resolve(Expression field, Number value, String unit) {
+    return StepParameterResolver.resolve(DSL.span(field, DSL.literal(value), unit));
+  }
+
+  @Test
+  void step_should_be_parsed_in_whole_seconds() {
+    assertEquals(Optional.of(14L), StepParameterResolver.toSeconds("14"));
+    assertEquals(Optional.of(14L), StepParameterResolver.toSeconds("14s"));
+    assertEquals(Optional.of(120L), StepParameterResolver.toSeconds("2m"));
+    assertEquals(Optional.of(86400L), StepParameterResolver.toSeconds("1d"));
+    assertEquals(Optional.empty(), StepParameterResolver.toSeconds("0"));
+    assertEquals(Optional.empty(), StepParameterResolver.toSeconds("1.5"));
+    assertEquals(Optional.empty(), StepParameterResolver.toSeconds("500ms"));
+    assertEquals(Optional.empty(), StepParameterResolver.toSeconds("1h30m"));
+  }
+}
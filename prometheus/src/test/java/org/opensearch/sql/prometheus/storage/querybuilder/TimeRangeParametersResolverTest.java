@@ -0,0 +1,159 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.sql.prometheus.storage.querybuilder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.opensearch.sql.data.type.ExprCoreType.STRING;
+import static org.opensearch.sql.data.type.ExprCoreType.TIMESTAMP;
+import static org.opensearch.sql.prometheus.storage.querybuilder.TimeRangeParametersResolver.DEFAULT_TIME_RANGE_SECONDS;
+
+import com.google.common.collect.ImmutableList;
+import java.time.Instant;
+import java.util.Arrays;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.jupiter.api.DisplayNameGeneration;
+import org.junit.jupiter.api.DisplayNameGenerator;
+import org.junit.jupiter.api.Test;
+import org.opensearch.sql.data.model.ExprTimestampValue;
+import org.opensearch.sql.expression.DSL;
+import org.opensearch.sql.expression.Expression;
+import org.opensearch.sql.expression.config.ExpressionConfig;
+
+@DisplayNameGeneration(DisplayNameGenerator.ReplaceUnderscores.class)
+class TimeRangeParametersResolverTest {
+
+  private final DSL dsl = new ExpressionConfig().dsl(new ExpressionConfig().functionRepository());
+
+  private final Expression timestamp = DSL.ref("@timestamp", TIMESTAMP);
+
+  // 2022-10-01 00:00:00 UTC
+  private final long epochSecond = 1664582400L;
+
+  private final Expression time = DSL.literal(new ExprTimestampValue("2022-10-01 00:00:00"));
+
+  private final Expression timeWithFraction =
+      DSL.literal(new ExprTimestampValue("2022-10-01 00:00:00.5"));
+
+  @Test
+  void default_time_range_should_be_last_hour() {
+    long now = Instant.now().getEpochSecond();
+    Pair<Long, Long> timeRange = TimeRangeParametersResolver.resolve(ImmutableList.of());
+    assertTrue(timeRange.getRight() >= now);
+    assertEquals(DEFAULT_TIME_RANGE_SECONDS, timeRange.getRight() - timeRange.getLeft());
+  }
+
+  @Test
+  void lower_bound_should_be_start_time() {
+    long now = Instant.now().getEpochSecond();
+    Pair<Long, Long> timeRange = TimeRangeParametersResolver.resolve(ImmutableList.of(
+        dsl.greater(timestamp, time), dsl.lte(time, timestamp)));
+    assertEquals(epochSecond, timeRange.getLeft());
+    assertTrue(timeRange.getRight() >= now);
+
+    timeRange = TimeRangeParametersResolver.resolve(ImmutableList.of(
+        dsl.gte(timestamp, timeWithFraction), dsl.greater(timestamp, time)));
+    assertEquals(epochSecond, timeRange.getLeft());
+  }
+
+  @Test
+  void lower_bound_in_future_should_be_end_time_too() {
+    Expression future = DSL.literal(new ExprTimestampValue("3000-01-01 00:00:00"));
+    Pair<Long, Long> timeRange = TimeRangeParametersResolver.resolve(ImmutableList.of(
+        dsl.gte(timestamp, future)));
+    assertEquals(timeRange.getLeft(), timeRange.getRight());
+  }
+
+  @Test
+  void upper_bound_should_be_end_time() {
+    Pair<Long, Long> timeRange = TimeRangeParametersResolver.resolve(ImmutableList.of(
+        dsl.less(timestamp, timeWithFraction), dsl.greater(time, timestamp)));
+    assertEquals(Pair.of(epochSecond - DEFAULT_TIME_RANGE_SECONDS, epochSecond), timeRange);
+
+    timeRange = TimeRangeParametersResolver.resolve(ImmutableList.of(
+        dsl.lte(timestamp, timeWithFraction)));
+    assertEquals(Pair.of(epochSecond + 1 - DEFAULT_TIME_RANGE_SECONDS, epochSecond + 1),
+        timeRange);
+  }
+
+  @Test
+  void equality_should_be_both_start_and_end_time() {
+    assertEquals(Pair.of(epochSecond, epochSecond),
+        TimeRangeParametersResolver.resolve(ImmutableList.of(dsl.equal(timestamp, time))));
+  }
+
+  @Test
+  void contradictory_conditions_should_have_empty_time_range() {
+    assertEquals(Pair.of(epochSecond, epochSecond),
+        TimeRangeParametersResolver.resolve(Arrays.asList(
+            dsl.greater(timestamp, DSL.literal(new ExprTimestampValue("2022-10-02 00:00:00"))),
+            dsl.less(timestamp, time))));
+  }
+
+  @Test
+  void constant_expression_should_be_evaluated() {
+    assertEquals(Pair.of(epochSecond, epochSecond),
+        TimeRangeParametersResolver.resolve(ImmutableList.of(
+            dsl.equal(timestamp, dsl.timestamp(DSL.literal("2022-10-01 00:00:00"))))));
+  }
+
+  @Test
+  void null_constant_should_be_ignored() {
+    long now = Instant.now().getEpochSecond();
+    Pair<Long, Long> timeRange = TimeRangeParametersResolver.resolve(ImmutableList.of(
+        dsl.equal(timestamp, dsl.nullif(time, time))));
+    assertTrue(timeRange.getRight() >= now);
+    assertEquals(DEFAULT_TIME_RANGE_SECONDS, timeRange.getRight() - timeRange.getLeft());
+  }
+
+  @Test
+  void non_time_range_condition_should_be_ignored() {
+    long now = Instant.now().getEpochSecond();
+    Pair<Long, Long> timeRange = TimeRangeParametersResolver.resolve(ImmutableList.of(
+        dsl.equal(DSL.ref("job", STRING), DSL.literal("api"))));
+    assertTrue(timeRange.getRight() >= now);
+  }
+
+  @Test
+  void time_range_aligned_to_bucket() {
+    Expression nextHour = DSL.literal(new ExprTimestampValue("2022-10-01 01:00:00"));
+    assertTrue(TimeRangeParametersResolver.isAligned(ImmutableList.of(), 60L));
+    assertTrue(TimeRangeParametersResolver.isAligned(ImmutableList.of(
+        dsl.gte(timestamp, time), dsl.less(timestamp, nextHour),
+        dsl.equal(DSL.ref("job", STRING), DSL.literal("api"))), 3600L));
+    assertTrue(TimeRangeParametersResolver.isAligned(ImmutableList.of(
+        dsl.greater(nextHour, timestamp)), 60L));
+  }
+
+  @Test
+  void time_range_not_aligned_to_bucket() {
+    Expression halfHour = DSL.literal(new ExprTimestampValue("2022-10-01 00:30:00"));
+    assertFalse(TimeRangeParametersResolver.isAligned(ImmutableList.of(
+        dsl.gte(timestamp, time), dsl.less(timestamp, halfHour)), 3600L));
+    assertFalse(TimeRangeParametersResolver.isAligned(ImmutableList.of(
+        dsl.gte(timestamp, timeWithFraction)), 1L));
+    assertFalse(TimeRangeParametersResolver.isAligned(ImmutableList.of(
+        dsl.equal(timestamp, time)), 60L));
+    assertFalse(TimeRangeParametersResolver.isAligned(ImmutableList.of(
+        dsl.gte(timestamp, dsl.nullif(time, time))), 60L));
+  }
+
+  @Test
+  void conditions_not_time_range() {
+    assertFalse(TimeRangeParametersResolver.isTimeRangeCondition(timestamp));
+    assertFalse(TimeRangeParametersResolver.isTimeRangeCondition(
+        dsl.notequal(timestamp, time)));
+    assertFalse(TimeRangeParametersResolver.isTimeRangeCondition(
+        dsl.equal(timestamp, timestamp)));
+    assertFalse(TimeRangeParametersResolver.isTimeRangeCondition(
+        dsl.equal(timestamp, dsl.timestamp(DSL.ref("time", STRING)))));
+    assertFalse(TimeRangeParametersResolver.isTimeRangeCondition(
+        dsl.equal(DSL.ref("time", TIMESTAMP), time)));
+    assertFalse(TimeRangeParametersResolver.isTimeRangeCondition(
+        dsl.equal(DSL.ref("@timestamp", STRING), DSL.literal("2022-10-01 00:00:00"))));
+  }
+}